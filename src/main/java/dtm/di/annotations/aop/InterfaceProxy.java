@@ -0,0 +1,30 @@
+package dtm.di.annotations.aop;
+
+import java.lang.annotation.*;
+
+/**
+ * Força o proxy por interfaces para o bean anotado.
+ *
+ * <p>Em vez de uma subclasse com cópia de estado, o container gera um delegate que implementa
+ * as interfaces do bean e encaminha as chamadas para a instância real. Funciona com classes
+ * {@code final} e {@code records}. Sem a anotação o container só escolhe esse modo com
+ * {@code dependencyContainer.aop.interfaceProxy} ativo e quando o bean só é injetado por
+ * interfaces.</p>
+ *
+ * <p>Requer ao menos uma interface pública e não selada. Quem pedir o bean pela classe concreta
+ * recebe a instância real, sem aspectos.</p>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * @Component
+ * @InterfaceProxy
+ * public final class JdbcUserRepository implements UserRepository {
+ *     // chamadas via UserRepository passam pelos aspectos
+ * }
+ * }</pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface InterfaceProxy {
+}
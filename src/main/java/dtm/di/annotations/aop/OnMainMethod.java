@@ -16,6 +16,9 @@ import java.lang.annotation.Target;
  * <p>Os mesmos parametros dos demais advices sao suportados, incluindo
  * {@link java.lang.reflect.Method}, {@code Object[]}, {@link ProxyInstance} e
  * {@link ReferenceInstance}. O parametro {@code Callable<?>} e opcional.</p>
+ *
+ * <p>Com varios aspectos aplicaveis, o {@code Callable} de cada um executa o proximo na
+ * ordem de {@link Order} e apenas o ultimo chama o metodo original.</p>
  */
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.METHOD)
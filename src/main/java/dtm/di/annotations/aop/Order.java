@@ -0,0 +1,27 @@
+package dtm.di.annotations.aop;
+
+import java.lang.annotation.*;
+
+/**
+ * Define a precedência de um {@link Aspect} na cadeia de advices.
+ *
+ * <p>Aspectos com {@code value} menor envolvem os demais: executam primeiro em
+ * {@code @BeforeExecution} e {@code @OnMainMethod} e por último em {@code @AfterExecution} e
+ * {@code @AfterException}. Aspectos sem a anotação usam {@code value = 0}; empates são
+ * resolvidos pelo nome da classe, então a ordem é sempre determinística.</p>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * @Aspect
+ * @Order(-10)
+ * public class TransactionAspect {
+ *     // abre a transação antes dos aspectos de ordem maior
+ * }
+ * }</pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Order {
+    int value() default 0;
+}
@@ -21,6 +21,24 @@ import java.lang.annotation.*;
  *   <li>{@code Object proxy} - Referência ao proxy, se existir. Pode ser anotado com {@code @ProxyInstance}.</li>
  * </ul>
  *
+ * <p>O resultado é calculado na primeira chamada de cada par (classe alvo, método) e reaproveitado
+ * nas chamadas seguintes. Um pointcut que recebe {@code Object[]} ou {@code @ProxyInstance}, ou que
+ * declara {@code dynamic = true}, é reavaliado uma vez por chamada. Pointcuts estáticos devem
+ * depender apenas do método e da classe da instância ({@code @ReferenceInstance}).</p>
+ *
+ * <p>Atributos declarativos restringem o pointcut sem executar código: valores de um mesmo
+ * atributo são alternativas e atributos diferentes precisam ser todos atendidos. Quando todos os
+ * aspectos usam critérios declarativos, o proxy sobrescreve apenas os métodos que algum deles
+ * pode aconselhar; os demais chamam a superclasse sem interceptação. O método anotado continua
+ * sendo avaliado para os métodos que atendem aos critérios.</p>
+ *
+ * <pre>{@code
+ * @Pointcut(annotatedWith = Transactional.class, packages = "com.acme.service")
+ * public boolean transactional() {
+ *     return true;
+ * }
+ * }</pre>
+ *
  * <p>Exemplo de uso:</p>
  *
  * <pre>{@code
@@ -43,4 +61,39 @@ import java.lang.annotation.*;
 @Target(ElementType.METHOD)
 public @interface Pointcut {
 
+    /**
+     * Anotações das quais o método alvo deve possuir ao menos uma.
+     */
+    Class<? extends Annotation>[] annotatedWith() default {};
+
+    /**
+     * Anotações das quais a classe alvo deve possuir ao menos uma.
+     */
+    Class<? extends Annotation>[] typeAnnotatedWith() default {};
+
+    /**
+     * Anotações das quais o método alvo ou a classe alvo deve possuir ao menos uma. Serve para
+     * anotações aceitas nos dois níveis, em que a da classe vale para todos os métodos.
+     */
+    Class<? extends Annotation>[] methodOrTypeAnnotatedWith() default {};
+
+    /**
+     * Pacotes da classe alvo, incluindo subpacotes. Aceita {@code *} como curinga.
+     */
+    String[] packages() default {};
+
+    /**
+     * Nomes qualificados da classe alvo. Aceita {@code *} como curinga, por exemplo {@code *Service}.
+     */
+    String[] types() default {};
+
+    /**
+     * Nomes do método alvo. Aceita {@code *} como curinga, por exemplo {@code find*}.
+     */
+    String[] methods() default {};
+
+    /**
+     * Reavalia o pointcut a cada chamada em vez de reaproveitar o resultado por método.
+     */
+    boolean dynamic() default false;
 }
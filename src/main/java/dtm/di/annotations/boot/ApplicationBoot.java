@@ -12,14 +12,17 @@ import java.lang.annotation.Target;
  * para definir qual classe será usada para iniciar o framework ou o contêiner de
  * injeção de dependências.</p>
  *
- * <h3>Parâmetro:</h3>
+ * <h3>Parâmetros:</h3>
  * <ul>
  *     <li><b>value</b> - Classe que representa o ponto principal de boot da aplicação.</li>
+ *     <li><b>scanPackages</b> - Pacotes base da descoberta de classes. Quando informado, apenas
+ *     esses pacotes (e subpacotes) são varridos e jars sem entradas neles são descartados sem
+ *     abrir as classes. Vazio mantém a varredura completa do classpath.</li>
  * </ul>
  *
  * <h3>Exemplo de uso:</h3>
  * <pre>{@code
- * @ApplicationBoot(MyApplication.class)
+ * @ApplicationBoot(value = MyApplication.class, scanPackages = "com.acme.app")
  * public class AppConfig {
  *     // configurações adicionais
  * }
@@ -29,4 +32,5 @@ import java.lang.annotation.Target;
 @Target(ElementType.TYPE)
 public @interface ApplicationBoot {
     Class<?> value();
+    String[] scanPackages() default {};
 }
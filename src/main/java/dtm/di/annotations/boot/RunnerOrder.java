@@ -0,0 +1,40 @@
+package dtm.di.annotations.boot;
+
+import dtm.di.application.ApplicationRunner;
+
+import java.lang.annotation.*;
+
+/**
+ * Define a ordem de execução de um {@link ApplicationRunner} no boot gerenciado.
+ *
+ * <p>Runners independentes executam em paralelo em threads virtuais. Um runner só inicia
+ * depois que todos os runners de {@code value} menor terminaram e depois dos runners listados
+ * em {@code dependsOn}. Runners sem a anotação usam {@code value = 0}.</p>
+ *
+ * <h3>Parâmetros:</h3>
+ * <ul>
+ *   <li><b>value</b> - Grupo de ordem; menores valores executam primeiro. Padrão é 0.</li>
+ *   <li><b>dependsOn</b> - Runners (ou supertipos deles) que precisam concluir com sucesso
+ *       antes deste. Se uma dependência falhar, o runner não é executado. Apontar para um
+ *       runner de {@code value} maior é um conflito de ordem e falha o boot.</li>
+ * </ul>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * @Service
+ * @RunnerOrder(dependsOn = SchemaMigrationRunner.class)
+ * public class CacheWarmupRunner implements ApplicationRunner {
+ *     public void run(String[] args) {
+ *         // executa após a migração
+ *     }
+ * }
+ * }</pre>
+ */
+@Inherited
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface RunnerOrder {
+    int value() default 0;
+    Class<? extends ApplicationRunner>[] dependsOn() default {};
+}
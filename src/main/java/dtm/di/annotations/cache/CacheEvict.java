@@ -0,0 +1,27 @@
+package dtm.di.annotations.cache;
+
+import java.lang.annotation.*;
+
+/**
+ * Remove do cache {@link #name()} a entrada da chave gerada pelos argumentos, ou todas as
+ * entradas com {@link #allEntries()}.
+ *
+ * <p>Por padrão a remoção acontece depois que o método termina sem exceção; com
+ * {@link #beforeInvocation()} ela acontece antes da chamada, mesmo que o método falhe.</p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface CacheEvict {
+
+    String name();
+
+    /**
+     * Posições dos argumentos que formam a chave. Vazio usa todos.
+     */
+    int[] keyArgs() default {};
+
+    boolean allEntries() default false;
+
+    boolean beforeInvocation() default false;
+}
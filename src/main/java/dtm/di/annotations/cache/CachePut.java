@@ -0,0 +1,31 @@
+package dtm.di.annotations.cache;
+
+import java.lang.annotation.*;
+
+/**
+ * Executa sempre o método e grava o resultado no cache {@link #name()}, com a chave
+ * gerada pelos argumentos. Resultados {@code null} não são gravados.
+ *
+ * <p>Se o cache ainda não existe, ele é criado com {@code maxSize} e {@code ttl} do
+ * {@link Cacheable} de mesmo nome declarado na classe, ou com os valores padrão.</p>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * @CachePut(name = "users", keyArgs = 0)
+ * public User rename(long id, String name) {
+ *     // ...
+ * }
+ * }</pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface CachePut {
+
+    String name();
+
+    /**
+     * Posições dos argumentos que formam a chave. Vazio usa todos.
+     */
+    int[] keyArgs() default {};
+}
@@ -0,0 +1,54 @@
+package dtm.di.annotations.cache;
+
+import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Guarda o resultado do método anotado em um cache limitado do container, usando os
+ * argumentos como chave. Chamadas seguintes com argumentos iguais devolvem o valor guardado
+ * sem executar o método.
+ *
+ * <p>Requer {@link EnableCaching} e AOP habilitado. Resultados {@code null} não são guardados.
+ * {@code CompletionStage} e {@code AsyncResult} são guardados assim que retornados e saem do
+ * cache se completarem com erro.</p>
+ *
+ * <p>O primeiro método a usar um {@link #name()} define {@link #maxSize()} e {@link #ttl()}
+ * do cache; métodos com o mesmo nome compartilham as entradas.</p>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * @Cacheable(name = "prices", maxSize = 50_000, ttl = 10, unit = TimeUnit.MINUTES)
+ * public Price quote(String sku, String region) {
+ *     // ...
+ * }
+ * }</pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Cacheable {
+
+    long DEFAULT_MAX_SIZE = 10_000;
+
+    /**
+     * Nome do cache. Vazio usa {@code <classe>.<método>}.
+     */
+    String name() default "";
+
+    /**
+     * Número máximo de entradas; acima dele a política W-TinyLFU escolhe quem sai.
+     */
+    long maxSize() default DEFAULT_MAX_SIZE;
+
+    /**
+     * Tempo de vida de cada entrada desde a escrita, em {@link #unit()}. Zero não expira.
+     */
+    long ttl() default 0;
+
+    TimeUnit unit() default TimeUnit.SECONDS;
+
+    /**
+     * Posições dos argumentos que formam a chave. Vazio usa todos.
+     */
+    int[] keyArgs() default {};
+}
@@ -0,0 +1,19 @@
+package dtm.di.annotations.cache;
+
+import dtm.di.annotations.Import;
+import dtm.di.aop.cache.CacheAspect;
+import dtm.di.aop.cache.CacheManager;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Habilita {@link Cacheable}, {@link CachePut} e {@link CacheEvict} e registra o
+ * {@link CacheManager} como singleton do container.
+ */
+@Import({CacheManager.class, CacheAspect.class})
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EnableCaching {}
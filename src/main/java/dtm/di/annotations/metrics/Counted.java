@@ -0,0 +1,18 @@
+package dtm.di.annotations.metrics;
+
+import java.lang.annotation.*;
+
+/**
+ * Registra chamadas e erros do método anotado, ou de todos os métodos da classe, sem medir
+ * latência.
+ *
+ * <p>Segue as mesmas regras de nome de {@link Timed}. Quando o método ou a classe também tem
+ * {@link Timed}, a latência é registrada.</p>
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Counted {
+    String value() default "";
+}
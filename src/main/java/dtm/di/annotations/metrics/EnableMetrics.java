@@ -0,0 +1,19 @@
+package dtm.di.annotations.metrics;
+
+import dtm.di.annotations.Import;
+import dtm.di.aop.metrics.MethodMetricsRegistry;
+import dtm.di.aop.metrics.MetricsAspect;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Habilita o aspecto de {@link Timed} e {@link Counted} e registra o
+ * {@link MethodMetricsRegistry} como singleton do container.
+ */
+@Import({MethodMetricsRegistry.class, MetricsAspect.class})
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EnableMetrics {}
@@ -0,0 +1,28 @@
+package dtm.di.annotations.metrics;
+
+import java.lang.annotation.*;
+
+/**
+ * Registra chamadas, erros e latência do método anotado, ou de todos os métodos da classe.
+ *
+ * <p>Requer {@link EnableMetrics} e AOP habilitado. Os valores ficam no
+ * {@code MethodMetricsRegistry} com o nome informado ou, sem nome, com
+ * {@code <classe>.<método>}. Na classe, {@code value} vira o prefixo do nome de cada método.
+ * Métodos que retornam {@code CompletionStage} ou {@code AsyncResult} são medidos até a
+ * conclusão do resultado.</p>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * @Timed("orders.place")
+ * public Order place(Cart cart) {
+ *     // ...
+ * }
+ * }</pre>
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Timed {
+    String value() default "";
+}
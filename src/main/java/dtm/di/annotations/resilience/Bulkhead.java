@@ -0,0 +1,50 @@
+package dtm.di.annotations.resilience;
+
+import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limita quantas execuções do método anotado podem estar em andamento ao mesmo tempo.
+ *
+ * <p>Requer {@link EnableLimiters} e AOP habilitado. Quando todas as permissões estão em uso, a
+ * chamada espera até {@link #maxWait()} por uma delas e, se não conseguir, falha com
+ * {@code BulkheadFullException}. Com {@code maxWait = 0} a rejeição é imediata. Métodos que
+ * retornam {@code CompletableFuture}, {@code CompletionStage} ou {@code AsyncResult} só
+ * devolvem a permissão quando o resultado completa.</p>
+ *
+ * <p>Métodos com o mesmo {@link #name()} compartilham as permissões. Os limites podem ser
+ * alterados em tempo de execução pelas chaves {@code resilience.bulkhead.<nome>.maxConcurrent}
+ * e {@code resilience.bulkhead.<nome>.maxWaitMillis} do {@code AppSettings}.</p>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * @Bulkhead(name = "inventory", maxConcurrent = 20, maxWait = 50)
+ * public Stock query(String sku) {
+ *     // no máximo 20 consultas simultâneas ao serviço de estoque
+ * }
+ * }</pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Bulkhead {
+
+    /**
+     * Nome do limitador. Vazio usa {@code <classe>.<método>}.
+     */
+    String name() default "";
+
+    int maxConcurrent() default 10;
+
+    /**
+     * Tempo máximo de espera por uma permissão. {@code 0} rejeita na hora.
+     */
+    long maxWait() default 0;
+
+    TimeUnit unit() default TimeUnit.MILLISECONDS;
+
+    /**
+     * Atende as chamadas em espera na ordem de chegada.
+     */
+    boolean fair() default true;
+}
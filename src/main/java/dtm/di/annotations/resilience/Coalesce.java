@@ -0,0 +1,34 @@
+package dtm.di.annotations.resilience;
+
+import java.lang.annotation.*;
+
+/**
+ * Agrupa chamadas concorrentes equivalentes do método anotado em uma única execução
+ * (single-flight). Enquanto uma chamada está em andamento, as que chegarem na mesma instância
+ * com a mesma chave de argumentos recebem o resultado ou a exceção dela em vez de executar o
+ * método de novo.
+ *
+ * <p>Requer {@link EnableCoalescing} e AOP habilitado. Métodos que retornam
+ * {@code CompletableFuture}, {@code CompletionStage} ou {@code AsyncResult} ficam em andamento
+ * até o resultado completar, e as chamadas agrupadas recebem um resultado próprio que
+ * completa junto, sem bloquear. Nos demais tipos as chamadas agrupadas esperam o término da
+ * execução em andamento.</p>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * @Coalesce
+ * public Report build(String tenant, LocalDate day) {
+ *     // ...
+ * }
+ * }</pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Coalesce {
+
+    /**
+     * Posições dos argumentos que formam a chave. Vazio usa todos.
+     */
+    int[] keyArgs() default {};
+}
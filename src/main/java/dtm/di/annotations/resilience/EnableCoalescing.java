@@ -0,0 +1,17 @@
+package dtm.di.annotations.resilience;
+
+import dtm.di.annotations.Import;
+import dtm.di.aop.resilience.CoalesceAspect;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Habilita o aspecto de {@link Coalesce}.
+ */
+@Import({CoalesceAspect.class})
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EnableCoalescing {}
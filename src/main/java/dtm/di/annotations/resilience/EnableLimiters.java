@@ -0,0 +1,19 @@
+package dtm.di.annotations.resilience;
+
+import dtm.di.annotations.Import;
+import dtm.di.aop.resilience.LimiterAspect;
+import dtm.di.aop.resilience.LimiterRegistry;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Habilita o aspecto de {@link Bulkhead} e {@link RateLimited} e registra o
+ * {@link LimiterRegistry} como bean.
+ */
+@Import({LimiterRegistry.class, LimiterAspect.class})
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EnableLimiters {}
@@ -0,0 +1,20 @@
+package dtm.di.annotations.resilience;
+
+import dtm.di.annotations.Import;
+import dtm.di.aop.resilience.ResilienceTimer;
+import dtm.di.aop.resilience.RetryAspect;
+import dtm.di.aop.resilience.RetryRegistry;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Habilita o aspecto de {@link Retry} e registra o {@link RetryRegistry} e o
+ * {@link ResilienceTimer} como beans.
+ */
+@Import({RetryRegistry.class, ResilienceTimer.class, RetryAspect.class})
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EnableRetry {}
@@ -0,0 +1,18 @@
+package dtm.di.annotations.resilience;
+
+import dtm.di.annotations.Import;
+import dtm.di.aop.resilience.ResilienceTimer;
+import dtm.di.aop.resilience.TimeoutAspect;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Habilita o aspecto de {@link Timeout} e registra o {@link ResilienceTimer} como bean.
+ */
+@Import({ResilienceTimer.class, TimeoutAspect.class})
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EnableTimeouts {}
@@ -0,0 +1,50 @@
+package dtm.di.annotations.resilience;
+
+import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limita quantas chamadas do método anotado podem começar por período (token bucket).
+ *
+ * <p>Requer {@link EnableLimiters} e AOP habilitado. O balde começa cheio com
+ * {@link #permits()} fichas e repõe uma a cada {@code period / permits}. Sem ficha, a chamada
+ * reserva a próxima e espera por ela se a espera couber em {@link #maxWait()}; caso contrário
+ * falha com {@code RateLimitExceededException} sem consumir nada. As reservas são atendidas na
+ * ordem em que foram feitas.</p>
+ *
+ * <p>Métodos com o mesmo {@link #name()} compartilham o balde. Os limites podem ser alterados
+ * em tempo de execução pelas chaves {@code resilience.rateLimit.<nome>.permits},
+ * {@code resilience.rateLimit.<nome>.periodMillis} e
+ * {@code resilience.rateLimit.<nome>.maxWaitMillis} do {@code AppSettings}.</p>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * @RateLimited(name = "sms", permits = 50, period = 1, periodUnit = TimeUnit.SECONDS)
+ * public void send(Sms sms) {
+ *     // no máximo 50 envios por segundo
+ * }
+ * }</pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface RateLimited {
+
+    /**
+     * Nome do limitador. Vazio usa {@code <classe>.<método>}.
+     */
+    String name() default "";
+
+    int permits() default 10;
+
+    long period() default 1;
+
+    TimeUnit periodUnit() default TimeUnit.SECONDS;
+
+    /**
+     * Tempo máximo de espera pela próxima ficha. {@code 0} rejeita na hora.
+     */
+    long maxWait() default 0;
+
+    TimeUnit waitUnit() default TimeUnit.MILLISECONDS;
+}
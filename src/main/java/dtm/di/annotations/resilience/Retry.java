@@ -0,0 +1,59 @@
+package dtm.di.annotations.resilience;
+
+import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repete o método anotado quando ele falha com uma das exceções de {@link #retryOn()}.
+ *
+ * <p>Requer {@link EnableRetry} e AOP habilitado. Métodos que retornam
+ * {@code CompletableFuture}, {@code CompletionStage} ou {@code AsyncResult}, com ou sem
+ * {@code @Async}, devolvem na hora um resultado que só completa depois da última tentativa:
+ * a espera entre tentativas é feita por um timer compartilhado e nenhuma thread fica parada.
+ * Nos demais tipos a thread de quem chama espera entre as tentativas.</p>
+ *
+ * <p>A espera antes da tentativa {@code n + 1} é {@code backoff × multiplier^(n - 1)}, limitada
+ * por {@link #maxBackoff()} e variada em até {@link #jitter()} para cima ou para baixo.</p>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * @Async
+ * @Retry(max = 4, backoff = 200, jitter = 0.2, retryOn = IOException.class)
+ * public CompletableFuture<Quote> fetch(String symbol) {
+ *     // ...
+ * }
+ * }</pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Retry {
+
+    /**
+     * Nome das métricas. Vazio usa {@code <classe>.<método>}.
+     */
+    String name() default "";
+
+    /**
+     * Número máximo de tentativas, contando a primeira.
+     */
+    int max() default 3;
+
+    long backoff() default 100;
+
+    double multiplier() default 2.0;
+
+    /**
+     * Teto da espera entre tentativas. {@code 0} não limita.
+     */
+    long maxBackoff() default 0;
+
+    TimeUnit unit() default TimeUnit.MILLISECONDS;
+
+    /**
+     * Fração da espera, entre {@code 0} e {@code 1}, sorteada para mais ou para menos.
+     */
+    double jitter() default 0.0;
+
+    Class<? extends Throwable>[] retryOn() default {Exception.class};
+}
@@ -0,0 +1,33 @@
+package dtm.di.annotations.resilience;
+
+import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Falha o resultado do método anotado com {@code MethodTimeoutException} se ele não completar
+ * dentro do prazo e cancela a execução atrasada.
+ *
+ * <p>Requer {@link EnableTimeouts} e AOP habilitado. Só vale para métodos que retornam
+ * {@code CompletableFuture}, {@code CompletionStage} ou {@code AsyncResult}; nos demais a
+ * chamada lança {@code AsyncMethodException}. Em métodos {@code @Async}, o cancelamento
+ * interrompe a thread que executa a tarefa. Com {@link Retry}, o prazo vale para cada
+ * tentativa.</p>
+ *
+ * <h3>Exemplo de uso:</h3>
+ * <pre>{@code
+ * @Async
+ * @Timeout(value = 2, unit = TimeUnit.SECONDS)
+ * public CompletableFuture<Report> render(long id) {
+ *     // ...
+ * }
+ * }</pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Timeout {
+
+    long value();
+
+    TimeUnit unit() default TimeUnit.MILLISECONDS;
+}
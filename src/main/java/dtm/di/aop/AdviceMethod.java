@@ -0,0 +1,148 @@
+package dtm.di.aop;
+
+import dtm.di.annotations.aop.ProxyInstance;
+import dtm.di.annotations.aop.ReferenceInstance;
+import dtm.di.annotations.aop.ResultProxy;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.concurrent.Callable;
+
+/**
+ * Método de um aspecto preparado para execução: os parâmetros são resolvidos uma única vez
+ * em um binder por posição e a chamada usa um {@link MethodHandle} em cache. Cada execução
+ * aloca apenas o array de argumentos.
+ * <p>
+ * Parâmetros resolvidos:
+ * <ul>
+ *     <li>{@link ProxyInstance} → proxy da classe alvo</li>
+ *     <li>{@link ResultProxy} → resultado atual do método alvo (somente em {@code after})</li>
+ *     <li>{@link ReferenceInstance} → instância real da classe alvo</li>
+ *     <li>{@code Method} → método alvo interceptado</li>
+ *     <li>{@code Object[]} → argumentos do método interceptado</li>
+ *     <li>{@code Throwable} → erro do método interceptado</li>
+ *     <li>{@code Callable} → execução do método original (somente em {@code @OnMainMethod})</li>
+ * </ul>
+ * Demais parâmetros recebem {@code null}.
+ */
+final class AdviceMethod {
+
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private final Method method;
+    private final MethodHandle handle;
+    private final ArgumentSlot[] slots;
+
+    private AdviceMethod(Method method, MethodHandle handle, ArgumentSlot[] slots) {
+        this.method = method;
+        this.handle = handle;
+        this.slots = slots;
+    }
+
+    static AdviceMethod of(Method method) throws IllegalAccessException {
+        if (method == null) return null;
+
+        method.setAccessible(true);
+        Parameter[] parameters = method.getParameters();
+        ArgumentSlot[] slots = new ArgumentSlot[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            slots[i] = ArgumentSlot.of(parameters[i]);
+        }
+
+        MethodHandle handle = MethodHandles.lookup().unreflect(method);
+        if (Modifier.isStatic(method.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        handle = handle
+                .asSpreader(Object[].class, parameters.length)
+                .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+
+        return new AdviceMethod(method, handle, slots);
+    }
+
+    Method getMethod() {
+        return method;
+    }
+
+    /**
+     * Indica se algum parâmetro de {@code method} recebe os argumentos ({@code Object[]}) da chamada.
+     */
+    static boolean bindsArguments(Method method) {
+        for (Parameter parameter : method.getParameters()) {
+            if (ArgumentSlot.of(parameter) == ArgumentSlot.ARGS) return true;
+        }
+        return false;
+    }
+
+    boolean binds(ArgumentSlot slot) {
+        for (ArgumentSlot current : slots) {
+            if (current == slot) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Executa o método do aspecto. Erros lançados pelo método chegam embrulhados em
+     * {@link InvocationTargetException}, como em {@link Method#invoke(Object, Object...)}.
+     */
+    Object invoke(
+            Object instance,
+            Method target,
+            Object[] args,
+            Object proxy,
+            Object realInstance,
+            Object currentResult,
+            Throwable cause,
+            Callable<?> mainMethod
+    ) throws InvocationTargetException {
+        Object[] invokeArgs = (slots.length == 0) ? NO_ARGS : new Object[slots.length];
+
+        for (int i = 0; i < slots.length; i++) {
+            invokeArgs[i] = switch (slots[i]) {
+                case PROXY -> proxy;
+                case RESULT -> currentResult;
+                case REAL_INSTANCE -> realInstance;
+                case METHOD -> target;
+                case ARGS -> args;
+                case THROWABLE -> cause;
+                case CALLABLE -> mainMethod;
+                case NONE -> null;
+            };
+        }
+
+        try {
+            return (Object) handle.invokeExact(instance, invokeArgs);
+        } catch (Throwable throwable) {
+            throw new InvocationTargetException(throwable);
+        }
+    }
+
+    enum ArgumentSlot {
+        PROXY,
+        RESULT,
+        REAL_INSTANCE,
+        METHOD,
+        ARGS,
+        THROWABLE,
+        CALLABLE,
+        NONE;
+
+        private static ArgumentSlot of(Parameter parameter) {
+            Class<?> paramType = parameter.getType();
+
+            if (parameter.isAnnotationPresent(ProxyInstance.class)) return PROXY;
+            if (parameter.isAnnotationPresent(ResultProxy.class)) return RESULT;
+            if (parameter.isAnnotationPresent(ReferenceInstance.class)) return REAL_INSTANCE;
+            if (Method.class.isAssignableFrom(paramType)) return METHOD;
+            if (paramType.isArray() && paramType.getComponentType().equals(Object.class)) return ARGS;
+            if (Throwable.class.isAssignableFrom(paramType)) return THROWABLE;
+            if (Callable.class.isAssignableFrom(paramType)) return CALLABLE;
+            return NONE;
+        }
+    }
+}
@@ -4,13 +4,27 @@ import dtm.di.annotations.aop.*;
 import dtm.di.core.DependencyContainer;
 import dtm.di.core.aop.AopUtils;
 import dtm.di.exceptions.AspectNewInstanceException;
+import dtm.di.prototypes.ProxyObject;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.matcher.ElementMatcher;
+import net.bytebuddy.matcher.ElementMatchers;
 
-import java.lang.reflect.Parameter;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Callable;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
 
 /**
  * 🚫 API INTERNA DO FRAMEWORK 🚫
@@ -31,15 +45,24 @@ import java.util.stream.Collectors;
  * O usuário final não interage com essa classe e, em teoria, nem precisa saber que ela existe.
  */
 public class AopProxyUtils extends AopUtils {
-    private static volatile AopProxyUtils aopProxyUtils;
+    private static final Map<DependencyContainer, AopProxyUtils> instances = new ConcurrentHashMap<>();
+    private static final Comparator<Class<?>> ASPECT_ORDER = Comparator
+            .<Class<?>>comparingInt(AopProxyUtils::orderOf)
+            .thenComparing(Class::getName);
 
     private final DependencyContainer dependencyContainer;
-    private final Set<AspectHandler> handlers;
+    private final HandlerChain emptyChain;
+    private volatile AspectRegistry registry;
+    private boolean instantiating;
 
     private AopProxyUtils(DependencyContainer dependencyContainer){
         this.dependencyContainer = dependencyContainer;
-        this.handlers = ConcurrentHashMap.newKeySet();
-        createAspects();
+        this.emptyChain = new HandlerChain(new AspectHandler[0]);
+        this.registry = new AspectRegistry(
+                discoverAspects(dependencyContainer.getLoadedSystemClasses()),
+                Map.of(),
+                false
+        );
     }
 
     /**
@@ -52,31 +75,7 @@ public class AopProxyUtils extends AopUtils {
      */
     @Override
     public void applyBefore(Method method, Object[] args, Object proxy, Object realInstance) {
-        for (AspectHandler handler : handlers) {
-            boolean apply = shouldApplyHandler(handler, method, args, proxy, realInstance);
-
-            if(!apply) continue;
-
-            Method before = handler.before;
-            if(before != null){
-                try {
-                    executeMethod(
-                            handler.instance,
-                            before,
-                            method,
-                            args,
-                            proxy,
-                            realInstance
-                    );
-                }catch (RuntimeException re){
-                    throw re;
-                } catch (Exception e) {
-                    String className = (handler.instance != null) ?  handler.instance.getClass().toString() : method.getName();
-                    throw new RuntimeException("Erro no método @BeforeExecution: "+className, e);
-                }
-            }
-        }
-
+        resolveChain(method, args, proxy, realInstance).applyBefore(method, args, proxy, realInstance);
     }
 
     /**
@@ -91,19 +90,7 @@ public class AopProxyUtils extends AopUtils {
             Object realInstance,
             Callable<?> mainMethod
     ) throws Exception {
-        boolean intercepted = false;
-        Object result = null;
-
-        for (AspectHandler handler : handlers) {
-            if (handler.main == null || !shouldApplyHandler(handler, method, args, proxy, realInstance)) {
-                continue;
-            }
-
-            intercepted = true;
-            result = executeMethod(handler.instance, handler.main, method, args, proxy, realInstance, null, null, mainMethod);
-        }
-
-        return new MainMethodResult(intercepted, result);
+        return resolveChain(method, args, proxy, realInstance).applyOnMainMethod(method, args, proxy, realInstance, mainMethod);
     }
 
     /**
@@ -121,109 +108,200 @@ public class AopProxyUtils extends AopUtils {
      */
     @Override
     public Object applyAfter(Method method, Object[] args, Object proxy, Object realInstance, Object currentResult) {
-        Object result = currentResult;
-
-        for (AspectHandler handler : handlers) {
-            boolean apply = shouldApplyHandler(handler, method, args, proxy, realInstance);
+        return resolveChain(method, args, proxy, realInstance).applyAfter(method, args, proxy, realInstance, currentResult);
+    }
 
-            if(!apply) continue;
 
-            Method after = handler.after;
-            if (after != null) {
-                try {
-                    after.setAccessible(true);
-                    Object newResult = executeMethod(
-                            handler.instance,
-                            after,
-                            method,
-                            args,
-                            proxy,
-                            realInstance,
-                            result
-                    );
-                    if (newResult != null && method.getReturnType().isAssignableFrom(newResult.getClass())) {
-                        result = newResult;
-                    }
-                } catch (Exception e) {
+    @Override
+    public void applyOnErrorMethod(Method method, Object[] args, Object proxy, Object realInstance, Throwable cause) {
+        resolveChain(method, args, proxy, realInstance).applyOnErrorMethod(method, args, proxy, realInstance, cause);
+    }
 
-                    String className = (handler.instance != null) ? handler.instance.getClass().toString() : method.getName();
-                    throw new RuntimeException("Erro no método @AfterExecution: "+className, e);
-                }
-            }
+    /**
+     * Resolve os advices aplicáveis à chamada.
+     * <p>
+     * A cadeia é compilada na primeira chamada de cada par (classe alvo, método): pointcuts estáticos
+     * são avaliados uma única vez e os aspectos descartados deixam de ser consultados. Apenas
+     * pointcuts dinâmicos (veja {@link Pointcut#dynamic()}) são reavaliados, uma vez por chamada.
+     */
+    @Override
+    public AdviceChain resolveChain(Method method, Object[] args, Object proxy, Object realInstance) {
+        AspectRegistry current = activeRegistry();
+        if (current.active == null) return emptyChain;
+
+        Class<?> targetClass = (realInstance != null) ? realInstance.getClass() : method.getDeclaringClass();
+        Map<Method, MethodAdvice> classAdvice = current.methodAdvice.get(targetClass);
+
+        MethodAdvice advice = classAdvice.get(method);
+        if (advice == null) {
+            advice = compileAdvice(current.active, targetClass, method, args, proxy, realInstance);
+            MethodAdvice previous = classAdvice.putIfAbsent(method, advice);
+            if (previous != null) advice = previous;
         }
 
-        return result;
+        return advice.chainFor(method, args, proxy, realInstance);
     }
 
+    private MethodAdvice compileAdvice(
+            AspectHandler[] handlers,
+            Class<?> targetClass,
+            Method method,
+            Object[] args,
+            Object proxy,
+            Object realInstance
+    ) {
+        List<AspectHandler> candidates = new ArrayList<>();
 
-    @Override
-    public void applyOnErrorMethod(Method method, Object[] args, Object proxy, Object realInstance, Throwable cause) {
         for (AspectHandler handler : handlers) {
-            boolean apply = shouldApplyHandler(handler, method, args, proxy, realInstance);
+            if (handler.declarative() != null && !handler.declarative().matches(targetClass, method)) {
+                continue;
+            }
+            if (handler.pointcut() == null || handler.dynamicPointcut()
+                    || shouldApplyHandler(handler, method, args, proxy, realInstance)) {
+                candidates.add(handler);
+            }
+        }
 
-            if(!apply) continue;
-            Method error = handler.error;
-            if(error != null){
-                try {
-                    executeMethod(
-                            handler.instance,
-                            error,
-                            method,
-                            args,
-                            proxy,
-                            realInstance,
-                            null,
-                            cause,
-                            null
-                    );
-                }catch (RuntimeException re){
-                    throw re;
-                } catch (Exception e) {
-                    String className = (handler.instance != null) ?  handler.instance.getClass().toString() : method.getName();
-                    throw new RuntimeException("Erro no método @AfterExecution: "+className, e);
-                }
+        return new MethodAdvice(candidates.toArray(AspectHandler[]::new));
+    }
+
+    /**
+     * Registro em uso, instanciando os aspectos ainda pendentes da primeira carga. Uma chamada
+     * interceptada durante a própria instanciação (por exemplo, no {@code @PostCreation} de uma
+     * dependência do aspecto) recebe o registro sem handlers ativos.
+     */
+    private AspectRegistry activeRegistry() {
+        AspectRegistry current = registry;
+        if (current.active != null) return current;
+
+        synchronized (this) {
+            current = registry;
+            if (current.active == null && !instantiating) {
+                current = instantiate(current);
             }
+            return current;
         }
     }
 
     /**
-     * Responsável por escanear todas as classes registradas no container que estão anotadas com {@link Aspect}.
-     * <p>
-     * Para cada classe encontrada, registra os métodos anotados com {@link Pointcut}, {@link BeforeExecution} e
-     * {@link AfterExecution}, armazenando-os na coleção interna {@code handlers}.
+     * Cria os handlers dos aspectos registrados que ainda não possuem instância e publica um
+     * novo registro com todos ativos. Deve ser chamado com o monitor de {@code this}.
      */
-    private void createAspects(){
-        Set<Class<?>> aspects = dependencyContainer
-                .getLoadedSystemClasses()
-                .parallelStream()
-                .filter(c -> c.isAnnotationPresent(Aspect.class))
-                .collect(Collectors.toSet());
-
-        for (Class<?> clazz : aspects){
-            try{
-                Object instance = dependencyContainer.getDependency(clazz);
-                if (instance == null) {
-                    instance = dependencyContainer.newInstance(clazz);
-                }
-                Method pointcut = null, before = null, after = null, error = null, main = null;
-                for (Method method : clazz.getDeclaredMethods()) {
-                    if (method.isAnnotationPresent(Pointcut.class))
-                        pointcut = method;
-                    else if (method.isAnnotationPresent(BeforeExecution.class))
-                        before = method;
-                    else if (method.isAnnotationPresent(AfterExecution.class))
-                        after = method;
-                    else if(method.isAnnotationPresent(AfterException.class))
-                        error = method;
-                    else if(method.isAnnotationPresent(OnMainMethod.class))
-                        main = method;
+    private AspectRegistry instantiate(AspectRegistry current) {
+        instantiating = true;
+        try {
+            Map<Class<?>, AspectHandler> handlers = new HashMap<>(current.handlers);
+            for (Class<?> clazz : current.types) {
+                if (!handlers.containsKey(clazz)) {
+                    handlers.put(clazz, createHandler(clazz));
                 }
+            }
+
+            AspectRegistry instantiated = new AspectRegistry(current.types, handlers, true);
+            registry = instantiated;
+            return instantiated;
+        } finally {
+            instantiating = false;
+        }
+    }
+
+    /**
+     * Prepara o handler de uma classe anotada com {@link Aspect}, usando o bean registrado no
+     * container ou uma nova instância. Os métodos anotados com {@link Pointcut},
+     * {@link BeforeExecution}, {@link AfterExecution}, {@link AfterException} e
+     * {@link OnMainMethod} viram {@link AdviceMethod}s.
+     */
+    private AspectHandler createHandler(Class<?> clazz) {
+        try{
+            Object instance = dependencyContainer.getDependency(clazz);
+            if (instance == null) {
+                instance = dependencyContainer.newInstance(clazz);
+            }
+            Method pointcut = null, before = null, after = null, error = null, main = null;
+            for (Method method : clazz.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(Pointcut.class))
+                    pointcut = method;
+                else if (method.isAnnotationPresent(BeforeExecution.class))
+                    before = method;
+                else if (method.isAnnotationPresent(AfterExecution.class))
+                    after = method;
+                else if(method.isAnnotationPresent(AfterException.class))
+                    error = method;
+                else if(method.isAnnotationPresent(OnMainMethod.class))
+                    main = method;
+            }
+
+            AdviceMethod pointcutAdvice = AdviceMethod.of(pointcut);
+            return new AspectHandler(
+                    instance,
+                    pointcutAdvice,
+                    AdviceMethod.of(before),
+                    AdviceMethod.of(after),
+                    AdviceMethod.of(error),
+                    AdviceMethod.of(main),
+                    isDynamicPointcut(pointcutAdvice),
+                    DeclarativePointcut.of(pointcut)
+            );
+        }catch (Exception e){
+            throw new AspectNewInstanceException(e.getMessage(), clazz, e);
+        }
+    }
 
-                handlers.add(new AspectHandler(instance, pointcut, before, after, error, main));
-            }catch (Exception e){
-                throw new AspectNewInstanceException(e.getMessage(), clazz, e);
+    private synchronized void initializeAspects() {
+        AspectRegistry current = registry;
+        if (!current.isComplete()) {
+            instantiate(current);
+        }
+    }
+
+    private synchronized void addAspects(Collection<Class<?>> classes) {
+        AspectRegistry current = registry;
+        List<Class<?>> types = new ArrayList<>(current.types);
+        for (Class<?> clazz : classes) {
+            if (clazz.isAnnotationPresent(Aspect.class) && !types.contains(clazz)) {
+                types.add(clazz);
             }
         }
+        if (types.size() == current.types.size()) return;
+
+        types.sort(ASPECT_ORDER);
+        registry = new AspectRegistry(List.copyOf(types), current.handlers, current.active != null);
+    }
+
+    private synchronized void removeAspects(Collection<Class<?>> classes) {
+        AspectRegistry current = registry;
+        List<Class<?>> types = new ArrayList<>(current.types);
+        if (!types.removeAll(classes)) return;
+
+        Map<Class<?>, AspectHandler> handlers = new HashMap<>(current.handlers);
+        handlers.keySet().removeAll(classes);
+        registry = new AspectRegistry(List.copyOf(types), handlers, current.active != null);
+    }
+
+    private static List<Class<?>> discoverAspects(Set<Class<?>> loadedClasses) {
+        return loadedClasses.stream()
+                .filter(clazz -> clazz.isAnnotationPresent(Aspect.class))
+                .sorted(ASPECT_ORDER)
+                .toList();
+    }
+
+    private static int orderOf(Class<?> aspectClass) {
+        Order order = aspectClass.getAnnotation(Order.class);
+        return (order != null) ? order.value() : 0;
+    }
+
+    /**
+     * Um pointcut é reavaliado a cada chamada quando declarado com {@code dynamic = true} ou quando
+     * recebe os argumentos ({@code Object[]}), o proxy ({@link ProxyInstance}) ou a instância real
+     * ({@link ReferenceInstance}) da chamada; o resultado desses pointcuts pode variar por instância.
+     */
+    private static boolean isDynamicPointcut(AdviceMethod pointcut) {
+        if (pointcut == null) return false;
+
+        return pointcut.getMethod().getAnnotation(Pointcut.class).dynamic()
+                || pointcut.binds(AdviceMethod.ArgumentSlot.PROXY)
+                || pointcut.binds(AdviceMethod.ArgumentSlot.REAL_INSTANCE)
+                || pointcut.binds(AdviceMethod.ArgumentSlot.ARGS);
     }
 
     /**
@@ -247,13 +325,7 @@ public class AopProxyUtils extends AopUtils {
 
 
     /**
-     * Executa um método do aspecto, resolvendo automaticamente os parâmetros anotados com:
-     * <ul>
-     *     <li>{@link ProxyInstance} → injeta o proxy da classe alvo</li>
-     *     <li>{@link ResultProxy} → injeta o resultado atual da execução do método alvo (somente em {@code after})</li>
-     *     <li>{@code Method} → injeta a referência do método alvo interceptado</li>
-     *     <li>{@code Object[]} → injeta os argumentos do método interceptado</li>
-     * </ul>
+     * Executa um método do aspecto com os parâmetros resolvidos pelo binder de {@link AdviceMethod}.
      *
      * @param instance Instância da classe do aspecto.
      * @param methodExecute Método a ser executado.
@@ -265,23 +337,17 @@ public class AopProxyUtils extends AopUtils {
      */
     private Object executeMethod(
             Object instance,
-            Method methodExecute,
+            AdviceMethod methodExecute,
             Method methodArgs,
             Object[] args,
             Object proxy,
             Object realInstance
     ) throws Exception{
-        return executeMethod(instance, methodExecute, methodArgs, args, proxy, realInstance, null, null, null);
+        return methodExecute.invoke(instance, methodArgs, args, proxy, realInstance, null, null, null);
     }
 
     /**
-     * Executa um método do aspecto, resolvendo automaticamente os parâmetros anotados com:
-     * <ul>
-     *     <li>{@link ProxyInstance} → injeta o proxy da classe alvo</li>
-     *     <li>{@link ResultProxy} → injeta o resultado atual da execução do método alvo (somente em {@code after})</li>
-     *     <li>{@code Method} → injeta a referência do método alvo interceptado</li>
-     *     <li>{@code Object[]} → injeta os argumentos do método interceptado</li>
-     * </ul>
+     * Executa um método do aspecto com os parâmetros resolvidos pelo binder de {@link AdviceMethod}.
      *
      * @param instance Instância da classe do aspecto.
      * @param methodExecute Método a ser executado.
@@ -294,25 +360,18 @@ public class AopProxyUtils extends AopUtils {
      */
     private Object executeMethod(
             Object instance,
-            Method methodExecute,
+            AdviceMethod methodExecute,
             Method methodArgs,
             Object[] args,
             Object proxy,
             Object realInstance,
             Object currentResult
     ) throws Exception {
-        return executeMethod(instance, methodExecute, methodArgs, args, proxy, realInstance, currentResult, null, null);
+        return methodExecute.invoke(instance, methodArgs, args, proxy, realInstance, currentResult, null, null);
     }
 
     /**
-     * Executa um método do aspecto, resolvendo automaticamente os parâmetros anotados com:
-     * <ul>
-     *     <li>{@link ProxyInstance} → injeta o proxy da classe alvo</li>
-     *     <li>{@link ResultProxy} → injeta o resultado atual da execução do método alvo (somente em {@code after})</li>
-     *     <li>{@code Method} → injeta a referência do método alvo interceptado</li>
-     *     <li>{@code Object[]} → injeta os argumentos do método interceptado</li>
-     *     <li>{@code Throwable} → injeta o erro do método interceptado</li>
-     * </ul>
+     * Executa um método do aspecto com os parâmetros resolvidos pelo binder de {@link AdviceMethod}.
      *
      * @param instance Instância da classe do aspecto.
      * @param methodExecute Método a ser executado.
@@ -326,7 +385,7 @@ public class AopProxyUtils extends AopUtils {
      */
     private Object executeMethod(
             Object instance,
-            Method methodExecute,
+            AdviceMethod methodExecute,
             Method methodArgs,
             Object[] args,
             Object proxy,
@@ -335,34 +394,7 @@ public class AopProxyUtils extends AopUtils {
             Throwable cause,
             Callable<?> mainMethod
     ) throws Exception{
-        methodExecute.setAccessible(true);
-        Parameter[] parameters = methodExecute.getParameters();
-        Object[] invokeArgs = new Object[parameters.length];
-
-        for (int i = 0; i < parameters.length; i++) {
-            Parameter parameter = parameters[i];
-            Class<?> paramType = parameter.getType();
-
-            if (parameter.isAnnotationPresent(ProxyInstance.class)) {
-                invokeArgs[i] = proxy;
-            } else if (parameter.isAnnotationPresent(ResultProxy.class)) {
-                invokeArgs[i] = currentResult;
-            } else if (parameter.isAnnotationPresent(ReferenceInstance.class)) {
-                invokeArgs[i] = realInstance;
-            } else if (Method.class.isAssignableFrom(paramType)) {
-                invokeArgs[i] = methodArgs;
-            } else if (paramType.isArray() && paramType.getComponentType().equals(Object.class)) {
-                invokeArgs[i] = args;
-            }else if(Throwable.class.isAssignableFrom(paramType)){
-                invokeArgs[i] = cause;
-            }else if(Callable.class.isAssignableFrom(paramType)){
-                invokeArgs[i] = mainMethod;
-            }else {
-                invokeArgs[i] = null;
-            }
-        }
-
-        return methodExecute.invoke(instance, invokeArgs);
+        return methodExecute.invoke(instance, methodArgs, args, proxy, realInstance, currentResult, cause, mainMethod);
     }
 
     /**
@@ -378,25 +410,519 @@ public class AopProxyUtils extends AopUtils {
      * @param pointcut Método anotado com {@link Pointcut}.
      * @param before Método anotado com {@link BeforeExecution}.
      * @param after Método anotado com {@link AfterExecution}.
+     * @param dynamicPointcut Indica que o pointcut é reavaliado a cada chamada.
+     * @param declarative Critérios declarativos do pointcut, ou {@code null}.
      */
-    public record AspectHandler(Object instance, Method pointcut, Method before, Method after, Method error, Method main) {
+    public record AspectHandler(
+            Object instance,
+            AdviceMethod pointcut,
+            AdviceMethod before,
+            AdviceMethod after,
+            AdviceMethod error,
+            AdviceMethod main,
+            boolean dynamicPointcut,
+            DeclarativePointcut declarative
+    ) {
     }
 
     /**
-     * Singleton para obter a instância de {@link AopProxyUtils} associada ao {@link DependencyContainer}.
+     * Características de um aspecto lidas apenas das anotações, sem instanciá-lo.
      *
-     * @param dependencyContainer Container de injeção de dependências onde os aspectos estão registrados.
-     * @return Instância singleton de {@link AopProxyUtils}.
+     * @param declarative Critérios declarativos do pointcut, ou {@code null} quando o aspecto pode aconselhar qualquer método.
+     * @param around O aspecto declara {@link OnMainMethod}.
+     * @param needsArguments Algum método do aspecto recebe os argumentos ({@code Object[]}) da chamada.
      */
-    public static AopUtils getInstance(DependencyContainer dependencyContainer) {
-        if (aopProxyUtils == null) {
-            synchronized (AopProxyUtils.class) {
-                if (aopProxyUtils == null) {
-                    aopProxyUtils = new AopProxyUtils(dependencyContainer);
+    private record AspectTraits(DeclarativePointcut declarative, boolean around, boolean needsArguments) {
+
+        private static AspectTraits of(Class<?> aspectClass) {
+            Method pointcut = null;
+            boolean around = false;
+            boolean needsArguments = false;
+
+            for (Method method : aspectClass.getDeclaredMethods()) {
+                boolean advice = method.isAnnotationPresent(BeforeExecution.class)
+                        || method.isAnnotationPresent(AfterExecution.class)
+                        || method.isAnnotationPresent(AfterException.class);
+
+                if (method.isAnnotationPresent(Pointcut.class)) {
+                    pointcut = method;
+                    needsArguments |= AdviceMethod.bindsArguments(method);
+                } else if (method.isAnnotationPresent(OnMainMethod.class)) {
+                    around = true;
+                } else if (advice) {
+                    needsArguments |= AdviceMethod.bindsArguments(method);
+                }
+            }
+
+            return new AspectTraits(DeclarativePointcut.of(pointcut), around, needsArguments);
+        }
+
+        private ElementMatcher.Junction<MethodDescription> methodMatcher(Class<?> targetClass) {
+            return (declarative == null) ? ElementMatchers.any() : declarative.methodMatcher(targetClass);
+        }
+    }
+
+    /**
+     * Características dos aspectos descobertos, para que a geração de proxies não precise
+     * instanciar os aspectos.
+     */
+    private static final class PointcutIndex {
+        /** Existe aspecto sem critério declarativo, que pode aconselhar qualquer método. */
+        private final boolean interceptAll;
+        private final List<AspectTraits> aspects;
+        private final ClassValue<Boolean> advisable;
+
+        private PointcutIndex(List<AspectTraits> aspects) {
+            this.aspects = aspects;
+            this.interceptAll = aspects.stream().anyMatch(aspect -> aspect.declarative() == null);
+            this.advisable = new ClassValue<>() {
+                @Override
+                protected Boolean computeValue(Class<?> type) {
+                    return hasAdvisableMethod(type);
+                }
+            };
+        }
+
+        private static PointcutIndex of(List<Class<?>> aspectTypes) {
+            List<AspectTraits> aspects = new ArrayList<>(aspectTypes.size());
+
+            for (Class<?> clazz : aspectTypes) {
+                aspects.add(AspectTraits.of(clazz));
+            }
+
+            return new PointcutIndex(List.copyOf(aspects));
+        }
+
+        private boolean canAdvise(Class<?> targetClass) {
+            if (interceptAll) return true;
+            if (aspects.isEmpty()) return false;
+            return advisable.get(targetClass);
+        }
+
+        /**
+         * Procura, na hierarquia da classe, um método sobrescrevível por subclasse que algum
+         * critério declarativo aceite.
+         */
+        private boolean hasAdvisableMethod(Class<?> targetClass) {
+            for (Class<?> current = targetClass; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Method method : current.getDeclaredMethods()) {
+                    int modifiers = method.getModifiers();
+                    if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) || Modifier.isPrivate(modifiers)
+                            || Modifier.isAbstract(modifiers) || method.isSynthetic()) {
+                        continue;
+                    }
+                    for (AspectTraits aspect : aspects) {
+                        if (aspect.declarative().matches(targetClass, method)) return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Métodos sobrescrevíveis da hierarquia de {@code targetClass} que algum critério
+         * declarativo do índice aceita, sem repetir assinaturas sobrescritas.
+         */
+        private List<Method> advisableMethods(Class<?> targetClass) {
+            List<Method> methods = new ArrayList<>();
+            Set<String> signatures = new HashSet<>();
+            for (Class<?> current = targetClass; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Method method : current.getDeclaredMethods()) {
+                    int modifiers = method.getModifiers();
+                    if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) || Modifier.isPrivate(modifiers)
+                            || Modifier.isAbstract(modifiers) || method.isSynthetic()
+                            || method.isAnnotationPresent(NotIntercept.class)) {
+                        continue;
+                    }
+                    if (!signatures.add(method.getName() + Arrays.toString(method.getParameterTypes()))) continue;
+                    for (AspectTraits aspect : aspects) {
+                        if (aspect.declarative() != null && aspect.declarative().matches(targetClass, method)) {
+                            methods.add(method);
+                            break;
+                        }
+                    }
+                }
+            }
+            return methods;
+        }
+
+        /**
+         * Métodos que algum aspecto aceito por {@code filter} pode aconselhar.
+         */
+        private ElementMatcher<MethodDescription> matcher(Class<?> targetClass, Predicate<AspectTraits> filter) {
+            ElementMatcher.Junction<MethodDescription> matcher = ElementMatchers.none();
+            for (AspectTraits aspect : aspects) {
+                if (filter.test(aspect)) {
+                    matcher = matcher.or(aspect.methodMatcher(targetClass));
+                }
+            }
+            return matcher;
+        }
+    }
+
+    /**
+     * Aspectos de um container na ordem de {@link Order}. Imutável: inclusões, remoções e a
+     * instanciação publicam um novo registro, e o cache de cadeias acompanha cada registro, então
+     * proxies existentes passam a usar a nova lista sem serem gerados de novo.
+     */
+    private static final class AspectRegistry {
+        private final List<Class<?>> types;
+        private final Map<Class<?>, AspectHandler> handlers;
+        /** Handlers instanciados na ordem de {@code types}; {@code null} antes da primeira instanciação. */
+        private final AspectHandler[] active;
+        private final PointcutIndex index;
+        private final ClassValue<Map<Method, MethodAdvice>> methodAdvice;
+
+        private AspectRegistry(List<Class<?>> types, Map<Class<?>, AspectHandler> handlers, boolean activated) {
+            this.types = types;
+            this.handlers = Map.copyOf(handlers);
+            this.active = activated
+                    ? types.stream().map(this.handlers::get).filter(Objects::nonNull).toArray(AspectHandler[]::new)
+                    : null;
+            this.index = PointcutIndex.of(types);
+            this.methodAdvice = new ClassValue<>() {
+                @Override
+                protected Map<Method, MethodAdvice> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+        }
+
+        private boolean isComplete() {
+            return active != null && active.length == types.size();
+        }
+    }
+
+    /**
+     * Advices candidatos de um par (classe alvo, método), na ordem dos handlers. Sem pointcuts
+     * dinâmicos a cadeia é fixa e reaproveitada em todas as chamadas.
+     */
+    private final class MethodAdvice {
+        private final AspectHandler[] candidates;
+        private final HandlerChain staticChain;
+
+        private MethodAdvice(AspectHandler[] candidates) {
+            this.candidates = candidates;
+            this.staticChain = hasDynamicPointcut(candidates) ? null : new HandlerChain(candidates);
+        }
+
+        private AdviceChain chainFor(Method method, Object[] args, Object proxy, Object realInstance) {
+            if (staticChain != null) return staticChain;
+
+            List<AspectHandler> applicable = new ArrayList<>(candidates.length);
+            for (AspectHandler handler : candidates) {
+                if (!handler.dynamicPointcut() || shouldApplyHandler(handler, method, args, proxy, realInstance)) {
+                    applicable.add(handler);
+                }
+            }
+            return new HandlerChain(applicable.toArray(AspectHandler[]::new));
+        }
+
+        private static boolean hasDynamicPointcut(AspectHandler[] candidates) {
+            for (AspectHandler handler : candidates) {
+                if (handler.dynamicPointcut()) return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Cadeia de advices já filtrada, separada por fase. {@code after} e {@code error} ficam em
+     * ordem inversa: o aspecto de menor {@link Order} é o primeiro a entrar e o último a sair.
+     */
+    private final class HandlerChain implements AdviceChain {
+        private final AspectHandler[] before;
+        private final AspectHandler[] main;
+        private final AspectHandler[] after;
+        private final AspectHandler[] error;
+
+        private HandlerChain(AspectHandler[] handlers) {
+            this.before = Arrays.stream(handlers).filter(h -> h.before() != null).toArray(AspectHandler[]::new);
+            this.main = Arrays.stream(handlers).filter(h -> h.main() != null).toArray(AspectHandler[]::new);
+            this.after = reversed(Arrays.stream(handlers).filter(h -> h.after() != null).toArray(AspectHandler[]::new));
+            this.error = reversed(Arrays.stream(handlers).filter(h -> h.error() != null).toArray(AspectHandler[]::new));
+        }
+
+        private static AspectHandler[] reversed(AspectHandler[] handlers) {
+            for (int i = 0, j = handlers.length - 1; i < j; i++, j--) {
+                AspectHandler handler = handlers[i];
+                handlers[i] = handlers[j];
+                handlers[j] = handler;
+            }
+            return handlers;
+        }
+
+        @Override
+        public void applyBefore(Method method, Object[] args, Object proxy, Object realInstance) {
+            for (AspectHandler handler : before) {
+                try {
+                    executeMethod(handler.instance, handler.before, method, args, proxy, realInstance);
+                } catch (RuntimeException re) {
+                    throw re;
+                } catch (Exception e) {
+                    String className = (handler.instance != null) ? handler.instance.getClass().toString() : method.getName();
+                    throw new RuntimeException("Erro no método @BeforeExecution: " + className, e);
+                }
+            }
+        }
+
+        @Override
+        public MainMethodResult applyOnMainMethod(Method method, Object[] args, Object proxy, Object realInstance, Callable<?> mainMethod) throws Exception {
+            if (main.length == 0) return new MainMethodResult(false, null);
+            return new MainMethodResult(true, proceed(0, method, args, proxy, realInstance, mainMethod));
+        }
+
+        /**
+         * Executa o {@code @OnMainMethod} de {@code main[index]}. O {@link Callable} recebido pelo
+         * aspecto executa o próximo da cadeia e só o último recebe a chamada original, então cada
+         * aspecto envolve os de ordem maior e o método alvo roda no máximo uma vez por
+         * {@code call()}. Exceções dos aspectos internos chegam desembrulhadas aos externos.
+         */
+        private Object proceed(int index, Method method, Object[] args, Object proxy, Object realInstance, Callable<?> mainMethod) throws Exception {
+            Callable<?> next = (index + 1 == main.length)
+                    ? mainMethod
+                    : () -> proceedUnwrapped(index + 1, method, args, proxy, realInstance, mainMethod);
+            AspectHandler handler = main[index];
+            return executeMethod(handler.instance, handler.main, method, args, proxy, realInstance, null, null, next);
+        }
+
+        private Object proceedUnwrapped(int index, Method method, Object[] args, Object proxy, Object realInstance, Callable<?> mainMethod) throws Exception {
+            try {
+                return proceed(index, method, args, proxy, realInstance, mainMethod);
+            } catch (InvocationTargetException e) {
+                Throwable target = e.getTargetException();
+                if (target instanceof Exception exception) throw exception;
+                if (target instanceof Error error) throw error;
+                throw e;
+            }
+        }
+
+        @Override
+        public Object applyAfter(Method method, Object[] args, Object proxy, Object realInstance, Object currentResult) {
+            Object result = currentResult;
+
+            for (AspectHandler handler : after) {
+                try {
+                    Object newResult = executeMethod(handler.instance, handler.after, method, args, proxy, realInstance, result);
+                    if (newResult != null && method.getReturnType().isAssignableFrom(newResult.getClass())) {
+                        result = newResult;
+                    }
+                } catch (Exception e) {
+                    String className = (handler.instance != null) ? handler.instance.getClass().toString() : method.getName();
+                    throw new RuntimeException("Erro no método @AfterExecution: " + className, e);
+                }
+            }
+
+            return result;
+        }
+
+        @Override
+        public void applyOnErrorMethod(Method method, Object[] args, Object proxy, Object realInstance, Throwable cause) {
+            for (AspectHandler handler : error) {
+                try {
+                    executeMethod(handler.instance, handler.error, method, args, proxy, realInstance, null, cause, null);
+                } catch (RuntimeException re) {
+                    throw re;
+                } catch (Exception e) {
+                    String className = (handler.instance != null) ? handler.instance.getClass().toString() : method.getName();
+                    throw new RuntimeException("Erro no método @AfterExecution: " + className, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Métodos de {@code targetClass} que algum aspecto pode aconselhar, usado pelo
+     * {@code ProxyFactory} para sobrescrever apenas esses métodos. Quando algum aspecto não
+     * declara critérios em {@link Pointcut}, todos os métodos são candidatos.
+     *
+     * @param dependencyContainer Container cujas classes carregadas definem os aspectos.
+     * @param targetClass Classe que será proxificada.
+     * @return Matcher dos métodos a interceptar.
+     */
+    public static ElementMatcher<MethodDescription> interceptionMatcher(DependencyContainer dependencyContainer, Class<?> targetClass) {
+        if (dependencyContainer == null) return ElementMatchers.any();
+        return pointcutIndex(dependencyContainer).matcher(targetClass, aspect -> true);
+    }
+
+    /**
+     * Classes cujo bytecode decide quais métodos os matchers acima selecionam. O cache de proxies
+     * em disco as inclui na chave, para que uma mudança nos critérios gere uma nova entrada.
+     */
+    public static List<Class<?>> matcherClasses() {
+        return List.of(AopProxyUtils.class, PointcutIndex.class, AspectTraits.class, DeclarativePointcut.class);
+    }
+
+    /**
+     * Métodos de {@code targetClass} que algum aspecto com {@link OnMainMethod} pode aconselhar.
+     * No modo de advice inline esses métodos continuam delegando ao interceptor.
+     */
+    public static ElementMatcher<MethodDescription> aroundMatcher(DependencyContainer dependencyContainer, Class<?> targetClass) {
+        if (dependencyContainer == null) return ElementMatchers.any();
+        return pointcutIndex(dependencyContainer).matcher(targetClass, AspectTraits::around);
+    }
+
+    /**
+     * Métodos de {@code targetClass} que algum aspecto cujo pointcut ou advice recebe
+     * {@code Object[]} pode aconselhar. Apenas esses copiam os argumentos no modo inline.
+     */
+    public static ElementMatcher<MethodDescription> argumentsMatcher(DependencyContainer dependencyContainer, Class<?> targetClass) {
+        if (dependencyContainer == null) return ElementMatchers.any();
+        return pointcutIndex(dependencyContainer).matcher(targetClass, AspectTraits::needsArguments);
+    }
+
+    /**
+     * Indica se algum aspecto pode aconselhar um método de {@code targetClass}. Quando não pode,
+     * o container usa a instância real em vez de gerar um proxy. Aspectos sem critérios
+     * declarativos em {@link Pointcut} podem aconselhar qualquer classe.
+     *
+     * @param dependencyContainer Container cujas classes carregadas definem os aspectos.
+     * @param targetClass Classe que seria proxificada.
+     * @return {@code true} se a classe precisa de proxy.
+     */
+    public static boolean canAdvise(DependencyContainer dependencyContainer, Class<?> targetClass) {
+        if (dependencyContainer == null) return true;
+        return pointcutIndex(dependencyContainer).canAdvise(targetClass);
+    }
+
+    /**
+     * Métodos de beans já criados que os aspectos de {@code classes} poderiam aconselhar, mas que o
+     * bean não intercepta: beans sem proxy ou métodos que o proxy existente não sobrescreve. O
+     * proxy de um bean não é gerado de novo, então um aspecto incluído depois da criação nunca
+     * alcançaria esses métodos.
+     * <p>
+     * Só aspectos com critério declarativo entram na verificação: um {@code @Pointcut} com corpo
+     * é avaliado na chamada e não diz, antes dela, quais beans aconselha.
+     *
+     * @param dependencyContainer Container dono dos aspectos.
+     * @param classes Classes candidatas; as que não são aspectos são ignoradas.
+     * @param beans Instâncias já criadas, proxies ou reais.
+     * @return {@code Classe#método} de cada método inalcançável, vazio quando todos são alcançados.
+     */
+    public static List<String> unreachableAdvice(DependencyContainer dependencyContainer, Collection<Class<?>> classes, Collection<?> beans) {
+        List<AspectTraits> declarative = classes.stream()
+                .filter(clazz -> clazz.isAnnotationPresent(Aspect.class))
+                .map(AspectTraits::of)
+                .filter(aspect -> aspect.declarative() != null)
+                .toList();
+        if (declarative.isEmpty()) return List.of();
+
+        PointcutIndex index = new PointcutIndex(declarative);
+        PointcutIndex current = pointcutIndex(dependencyContainer);
+        List<String> unreachable = new ArrayList<>();
+        for (Object bean : beans) {
+            Object realInstance = (bean instanceof ProxyObject proxy) ? proxy.getRealInstance() : bean;
+            if (realInstance == null) continue;
+
+            Class<?> targetClass = realInstance.getClass();
+            if (!index.canAdvise(targetClass)) continue;
+            for (Method method : index.advisableMethods(targetClass)) {
+                if (!intercepts(bean, current, targetClass, method)) {
+                    unreachable.add(targetClass.getName() + "#" + method.getName());
                 }
             }
         }
-        return aopProxyUtils;
+        return unreachable;
+    }
+
+    /**
+     * Indica se {@code bean} passa as chamadas de {@code method} pelo interceptor. O proxy por
+     * subclasse declara apenas os métodos que sobrescreve; o delegate por interfaces só intercepta
+     * métodos de interface aceitos pelos aspectos do registro.
+     */
+    private static boolean intercepts(Object bean, PointcutIndex current, Class<?> targetClass, Method method) {
+        if (!(bean instanceof ProxyObject)) return false;
+
+        Class<?> proxyClass = bean.getClass();
+        try {
+            if (proxyClass.getSuperclass() == Object.class) {
+                proxyClass.getMethod(method.getName(), method.getParameterTypes());
+                return current.matcher(targetClass, aspect -> true).matches(new MethodDescription.ForLoadedMethod(method));
+            }
+            proxyClass.getDeclaredMethod(method.getName(), method.getParameterTypes());
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Aspectos registrados no container, na ordem em que são aplicados. Usado pelo
+     * {@code ProxyFactory} para identificar as classes de proxy persistidas.
+     *
+     * @param dependencyContainer Container dono dos aspectos.
+     * @return Lista imutável das classes de aspecto.
+     */
+    public static List<Class<?>> aspectTypes(DependencyContainer dependencyContainer) {
+        if (dependencyContainer == null) return List.of();
+        return List.copyOf(of(dependencyContainer).registry.types);
+    }
+
+    private static PointcutIndex pointcutIndex(DependencyContainer dependencyContainer) {
+        return of(dependencyContainer).registry.index;
+    }
+
+    /**
+     * Instancia os aspectos do container que ainda não possuem handler. Chamado pelo container no
+     * final do {@code load()} e depois de cada {@code loadExternal}, para que a criação dos
+     * aspectos não aconteça na primeira chamada interceptada.
+     *
+     * @param dependencyContainer Container dono dos aspectos.
+     */
+    public static void initialize(DependencyContainer dependencyContainer) {
+        of(dependencyContainer).initializeAspects();
+    }
+
+    /**
+     * Inclui as classes anotadas com {@link Aspect} de {@code classes} no registro do container.
+     * Passam a valer para a geração de novos proxies imediatamente e para as chamadas depois de
+     * {@link #initialize(DependencyContainer)}.
+     *
+     * @param dependencyContainer Container dono dos aspectos.
+     * @param classes Classes carregadas externamente; as que não são aspectos são ignoradas.
+     */
+    public static void addAspects(DependencyContainer dependencyContainer, Collection<Class<?>> classes) {
+        of(dependencyContainer).addAspects(classes);
+    }
+
+    /**
+     * Remove do registro do container os aspectos de {@code classes}. Proxies existentes deixam de
+     * aplicá-los na próxima chamada.
+     *
+     * @param dependencyContainer Container dono dos aspectos.
+     * @param classes Classes descarregadas; as que não estão registradas são ignoradas.
+     */
+    public static void removeAspects(DependencyContainer dependencyContainer, Collection<Class<?>> classes) {
+        AopProxyUtils aopProxyUtils = instances.get(dependencyContainer);
+        if (aopProxyUtils != null) {
+            aopProxyUtils.removeAspects(classes);
+        }
+    }
+
+    /**
+     * Descarta o registro de aspectos do container, usado no {@code unload()}.
+     *
+     * @param dependencyContainer Container descarregado.
+     */
+    public static void release(DependencyContainer dependencyContainer) {
+        instances.remove(dependencyContainer);
+    }
+
+    /**
+     * Obtém o {@link AopProxyUtils} do {@link DependencyContainer}, criando o registro de aspectos
+     * a partir das classes carregadas do container na primeira chamada.
+     *
+     * @param dependencyContainer Container de injeção de dependências onde os aspectos estão registrados.
+     * @return Instância de {@link AopProxyUtils} do container.
+     */
+    public static AopUtils getInstance(DependencyContainer dependencyContainer) {
+        return of(dependencyContainer);
+    }
+
+    private static AopProxyUtils of(DependencyContainer dependencyContainer) {
+        AopProxyUtils aopProxyUtils = instances.get(dependencyContainer);
+        if (aopProxyUtils != null) return aopProxyUtils;
+        return instances.computeIfAbsent(dependencyContainer, AopProxyUtils::new);
     }
 
 }
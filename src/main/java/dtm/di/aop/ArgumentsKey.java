@@ -0,0 +1,58 @@
+package dtm.di.aop;
+
+import java.util.Arrays;
+
+/**
+ * Chave gerada a partir dos argumentos de uma chamada interceptada, usada pelos aspectos que
+ * agrupam chamadas equivalentes, como cache e coalescência. Sem argumentos a chave é
+ * {@link #EMPTY}; com um único argumento que não é array, é o próprio argumento. Nos demais
+ * casos os argumentos são copiados e comparados com {@link Arrays#deepEquals}.
+ */
+public final class ArgumentsKey {
+
+    public static final ArgumentsKey EMPTY = new ArgumentsKey(new Object[0]);
+
+    private final Object[] values;
+    private final int hash;
+
+    private ArgumentsKey(Object[] values) {
+        this.values = values;
+        this.hash = Arrays.deepHashCode(values);
+    }
+
+    /**
+     * Chave dos argumentos nas posições {@code keyArgs}, ou de todos quando vazio.
+     */
+    public static Object of(Object[] args, int[] keyArgs) {
+        Object[] values = select(args, keyArgs);
+        if (values.length == 0) return EMPTY;
+        if (values.length == 1 && values[0] != null && !values[0].getClass().isArray()) return values[0];
+        return new ArgumentsKey(values == args ? values.clone() : values);
+    }
+
+    private static Object[] select(Object[] args, int[] keyArgs) {
+        if (args == null) return new Object[0];
+        if (keyArgs.length == 0) return args;
+
+        Object[] values = new Object[keyArgs.length];
+        for (int i = 0; i < keyArgs.length; i++) {
+            values[i] = args[keyArgs[i]];
+        }
+        return values;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof ArgumentsKey key && hash == key.hash && Arrays.deepEquals(values, key.values));
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.deepToString(values);
+    }
+}
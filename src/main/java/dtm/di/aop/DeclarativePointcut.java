@@ -0,0 +1,133 @@
+package dtm.di.aop;
+
+import dtm.di.annotations.aop.Pointcut;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.matcher.ElementMatcher;
+import net.bytebuddy.matcher.ElementMatchers;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.util.regex.Pattern;
+
+/**
+ * Critérios declarativos de um {@link Pointcut}, avaliados sem invocar o método do aspecto.
+ * <p>
+ * Valores de um mesmo atributo são alternativas; atributos diferentes precisam ser todos
+ * atendidos. Critérios de tipo são resolvidos contra a classe alvo e os de método viram
+ * {@link ElementMatcher}s usados na geração do proxy.
+ */
+final class DeclarativePointcut {
+
+    private final Class<? extends Annotation>[] annotatedWith;
+    private final Class<? extends Annotation>[] typeAnnotatedWith;
+    private final Class<? extends Annotation>[] methodOrTypeAnnotatedWith;
+    private final Pattern[] packages;
+    private final Pattern[] types;
+    private final Pattern[] methods;
+
+    private DeclarativePointcut(Pointcut pointcut) {
+        this.annotatedWith = pointcut.annotatedWith();
+        this.typeAnnotatedWith = pointcut.typeAnnotatedWith();
+        this.methodOrTypeAnnotatedWith = pointcut.methodOrTypeAnnotatedWith();
+        this.packages = compile(pointcut.packages(), true);
+        this.types = compile(pointcut.types(), false);
+        this.methods = compile(pointcut.methods(), false);
+    }
+
+    /**
+     * Critérios do pointcut ou {@code null} quando nenhum atributo declarativo foi informado.
+     */
+    static DeclarativePointcut of(Method pointcutMethod) {
+        if (pointcutMethod == null) return null;
+
+        Pointcut pointcut = pointcutMethod.getAnnotation(Pointcut.class);
+        boolean declarative = pointcut.annotatedWith().length > 0
+                || pointcut.typeAnnotatedWith().length > 0
+                || pointcut.methodOrTypeAnnotatedWith().length > 0
+                || pointcut.packages().length > 0
+                || pointcut.types().length > 0
+                || pointcut.methods().length > 0;
+
+        return declarative ? new DeclarativePointcut(pointcut) : null;
+    }
+
+    boolean matches(Class<?> targetClass, Method method) {
+        if (!matchesType(targetClass)) return false;
+        if (methods.length > 0 && !anyMatch(methods, method.getName())) return false;
+        if (methodOrTypeAnnotatedWith.length > 0
+                && !anyPresent(methodOrTypeAnnotatedWith, targetClass)
+                && !anyPresent(methodOrTypeAnnotatedWith, method)) return false;
+        return annotatedWith.length == 0 || anyPresent(annotatedWith, method);
+    }
+
+    /**
+     * Matcher dos métodos que este pointcut pode aconselhar em {@code targetClass}.
+     */
+    ElementMatcher.Junction<MethodDescription> methodMatcher(Class<?> targetClass) {
+        if (!matchesType(targetClass)) return ElementMatchers.none();
+
+        ElementMatcher.Junction<MethodDescription> matcher = ElementMatchers.any();
+        if (methods.length > 0) {
+            ElementMatcher.Junction<MethodDescription> names = ElementMatchers.none();
+            for (Pattern pattern : methods) {
+                names = names.or(ElementMatchers.nameMatches(pattern.pattern()));
+            }
+            matcher = matcher.and(names);
+        }
+        if (annotatedWith.length > 0) {
+            ElementMatcher.Junction<MethodDescription> annotations = ElementMatchers.none();
+            for (Class<? extends Annotation> annotation : annotatedWith) {
+                annotations = annotations.or(ElementMatchers.isAnnotatedWith(annotation));
+            }
+            matcher = matcher.and(annotations);
+        }
+        if (methodOrTypeAnnotatedWith.length > 0 && !anyPresent(methodOrTypeAnnotatedWith, targetClass)) {
+            ElementMatcher.Junction<MethodDescription> annotations = ElementMatchers.none();
+            for (Class<? extends Annotation> annotation : methodOrTypeAnnotatedWith) {
+                annotations = annotations.or(ElementMatchers.isAnnotatedWith(annotation));
+            }
+            matcher = matcher.and(annotations);
+        }
+        return matcher;
+    }
+
+    private boolean matchesType(Class<?> targetClass) {
+        if (packages.length > 0 && !anyMatch(packages, targetClass.getPackageName())) return false;
+        if (types.length > 0 && !anyMatch(types, targetClass.getName())) return false;
+        return typeAnnotatedWith.length == 0 || anyPresent(typeAnnotatedWith, targetClass);
+    }
+
+    private static boolean anyPresent(Class<? extends Annotation>[] annotations, AnnotatedElement element) {
+        for (Class<? extends Annotation> annotation : annotations) {
+            if (element.isAnnotationPresent(annotation)) return true;
+        }
+        return false;
+    }
+
+    private static boolean anyMatch(Pattern[] patterns, String value) {
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(value).matches()) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Converte padrões com {@code *} em expressões regulares. Pacotes também aceitam os
+     * subpacotes do padrão informado.
+     */
+    private static Pattern[] compile(String[] globs, boolean includeSubpackages) {
+        Pattern[] patterns = new Pattern[globs.length];
+        for (int i = 0; i < globs.length; i++) {
+            StringBuilder regex = new StringBuilder();
+            String[] parts = globs[i].split("\\*", -1);
+            for (int j = 0; j < parts.length; j++) {
+                if (j > 0) regex.append(".*");
+                if (!parts[j].isEmpty()) regex.append(Pattern.quote(parts[j]));
+            }
+            if (includeSubpackages) regex.append("(\\..*)?");
+            patterns[i] = Pattern.compile(regex.toString());
+        }
+        return patterns;
+    }
+}
@@ -4,6 +4,7 @@ import dtm.di.annotations.Async;
 import dtm.di.annotations.Configuration;
 import dtm.di.annotations.DisableInjectionWarn;
 import dtm.di.annotations.aop.*;
+import dtm.di.common.jfr.AsyncTaskEvent;
 import dtm.di.exceptions.AsyncMethodException;
 import dtm.di.prototypes.async.AsyncResult;
 import dtm.di.settings.async.AsyncExecutorFactory;
@@ -11,6 +12,7 @@ import dtm.di.storage.async.AsyncResultWrapper;
 import java.lang.reflect.Method;
 import java.util.Map;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Aspect
 @DisableInjectionWarn
@@ -24,7 +26,7 @@ public class AsyncAspect {
         this.asyncExecutorFactory = (asyncExecutorFactory != null) ? asyncExecutorFactory : AsyncExecutorFactory.ofSingleton(ForkJoinPool.commonPool());
     }
 
-    @Pointcut
+    @Pointcut(annotatedWith = Async.class)
     public boolean pointcut(Method method, @ReferenceInstance Object instance) {
         Class<?> clazz = instance.getClass();
         boolean asyncMethod = asyncMethodCache.computeIfAbsent(
@@ -45,8 +47,9 @@ public class AsyncAspect {
     }
 
     @OnMainMethod
-    public Object onMainMethod(Callable<?> callable, Method method, Object[] args, @ReferenceInstance Object instance) throws Throwable {
+    public Object onMainMethod(Callable<?> mainCallable, Method method, Object[] args, @ReferenceInstance Object instance) throws Throwable {
         ExecutorService executor = getExecutor();
+        Callable<?> callable = recorded(mainCallable, method, instance);
         Class<?> returnType = method.getReturnType();
 
         if (returnType == void.class || returnType == Void.class) {
@@ -83,10 +86,37 @@ public class AsyncAspect {
         return executor != null ? executor : ForkJoinPool.commonPool();
     }
 
+    private static Callable<?> recorded(Callable<?> callable, Method method, Object instance) {
+        AsyncTaskEvent taskEvent = new AsyncTaskEvent();
+        if (!taskEvent.isEnabled()) {
+            return callable;
+        }
+
+        taskEvent.markSubmitted();
+        return () -> {
+            taskEvent.markStarted();
+            boolean success = false;
+            try {
+                Object result = callable.call();
+                success = true;
+                return result;
+            } finally {
+                if (taskEvent.shouldCommit()) {
+                    taskEvent.complete(instance.getClass(), method, success);
+                }
+            }
+        };
+    }
+
     private static CompletableFuture<Object> submitCompletable(Callable<?> callable, Executor executor) {
         CompletableFuture<Object> result = new CompletableFuture<>();
+        InterruptibleRun run = new InterruptibleRun();
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) run.interrupt();
+        });
 
         executor.execute(() -> {
+            if (!run.start()) return;
             try {
                 Object invocationResult = callable.call();
 
@@ -103,6 +133,8 @@ public class AsyncAspect {
                 }
             } catch (Throwable throwable) {
                 result.completeExceptionally(unwrapException(throwable));
+            } finally {
+                run.finish();
             }
         });
 
@@ -143,6 +175,43 @@ public class AsyncAspect {
         }
     }
 
+    /**
+     * Liga o cancelamento do future à thread que executa a tarefa: {@code cancel(true)} antes do
+     * início descarta a tarefa e durante a execução interrompe a thread. A interrupção nunca
+     * vaza para a próxima tarefa do pool.
+     */
+    private static final class InterruptibleRun {
+        private static final int NEW = 0;
+        private static final int RUNNING = 1;
+        private static final int INTERRUPTING = 2;
+        private static final int DONE = 3;
+
+        private final AtomicInteger state = new AtomicInteger(NEW);
+        private volatile Thread runner;
+
+        private boolean start() {
+            runner = Thread.currentThread();
+            return state.compareAndSet(NEW, RUNNING);
+        }
+
+        private void interrupt() {
+            if (state.compareAndSet(NEW, DONE)) return;
+            if (state.compareAndSet(RUNNING, INTERRUPTING)) {
+                runner.interrupt();
+                state.set(DONE);
+            }
+        }
+
+        private void finish() {
+            if (state.compareAndSet(RUNNING, DONE)) return;
+            while (state.get() == INTERRUPTING) {
+                Thread.onSpinWait();
+            }
+            // a interrupção era desta tarefa; a thread volta limpa para o pool
+            Thread.interrupted();
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private static <E extends Throwable> void throwUnchecked(Throwable throwable) throws E {
         throw (E) throwable;
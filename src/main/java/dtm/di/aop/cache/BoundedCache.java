@@ -0,0 +1,466 @@
+package dtm.di.aop.cache;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache concorrente e limitado com política W-TinyLFU.
+ * <p>
+ * As entradas ficam em um {@link ConcurrentHashMap}, então leituras não bloqueiam: cada
+ * acerto vai para um {@link ReadBuffer} com perdas e a política é atualizada depois, por quem
+ * conseguir o lock de manutenção. Escritas e remoções seguram esse lock, que é um
+ * {@link ReentrantLock} e não prende threads virtuais ao carrier.
+ * <p>
+ * A política divide a capacidade em:
+ * <ul>
+ *     <li>janela LRU com 1% das entradas, onde toda entrada nova começa;</li>
+ *     <li>segmento de prova, para quem saiu da janela;</li>
+ *     <li>segmento protegido, com até 80% do restante, para quem foi lido de novo na prova.</li>
+ * </ul>
+ * Quando o cache passa do limite, a entrada mais antiga da prova disputa a vaga com a que
+ * acabou de sair da janela e fica a de maior frequência no {@link FrequencySketch}. Com TTL,
+ * as entradas também ficam em ordem de escrita e as vencidas são removidas na manutenção;
+ * até lá, a leitura já as trata como ausentes.
+ */
+public final class BoundedCache<K, V> {
+
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+    private static final int REMOVED = -1;
+    private static final int ADMIT_HASHDOS_THRESHOLD = 5;
+
+    private final String name;
+    private final long maximumSize;
+    private final long windowMaximum;
+    private final long protectedMaximum;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+
+    private final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+    private final ReadBuffer<Node<K, V>> readBuffer = new ReadBuffer<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final FrequencySketch sketch;
+    private final AccessDeque<K, V> window = new AccessDeque<>();
+    private final AccessDeque<K, V> probation = new AccessDeque<>();
+    private final AccessDeque<K, V> protectedSegment = new AccessDeque<>();
+    private final WriteDeque<K, V> writeOrder = new WriteDeque<>();
+    private long size;
+    private long windowSize;
+    private long protectedSize;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    /**
+     * @param name Nome do cache, usado apenas para identificação.
+     * @param maximumSize Número máximo de entradas.
+     * @param ttl Tempo de vida desde a última escrita; {@code null} ou zero desativa a expiração.
+     */
+    public BoundedCache(String name, long maximumSize, Duration ttl) {
+        this(name, maximumSize, ttl, System::nanoTime);
+    }
+
+    BoundedCache(String name, long maximumSize, Duration ttl, LongSupplier ticker) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maxSize do cache " + name + " deve ser positivo: " + maximumSize);
+        }
+        this.name = name;
+        this.maximumSize = maximumSize;
+        this.windowMaximum = Math.max(1, maximumSize / 100);
+        this.protectedMaximum = (maximumSize - windowMaximum) * 8 / 10;
+        this.ttlNanos = toNanos(ttl);
+        this.ticker = ticker;
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Valor de {@code key}, ou {@code null} quando ausente ou expirado.
+     */
+    public V getIfPresent(K key) {
+        Node<K, V> node = data.get(key);
+        if (node == null || isExpired(node)) {
+            misses.increment();
+            return null;
+        }
+
+        V value = node.value;
+        hits.increment();
+        if (readBuffer.offer(node) == ReadBuffer.Offer.FULL) {
+            tryMaintenance();
+        }
+        return value;
+    }
+
+    public void put(K key, V value) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(value, "value");
+
+        evictionLock.lock();
+        try {
+            long now = now();
+            Node<K, V> node = data.get(key);
+            if (node == null) {
+                node = new Node<>(key, value, now);
+                data.put(key, node);
+                node.queue = WINDOW;
+                window.addLast(node);
+                windowSize++;
+                size++;
+                if (ttlNanos > 0) writeOrder.addLast(node);
+                sketch.increment(key);
+            } else {
+                node.value = value;
+                node.writeTime = now;
+                if (ttlNanos > 0) writeOrder.moveToLast(node);
+                onAccess(node);
+            }
+            maintenance(now);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public void invalidate(K key) {
+        evictionLock.lock();
+        try {
+            Node<K, V> node = data.get(key);
+            if (node != null) removeNode(node);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Remove {@code key} apenas se o valor atual ainda for {@code value}.
+     */
+    public boolean invalidate(K key, V value) {
+        evictionLock.lock();
+        try {
+            Node<K, V> node = data.get(key);
+            if (node == null || node.value != value) return false;
+
+            removeNode(node);
+            return true;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        evictionLock.lock();
+        try {
+            readBuffer.drainTo(node -> {});
+            for (Node<K, V> node : data.values()) {
+                node.queue = REMOVED;
+            }
+            data.clear();
+            window.clear();
+            probation.clear();
+            protectedSegment.clear();
+            writeOrder.clear();
+            size = 0;
+            windowSize = 0;
+            protectedSize = 0;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public long estimatedSize() {
+        return data.mappingCount();
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum(), data.mappingCount());
+    }
+
+    /**
+     * Aplica as leituras pendentes, remove as entradas vencidas e faz as evicções devidas.
+     */
+    public void cleanUp() {
+        evictionLock.lock();
+        try {
+            maintenance(now());
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void tryMaintenance() {
+        if (!evictionLock.tryLock()) return;
+        try {
+            maintenance(now());
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void maintenance(long now) {
+        readBuffer.drainTo(this::onAccess);
+        expire(now);
+        evict();
+    }
+
+    private void onAccess(Node<K, V> node) {
+        if (node.queue == REMOVED) return;
+
+        sketch.increment(node.key);
+        switch (node.queue) {
+            case WINDOW -> window.moveToLast(node);
+            case PROBATION -> {
+                probation.remove(node);
+                node.queue = PROTECTED;
+                protectedSegment.addLast(node);
+                protectedSize++;
+                demoteFromProtected();
+            }
+            default -> protectedSegment.moveToLast(node);
+        }
+    }
+
+    private void demoteFromProtected() {
+        while (protectedSize > protectedMaximum) {
+            Node<K, V> demoted = protectedSegment.pollFirst();
+            protectedSize--;
+            demoted.queue = PROBATION;
+            probation.addLast(demoted);
+        }
+    }
+
+    private void expire(long now) {
+        if (ttlNanos == 0) return;
+
+        Node<K, V> node;
+        while ((node = writeOrder.peekFirst()) != null && now - node.writeTime >= ttlNanos) {
+            removeNode(node);
+            expirations.increment();
+        }
+    }
+
+    /**
+     * Move o excedente da janela para a prova e, enquanto o cache passar do limite, decide
+     * entre a vítima (cabeça da prova) e a candidata (cauda da prova) pela frequência.
+     */
+    private void evict() {
+        while (windowSize > windowMaximum) {
+            Node<K, V> node = window.pollFirst();
+            windowSize--;
+            node.queue = PROBATION;
+            probation.addLast(node);
+        }
+
+        while (size > maximumSize) {
+            Node<K, V> victim = probation.peekFirst();
+            Node<K, V> candidate = probation.peekLast();
+            if (victim == null) {
+                victim = (protectedSegment.peekFirst() != null) ? protectedSegment.peekFirst() : window.peekFirst();
+            } else if (victim != candidate && !admit(candidate.key, victim.key)) {
+                victim = candidate;
+            }
+            removeNode(victim);
+            evictions.increment();
+        }
+    }
+
+    /**
+     * A candidata entra quando é mais frequente que a vítima. Candidatas frequentes que
+     * empatam ou perdem ainda têm 1/128 de chance, o que impede um atacante de fixar a vítima
+     * com colisões no sketch.
+     */
+    private boolean admit(K candidate, K victim) {
+        int candidateFrequency = sketch.frequency(candidate);
+        int victimFrequency = sketch.frequency(victim);
+        if (candidateFrequency > victimFrequency) return true;
+        if (candidateFrequency <= ADMIT_HASHDOS_THRESHOLD) return false;
+        return (ThreadLocalRandom.current().nextInt() & 127) == 0;
+    }
+
+    private void removeNode(Node<K, V> node) {
+        data.remove(node.key, node);
+        switch (node.queue) {
+            case WINDOW -> {
+                window.remove(node);
+                windowSize--;
+            }
+            case PROBATION -> probation.remove(node);
+            case PROTECTED -> {
+                protectedSegment.remove(node);
+                protectedSize--;
+            }
+            default -> {
+                return;
+            }
+        }
+        if (ttlNanos > 0) writeOrder.remove(node);
+        node.queue = REMOVED;
+        size--;
+    }
+
+    private boolean isExpired(Node<K, V> node) {
+        return ttlNanos > 0 && ticker.getAsLong() - node.writeTime >= ttlNanos;
+    }
+
+    private long now() {
+        return ttlNanos > 0 ? ticker.getAsLong() : 0L;
+    }
+
+    private static long toNanos(Duration ttl) {
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) return 0L;
+        return ttl.compareTo(Duration.ofNanos(Long.MAX_VALUE)) >= 0 ? Long.MAX_VALUE : ttl.toNanos();
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private volatile V value;
+        private volatile long writeTime;
+        private int queue;
+        private Node<K, V> previousInAccess;
+        private Node<K, V> nextInAccess;
+        private Node<K, V> previousInWrite;
+        private Node<K, V> nextInWrite;
+
+        private Node(K key, V value, long writeTime) {
+            this.key = key;
+            this.value = value;
+            this.writeTime = writeTime;
+        }
+    }
+
+    /**
+     * Lista duplamente encadeada intrusiva; os ponteiros ficam no próprio {@link Node}.
+     * Acessada apenas sob o lock de manutenção.
+     */
+    private abstract static class LinkedDeque<K, V> {
+        private Node<K, V> first;
+        private Node<K, V> last;
+
+        abstract Node<K, V> previous(Node<K, V> node);
+        abstract Node<K, V> next(Node<K, V> node);
+        abstract void link(Node<K, V> node, Node<K, V> previous, Node<K, V> next);
+        abstract void setPrevious(Node<K, V> node, Node<K, V> previous);
+        abstract void setNext(Node<K, V> node, Node<K, V> next);
+
+        void addLast(Node<K, V> node) {
+            link(node, last, null);
+            if (last == null) {
+                first = node;
+            } else {
+                setNext(last, node);
+            }
+            last = node;
+        }
+
+        void remove(Node<K, V> node) {
+            Node<K, V> previous = previous(node);
+            Node<K, V> next = next(node);
+            if (previous == null) {
+                first = next;
+            } else {
+                setNext(previous, next);
+            }
+            if (next == null) {
+                last = previous;
+            } else {
+                setPrevious(next, previous);
+            }
+            link(node, null, null);
+        }
+
+        void moveToLast(Node<K, V> node) {
+            if (node == last) return;
+            remove(node);
+            addLast(node);
+        }
+
+        Node<K, V> pollFirst() {
+            Node<K, V> node = first;
+            if (node != null) remove(node);
+            return node;
+        }
+
+        Node<K, V> peekFirst() {
+            return first;
+        }
+
+        Node<K, V> peekLast() {
+            return last;
+        }
+
+        void clear() {
+            first = null;
+            last = null;
+        }
+    }
+
+    private static final class AccessDeque<K, V> extends LinkedDeque<K, V> {
+        @Override
+        Node<K, V> previous(Node<K, V> node) {
+            return node.previousInAccess;
+        }
+
+        @Override
+        Node<K, V> next(Node<K, V> node) {
+            return node.nextInAccess;
+        }
+
+        @Override
+        void link(Node<K, V> node, Node<K, V> previous, Node<K, V> next) {
+            node.previousInAccess = previous;
+            node.nextInAccess = next;
+        }
+
+        @Override
+        void setPrevious(Node<K, V> node, Node<K, V> previous) {
+            node.previousInAccess = previous;
+        }
+
+        @Override
+        void setNext(Node<K, V> node, Node<K, V> next) {
+            node.nextInAccess = next;
+        }
+    }
+
+    private static final class WriteDeque<K, V> extends LinkedDeque<K, V> {
+        @Override
+        Node<K, V> previous(Node<K, V> node) {
+            return node.previousInWrite;
+        }
+
+        @Override
+        Node<K, V> next(Node<K, V> node) {
+            return node.nextInWrite;
+        }
+
+        @Override
+        void link(Node<K, V> node, Node<K, V> previous, Node<K, V> next) {
+            node.previousInWrite = previous;
+            node.nextInWrite = next;
+        }
+
+        @Override
+        void setPrevious(Node<K, V> node, Node<K, V> previous) {
+            node.previousInWrite = previous;
+        }
+
+        @Override
+        void setNext(Node<K, V> node, Node<K, V> next) {
+            node.nextInWrite = next;
+        }
+    }
+}
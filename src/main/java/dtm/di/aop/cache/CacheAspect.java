@@ -0,0 +1,184 @@
+package dtm.di.aop.cache;
+
+import dtm.di.annotations.DisableInjectionWarn;
+import dtm.di.annotations.aop.*;
+import dtm.di.annotations.cache.CacheEvict;
+import dtm.di.annotations.cache.CachePut;
+import dtm.di.annotations.cache.Cacheable;
+import dtm.di.aop.ArgumentsKey;
+import dtm.di.prototypes.async.AsyncResult;
+import dtm.di.storage.async.AsyncResultWrapper;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Aspecto de {@link Cacheable}, {@link CachePut} e {@link CacheEvict}. Fica dentro do aspecto
+ * de métricas e fora dos demais {@code @OnMainMethod}: um acerto não chega a eles.
+ */
+@Aspect
+@Order(-300)
+@DisableInjectionWarn
+public class CacheAspect {
+
+    private final CacheManager cacheManager;
+    private final ClassValue<Map<Method, CacheBinding>> bindings = new ClassValue<>() {
+        @Override
+        protected Map<Method, CacheBinding> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    public CacheAspect(@DisableInjectionWarn CacheManager cacheManager) {
+        this.cacheManager = (cacheManager != null) ? cacheManager : new CacheManager();
+    }
+
+    @Pointcut(annotatedWith = {Cacheable.class, CachePut.class, CacheEvict.class})
+    public boolean pointcut() {
+        return true;
+    }
+
+    @OnMainMethod
+    public Object onMainMethod(Callable<?> mainCallable, Method method, Object[] args, @ReferenceInstance Object instance) throws Exception {
+        Class<?> targetClass = instance.getClass();
+        CacheBinding binding = bindings.get(targetClass)
+                .computeIfAbsent(method, key -> bind(targetClass, key));
+        return binding.invoke(mainCallable, args);
+    }
+
+    private CacheBinding bind(Class<?> targetClass, Method method) {
+        Cacheable cacheable = method.getAnnotation(Cacheable.class);
+        CachePut put = method.getAnnotation(CachePut.class);
+        CacheEvict evict = method.getAnnotation(CacheEvict.class);
+
+        return new CacheBinding(
+                cacheable != null ? cacheOf(targetClass, cacheName(targetClass, method, cacheable), cacheable) : null,
+                cacheable != null ? cacheable.keyArgs() : null,
+                put != null ? cacheOf(targetClass, put.name(), null) : null,
+                put != null ? put.keyArgs() : null,
+                evict != null ? cacheOf(targetClass, evict.name(), null) : null,
+                evict,
+                method.getReturnType()
+        );
+    }
+
+    /**
+     * Cache {@code name}. Sem um {@link Cacheable} informado, usa a configuração do
+     * {@link Cacheable} de mesmo nome na classe alvo, se houver.
+     */
+    private BoundedCache<Object, Object> cacheOf(Class<?> targetClass, String name, Cacheable declaration) {
+        Cacheable spec = declaration;
+        if (spec == null) {
+            for (Method candidate : targetClass.getMethods()) {
+                Cacheable other = candidate.getAnnotation(Cacheable.class);
+                if (other != null && name.equals(cacheName(targetClass, candidate, other))) {
+                    spec = other;
+                    break;
+                }
+            }
+        }
+
+        if (spec == null) return cacheManager.getOrCreate(name, Cacheable.DEFAULT_MAX_SIZE, Duration.ZERO);
+        return cacheManager.getOrCreate(name, spec.maxSize(), Duration.ofNanos(spec.unit().toNanos(spec.ttl())));
+    }
+
+    private static String cacheName(Class<?> targetClass, Method method, Cacheable cacheable) {
+        return cacheable.name().isBlank() ? targetClass.getName() + "." + method.getName() : cacheable.name();
+    }
+
+    private record CacheBinding(
+            BoundedCache<Object, Object> cache,
+            int[] cacheKeyArgs,
+            BoundedCache<Object, Object> putCache,
+            int[] putKeyArgs,
+            BoundedCache<Object, Object> evictCache,
+            CacheEvict evict,
+            Class<?> returnType
+    ) {
+        private Object invoke(Callable<?> mainCallable, Object[] args) throws Exception {
+            if (evictCache != null && evict.beforeInvocation()) evict(args);
+
+            Object key = null;
+            if (cache != null) {
+                key = ArgumentsKey.of(args, cacheKeyArgs);
+                Object cached = cache.getIfPresent(key);
+                if (cached != null) return hit(cached);
+            }
+
+            Object result = mainCallable.call();
+            if (cache != null) store(cache, key, result, returnType);
+            if (putCache != null) store(putCache, ArgumentsKey.of(args, putKeyArgs), result, returnType);
+            if (evictCache != null && !evict.beforeInvocation()) evict(args);
+            return result;
+        }
+
+        /**
+         * Valor de um acerto. Futures guardados por {@link #store} voltam como cópia, para que
+         * cada chamador receba o próprio future.
+         */
+        private Object hit(Object cached) {
+            if (!(cached instanceof CompletableFuture<?> future)) return cached;
+            if (returnType == CompletableFuture.class || returnType == CompletionStage.class) return future.copy();
+            if (returnType == AsyncResult.class) return new AsyncResultWrapper<>(future.copy());
+            return cached;
+        }
+
+        private void evict(Object[] args) {
+            if (evict.allEntries()) {
+                evictCache.invalidateAll();
+            } else {
+                evictCache.invalidate(ArgumentsKey.of(args, evict.keyArgs()));
+            }
+        }
+
+        /**
+         * Grava {@code result}. Resultados assíncronos saem do cache se completarem com erro.
+         *
+         * Para métodos que devolvem {@code CompletableFuture}, {@code CompletionStage} ou
+         * {@link AsyncResult}, o cache guarda um future próprio alimentado pelo resultado, que
+         * nenhum chamador recebe: quem cancela ou sobrescreve o que recebeu não altera o que os
+         * próximos recebem.
+         */
+        private static void store(BoundedCache<Object, Object> target, Object key, Object result, Class<?> returnType) {
+            if (result == null) return;
+
+            boolean stageType = returnType == CompletableFuture.class || returnType == CompletionStage.class;
+            if ((stageType && result instanceof CompletionStage<?>) || (returnType == AsyncResult.class && result instanceof AsyncResult<?>)) {
+                CompletableFuture<Object> source = new CompletableFuture<>();
+                BiConsumer<Object, Throwable> completion = (value, error) -> {
+                    if (error == null) {
+                        source.complete(value);
+                    } else {
+                        target.invalidate(key, source);
+                        source.completeExceptionally(error);
+                    }
+                };
+
+                target.put(key, source);
+                if (result instanceof CompletionStage<?> stage) {
+                    stage.whenComplete(completion);
+                } else {
+                    ((AsyncResult<?>) result).whenComplete(completion);
+                }
+                return;
+            }
+
+            target.put(key, result);
+            if (result instanceof CompletionStage<?> stage) {
+                stage.whenComplete((value, error) -> {
+                    if (error != null) target.invalidate(key, result);
+                });
+            } else if (result instanceof AsyncResult<?> asyncResult) {
+                asyncResult.whenComplete((value, error) -> {
+                    if (error != null) target.invalidate(key, result);
+                });
+            }
+        }
+    }
+}
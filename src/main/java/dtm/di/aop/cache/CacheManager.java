@@ -0,0 +1,50 @@
+package dtm.di.aop.cache;
+
+import dtm.di.annotations.Component;
+import dtm.di.annotations.PreDestroy;
+import dtm.di.annotations.Singleton;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches nomeados do container. Cada cache é criado na primeira chamada de um método que o
+ * usa e descartado no {@code @PreDestroy}, quando o container é descarregado.
+ */
+@Singleton
+@Component
+public class CacheManager {
+
+    private final Map<String, BoundedCache<Object, Object>> caches = new ConcurrentHashMap<>();
+
+    public Optional<BoundedCache<Object, Object>> getCache(String name) {
+        return Optional.ofNullable(caches.get(name));
+    }
+
+    public Set<String> getCacheNames() {
+        return new TreeSet<>(caches.keySet());
+    }
+
+    public Optional<CacheStats> stats(String name) {
+        return getCache(name).map(BoundedCache::stats);
+    }
+
+    /**
+     * Cache {@code name}, criado com {@code maximumSize} e {@code ttl} se ainda não existe.
+     */
+    public BoundedCache<Object, Object> getOrCreate(String name, long maximumSize, Duration ttl) {
+        return caches.computeIfAbsent(name, key -> new BoundedCache<>(key, maximumSize, ttl));
+    }
+
+    @PreDestroy
+    public void close() {
+        for (BoundedCache<Object, Object> cache : caches.values()) {
+            cache.invalidateAll();
+        }
+        caches.clear();
+    }
+}
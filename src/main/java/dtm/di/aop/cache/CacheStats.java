@@ -0,0 +1,18 @@
+package dtm.di.aop.cache;
+
+/**
+ * Estatísticas de um {@link BoundedCache} no momento da leitura.
+ *
+ * @param hits Leituras que encontraram um valor válido.
+ * @param misses Leituras sem valor ou com valor expirado.
+ * @param evictions Entradas removidas pelo limite de tamanho.
+ * @param expirations Entradas removidas pelo TTL.
+ * @param size Entradas no cache, incluindo expiradas ainda não removidas.
+ */
+public record CacheStats(long hits, long misses, long evictions, long expirations, long size) {
+
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+}
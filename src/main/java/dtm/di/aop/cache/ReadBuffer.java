@@ -0,0 +1,72 @@
+package dtm.di.aop.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Buffer de leituras com perdas, listrado por thread. Cada listra é um anel de
+ * {@value #SLOTS} posições com um único consumidor, quem segura o lock de manutenção.
+ * {@link #offer} nunca bloqueia: quando o CAS da posição falha a leitura é descartada, o que
+ * só reduz a precisão da política de evicção.
+ */
+final class ReadBuffer<E> {
+
+    enum Offer { SUCCESS, FAILED, FULL }
+
+    private static final int SLOTS = 16;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int STRIPES = Math.min(16, Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors())));
+
+    private final Stripe<E>[] stripes;
+
+    @SuppressWarnings("unchecked")
+    ReadBuffer() {
+        this.stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe<>();
+        }
+    }
+
+    Offer offer(E element) {
+        Stripe<E> stripe = stripes[stripeIndex()];
+        long head = stripe.readCounter;
+        long tail = stripe.writeCounter.get();
+        if (tail - head >= SLOTS) return Offer.FULL;
+        if (!stripe.writeCounter.compareAndSet(tail, tail + 1)) return Offer.FAILED;
+
+        stripe.slots.lazySet((int) (tail & SLOT_MASK), element);
+        return Offer.SUCCESS;
+    }
+
+    /**
+     * Entrega as leituras publicadas a {@code consumer}. Deve ser chamado sob o lock de manutenção.
+     */
+    void drainTo(Consumer<E> consumer) {
+        for (Stripe<E> stripe : stripes) {
+            long head = stripe.readCounter;
+            long tail = stripe.writeCounter.get();
+            while (head < tail) {
+                int index = (int) (head & SLOT_MASK);
+                E element = stripe.slots.get(index);
+                if (element == null) break;
+
+                stripe.slots.lazySet(index, null);
+                consumer.accept(element);
+                head++;
+            }
+            stripe.readCounter = head;
+        }
+    }
+
+    private static int stripeIndex() {
+        long hash = Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & (STRIPES - 1);
+    }
+
+    private static final class Stripe<E> {
+        private final AtomicLong writeCounter = new AtomicLong();
+        private final AtomicReferenceArray<E> slots = new AtomicReferenceArray<>(SLOTS);
+        private volatile long readCounter;
+    }
+}
@@ -0,0 +1,112 @@
+package dtm.di.aop.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma log-linear de latências em nanossegundos, sem locks.
+ * <p>
+ * Cada potência de dois é dividida em {@value #SUB_BUCKETS} faixas lineares, como no
+ * HdrHistogram: o valor reportado por um percentil tem erro relativo de no máximo 1/32 em toda
+ * a faixa de {@code long}. Os contadores ficam em {@link AtomicLongArray}s listrados; a gravação
+ * tenta um CAS na listra da thread e, quando perde a disputa, o histograma dobra o número de
+ * listras até {@link #MAX_STRIPES}, como um {@link LongAdder}.
+ * <p>
+ * {@link #snapshot()} soma as listras sem bloquear quem grava, então a leitura é fracamente
+ * consistente com as gravações concorrentes.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+    private static final int MAX_STRIPES = Math.min(8, Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors())));
+
+    private final AtomicReference<AtomicLongArray[]> stripes =
+            new AtomicReference<>(new AtomicLongArray[]{new AtomicLongArray(BUCKETS)});
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Grava uma latência. Valores negativos contam como zero.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        int index = bucketIndex(value);
+        AtomicLongArray[] current = stripes.get();
+        AtomicLongArray stripe = current[stripeIndex(current.length)];
+
+        long observed = stripe.get(index);
+        if (!stripe.compareAndSet(index, observed, observed + 1)) {
+            stripe.incrementAndGet(index);
+            grow(current);
+        }
+        sum.add(value);
+        min.accumulate(value);
+        max.accumulate(value);
+    }
+
+    public LatencySnapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        for (AtomicLongArray stripe : stripes.get()) {
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] += stripe.get(i);
+            }
+        }
+        long count = 0;
+        int highest = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += counts[i];
+            if (counts[i] > 0) highest = i;
+        }
+        if (count == 0) return new LatencySnapshot(0, 0, 0, 0, counts);
+
+        long lowest = min.get();
+        long largest = max.get();
+        if (lowest > largest) {
+            // gravação concorrente ainda não chegou aos acumuladores
+            lowest = 0;
+            largest = highestEquivalentValue(highest);
+        }
+        return new LatencySnapshot(count, sum.sum(), lowest, largest, counts);
+    }
+
+    /**
+     * Índice da faixa de {@code value}: linear abaixo de {@value #SUB_BUCKETS} e, acima disso,
+     * {@value #SUB_BUCKETS} faixas por potência de dois.
+     */
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    /**
+     * Maior valor que cai na faixa {@code index}.
+     */
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKETS) return index;
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long subBucket = index - ((long) shift << SUB_BUCKET_BITS);
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    private static int stripeIndex(int stripeCount) {
+        long hash = Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & (stripeCount - 1);
+    }
+
+    private void grow(AtomicLongArray[] current) {
+        if (current.length >= MAX_STRIPES) return;
+
+        AtomicLongArray[] expanded = new AtomicLongArray[current.length << 1];
+        System.arraycopy(current, 0, expanded, 0, current.length);
+        for (int i = current.length; i < expanded.length; i++) {
+            expanded[i] = new AtomicLongArray(BUCKETS);
+        }
+        stripes.compareAndSet(current, expanded);
+    }
+}
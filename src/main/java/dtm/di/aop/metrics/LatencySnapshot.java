@@ -0,0 +1,69 @@
+package dtm.di.aop.metrics;
+
+/**
+ * Cópia imutável de um {@link LatencyHistogram}. Valores em nanossegundos.
+ */
+public final class LatencySnapshot {
+
+    private final long count;
+    private final long sum;
+    private final long min;
+    private final long max;
+    private final long[] counts;
+
+    LatencySnapshot(long count, long sum, long min, long max, long[] counts) {
+        this.count = count;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+        this.counts = counts;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMin() {
+        return min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Latência abaixo da qual estão {@code percentile}% das chamadas, com erro relativo de no
+     * máximo 1/32 e limitada ao mínimo e ao máximo gravados.
+     *
+     * @param percentile Valor entre {@code 0} e {@code 100}.
+     */
+    public long percentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentil fora de [0, 100]: " + percentile);
+        }
+        if (count == 0) return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.max(min, Math.min(max, LatencyHistogram.highestEquivalentValue(i)));
+            }
+        }
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencySnapshot{count=" + count
+                + ", mean=" + Math.round(getMean())
+                + ", p50=" + percentile(50)
+                + ", p99=" + percentile(99)
+                + ", max=" + max + "}";
+    }
+}
@@ -0,0 +1,45 @@
+package dtm.di.aop.metrics;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores de um nome de métrica. Chamadas e erros usam {@link LongAdder}; a latência só é
+ * registrada depois que algum método com {@code @Timed} passa a usar o nome.
+ */
+final class MethodMetrics {
+
+    private final String name;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final AtomicReference<LatencyHistogram> latency = new AtomicReference<>();
+
+    MethodMetrics(String name) {
+        this.name = name;
+    }
+
+    MethodMetrics timed() {
+        if (latency.get() == null) {
+            latency.compareAndSet(null, new LatencyHistogram());
+        }
+        return this;
+    }
+
+    void record(long nanos, boolean error) {
+        calls.increment();
+        if (error) errors.increment();
+
+        LatencyHistogram histogram = latency.get();
+        if (histogram != null) histogram.record(nanos);
+    }
+
+    MethodMetricsSnapshot snapshot() {
+        LatencyHistogram histogram = latency.get();
+        return new MethodMetricsSnapshot(
+                name,
+                calls.sum(),
+                errors.sum(),
+                histogram != null ? histogram.snapshot() : null
+        );
+    }
+}
@@ -0,0 +1,69 @@
+package dtm.di.aop.metrics;
+
+import dtm.di.annotations.Component;
+import dtm.di.annotations.Singleton;
+import dtm.di.annotations.metrics.Counted;
+import dtm.di.annotations.metrics.Timed;
+
+import java.lang.reflect.Method;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Métricas registradas pelo {@link MetricsAspect}, por nome.
+ * <p>
+ * O mapa só é consultado quando um método é chamado pela primeira vez; depois o aspecto usa
+ * os contadores direto, sem lock. Métodos com o mesmo nome de métrica, como sobrecargas sem
+ * nome explícito, compartilham os contadores.
+ */
+@Singleton
+@Component
+public class MethodMetricsRegistry {
+
+    private final Map<String, MethodMetrics> metrics = new ConcurrentHashMap<>();
+
+    public Optional<MethodMetricsSnapshot> snapshot(String name) {
+        MethodMetrics current = metrics.get(name);
+        return current != null ? Optional.of(current.snapshot()) : Optional.empty();
+    }
+
+    /**
+     * Métricas de todos os nomes já chamados, ordenadas pelo nome.
+     */
+    public List<MethodMetricsSnapshot> snapshots() {
+        return metrics.values().stream()
+                .map(MethodMetrics::snapshot)
+                .sorted(Comparator.comparing(MethodMetricsSnapshot::name))
+                .toList();
+    }
+
+    MethodMetrics register(Class<?> targetClass, Method method) {
+        MethodMetrics current = metrics.computeIfAbsent(metricName(targetClass, method), MethodMetrics::new);
+        return isTimed(targetClass, method) ? current.timed() : current;
+    }
+
+    /**
+     * Nome explícito do método; sem ele, {@code <prefixo>.<método>} com o nome da anotação da
+     * classe como prefixo ou, na falta dele, o nome qualificado da classe.
+     */
+    static String metricName(Class<?> targetClass, Method method) {
+        String name = nameOf(method.getAnnotation(Timed.class), method.getAnnotation(Counted.class));
+        if (!name.isEmpty()) return name;
+
+        String prefix = nameOf(targetClass.getAnnotation(Timed.class), targetClass.getAnnotation(Counted.class));
+        return (prefix.isEmpty() ? targetClass.getName() : prefix) + "." + method.getName();
+    }
+
+    private static boolean isTimed(Class<?> targetClass, Method method) {
+        return method.isAnnotationPresent(Timed.class) || targetClass.isAnnotationPresent(Timed.class);
+    }
+
+    private static String nameOf(Timed timed, Counted counted) {
+        if (timed != null && !timed.value().isBlank()) return timed.value();
+        if (counted != null && !counted.value().isBlank()) return counted.value();
+        return "";
+    }
+}
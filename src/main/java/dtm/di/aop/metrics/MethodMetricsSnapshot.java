@@ -0,0 +1,12 @@
+package dtm.di.aop.metrics;
+
+/**
+ * Valores de uma métrica de método no momento da leitura.
+ *
+ * @param name Nome da métrica.
+ * @param calls Chamadas concluídas, com ou sem erro.
+ * @param errors Chamadas que terminaram com exceção.
+ * @param latency Latências em nanossegundos, ou {@code null} quando o nome só tem {@code @Counted}.
+ */
+public record MethodMetricsSnapshot(String name, long calls, long errors, LatencySnapshot latency) {
+}
@@ -0,0 +1,65 @@
+package dtm.di.aop.metrics;
+
+import dtm.di.annotations.DisableInjectionWarn;
+import dtm.di.annotations.aop.*;
+import dtm.di.annotations.metrics.Counted;
+import dtm.di.annotations.metrics.Timed;
+import dtm.di.prototypes.async.AsyncResult;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Aspecto de {@link Timed} e {@link Counted}. Envolve os demais aspectos de
+ * {@code @OnMainMethod}, então a latência inclui o tempo gasto neles.
+ */
+@Aspect
+@Order(-400)
+@DisableInjectionWarn
+public class MetricsAspect {
+
+    private final MethodMetricsRegistry registry;
+    private final ClassValue<Map<Method, MethodMetrics>> metricsByClass = new ClassValue<>() {
+        @Override
+        protected Map<Method, MethodMetrics> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    public MetricsAspect(@DisableInjectionWarn MethodMetricsRegistry registry) {
+        this.registry = (registry != null) ? registry : new MethodMetricsRegistry();
+    }
+
+    @Pointcut(methodOrTypeAnnotatedWith = {Timed.class, Counted.class})
+    public boolean pointcut() {
+        return true;
+    }
+
+    @OnMainMethod
+    public Object onMainMethod(Callable<?> mainCallable, Method method, @ReferenceInstance Object instance) throws Throwable {
+        Class<?> targetClass = instance.getClass();
+        MethodMetrics metrics = metricsByClass.get(targetClass)
+                .computeIfAbsent(method, key -> registry.register(targetClass, key));
+
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = mainCallable.call();
+        } catch (Throwable throwable) {
+            metrics.record(System.nanoTime() - start, true);
+            throw throwable;
+        }
+
+        if (result instanceof CompletionStage<?> stage) {
+            stage.whenComplete((value, error) -> metrics.record(System.nanoTime() - start, error != null));
+        } else if (result instanceof AsyncResult<?> asyncResult) {
+            asyncResult.whenComplete((value, error) -> metrics.record(System.nanoTime() - start, error != null));
+        } else {
+            metrics.record(System.nanoTime() - start, false);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,115 @@
+package dtm.di.aop.resilience;
+
+import dtm.di.annotations.resilience.Bulkhead;
+import dtm.di.exceptions.BulkheadFullException;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Semáforo de um {@link Bulkhead}. A espera é feita pelo próprio {@link Semaphore}, que estaciona
+ * a thread com {@code LockSupport} e não prende threads virtuais ao carrier.
+ */
+final class BulkheadLimiter {
+
+    private final String name;
+    private final Bulkhead spec;
+    private final AdjustableSemaphore semaphore;
+    private final ReentrantLock resizeLock = new ReentrantLock();
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder waited = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private volatile int maxConcurrent;
+    private volatile long maxWaitNanos;
+
+    BulkheadLimiter(String name, Bulkhead spec) {
+        if (spec.maxConcurrent() < 1 || spec.maxWait() < 0) {
+            throw new IllegalArgumentException("@Bulkhead '" + name + "' precisa de maxConcurrent positivo e maxWait não negativo.");
+        }
+        this.name = name;
+        this.spec = spec;
+        this.maxConcurrent = spec.maxConcurrent();
+        this.maxWaitNanos = spec.unit().toNanos(spec.maxWait());
+        this.semaphore = new AdjustableSemaphore(maxConcurrent, spec.fair());
+    }
+
+    String name() {
+        return name;
+    }
+
+    Bulkhead spec() {
+        return spec;
+    }
+
+    void acquire() {
+        try {
+            // tryAcquire() sem tempo fura a fila mesmo em semáforo justo; com tempo zero não
+            if (!semaphore.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                long maxWait = maxWaitNanos;
+                if (maxWait <= 0) throw reject();
+                waited.increment();
+                if (!semaphore.tryAcquire(maxWait, TimeUnit.NANOSECONDS)) throw reject();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject();
+        }
+        acquired.increment();
+    }
+
+    void release() {
+        semaphore.release();
+    }
+
+    /**
+     * Aplica novos limites. Reduções não interrompem quem já tem permissão: as permissões
+     * disponíveis ficam negativas até as execuções em andamento terminarem.
+     */
+    void update(int maxConcurrent, long maxWaitNanos) {
+        resizeLock.lock();
+        try {
+            int delta = maxConcurrent - this.maxConcurrent;
+            if (delta > 0) {
+                semaphore.release(delta);
+            } else if (delta < 0) {
+                semaphore.reducePermits(-delta);
+            }
+            this.maxConcurrent = maxConcurrent;
+            this.maxWaitNanos = maxWaitNanos;
+        } finally {
+            resizeLock.unlock();
+        }
+    }
+
+    LimiterSnapshot snapshot() {
+        return new LimiterSnapshot(
+                name,
+                LimiterSnapshot.Kind.BULKHEAD,
+                maxConcurrent,
+                Math.max(0, semaphore.availablePermits()),
+                acquired.sum(),
+                waited.sum(),
+                rejected.sum()
+        );
+    }
+
+    private BulkheadFullException reject() {
+        rejected.increment();
+        return new BulkheadFullException(
+                "Bulkhead '" + name + "' sem permissões livres (limite " + maxConcurrent + ").", name
+        );
+    }
+
+    private static final class AdjustableSemaphore extends Semaphore {
+        private AdjustableSemaphore(int permits, boolean fair) {
+            super(permits, fair);
+        }
+
+        @Override
+        protected void reducePermits(int reduction) {
+            super.reducePermits(reduction);
+        }
+    }
+}
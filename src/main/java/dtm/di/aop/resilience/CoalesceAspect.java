@@ -0,0 +1,136 @@
+package dtm.di.aop.resilience;
+
+import dtm.di.annotations.DisableInjectionWarn;
+import dtm.di.annotations.aop.*;
+import dtm.di.annotations.resilience.Coalesce;
+import dtm.di.aop.ArgumentsKey;
+import dtm.di.prototypes.async.AsyncResult;
+import dtm.di.storage.async.AsyncResultWrapper;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * Aspecto de {@link Coalesce}. Fica dentro do cache, então as faltas simultâneas de uma mesma
+ * chave viram uma única execução, e fora do {@code @Async}, que só é chamado pela execução
+ * que lidera o grupo.
+ */
+@Aspect
+@Order(-200)
+@DisableInjectionWarn
+public class CoalesceAspect {
+
+    private final ClassValue<Map<Method, CoalescedMethod>> methods = new ClassValue<>() {
+        @Override
+        protected Map<Method, CoalescedMethod> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    @Pointcut(annotatedWith = Coalesce.class)
+    public boolean pointcut() {
+        return true;
+    }
+
+    @OnMainMethod
+    public Object onMainMethod(Callable<?> mainCallable, Method method, Object[] args, @ReferenceInstance Object instance) throws Exception {
+        return methods.get(instance.getClass())
+                .computeIfAbsent(method, CoalescedMethod::new)
+                .invoke(mainCallable, instance, args);
+    }
+
+    /**
+     * Execuções em andamento de um método, por instância e chave de argumentos.
+     */
+    private static final class CoalescedMethod {
+        private final int[] keyArgs;
+        private final ResultKind kind;
+        private final Map<CallKey, Flight> inFlight = new ConcurrentHashMap<>();
+
+        private CoalescedMethod(Method method) {
+            this.keyArgs = method.getAnnotation(Coalesce.class).keyArgs();
+            this.kind = ResultKind.of(method);
+        }
+
+        private Object invoke(Callable<?> mainCallable, Object instance, Object[] args) throws Exception {
+            CallKey key = new CallKey(instance, ArgumentsKey.of(args, keyArgs));
+            Flight flight = new Flight();
+            Flight current = inFlight.putIfAbsent(key, flight);
+
+            if (current == null) return lead(key, flight, mainCallable);
+            // chamada reentrante do próprio líder: esperar por ela travaria a thread
+            if (kind == ResultKind.VALUE && current.leader == Thread.currentThread()) return mainCallable.call();
+            return follow(current);
+        }
+
+        private Object lead(CallKey key, Flight flight, Callable<?> mainCallable) throws Exception {
+            Object result;
+            try {
+                result = mainCallable.call();
+            } catch (Exception | Error error) {
+                finish(key, flight, null, error);
+                throw error;
+            }
+
+            if (kind == ResultKind.STAGE && result instanceof CompletionStage<?> stage) {
+                stage.whenComplete((value, error) -> finish(key, flight, value, error));
+            } else if (kind == ResultKind.ASYNC_RESULT && result instanceof AsyncResult<?> asyncResult) {
+                asyncResult.whenComplete((value, error) -> finish(key, flight, value, error));
+            } else {
+                finish(key, flight, result, null);
+            }
+            return result;
+        }
+
+        private Object follow(Flight flight) throws Exception {
+            switch (kind) {
+                case STAGE -> {
+                    return flight.result.copy();
+                }
+                case ASYNC_RESULT -> {
+                    return new AsyncResultWrapper<>(flight.result.copy());
+                }
+                default -> {
+                    try {
+                        return flight.result.get();
+                    } catch (ExecutionException e) {
+                        Throwable cause = e.getCause();
+                        if (cause instanceof Exception exception) throw exception;
+                        if (cause instanceof Error error) throw error;
+                        throw e;
+                    }
+                }
+            }
+        }
+
+        private void finish(CallKey key, Flight flight, Object value, Throwable error) {
+            inFlight.remove(key, flight);
+            if (error == null) {
+                flight.result.complete(value);
+            } else {
+                flight.result.completeExceptionally(Stages.unwrap(error));
+            }
+        }
+    }
+
+    private static final class Flight {
+        private final Thread leader = Thread.currentThread();
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+    }
+
+    /**
+     * Chave de uma execução: a instância é comparada por identidade.
+     */
+    private record CallKey(Object instance, Object arguments) {
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof CallKey key && instance == key.instance && arguments.equals(key.arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(instance) + arguments.hashCode();
+        }
+    }
+}
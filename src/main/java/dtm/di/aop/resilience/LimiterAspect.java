@@ -0,0 +1,80 @@
+package dtm.di.aop.resilience;
+
+import dtm.di.annotations.DisableInjectionWarn;
+import dtm.di.annotations.aop.*;
+import dtm.di.annotations.resilience.Bulkhead;
+import dtm.di.annotations.resilience.RateLimited;
+import dtm.di.prototypes.async.AsyncResult;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Aspecto de {@link Bulkhead} e {@link RateLimited}. Fica dentro do cache e da coalescência,
+ * então acertos e chamadas agrupadas não consomem permissões, e fora do {@code @Async}: a
+ * espera acontece na thread de quem chama, antes de a tarefa ir para o executor.
+ */
+@Aspect
+@Order(-100)
+@DisableInjectionWarn
+public class LimiterAspect {
+
+    private final LimiterRegistry registry;
+    private final ClassValue<Map<Method, Limits>> limitsByClass = new ClassValue<>() {
+        @Override
+        protected Map<Method, Limits> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    public LimiterAspect(@DisableInjectionWarn LimiterRegistry registry) {
+        this.registry = (registry != null) ? registry : new LimiterRegistry(null);
+    }
+
+    @Pointcut(annotatedWith = {Bulkhead.class, RateLimited.class})
+    public boolean pointcut() {
+        return true;
+    }
+
+    @OnMainMethod
+    public Object onMainMethod(Callable<?> mainCallable, Method method) throws Exception {
+        Limits limits = limitsByClass.get(method.getDeclaringClass()).computeIfAbsent(method, this::limits);
+        registry.refreshIfChanged();
+
+        if (limits.rateLimiter() != null) limits.rateLimiter().acquire();
+        BulkheadLimiter bulkhead = limits.bulkhead();
+        if (bulkhead == null) return mainCallable.call();
+
+        bulkhead.acquire();
+        Object result;
+        try {
+            result = mainCallable.call();
+        } catch (Exception | Error error) {
+            bulkhead.release();
+            throw error;
+        }
+
+        if (result instanceof CompletionStage<?> stage) {
+            stage.whenComplete((value, error) -> bulkhead.release());
+        } else if (result instanceof AsyncResult<?> asyncResult) {
+            asyncResult.whenComplete((value, error) -> bulkhead.release());
+        } else {
+            bulkhead.release();
+        }
+        return result;
+    }
+
+    private Limits limits(Method method) {
+        Bulkhead bulkhead = method.getAnnotation(Bulkhead.class);
+        RateLimited rateLimited = method.getAnnotation(RateLimited.class);
+        return new Limits(
+                (bulkhead != null) ? registry.bulkhead(method, bulkhead) : null,
+                (rateLimited != null) ? registry.rateLimiter(method, rateLimited) : null
+        );
+    }
+
+    private record Limits(BulkheadLimiter bulkhead, RateLimiter rateLimiter) {}
+}
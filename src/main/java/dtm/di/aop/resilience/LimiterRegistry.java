@@ -0,0 +1,146 @@
+package dtm.di.aop.resilience;
+
+import dtm.di.annotations.Component;
+import dtm.di.annotations.DisableInjectionWarn;
+import dtm.di.annotations.Singleton;
+import dtm.di.annotations.resilience.Bulkhead;
+import dtm.di.annotations.resilience.RateLimited;
+import dtm.di.settings.AppSettings;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Limitadores de {@link Bulkhead} e {@link RateLimited}, por nome.
+ * <p>
+ * Os valores das anotações podem ser sobrescritos pelo {@link AppSettings} nas chaves
+ * {@code resilience.bulkhead.<nome>.*} e {@code resilience.rateLimit.<nome>.*}. A cada chamada
+ * o aspecto compara a versão das configurações e, quando ela muda, os limites de todos os
+ * limitadores são relidos; sem mudança o custo é uma leitura volátil.
+ */
+@Slf4j
+@Singleton
+@Component
+public class LimiterRegistry {
+
+    private static final String BULKHEAD_PREFIX = "resilience.bulkhead.";
+    private static final String RATE_LIMIT_PREFIX = "resilience.rateLimit.";
+
+    private final AppSettings settings;
+    private final Map<String, BulkheadLimiter> bulkheads = new ConcurrentHashMap<>();
+    private final Map<String, RateLimiter> rateLimiters = new ConcurrentHashMap<>();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile long settingsVersion;
+
+    public LimiterRegistry(@DisableInjectionWarn AppSettings settings) {
+        this.settings = settings;
+        this.settingsVersion = (settings != null) ? settings.getVersion() : 0L;
+    }
+
+    public Optional<LimiterSnapshot> bulkhead(String name) {
+        BulkheadLimiter limiter = bulkheads.get(name);
+        return limiter != null ? Optional.of(limiter.snapshot()) : Optional.empty();
+    }
+
+    public Optional<LimiterSnapshot> rateLimiter(String name) {
+        RateLimiter limiter = rateLimiters.get(name);
+        return limiter != null ? Optional.of(limiter.snapshot()) : Optional.empty();
+    }
+
+    /**
+     * Estado de todos os limitadores já usados, ordenados por tipo e nome.
+     */
+    public List<LimiterSnapshot> snapshots() {
+        return Stream.concat(
+                        bulkheads.values().stream().map(BulkheadLimiter::snapshot),
+                        rateLimiters.values().stream().map(RateLimiter::snapshot)
+                )
+                .sorted(Comparator.comparing(LimiterSnapshot::kind).thenComparing(LimiterSnapshot::name))
+                .toList();
+    }
+
+    /**
+     * Relê os limites quando as configurações mudaram desde a última leitura.
+     */
+    void refreshIfChanged() {
+        if (settings == null || settings.getVersion() == settingsVersion) return;
+        // outra thread já está relendo; esta segue com os limites atuais
+        if (!refreshLock.tryLock()) return;
+        try {
+            long version = settings.getVersion();
+            if (version == settingsVersion) return;
+            bulkheads.values().forEach(this::configure);
+            rateLimiters.values().forEach(this::configure);
+            settingsVersion = version;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    BulkheadLimiter bulkhead(Method method, Bulkhead spec) {
+        return bulkheads.computeIfAbsent(
+                limiterName(spec.name(), method),
+                name -> configure(new BulkheadLimiter(name, spec))
+        );
+    }
+
+    RateLimiter rateLimiter(Method method, RateLimited spec) {
+        return rateLimiters.computeIfAbsent(
+                limiterName(spec.name(), method),
+                name -> configure(new RateLimiter(name, spec))
+        );
+    }
+
+    private BulkheadLimiter configure(BulkheadLimiter limiter) {
+        Bulkhead spec = limiter.spec();
+        String prefix = BULKHEAD_PREFIX + limiter.name() + ".";
+        limiter.update(
+                positive(prefix + "maxConcurrent", spec.maxConcurrent()),
+                millis(prefix + "maxWaitMillis", spec.unit().toNanos(spec.maxWait()))
+        );
+        return limiter;
+    }
+
+    private RateLimiter configure(RateLimiter limiter) {
+        RateLimited spec = limiter.spec();
+        String prefix = RATE_LIMIT_PREFIX + limiter.name() + ".";
+        long period = millis(prefix + "periodMillis", spec.periodUnit().toNanos(spec.period()));
+        limiter.update(
+                positive(prefix + "permits", spec.permits()),
+                (period > 0) ? period : spec.periodUnit().toNanos(spec.period()),
+                millis(prefix + "maxWaitMillis", spec.waitUnit().toNanos(spec.maxWait()))
+        );
+        return limiter;
+    }
+
+    private int positive(String key, int defaultValue) {
+        if (settings == null || !settings.has(key)) return defaultValue;
+        int value = settings.getInt(key, defaultValue);
+        if (value > 0) return value;
+        log.warn("Valor {} inválido em {}. Usando {}.", value, key, defaultValue);
+        return defaultValue;
+    }
+
+    /**
+     * Lê {@code key} em milissegundos e devolve em nanossegundos.
+     */
+    private long millis(String key, long defaultNanos) {
+        if (settings == null || !settings.has(key)) return defaultNanos;
+        long value = settings.getLong(key, -1L);
+        if (value >= 0) return TimeUnit.MILLISECONDS.toNanos(value);
+        log.warn("Valor {} inválido em {}. Usando o valor da anotação.", value, key);
+        return defaultNanos;
+    }
+
+    private static String limiterName(String name, Method method) {
+        return name.isEmpty() ? method.getDeclaringClass().getName() + "." + method.getName() : name;
+    }
+}
@@ -0,0 +1,23 @@
+package dtm.di.aop.resilience;
+
+/**
+ * Estado de um limitador no momento da leitura.
+ *
+ * @param limit     permissões simultâneas do bulkhead ou fichas por período do limite de taxa
+ * @param available permissões ou fichas livres agora
+ * @param acquired  chamadas liberadas
+ * @param waited    chamadas que entraram em espera, liberadas ou não
+ * @param rejected  chamadas recusadas
+ */
+public record LimiterSnapshot(
+        String name,
+        Kind kind,
+        int limit,
+        long available,
+        long acquired,
+        long waited,
+        long rejected
+) {
+
+    public enum Kind { BULKHEAD, RATE_LIMIT }
+}
@@ -0,0 +1,121 @@
+package dtm.di.aop.resilience;
+
+import dtm.di.annotations.resilience.RateLimited;
+import dtm.di.exceptions.RateLimitExceededException;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Token bucket de um {@link RateLimited}, no formato GCRA: em vez de contar fichas, guarda o
+ * instante em que a próxima chamada deixaria de caber no balde e o avança com CAS.
+ * <p>
+ * Cada chamada reserva o seu instante antes de esperar, então as esperas são atendidas na
+ * ordem das reservas. A espera usa {@link LockSupport#parkNanos}, que não prende threads
+ * virtuais ao carrier.
+ */
+final class RateLimiter {
+
+    private final String name;
+    private final RateLimited spec;
+    private final AtomicLong theoreticalArrival;
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder waited = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private volatile Rate rate;
+    private volatile long maxWaitNanos;
+
+    RateLimiter(String name, RateLimited spec) {
+        if (spec.permits() < 1 || spec.period() < 1 || spec.maxWait() < 0) {
+            throw new IllegalArgumentException("@RateLimited '" + name + "' precisa de permits e period positivos e maxWait não negativo.");
+        }
+        this.name = name;
+        this.spec = spec;
+        this.rate = Rate.of(spec.permits(), spec.periodUnit().toNanos(spec.period()));
+        this.maxWaitNanos = spec.waitUnit().toNanos(spec.maxWait());
+        this.theoreticalArrival = new AtomicLong(System.nanoTime());
+    }
+
+    String name() {
+        return name;
+    }
+
+    RateLimited spec() {
+        return spec;
+    }
+
+    void acquire() {
+        Rate current = rate;
+        long maxWait = maxWaitNanos;
+        long now;
+        long delay;
+        while (true) {
+            now = System.nanoTime();
+            long arrival = theoreticalArrival.get();
+            delay = arrival - current.toleranceNanos() - now;
+            if (delay > maxWait) throw reject();
+
+            long next = ((arrival - now > 0) ? arrival : now) + current.intervalNanos();
+            if (theoreticalArrival.compareAndSet(arrival, next)) break;
+        }
+
+        if (delay > 0) {
+            waited.increment();
+            await(now + delay);
+        }
+        acquired.increment();
+    }
+
+    void update(int permits, long periodNanos, long maxWaitNanos) {
+        this.rate = Rate.of(permits, periodNanos);
+        this.maxWaitNanos = maxWaitNanos;
+    }
+
+    LimiterSnapshot snapshot() {
+        Rate current = rate;
+        long slack = System.nanoTime() + current.toleranceNanos() - theoreticalArrival.get();
+        long available = (slack < 0) ? 0 : Math.min(current.permits(), slack / current.intervalNanos() + 1);
+        return new LimiterSnapshot(
+                name,
+                LimiterSnapshot.Kind.RATE_LIMIT,
+                current.permits(),
+                available,
+                acquired.sum(),
+                waited.sum(),
+                rejected.sum()
+        );
+    }
+
+    /**
+     * Espera até {@code deadline}. Interrompida, a chamada é recusada e a ficha reservada se
+     * perde, como se tivesse sido usada.
+     */
+    private void await(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                throw reject();
+            }
+        }
+    }
+
+    private RateLimitExceededException reject() {
+        rejected.increment();
+        return new RateLimitExceededException(
+                "Limite de taxa '" + name + "' excedido (" + rate.permits() + " por período).", name
+        );
+    }
+
+    /**
+     * Intervalo entre fichas e folga que permite uma rajada de {@code permits} chamadas.
+     */
+    private record Rate(int permits, long intervalNanos, long toleranceNanos) {
+        private static Rate of(int permits, long periodNanos) {
+            long interval = Math.max(1L, periodNanos / permits);
+            return new Rate(permits, interval, interval * (permits - 1));
+        }
+    }
+}
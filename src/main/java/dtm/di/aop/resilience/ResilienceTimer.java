@@ -0,0 +1,93 @@
+package dtm.di.aop.resilience;
+
+import dtm.di.annotations.Component;
+import dtm.di.annotations.PreDestroy;
+import dtm.di.annotations.Singleton;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Timer de {@code @Retry} e {@code @Timeout}, registrado como bean por {@code @EnableRetry} e
+ * {@code @EnableTimeouts}. A única thread só dispara os agendamentos: novas tentativas são
+ * entregues ao executor assíncrono e um timeout apenas completa o resultado e cancela a
+ * tentativa. Agendamentos cancelados saem da fila na hora.
+ * <p>
+ * A thread é criada no primeiro agendamento e encerrada no {@code @PreDestroy}, quando o
+ * container é descarregado. Agendamentos pendentes são descartados: os que informaram um
+ * {@code onDiscard} recebem uma {@link RejectedExecutionException}, e os posteriores são
+ * rejeitados com ela.
+ */
+@Singleton
+@Component
+public class ResilienceTimer {
+
+    private final Set<Discardable> discardable = ConcurrentHashMap.newKeySet();
+    private volatile ScheduledThreadPoolExecutor timer;
+    private boolean closed;
+
+    ScheduledFuture<?> schedule(Runnable task, long delayNanos) {
+        ScheduledThreadPoolExecutor current = timer;
+        if (current == null) current = start();
+        return current.schedule(task, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Agenda {@code task}; se o timer for encerrado antes do disparo, {@code onDiscard} é chamado
+     * no lugar dela.
+     */
+    void schedule(Runnable task, long delayNanos, Consumer<RejectedExecutionException> onDiscard) {
+        Discardable pending = new Discardable(onDiscard);
+        discardable.add(pending);
+        try {
+            schedule(() -> {
+                if (discardable.remove(pending)) task.run();
+            }, delayNanos);
+        } catch (RejectedExecutionException e) {
+            discardable.remove(pending);
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        synchronized (this) {
+            closed = true;
+            if (timer != null) timer.shutdownNow();
+        }
+
+        RejectedExecutionException cause = new RejectedExecutionException("ResilienceTimer encerrado");
+        for (Discardable pending : discardable) {
+            if (discardable.remove(pending)) pending.onDiscard.accept(cause);
+        }
+    }
+
+    private synchronized ScheduledThreadPoolExecutor start() {
+        if (closed) throw new RejectedExecutionException("ResilienceTimer encerrado");
+        if (timer == null) timer = create();
+        return timer;
+    }
+
+    private static ScheduledThreadPoolExecutor create() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "ResilienceTimer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    private static final class Discardable {
+        private final Consumer<RejectedExecutionException> onDiscard;
+
+        private Discardable(Consumer<RejectedExecutionException> onDiscard) {
+            this.onDiscard = onDiscard;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package dtm.di.aop.resilience;
+
+import dtm.di.prototypes.async.AsyncResult;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Como o resultado de um método interceptado termina, pelo tipo de retorno declarado.
+ */
+enum ResultKind {
+    /** Termina quando o método retorna. */
+    VALUE,
+    /** {@code CompletableFuture} ou {@code CompletionStage}: termina quando o stage completa. */
+    STAGE,
+    /** {@code AsyncResult}: termina quando o resultado completa. */
+    ASYNC_RESULT;
+
+    static ResultKind of(Method method) {
+        Class<?> returnType = method.getReturnType();
+        if (returnType == CompletableFuture.class || returnType == CompletionStage.class) return STAGE;
+        if (returnType == AsyncResult.class) return ASYNC_RESULT;
+        return VALUE;
+    }
+}
@@ -0,0 +1,196 @@
+package dtm.di.aop.resilience;
+
+import dtm.di.annotations.DisableInjectionWarn;
+import dtm.di.annotations.aop.*;
+import dtm.di.annotations.resilience.Retry;
+import dtm.di.settings.async.AsyncExecutorFactory;
+import dtm.di.storage.async.AsyncResultWrapper;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Aspecto de {@link Retry}. Fica dentro da coalescência e fora do {@code @Timeout}, do limite
+ * e do {@code @Async}, então cada tentativa tem o seu prazo, consome o seu limite e é uma nova
+ * tarefa no executor.
+ * <p>
+ * Com retorno assíncrono, a primeira tentativa roda na thread de quem chama e as demais são
+ * agendadas no {@link ResilienceTimer} e entregues ao executor do {@link AsyncExecutorFactory},
+ * sem thread parada durante a espera. Cancelar o resultado devolvido cancela a tentativa em
+ * andamento e as próximas. Se o container for descarregado durante a espera, o resultado falha
+ * com {@link RejectedExecutionException}.
+ */
+@Aspect
+@Order(-150)
+@DisableInjectionWarn
+public class RetryAspect {
+
+    private final RetryRegistry registry;
+    private final AsyncExecutorFactory asyncExecutorFactory;
+    private final ResilienceTimer timer;
+    private final ClassValue<Map<Method, RetryPolicy>> policies = new ClassValue<>() {
+        @Override
+        protected Map<Method, RetryPolicy> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    public RetryAspect(
+            @DisableInjectionWarn RetryRegistry registry,
+            @DisableInjectionWarn AsyncExecutorFactory asyncExecutorFactory,
+            @DisableInjectionWarn ResilienceTimer timer
+    ) {
+        this.registry = (registry != null) ? registry : new RetryRegistry();
+        this.asyncExecutorFactory = (asyncExecutorFactory != null) ? asyncExecutorFactory : AsyncExecutorFactory.ofSingleton(ForkJoinPool.commonPool());
+        this.timer = (timer != null) ? timer : new ResilienceTimer();
+    }
+
+    @Pointcut(annotatedWith = Retry.class)
+    public boolean pointcut() {
+        return true;
+    }
+
+    @OnMainMethod
+    public Object onMainMethod(Callable<?> mainCallable, Method method) throws Throwable {
+        RetryPolicy policy = policies.get(method.getDeclaringClass()).computeIfAbsent(method, this::policy);
+        policy.metrics().called();
+
+        return switch (policy.kind()) {
+            case STAGE -> new AsyncRetry(mainCallable, policy, getExecutor(), timer).start();
+            case ASYNC_RESULT -> new AsyncResultWrapper<>(new AsyncRetry(mainCallable, policy, getExecutor(), timer).start());
+            case VALUE -> retryBlocking(mainCallable, policy);
+        };
+    }
+
+    private RetryPolicy policy(Method method) {
+        Retry spec = method.getAnnotation(Retry.class);
+        return new RetryPolicy(method, spec, registry.register(method, spec));
+    }
+
+    private Executor getExecutor() {
+        ExecutorService executor = asyncExecutorFactory.getExecutor();
+        return executor != null ? executor : ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Repetição de método síncrono: a thread de quem chama estaciona entre as tentativas.
+     */
+    private static Object retryBlocking(Callable<?> mainCallable, RetryPolicy policy) throws Throwable {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Object result = mainCallable.call();
+                policy.metrics().succeeded(attempt);
+                return result;
+            } catch (Throwable error) {
+                if (!policy.shouldRetry(attempt, error) || !pause(policy.delayNanos(attempt))) {
+                    policy.metrics().failed();
+                    throw error;
+                }
+                policy.metrics().retried();
+            }
+        }
+    }
+
+    /**
+     * Estaciona a thread por {@code nanos}. Interrompida, restaura a flag e retorna
+     * {@code false} para encerrar as tentativas.
+     */
+    private static boolean pause(long nanos) {
+        long deadline = System.nanoTime() + nanos;
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Tentativas de uma chamada com retorno assíncrono.
+     */
+    private static final class AsyncRetry {
+        private final Callable<?> mainCallable;
+        private final RetryPolicy policy;
+        private final Executor executor;
+        private final ResilienceTimer timer;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private volatile Object attempt;
+
+        private AsyncRetry(Callable<?> mainCallable, RetryPolicy policy, Executor executor, ResilienceTimer timer) {
+            this.mainCallable = mainCallable;
+            this.policy = policy;
+            this.executor = executor;
+            this.timer = timer;
+        }
+
+        private CompletableFuture<Object> start() {
+            result.whenComplete((value, error) -> {
+                if (result.isCancelled()) Stages.cancel(attempt);
+            });
+            run(1);
+            return result;
+        }
+
+        private void run(int number) {
+            if (result.isDone()) return;
+
+            Object current;
+            try {
+                current = mainCallable.call();
+            } catch (Throwable error) {
+                failed(number, error);
+                return;
+            }
+
+            attempt = current;
+            // cancelado enquanto a tentativa começava: o callback de start() pode ter visto a anterior
+            if (result.isCancelled()) {
+                Stages.cancel(current);
+                return;
+            }
+            Stages.toFuture(current).whenComplete((value, error) -> {
+                if (error != null) {
+                    failed(number, error);
+                } else if (result.complete(value)) {
+                    policy.metrics().succeeded(number);
+                }
+            });
+        }
+
+        private void failed(int number, Throwable error) {
+            Throwable cause = Stages.unwrap(error);
+            if (result.isDone()) return;
+
+            if (!policy.shouldRetry(number, cause)) {
+                if (result.completeExceptionally(cause)) policy.metrics().failed();
+                return;
+            }
+            policy.metrics().retried();
+            try {
+                timer.schedule(() -> dispatch(number + 1), policy.delayNanos(number), this::rejected);
+            } catch (RejectedExecutionException e) {
+                rejected(e);
+            }
+        }
+
+        private void dispatch(int number) {
+            try {
+                executor.execute(() -> run(number));
+            } catch (RejectedExecutionException e) {
+                rejected(e);
+            }
+        }
+
+        /**
+         * Próxima tentativa recusada pelo executor ou descartada com o timer encerrado.
+         */
+        private void rejected(RejectedExecutionException e) {
+            if (result.completeExceptionally(e)) policy.metrics().failed();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package dtm.di.aop.resilience;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores de um nome de {@code @Retry}.
+ */
+final class RetryMetrics {
+
+    private final String name;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder recovered = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    RetryMetrics(String name) {
+        this.name = name;
+    }
+
+    void called() {
+        calls.increment();
+    }
+
+    void retried() {
+        retries.increment();
+    }
+
+    void succeeded(int attempt) {
+        successes.increment();
+        if (attempt > 1) recovered.increment();
+    }
+
+    void failed() {
+        failures.increment();
+    }
+
+    RetrySnapshot snapshot() {
+        return new RetrySnapshot(name, calls.sum(), retries.sum(), successes.sum(), recovered.sum(), failures.sum());
+    }
+}
@@ -0,0 +1,68 @@
+package dtm.di.aop.resilience;
+
+import dtm.di.annotations.resilience.Retry;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Regras de um método {@code @Retry}, lidas uma vez da anotação.
+ */
+final class RetryPolicy {
+
+    private final ResultKind kind;
+    private final RetryMetrics metrics;
+    private final int maxAttempts;
+    private final double backoffNanos;
+    private final double multiplier;
+    private final double maxBackoffNanos;
+    private final double jitter;
+    private final Class<? extends Throwable>[] retryOn;
+
+    RetryPolicy(Method method, Retry spec, RetryMetrics metrics) {
+        if (spec.max() < 1 || spec.backoff() < 0 || spec.maxBackoff() < 0
+                || spec.multiplier() < 1.0 || spec.jitter() < 0.0 || spec.jitter() > 1.0) {
+            throw new IllegalArgumentException("@Retry inválido em " + method.toGenericString()
+                    + ": max >= 1, backoff e maxBackoff >= 0, multiplier >= 1 e jitter entre 0 e 1.");
+        }
+        this.kind = ResultKind.of(method);
+        this.metrics = metrics;
+        this.maxAttempts = spec.max();
+        this.backoffNanos = spec.unit().toNanos(spec.backoff());
+        this.multiplier = spec.multiplier();
+        this.maxBackoffNanos = spec.unit().toNanos(spec.maxBackoff());
+        this.jitter = spec.jitter();
+        this.retryOn = spec.retryOn();
+    }
+
+    ResultKind kind() {
+        return kind;
+    }
+
+    RetryMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * Indica se a falha da tentativa {@code attempt} leva a uma nova tentativa. Cancelamentos
+     * nunca são repetidos.
+     */
+    boolean shouldRetry(int attempt, Throwable error) {
+        if (attempt >= maxAttempts || error instanceof CancellationException) return false;
+        for (Class<? extends Throwable> type : retryOn) {
+            if (type.isInstance(error)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Espera antes da tentativa seguinte a {@code attempt}.
+     */
+    long delayNanos(int attempt) {
+        double delay = backoffNanos * Math.pow(multiplier, attempt - 1);
+        if (maxBackoffNanos > 0) delay = Math.min(delay, maxBackoffNanos);
+        if (jitter > 0) delay *= 1.0 + jitter * (2.0 * ThreadLocalRandom.current().nextDouble() - 1.0);
+        return (long) Math.max(0.0, delay);
+    }
+}
@@ -0,0 +1,45 @@
+package dtm.di.aop.resilience;
+
+import dtm.di.annotations.Component;
+import dtm.di.annotations.Singleton;
+import dtm.di.annotations.resilience.Retry;
+
+import java.lang.reflect.Method;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Métricas registradas pelo {@link RetryAspect}, por nome. Métodos com o mesmo nome
+ * compartilham os contadores.
+ */
+@Singleton
+@Component
+public class RetryRegistry {
+
+    private final Map<String, RetryMetrics> metrics = new ConcurrentHashMap<>();
+
+    public Optional<RetrySnapshot> snapshot(String name) {
+        RetryMetrics current = metrics.get(name);
+        return current != null ? Optional.of(current.snapshot()) : Optional.empty();
+    }
+
+    /**
+     * Métricas de todos os nomes já chamados, ordenadas pelo nome.
+     */
+    public List<RetrySnapshot> snapshots() {
+        return metrics.values().stream()
+                .map(RetryMetrics::snapshot)
+                .sorted(Comparator.comparing(RetrySnapshot::name))
+                .toList();
+    }
+
+    RetryMetrics register(Method method, Retry spec) {
+        String name = spec.name().isEmpty()
+                ? method.getDeclaringClass().getName() + "." + method.getName()
+                : spec.name();
+        return metrics.computeIfAbsent(name, RetryMetrics::new);
+    }
+}
@@ -0,0 +1,20 @@
+package dtm.di.aop.resilience;
+
+/**
+ * Contagens de um {@code @Retry} no momento da leitura.
+ *
+ * @param calls     chamadas ao método
+ * @param retries   tentativas repetidas, somando todas as chamadas
+ * @param successes chamadas que terminaram com sucesso
+ * @param recovered chamadas que terminaram com sucesso depois de ao menos uma repetição
+ * @param failures  chamadas que falharam, por exceção não repetível ou tentativas esgotadas
+ */
+public record RetrySnapshot(
+        String name,
+        long calls,
+        long retries,
+        long successes,
+        long recovered,
+        long failures
+) {
+}
@@ -0,0 +1,65 @@
+package dtm.di.aop.resilience;
+
+import dtm.di.prototypes.async.AsyncResult;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Operações sobre o resultado assíncrono devolvido por um método interceptado.
+ */
+final class Stages {
+
+    private Stages() {
+    }
+
+    /**
+     * Future que completa junto com {@code result}, com a exceção já desembrulhada. Valores que
+     * não são {@link CompletionStage} nem {@link AsyncResult} completam na hora.
+     */
+    static CompletableFuture<Object> toFuture(Object result) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        if (result instanceof CompletionStage<?> stage) {
+            stage.whenComplete((value, error) -> complete(future, value, error));
+        } else if (result instanceof AsyncResult<?> asyncResult) {
+            asyncResult.whenComplete((value, error) -> complete(future, value, error));
+        } else {
+            future.complete(result);
+        }
+        return future;
+    }
+
+    /**
+     * Cancela {@code result} com interrupção, quando ele suporta cancelamento.
+     */
+    static void cancel(Object result) {
+        if (result instanceof CompletableFuture<?> future) {
+            future.cancel(true);
+        } else if (result instanceof AsyncResult<?> asyncResult) {
+            asyncResult.cancel(true);
+        } else if (result instanceof CompletionStage<?> stage) {
+            try {
+                stage.toCompletableFuture().cancel(true);
+            } catch (UnsupportedOperationException ignored) {
+                // stage sem future associado: não há o que cancelar
+            }
+        }
+    }
+
+    static Throwable unwrap(Throwable error) {
+        if ((error instanceof CompletionException || error instanceof ExecutionException) && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+
+    private static void complete(CompletableFuture<Object> future, Object value, Throwable error) {
+        if (error == null) {
+            future.complete(value);
+        } else {
+            future.completeExceptionally(unwrap(error));
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package dtm.di.aop.resilience;
+
+import dtm.di.annotations.DisableInjectionWarn;
+import dtm.di.annotations.aop.*;
+import dtm.di.annotations.resilience.Timeout;
+import dtm.di.exceptions.AsyncMethodException;
+import dtm.di.exceptions.MethodTimeoutException;
+import dtm.di.storage.async.AsyncResultWrapper;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Aspecto de {@link Timeout}. Fica dentro do {@code @Retry}, então o prazo vale por tentativa,
+ * e fora do limite e do {@code @Async}, então a espera por permissão conta no prazo.
+ * <p>
+ * O prazo é agendado no {@link ResilienceTimer} antes da chamada e cancelado quando o resultado
+ * completa antes dele. Ao vencer, o resultado devolvido falha com {@link MethodTimeoutException}
+ * e a tentativa é cancelada com interrupção. A espera por permissão continua na thread de quem
+ * chama; se o prazo vencer nela, a tentativa é cancelada assim que existir e a chamada devolve o
+ * resultado já falho.
+ */
+@Aspect
+@Order(-125)
+@DisableInjectionWarn
+public class TimeoutAspect {
+
+    private final ResilienceTimer timer;
+    private final ClassValue<Map<Method, TimeoutPolicy>> policies = new ClassValue<>() {
+        @Override
+        protected Map<Method, TimeoutPolicy> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    public TimeoutAspect(@DisableInjectionWarn ResilienceTimer timer) {
+        this.timer = (timer != null) ? timer : new ResilienceTimer();
+    }
+
+    @Pointcut(annotatedWith = Timeout.class)
+    public boolean pointcut() {
+        return true;
+    }
+
+    @OnMainMethod
+    public Object onMainMethod(Callable<?> mainCallable, Method method) throws Exception {
+        TimeoutPolicy policy = policies.get(method.getDeclaringClass()).computeIfAbsent(method, TimeoutPolicy::of);
+        if (policy.kind() == ResultKind.VALUE) {
+            throw new AsyncMethodException(
+                    "Métodos anotados com @Timeout devem retornar "
+                            + "CompletableFuture, CompletionStage ou AsyncResult: "
+                            + method.toGenericString(),
+                    method,
+                    method.getDeclaringClass()
+            );
+        }
+
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        AtomicReference<Object> attempt = new AtomicReference<>();
+        ScheduledFuture<?> deadline = timer.schedule(() -> {
+            if (result.completeExceptionally(new MethodTimeoutException(method, policy.timeout()))) {
+                Stages.cancel(attempt.get());
+            }
+        }, policy.timeout().toNanos());
+
+        Object current;
+        try {
+            current = mainCallable.call();
+        } catch (Exception | Error error) {
+            deadline.cancel(false);
+            if (!result.isDone()) throw error;
+            return wrap(policy, result);
+        }
+
+        attempt.set(current);
+        // o prazo venceu durante a chamada, antes de a tentativa existir
+        if (result.isDone()) Stages.cancel(current);
+
+        Stages.toFuture(current).whenComplete((value, error) -> {
+            deadline.cancel(false);
+            if (error == null) {
+                result.complete(value);
+            } else {
+                result.completeExceptionally(error);
+            }
+        });
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                deadline.cancel(false);
+                Stages.cancel(current);
+            }
+        });
+
+        return wrap(policy, result);
+    }
+
+    private static Object wrap(TimeoutPolicy policy, CompletableFuture<Object> result) {
+        return (policy.kind() == ResultKind.ASYNC_RESULT) ? new AsyncResultWrapper<>(result) : result;
+    }
+
+    private record TimeoutPolicy(ResultKind kind, Duration timeout) {
+        private static TimeoutPolicy of(Method method) {
+            Timeout spec = method.getAnnotation(Timeout.class);
+            if (spec.value() <= 0) {
+                throw new IllegalArgumentException("@Timeout precisa de valor positivo em " + method.toGenericString());
+            }
+            return new TimeoutPolicy(ResultKind.of(method), Duration.ofNanos(spec.unit().toNanos(spec.value())));
+        }
+    }
+}
@@ -12,13 +12,15 @@ package dtm.di.application;
  * disparar jobs únicos.</p>
  *
  * <h3>Ordem de execução</h3>
- * <p>Caso múltiplos runners estejam registrados, executam na ordem em que o container
- * os entrega via {@code getInstancesByClass}. Se ordem determinística for necessária,
- * use lógica explícita dentro do próprio runner (ex.: dispatch para outros componentes).</p>
+ * <p>Caso múltiplos runners estejam registrados, os independentes executam em paralelo em
+ * threads virtuais. Use {@link dtm.di.annotations.boot.RunnerOrder} para definir grupos de
+ * ordem e dependências explícitas entre runners. Um único runner executa na {@code BootThread}.</p>
  *
  * <h3>Exceções</h3>
  * <p>Exceções lançadas por um runner propagam para o handler de erro de boot
- * (mesmo caminho de {@code @OnApplicationFail}).</p>
+ * (mesmo caminho de {@code @OnApplicationFail}). Runners que dependem de um runner com falha
+ * não são executados; várias falhas são reunidas em um
+ * {@link dtm.di.exceptions.CompositeBootException}.</p>
  */
 @FunctionalInterface
 public interface ApplicationRunner {
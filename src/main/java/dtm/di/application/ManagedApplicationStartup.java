@@ -1,23 +1,24 @@
 package dtm.di.application;
 
+import dtm.di.application.startup.BootHandle;
 import dtm.di.application.startup.ManagedApplication;
 
 public class ManagedApplicationStartup {
 
-    public static void doRun(){
-        doRun(false, new String[0]);
+    public static BootHandle doRun(){
+        return doRun(false, new String[0]);
     }
 
-    public static void doRun(boolean log){
-        doRun(log, new String[0]);
+    public static BootHandle doRun(boolean log){
+        return doRun(log, new String[0]);
     }
 
-    public static void doRun(String[] args){
-        doRun(false, args);
+    public static BootHandle doRun(String[] args){
+        return doRun(false, args);
     }
 
-    public static void doRun(boolean log, String[] args){
-        doRun(log, args, null);
+    public static BootHandle doRun(boolean log, String[] args){
+        return doRun(log, args, null);
     }
 
     /**
@@ -27,9 +28,10 @@ public class ManagedApplicationStartup {
      * @param log habilita os logs de inicialização
      * @param args argumentos de inicialização
      * @param mainClass classe principal opcional da aplicação
+     * @return handle com a readiness e as fases do boot
      */
-    public static void doRun(boolean log, String[] args, Class<?> mainClass){
-        ManagedApplication.doRun(log, args, mainClass);
+    public static BootHandle doRun(boolean log, String[] args, Class<?> mainClass){
+        return ManagedApplication.doRun(log, args, mainClass);
     }
 
 }
@@ -0,0 +1,142 @@
+package dtm.di.application.startup;
+
+import dtm.di.annotations.boot.LifecycleHook;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Acompanhamento de um boot iniciado por {@link ManagedApplication#doRun(boolean, String[], Class)}.
+ *
+ * <p>Cada {@link LifecycleHook.Event} possui um {@link CompletableFuture} concluído quando os hooks
+ * do evento terminam; o valor é a duração da fase em nanossegundos, medida desde o fim da fase
+ * anterior (ou do início do boot). {@link #readiness()} conclui depois de {@code AFTER_ALL} quando o
+ * boot termina sem erros.</p>
+ *
+ * <p>Uma falha no boot conclui excepcionalmente a readiness e todas as fases ainda não atingidas,
+ * exceto {@code ON_CLOSE}, que só é concluída no shutdown gracioso.</p>
+ *
+ * <pre>{@code
+ * BootHandle handle = ManagedApplication.doRun(false, args);
+ * handle.readiness().join();
+ * long loadNanos = handle.getPhaseNanos(LifecycleHook.Event.AFTER_CONTAINER_LOAD);
+ * }</pre>
+ */
+public final class BootHandle {
+
+    private final long startNanos;
+    private final Map<LifecycleHook.Event, CompletableFuture<Long>> phases;
+    private final Map<LifecycleHook.Event, Long> phaseNanos;
+    private final CompletableFuture<BootHandle> readiness;
+    private final AtomicReference<Throwable> failure;
+    private volatile long lastPhaseEndNanos;
+    private volatile long readyNanos;
+
+    BootHandle() {
+        this.startNanos = System.nanoTime();
+        this.lastPhaseEndNanos = startNanos;
+        this.readyNanos = -1;
+        this.phases = new EnumMap<>(LifecycleHook.Event.class);
+        this.phaseNanos = Collections.synchronizedMap(new EnumMap<>(LifecycleHook.Event.class));
+        this.readiness = new CompletableFuture<>();
+        this.failure = new AtomicReference<>();
+
+        for (LifecycleHook.Event event : LifecycleHook.Event.values()) {
+            phases.put(event, new CompletableFuture<>());
+        }
+    }
+
+    /**
+     * Future da fase informada. A cópia retornada pode ser cancelada ou concluída pelo chamador
+     * sem afetar o estado do boot.
+     */
+    public CompletableFuture<Long> phase(LifecycleHook.Event event) {
+        return phases.get(event).copy();
+    }
+
+    /**
+     * Future concluído quando o boot termina sem erros; falhas concluem excepcionalmente.
+     */
+    public CompletableFuture<BootHandle> readiness() {
+        return readiness.copy();
+    }
+
+    /**
+     * Bloqueia até a readiness ou até o timeout informado.
+     *
+     * @throws ExecutionException quando o boot falhou
+     * @throws TimeoutException quando o boot não terminou dentro do prazo
+     */
+    public BootHandle awaitReady(Duration timeout) throws InterruptedException, ExecutionException, TimeoutException {
+        return readiness.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    public boolean isReady() {
+        return readiness.isDone() && !readiness.isCompletedExceptionally();
+    }
+
+    public boolean isDone() {
+        return readiness.isDone();
+    }
+
+    public Optional<Throwable> getFailure() {
+        return Optional.ofNullable(failure.get());
+    }
+
+    /**
+     * Duração da fase em nanossegundos ou {@code -1} se a fase ainda não foi concluída.
+     */
+    public long getPhaseNanos(LifecycleHook.Event event) {
+        return phaseNanos.getOrDefault(event, -1L);
+    }
+
+    /**
+     * Cópia das durações das fases já concluídas, em nanossegundos e na ordem do ciclo de vida.
+     */
+    public Map<LifecycleHook.Event, Long> getPhaseTimings() {
+        synchronized (phaseNanos) {
+            return Collections.unmodifiableMap(new EnumMap<>(phaseNanos));
+        }
+    }
+
+    /**
+     * Tempo total do início do boot até a readiness, em nanossegundos, ou {@code -1} se não concluído.
+     */
+    public long getBootNanos() {
+        return readyNanos;
+    }
+
+    void completePhase(LifecycleHook.Event event) {
+        long now = System.nanoTime();
+        long elapsed = now - lastPhaseEndNanos;
+        lastPhaseEndNanos = now;
+
+        phaseNanos.put(event, elapsed);
+        phases.get(event).complete(elapsed);
+    }
+
+    void markReady() {
+        if (failure.get() != null) return;
+        readyNanos = System.nanoTime() - startNanos;
+        readiness.complete(this);
+    }
+
+    void fail(Throwable error) {
+        if (error == null || !failure.compareAndSet(null, error)) return;
+
+        for (Map.Entry<LifecycleHook.Event, CompletableFuture<Long>> entry : phases.entrySet()) {
+            if (entry.getKey() != LifecycleHook.Event.ON_CLOSE) {
+                entry.getValue().completeExceptionally(error);
+            }
+        }
+        readiness.completeExceptionally(error);
+    }
+}
@@ -11,9 +11,11 @@ import dtm.di.annotations.boot.ApplicationBoot;
 import dtm.di.annotations.boot.ApplicationEntryPoint;
 import dtm.di.annotations.boot.LifecycleHook;
 import dtm.di.annotations.boot.OnBoot;
+import dtm.di.annotations.boot.RunnerOrder;
 import dtm.di.annotations.scanner.PackageScanIgnore;
 import dtm.di.annotations.schedule.Schedule;
 import dtm.di.annotations.schedule.ScheduleMethod;
+import dtm.di.common.jfr.ScheduledMethodEvent;
 import dtm.di.core.ClassFinderDependencyContainer;
 import dtm.di.core.DependencyContainer;
 import dtm.di.core.ExceptionHandlerInvoker;
@@ -26,6 +28,7 @@ import dtm.di.storage.StaticContainer;
 import dtm.di.storage.containers.DependencyContainerStorage;
 import dtm.di.storage.handler.ControllerAdviceHandlerInvokeService;
 import dtm.di.storage.handler.ExceptionHandlerInvokerService;
+import dtm.di.storage.scanner.ClassScanOptions;
 import dtm.discovery.core.ClassFinderConfigurations;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,29 +59,36 @@ public class ManagedApplication {
     private final static AtomicReference<Thread.UncaughtExceptionHandler> uncaughtExceptionHandler = new AtomicReference<>();
     private final static AtomicReference<ExceptionHandlerInvoker> handlerInvoker = new AtomicReference<>();
     private final static AtomicReference<DependencyContainer> dependencyContainerRef = new AtomicReference<>();
+    private final static AtomicReference<BootHandle> bootHandleRef = new AtomicReference<>();
     private final static AtomicReference<String[]> launchArgsRef = new AtomicReference<>(new String[0]);
     private final static AtomicReference<ExceptionHandlerInvoker> userControllerAdvice = new AtomicReference<>();
     private final static AtomicBoolean controllerAdviceScannerIsLoad = new AtomicBoolean(false);
     private static final AtomicBoolean shuttingDownAddRef = new AtomicBoolean(false);
 
 
-    public static void doRun(){
-        doRun(false, new String[0]);
+    public static BootHandle doRun(){
+        return doRun(false, new String[0]);
     }
 
-    public static void doRun(boolean log){
-        doRun(log, new String[0]);
+    public static BootHandle doRun(boolean log){
+        return doRun(log, new String[0]);
     }
 
-    public static void doRun(String[] args){
-        doRun(false, args);
+    public static BootHandle doRun(String[] args){
+        return doRun(false, args);
     }
 
-    public static void doRun(boolean log, String[] args){
-        doRun(log, args, null);
+    public static BootHandle doRun(boolean log, String[] args){
+        return doRun(log, args, null);
     }
 
-    public static void doRun(boolean log, String[] args, Class<?> mainClass){
+    /**
+     * Inicia o boot gerenciado e retorna assim que a {@code BootThread} é iniciada.
+     * O {@link BootHandle} retornado expõe a readiness e as fases do ciclo de vida.
+     */
+    public static BootHandle doRun(boolean log, String[] args, Class<?> mainClass){
+        final BootHandle bootHandle = new BootHandle();
+        bootHandleRef.set(bootHandle);
         launchArgsRef.set(args);
         uncaughtExceptionHandler.set(Thread.getDefaultUncaughtExceptionHandler());
         handlerInvoker.set(getDefaultExceptionHandlerInvoker());
@@ -117,14 +127,22 @@ public class ManagedApplication {
         logInfo("AOP: {}", ((aopEnable) ? "Habilitado" : "Desativado com @DisableAop"));
 
         addGracefulShutdown();
-        runAsync();
+        runAsync(bootHandle);
         logInfo("doRun() finalizado");
+        return bootHandle;
     }
 
     public static DependencyContainer getCurrentDependencyContainer(){
         return dependencyContainerRef.get();
     }
 
+    /**
+     * Handle do boot mais recente iniciado por {@code doRun}, ou {@code null} se nenhum foi iniciado.
+     */
+    public static BootHandle getBootHandle(){
+        return bootHandleRef.get();
+    }
+
     public static Thread getBootThread(){
         if(bootThread.get() == null){
             throw new InvalidBootThreadAcessEsception();
@@ -233,6 +251,7 @@ public class ManagedApplication {
             if(dependencyContainer == null){
                 DependencyContainerStorage dependencyContainerStorage = DependencyContainerStorage.getInstanceFromArgs(mainClass, launchArgsRef.get());
                 applyPeckageScan(dependencyContainerStorage.getClassFinderConfigurations());
+                applyScanPackages(dependencyContainerStorage);
                 return dependencyContainerStorage;
             }
 
@@ -246,6 +265,7 @@ public class ManagedApplication {
         }else{
             DependencyContainerStorage dependencyContainerStorage = DependencyContainerStorage.getInstanceFromArgs(mainClass, launchArgsRef.get());
             applyPeckageScan(dependencyContainerStorage.getClassFinderConfigurations());
+            applyScanPackages(dependencyContainerStorage);
             logInfo("Container {} obtido com sucesso", DependencyContainer.class);
             return dependencyContainerStorage;
         }
@@ -304,43 +324,112 @@ public class ManagedApplication {
     private static void invokeHooks(LifecycleHook.Event event) {
         logInfo("Invocando hooks para o evento {}", event);
         List<Method> methods = eventMethodMap.get(event);
-        DependencyContainer dependencyContainer = getDependencyContainer();
-        if (methods != null) {
-            for (Method method : methods) {
-                method.setAccessible(true);
-                try {
-                    logDebug("Executando hook: {}#{}", method.getDeclaringClass().getSimpleName(), method.getName());
+        if (methods == null || methods.isEmpty()) {
+            logDebug("Nenhum hook encontrado para o evento {}", event);
+            return;
+        }
 
-                    if(event ==  LifecycleHook.Event.BEFORE_ALL){
-                        method.invoke(null);
+        DependencyContainer dependencyContainer = (event == LifecycleHook.Event.BEFORE_ALL)
+                ? null
+                : resolveHookContainer();
+
+        int index = 0;
+        while (index < methods.size()) {
+            int order = methods.get(index).getAnnotation(LifecycleHook.class).order();
+            int groupEnd = index;
+            while (groupEnd < methods.size()
+                    && methods.get(groupEnd).getAnnotation(LifecycleHook.class).order() == order) {
+                groupEnd++;
+            }
+
+            invokeHookGroup(event, methods.subList(index, groupEnd), dependencyContainer);
+            index = groupEnd;
+        }
+    }
+
+    /**
+     * Hooks com o mesmo {@code order} não possuem ordem entre si e executam em paralelo em threads
+     * virtuais; um grupo com um único hook executa na thread atual. Os grupos respeitam a ordem
+     * crescente e o próximo grupo só inicia após o anterior concluir sem erros.
+     */
+    private static void invokeHookGroup(LifecycleHook.Event event, List<Method> group, DependencyContainer dependencyContainer) {
+        if (group.size() == 1) {
+            InvalidBootException error = invokeHook(event, group.getFirst(), dependencyContainer);
+            if (error != null) throw error;
+            return;
+        }
+
+        List<Future<InvalidBootException>> results = new ArrayList<>(group.size());
+        try (ExecutorService executor = newBootVirtualExecutor("BootHook-")) {
+            for (Method method : group) {
+                results.add(executor.submit(() -> invokeHook(event, method, dependencyContainer)));
+            }
+        }
+
+        List<InvalidBootException> errors = new ArrayList<>();
+        for (Future<InvalidBootException> result : results) {
+            InvalidBootException error = result.resultNow();
+            if (error != null) errors.add(error);
+        }
+
+        throwBootErrors(errors, "Falha em múltiplos hooks " + event + ".");
+    }
+
+    private static InvalidBootException invokeHook(LifecycleHook.Event event, Method method, DependencyContainer dependencyContainer) {
+        method.setAccessible(true);
+        try {
+            logDebug("Executando hook: {}#{}", method.getDeclaringClass().getSimpleName(), method.getName());
+
+            if(event ==  LifecycleHook.Event.BEFORE_ALL){
+                method.invoke(null);
+            }else{
+                Class<?>[] parameterTypes = method.getParameterTypes();
+                Object[] methodArgs = new Object[parameterTypes.length];
+                for (int i = 0; i < parameterTypes.length; i++) {
+                    if(parameterTypes[i].equals(DependencyContainer.class)){
+                        methodArgs[i] = dependencyContainer;
+                    } else if (parameterTypes[i].equals(String[].class)) {
+                        methodArgs[i] = launchArgsRef.get();
                     }else{
-                        Class<?>[] parameterTypes = method.getParameterTypes();
-                        Object[] methodArgs = new Object[parameterTypes.length];
-                        for (int i = 0; i < parameterTypes.length; i++) {
-                            if(parameterTypes[i].equals(DependencyContainer.class)){
-                                methodArgs[i] = getCurrentDependencyContainer();
-                            } else if (parameterTypes[i].equals(String[].class)) {
-                                methodArgs[i] = launchArgsRef.get();
-                            }else{
-                                methodArgs[i] = dependencyContainer.getDependency(parameterTypes[i]);
-                            }
-                        }
-                        method.invoke(null, methodArgs);
+                        methodArgs[i] = dependencyContainer.getDependency(parameterTypes[i]);
                     }
-                    logDebug("Hook executado com sucesso: {}#{}", method.getDeclaringClass().getSimpleName(), method.getName());
-                } catch (Exception e) {
-                    Throwable rootCause = getRootCause(e);
-                    logError("Erro ao executar hook {} no método {}: {}", event, method.getName(), rootCause.getMessage(), rootCause);
-                    throw new InvalidBootException("Erro ao executar hook " + event + " no método "
-                            + method.getName() + ": " + rootCause.getMessage(), rootCause);
                 }
+                method.invoke(null, methodArgs);
             }
-        }else{
-            logDebug("Nenhum hook encontrado para o evento {}", event);
+            logDebug("Hook executado com sucesso: {}#{}", method.getDeclaringClass().getSimpleName(), method.getName());
+            return null;
+        } catch (Exception e) {
+            Throwable rootCause = getRootCause(e);
+            logError("Erro ao executar hook {} no método {}: {}", event, method.getName(), rootCause.getMessage(), rootCause);
+            return new InvalidBootException("Erro ao executar hook " + event + " no método "
+                    + method.getName() + ": " + rootCause.getMessage(), rootCause);
         }
     }
 
-    private static void runAsync(){
+    private static DependencyContainer resolveHookContainer() {
+        DependencyContainer dependencyContainer = getCurrentDependencyContainer();
+        return (dependencyContainer != null) ? dependencyContainer : getDependencyContainer();
+    }
+
+    private static void throwBootErrors(List<? extends Throwable> errors, String compositeMessage) {
+        if (errors.isEmpty()) return;
+
+        if (errors.size() == 1) {
+            Throwable error = errors.getFirst();
+            if (error instanceof RuntimeException runtimeException) throw runtimeException;
+            throw new RuntimeException(error);
+        }
+
+        CompositeBootException composite = new CompositeBootException(compositeMessage);
+        errors.forEach(composite::addError);
+        throw composite;
+    }
+
+    private static ExecutorService newBootVirtualExecutor(String prefix) {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(prefix, 0).factory());
+    }
+
+    private static void runAsync(BootHandle bootHandle){
         ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
             Thread thread = new Thread(runnable);
             thread.setDaemon(false);
@@ -350,7 +439,13 @@ public class ManagedApplication {
         });
         AtomicReference<Throwable> exception = new AtomicReference<>(null);
         logLifecycle("BOOT_START", true);
-        invokeHooks(LifecycleHook.Event.BEFORE_ALL);
+        try{
+            invokeHooks(LifecycleHook.Event.BEFORE_ALL);
+        }catch (RuntimeException e){
+            bootHandle.fail(e);
+            throw e;
+        }
+        bootHandle.completePhase(LifecycleHook.Event.BEFORE_ALL);
         DependencyContainer dependencyContainer = getCurrentDependencyContainer();
         CompletableFuture.runAsync(() -> {
             try {
@@ -372,33 +467,47 @@ public class ManagedApplication {
                 }else{
                     defineExceptionHandler(true);
                     invokeHooks(LifecycleHook.Event.AFTER_CONTAINER_LOAD);
+                    bootHandle.completePhase(LifecycleHook.Event.AFTER_CONTAINER_LOAD);
                     logLifecycle("STARTUP_METHOD", true);
                     runSchedulerAsync();
                     runStarterMethod(dependencyContainer);
                     runApplicationRunners(dependencyContainer);
                     logLifecycle("STARTUP_METHOD", false);
                     invokeHooks(LifecycleHook.Event.AFTER_STARTUP_METHOD);
+                    bootHandle.completePhase(LifecycleHook.Event.AFTER_STARTUP_METHOD);
                 }
             } catch (Exception e) {
                 Throwable rootCause = getRootCause(e);
                 exception.set(rootCause);
                 logError("Erro ao executar método @OnBoot: {}", rootCause.getMessage(), rootCause);
             }finally {
-                invokeHooks(LifecycleHook.Event.AFTER_ALL);
-                logLifecycle("BOOT_COMPLETE", false);
-                executor.shutdown();
+                try{
+                    invokeHooks(LifecycleHook.Event.AFTER_ALL);
+                    bootHandle.completePhase(LifecycleHook.Event.AFTER_ALL);
+                }catch (RuntimeException e){
+                    bootHandle.fail(e);
+                    throw e;
+                }finally {
+                    logLifecycle("BOOT_COMPLETE", false);
+                    executor.shutdown();
+                }
             }
 
 
             if (exception.get() != null) {
                 Throwable t = exception.get();
-                exceptionHandlerAction(Thread.currentThread(), new InvalidBootException("Erro durante boot da aplicação", t));
+                InvalidBootException bootError = new InvalidBootException("Erro durante boot da aplicação", t);
+                bootHandle.fail(bootError);
+                exceptionHandlerAction(Thread.currentThread(), bootError);
             }else if(compositeErrorRef.get() != null){
                 CompositeBootException compositeBootException = compositeErrorRef.get();
+                bootHandle.fail(compositeBootException);
                 if(compositeBootException.hasMultipleErrors()){
                     exceptionHandlerAction(Thread.currentThread(), compositeBootException);
                 }
                 exceptionHandlerAction(Thread.currentThread(), compositeBootException.getFirstError());
+            }else{
+                bootHandle.markReady();
             }
 
         });
@@ -421,21 +530,170 @@ public class ManagedApplication {
         }
     }
 
+    /**
+     * Executa os {@link ApplicationRunner} respeitando {@link RunnerOrder}. Um runner inicia quando os
+     * runners de ordem menor e os declarados em {@code dependsOn} concluíram; runners independentes
+     * executam em paralelo em threads virtuais. Com um único runner, a execução fica na {@code BootThread}.
+     * Falhas são reunidas e lançadas ao final; com mais de uma, em um {@link CompositeBootException}.
+     */
     private static void runApplicationRunners(DependencyContainer dependencyContainer){
         Map<Class<ApplicationRunner>, ApplicationRunner> runners = dependencyContainer.getInstancesByClass(ApplicationRunner.class);
         if(runners == null || runners.isEmpty()) return;
 
         String[] args = launchArgsRef.get();
-        for(ApplicationRunner runner : runners.values()){
-            try{
-                logInfo("Executando ApplicationRunner: {}", runner.getClass().getName());
-                runner.run(args);
-            }catch (Exception e){
-                Throwable rootCause = getRootCause(e);
-                logError("Erro em ApplicationRunner {}: {}", runner.getClass().getName(), rootCause.getMessage(), rootCause);
-                throw new RuntimeException(rootCause);
+        if(runners.size() == 1){
+            Throwable error = runApplicationRunner(runners.values().iterator().next(), args);
+            if(error != null) throwBootErrors(List.of(error), "Falha em ApplicationRunner.");
+            return;
+        }
+
+        List<RunnerNode> nodes = new ArrayList<>(runners.size());
+        for(Map.Entry<Class<ApplicationRunner>, ApplicationRunner> entry : runners.entrySet()){
+            nodes.add(RunnerNode.of(entry.getKey(), entry.getValue()));
+        }
+        nodes.sort(Comparator.comparingInt(RunnerNode::order).thenComparing(node -> node.type().getName()));
+
+        Map<RunnerNode, List<RunnerNode>> graph = resolveRunnerGraph(nodes);
+        Map<RunnerNode, CompletableFuture<Boolean>> futures = new IdentityHashMap<>();
+        Map<RunnerNode, Throwable> failures = new ConcurrentHashMap<>();
+
+        try(ExecutorService executor = newBootVirtualExecutor("BootRunner-")){
+            for(Map.Entry<RunnerNode, List<RunnerNode>> entry : graph.entrySet()){
+                final RunnerNode node = entry.getKey();
+                final List<CompletableFuture<Boolean>> dependencies = entry.getValue().stream()
+                        .map(futures::get)
+                        .toList();
+
+                CompletableFuture<Boolean> future = CompletableFuture
+                        .allOf(dependencies.toArray(CompletableFuture[]::new))
+                        .thenApplyAsync(ignored -> {
+                            for(CompletableFuture<Boolean> dependency : dependencies){
+                                if(!dependency.join()){
+                                    logWarn("ApplicationRunner {} não executado: uma dependência falhou", node.type().getName());
+                                    return false;
+                                }
+                            }
+
+                            Throwable error = runApplicationRunner(node.runner(), args);
+                            if(error != null){
+                                failures.put(node, error);
+                                return false;
+                            }
+                            return true;
+                        }, executor);
+
+                futures.put(node, future);
+            }
+
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).join();
+        }
+
+        List<Throwable> errors = new ArrayList<>();
+        for(RunnerNode node : nodes){
+            Throwable error = failures.get(node);
+            if(error != null) errors.add(error);
+        }
+
+        throwBootErrors(errors, "Falha em múltiplos ApplicationRunners.");
+    }
+
+    private static Throwable runApplicationRunner(ApplicationRunner runner, String[] args){
+        try{
+            logInfo("Executando ApplicationRunner: {}", runner.getClass().getName());
+            runner.run(args);
+            return null;
+        }catch (Exception e){
+            Throwable rootCause = getRootCause(e);
+            logError("Erro em ApplicationRunner {}: {}", runner.getClass().getName(), rootCause.getMessage(), rootCause);
+            return rootCause;
+        }
+    }
+
+    /**
+     * Resolve as dependências de cada runner (ordens menores e {@code dependsOn}) e devolve os runners
+     * em ordem topológica estável. Um {@code dependsOn} apontando para um runner de ordem maior é um
+     * conflito de ordem e falha o boot antes de qualquer runner executar; ciclos restantes também.
+     */
+    private static Map<RunnerNode, List<RunnerNode>> resolveRunnerGraph(List<RunnerNode> nodes){
+        Map<RunnerNode, List<RunnerNode>> predecessors = new IdentityHashMap<>();
+        List<String> conflicts = new ArrayList<>();
+
+        for(RunnerNode node : nodes){
+            List<RunnerNode> dependencies = new ArrayList<>();
+            for(RunnerNode candidate : nodes){
+                if(candidate == node) continue;
+                if(node.dependsOn(candidate) && candidate.order() > node.order()){
+                    conflicts.add(node.type().getName() + " (@RunnerOrder(" + node.order() + ")) depende de "
+                            + candidate.type().getName() + " (@RunnerOrder(" + candidate.order() + "))");
+                }
+                if(candidate.order() < node.order() || node.dependsOn(candidate)){
+                    dependencies.add(candidate);
+                }
+            }
+            for(Class<?> declared : node.dependsOn()){
+                if(nodes.stream().noneMatch(candidate -> candidate != node && declared.isAssignableFrom(candidate.type()))){
+                    logWarn("@RunnerOrder.dependsOn ignorado em {}: nenhum runner do tipo {}", node.type().getName(), declared.getName());
+                }
+            }
+            predecessors.put(node, dependencies);
+        }
+
+        if(!conflicts.isEmpty()){
+            throw new InvalidBootException("Conflito de ordem entre ApplicationRunners: " + String.join("; ", conflicts));
+        }
+
+        Map<RunnerNode, List<RunnerNode>> ordered = new LinkedHashMap<>();
+        Set<RunnerNode> emitted = Collections.newSetFromMap(new IdentityHashMap<>());
+        while(ordered.size() < nodes.size()){
+            boolean progress = false;
+            for(RunnerNode node : nodes){
+                if(emitted.contains(node) || !emitted.containsAll(predecessors.get(node))) continue;
+                ordered.put(node, predecessors.get(node));
+                emitted.add(node);
+                progress = true;
+            }
+
+            if(!progress){
+                String cycle = nodes.stream()
+                        .filter(node -> !emitted.contains(node))
+                        .map(node -> node.type().getName())
+                        .collect(Collectors.joining(", "));
+                throw new InvalidBootException("Dependência circular entre ApplicationRunners: " + cycle);
             }
         }
+
+        return ordered;
+    }
+
+    private record RunnerNode(Class<?> type, ApplicationRunner runner, int order, Class<?>[] dependsOn){
+
+        private static RunnerNode of(Class<?> type, ApplicationRunner runner){
+            RunnerOrder runnerOrder = type.getAnnotation(RunnerOrder.class);
+            if(runnerOrder == null){
+                runnerOrder = runner.getClass().getAnnotation(RunnerOrder.class);
+            }
+
+            return (runnerOrder == null)
+                    ? new RunnerNode(type, runner, 0, new Class<?>[0])
+                    : new RunnerNode(type, runner, runnerOrder.value(), runnerOrder.dependsOn());
+        }
+
+        private boolean dependsOn(RunnerNode candidate){
+            for(Class<?> declared : dependsOn){
+                if(declared.isAssignableFrom(candidate.type())) return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean equals(Object other){
+            return this == other;
+        }
+
+        @Override
+        public int hashCode(){
+            return System.identityHashCode(this);
+        }
     }
 
     private static void runStarterMethod(DependencyContainer dependencyContainer) throws InvocationTargetException, IllegalAccessException {
@@ -542,6 +800,16 @@ public class ManagedApplication {
         }
     }
 
+    private static void applyScanPackages(DependencyContainerStorage dependencyContainerStorage){
+        ApplicationBoot applicationBoot = mainClass.getAnnotation(ApplicationBoot.class);
+        if(applicationBoot == null || applicationBoot.scanPackages().length == 0) return;
+
+        List<String> scanPackages = ClassScanOptions.normalizePackages(applicationBoot.scanPackages());
+        ClassScanOptions current = dependencyContainerStorage.getClassScanOptions();
+        dependencyContainerStorage.setClassScanOptions(current.toBuilder().scanPackages(scanPackages).build());
+        logInfo("Scan limitado aos pacotes: {}", scanPackages);
+    }
+
     private static void add(List<String> base, Set<String> toAdd, PackageScanIgnore.ScanType scanType){
         if(scanType == PackageScanIgnore.ScanType.INCREMENT){
             base.addAll(toAdd);
@@ -572,12 +840,20 @@ public class ManagedApplication {
             boolean periadic = scheduleMethod.periodic();
 
             Runnable task = () -> {
+                ScheduledMethodEvent scheduledEvent = new ScheduledMethodEvent();
+                scheduledEvent.begin();
+                boolean success = false;
                 try {
                     method.setAccessible(true);
                     method.invoke(instance);
+                    success = true;
                 } catch (Exception e) {
                     Throwable rootCause = getRootCause(e);
                     logError("Erro ao executar schedule {} no método {}: {}", method.getName(), rootCause.getMessage(), rootCause);
+                } finally {
+                    if(scheduledEvent.shouldCommit()){
+                        scheduledEvent.complete(clazz, method, periadic, success);
+                    }
                 }
             };
 
@@ -717,6 +993,10 @@ public class ManagedApplication {
 
             try {
                 invokeHooks(LifecycleHook.Event.ON_CLOSE);
+                BootHandle bootHandle = bootHandleRef.get();
+                if(bootHandle != null){
+                    bootHandle.completePhase(LifecycleHook.Event.ON_CLOSE);
+                }
                 stopSchedulerGracefully();
 
                 DependencyContainer dependencyContainer = dependencyContainerRef.get();
@@ -0,0 +1,37 @@
+package dtm.di.common.jfr;
+
+import jdk.jfr.*;
+
+import java.lang.reflect.Method;
+
+/**
+ * Duração de uma chamada interceptada por proxy AOP, incluindo os advices e o método real.
+ */
+@Name(KernonJfr.PREFIX + "AopAdvice")
+@Label("AOP Advice Execution")
+@Category({KernonJfr.CATEGORY, "AOP"})
+@Description("Execução de método interceptado e seus advices")
+@Enabled(false)
+@StackTrace(false)
+public class AopAdviceEvent extends Event {
+
+    @Label("Target Class")
+    private String targetClass;
+
+    @Label("Method")
+    private String method;
+
+    @Label("Main Method Intercepted")
+    private boolean intercepted;
+
+    @Label("Success")
+    private boolean success;
+
+    public void complete(Class<?> targetClass, Method method, boolean intercepted, boolean success) {
+        this.targetClass = KernonJfr.nameOf(targetClass);
+        this.method = (method != null) ? method.getName() : null;
+        this.intercepted = intercepted;
+        this.success = success;
+        commit();
+    }
+}
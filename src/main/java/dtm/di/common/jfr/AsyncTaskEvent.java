@@ -0,0 +1,58 @@
+package dtm.di.common.jfr;
+
+import jdk.jfr.*;
+
+import java.lang.reflect.Method;
+
+/**
+ * Execução de um método {@code @Async}. A duração do evento é o tempo de execução e
+ * {@code queueTime} é o tempo entre a submissão e o início no executor.
+ *
+ * Uso: crie o evento na thread que submete, chame {@link #markSubmitted()} e, na thread
+ * do executor, {@link #markStarted()} antes da execução e {@link #complete} ao final.
+ */
+@Name(KernonJfr.PREFIX + "AsyncTask")
+@Label("Async Task")
+@Category({KernonJfr.CATEGORY, "Async"})
+@Description("Execução de método @Async com tempo de fila")
+@Enabled(false)
+@StackTrace(false)
+public class AsyncTaskEvent extends Event {
+
+    @Label("Target Class")
+    private String targetClass;
+
+    @Label("Method")
+    private String method;
+
+    @Label("Queue Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long queueTime;
+
+    @Label("Success")
+    private boolean success;
+
+    private transient long submittedAt;
+    private transient long startedAt;
+
+    public void markSubmitted() {
+        if (isEnabled()) {
+            submittedAt = System.nanoTime();
+        }
+    }
+
+    public void markStarted() {
+        if (submittedAt > 0) {
+            startedAt = System.nanoTime();
+        }
+        begin();
+    }
+
+    public void complete(Class<?> targetClass, Method method, boolean success) {
+        this.targetClass = KernonJfr.nameOf(targetClass);
+        this.method = (method != null) ? method.getName() : null;
+        this.queueTime = (submittedAt > 0) ? Math.max(0, startedAt - submittedAt) : 0;
+        this.success = success;
+        commit();
+    }
+}
@@ -0,0 +1,36 @@
+package dtm.di.common.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Duração da criação de um bean pelo container (construtor, injeção, proxy AOP e
+ * métodos {@code @PostCreation}).
+ */
+@Name(KernonJfr.PREFIX + "BeanCreation")
+@Label("Bean Creation")
+@Category({KernonJfr.CATEGORY, "Container"})
+@Description("Criação de instância pelo container de dependências")
+@Enabled(false)
+@StackTrace(false)
+public class BeanCreationEvent extends Event {
+
+    @Label("Bean Class")
+    private String beanClass;
+
+    @Label("Qualifier")
+    private String qualifier;
+
+    @Label("AOP")
+    private boolean aop;
+
+    @Label("Success")
+    private boolean success;
+
+    public void complete(Class<?> beanClass, String qualifier, boolean aop, boolean success) {
+        this.beanClass = KernonJfr.nameOf(beanClass);
+        this.qualifier = qualifier;
+        this.aop = aop;
+        this.success = success;
+        commit();
+    }
+}
@@ -0,0 +1,38 @@
+package dtm.di.common.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Emitido quando uma resolução de dependência não encontra registro compatível.
+ */
+@Name(KernonJfr.PREFIX + "DependencyLookupMiss")
+@Label("Dependency Lookup Miss")
+@Category({KernonJfr.CATEGORY, "Container"})
+@Description("Dependência solicitada sem registro compatível")
+@Enabled(false)
+public class DependencyLookupMissEvent extends Event {
+
+    @Label("Reference Class")
+    private String referenceClass;
+
+    @Label("Qualifier")
+    private String qualifier;
+
+    @Label("Origin")
+    private String origin;
+
+    @Label("Message")
+    private String message;
+
+    public static void emit(Class<?> referenceClass, String qualifier, String origin, String message) {
+        DependencyLookupMissEvent event = new DependencyLookupMissEvent();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.referenceClass = KernonJfr.nameOf(referenceClass);
+        event.qualifier = qualifier;
+        event.origin = origin;
+        event.message = message;
+        event.commit();
+    }
+}
@@ -0,0 +1,28 @@
+package dtm.di.common.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Duração de um {@code publish} completo do publicador de eventos. Listeners assíncronos
+ * contam apenas o tempo de submissão.
+ */
+@Name(KernonJfr.PREFIX + "EventDispatch")
+@Label("Event Dispatch")
+@Category({KernonJfr.CATEGORY, "Event"})
+@Description("Publicação de evento para os listeners compatíveis")
+@Enabled(false)
+@StackTrace(false)
+public class EventDispatchEvent extends Event {
+
+    @Label("Event Class")
+    private String eventClass;
+
+    @Label("Listeners")
+    private int listeners;
+
+    public void complete(Class<?> eventClass, int listeners) {
+        this.eventClass = KernonJfr.nameOf(eventClass);
+        this.listeners = listeners;
+        commit();
+    }
+}
@@ -0,0 +1,35 @@
+package dtm.di.common.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Duração da invocação de um listener individual.
+ */
+@Name(KernonJfr.PREFIX + "EventListenerInvocation")
+@Label("Event Listener Invocation")
+@Category({KernonJfr.CATEGORY, "Event"})
+@Description("Invocação de um listener de evento")
+@Enabled(false)
+@StackTrace(false)
+public class EventListenerInvocationEvent extends Event {
+
+    @Label("Event Class")
+    private String eventClass;
+
+    @Label("Listener")
+    private String listener;
+
+    @Label("Async")
+    private boolean async;
+
+    @Label("Success")
+    private boolean success;
+
+    public void complete(Class<?> eventClass, String listener, boolean async, boolean success) {
+        this.eventClass = KernonJfr.nameOf(eventClass);
+        this.listener = listener;
+        this.async = async;
+        this.success = success;
+        commit();
+    }
+}
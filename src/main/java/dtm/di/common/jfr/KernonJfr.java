@@ -0,0 +1,28 @@
+package dtm.di.common.jfr;
+
+/**
+ * Constantes compartilhadas pelos eventos JFR emitidos pelo Kernon.
+ *
+ * Todos os eventos nascem desabilitados ({@code @Enabled(false)}). Para coletar, habilite
+ * explicitamente na gravação, por exemplo:
+ * <pre>
+ * jcmd &lt;pid&gt; JFR.start name=kernon settings=profile +dtm.di.BeanCreation#enabled=true
+ * </pre>
+ * ou com um arquivo {@code .jfc} contendo os nomes de {@link #PREFIX}.
+ *
+ * Com o evento desabilitado o custo fica restrito a alocação (normalmente eliminada pelo JIT)
+ * e a checagem de {@code shouldCommit()}; nenhum campo é preenchido nesse caso.
+ */
+public final class KernonJfr {
+
+    public static final String PREFIX = "dtm.di.";
+    public static final String CATEGORY = "Kernon";
+
+    private KernonJfr() {
+        throw new IllegalStateException("utility class");
+    }
+
+    static String nameOf(Class<?> clazz) {
+        return (clazz != null) ? clazz.getName() : null;
+    }
+}
@@ -0,0 +1,37 @@
+package dtm.di.common.jfr;
+
+import jdk.jfr.*;
+
+import java.lang.reflect.Method;
+
+/**
+ * Duração de uma execução de método {@code @ScheduleMethod}.
+ */
+@Name(KernonJfr.PREFIX + "ScheduledMethod")
+@Label("Scheduled Method Run")
+@Category({KernonJfr.CATEGORY, "Scheduler"})
+@Description("Execução de método agendado")
+@Enabled(false)
+@StackTrace(false)
+public class ScheduledMethodEvent extends Event {
+
+    @Label("Target Class")
+    private String targetClass;
+
+    @Label("Method")
+    private String method;
+
+    @Label("Periodic")
+    private boolean periodic;
+
+    @Label("Success")
+    private boolean success;
+
+    public void complete(Class<?> targetClass, Method method, boolean periodic, boolean success) {
+        this.targetClass = KernonJfr.nameOf(targetClass);
+        this.method = (method != null) ? method.getName() : null;
+        this.periodic = periodic;
+        this.success = success;
+        commit();
+    }
+}
@@ -80,6 +80,18 @@ public interface DependencyContainer extends
      */
     void unload();
 
+    /**
+     * Recarrega o contêiner: destrói as instâncias (executando {@code @PreDestroy}) e registra os
+     * beans novamente. Implementações podem reaproveitar a descoberta de classes da carga anterior;
+     * a implementação padrão equivale a {@link #unload()} seguido de {@link #load()}.
+     *
+     * @throws InvalidClassRegistrationException se o registro dos beans falhar
+     */
+    default void reload() throws InvalidClassRegistrationException {
+        unload();
+        load();
+    }
+
     /**
      * Descarrega apenas os registros externos pertencentes às classes informadas.
      *
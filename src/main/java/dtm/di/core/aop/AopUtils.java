@@ -22,5 +22,46 @@ public abstract class AopUtils {
     public abstract MainMethodResult applyOnMainMethod(Method method, Object[] args, Object proxy, Object realInstance, Callable<?> mainMethod) throws Exception;
     public abstract Object applyAfter(Method method, Object[] args, Object proxy, Object realIntance, Object currentResult);
     public abstract void applyOnErrorMethod(Method method, Object[] args, Object proxy, Object realIntance, Throwable cause);
+
+    /**
+     * Resolve os advices de uma chamada. A implementação padrão delega cada fase aos métodos
+     * {@code apply*} desta classe, mantendo compatíveis as implementações anteriores à cadeia.
+     */
+    public AdviceChain resolveChain(Method method, Object[] args, Object proxy, Object realInstance) {
+        final AopUtils aopUtils = this;
+        return new AdviceChain() {
+            @Override
+            public void applyBefore(Method method, Object[] args, Object proxy, Object realInstance) {
+                aopUtils.applyBefore(method, args, proxy, realInstance);
+            }
+
+            @Override
+            public MainMethodResult applyOnMainMethod(Method method, Object[] args, Object proxy, Object realInstance, Callable<?> mainMethod) throws Exception {
+                return aopUtils.applyOnMainMethod(method, args, proxy, realInstance, mainMethod);
+            }
+
+            @Override
+            public Object applyAfter(Method method, Object[] args, Object proxy, Object realInstance, Object currentResult) {
+                return aopUtils.applyAfter(method, args, proxy, realInstance, currentResult);
+            }
+
+            @Override
+            public void applyOnErrorMethod(Method method, Object[] args, Object proxy, Object realInstance, Throwable cause) {
+                aopUtils.applyOnErrorMethod(method, args, proxy, realInstance, cause);
+            }
+        };
+    }
+
     public record MainMethodResult(boolean intercepted, Object result) {}
+
+    /**
+     * Advices aplicáveis a uma chamada interceptada, já filtrados pelos pointcuts.
+     * Resolvida uma única vez por chamada e usada em todas as fases.
+     */
+    public interface AdviceChain {
+        void applyBefore(Method method, Object[] args, Object proxy, Object realInstance);
+        MainMethodResult applyOnMainMethod(Method method, Object[] args, Object proxy, Object realInstance, Callable<?> mainMethod) throws Exception;
+        Object applyAfter(Method method, Object[] args, Object proxy, Object realInstance, Object currentResult);
+        void applyOnErrorMethod(Method method, Object[] args, Object proxy, Object realInstance, Throwable cause);
+    }
 }
@@ -5,6 +5,8 @@ import dtm.di.annotations.Qualifier;
 import dtm.di.annotations.aop.DisableAop;
 import dtm.di.annotations.event.Event;
 import dtm.di.annotations.event.EventListener;
+import dtm.di.common.jfr.EventDispatchEvent;
+import dtm.di.common.jfr.EventListenerInvocationEvent;
 import dtm.di.common.reflection.ReflectionCache;
 import dtm.di.core.DependencyContainer;
 import dtm.di.event.EventListenerPublisher;
@@ -75,32 +77,43 @@ public class DefaultEventPublisher implements EventPublisher, EventListenerPubli
 
         Class<?> eventClass = event.getClass();
         List<Binding> snapshot;
+        EventDispatchEvent dispatchEvent = new EventDispatchEvent();
+        dispatchEvent.begin();
+        int dispatched = 0;
 
         synchronized (bindings) {
             snapshot = new ArrayList<>(bindings);
         }
 
-        for (Binding binding : snapshot) {
-            if (!binding.eventType().isAssignableFrom(eventClass)) {
-                continue;
-            }
+        try {
+            for (Binding binding : snapshot) {
+                if (!binding.eventType().isAssignableFrom(eventClass)) {
+                    continue;
+                }
 
-            if (binding.async() && asyncExecutor != null) {
-                CompletableFuture.runAsync(() -> invoke(binding, event), asyncExecutor)
-                        .exceptionally(ex -> {
-                            log.error(
-                                    "Erro em listener async. listener={}, eventType={}, message={}",
-                                    binding.name(),
-                                    binding.eventType().getName(),
-                                    ex.getMessage(),
-                                    ex
-                            );
-                            return null;
-                        });
-                continue;
-            }
+                dispatched++;
+
+                if (binding.async() && asyncExecutor != null) {
+                    CompletableFuture.runAsync(() -> invoke(binding, event), asyncExecutor)
+                            .exceptionally(ex -> {
+                                log.error(
+                                        "Erro em listener async. listener={}, eventType={}, message={}",
+                                        binding.name(),
+                                        binding.eventType().getName(),
+                                        ex.getMessage(),
+                                        ex
+                                );
+                                return null;
+                            });
+                    continue;
+                }
 
-            invoke(binding, event);
+                invoke(binding, event);
+            }
+        } finally {
+            if (dispatchEvent.shouldCommit()) {
+                dispatchEvent.complete(eventClass, dispatched);
+            }
         }
     }
 
@@ -383,8 +396,13 @@ public class DefaultEventPublisher implements EventPublisher, EventListenerPubli
     }
 
     private void invoke(Binding binding, Object event) {
+        EventListenerInvocationEvent invocationEvent = new EventListenerInvocationEvent();
+        invocationEvent.begin();
+        boolean success = false;
+
         try {
             binding.invoke(container, event);
+            success = true;
         } catch (Exception e) {
             Throwable cause = e.getCause() != null ? e.getCause() : e;
 
@@ -393,6 +411,10 @@ public class DefaultEventPublisher implements EventPublisher, EventListenerPubli
             }
 
             throw new RuntimeException(cause);
+        } finally {
+            if (invocationEvent.shouldCommit()) {
+                invocationEvent.complete(event.getClass(), binding.name(), binding.async(), success);
+            }
         }
     }
 
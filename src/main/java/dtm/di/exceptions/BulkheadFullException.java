@@ -0,0 +1,8 @@
+package dtm.di.exceptions;
+
+public class BulkheadFullException extends LimitExceededException {
+
+    public BulkheadFullException(String message, String limiterName) {
+        super(message, limiterName);
+    }
+}
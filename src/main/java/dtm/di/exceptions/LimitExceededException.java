@@ -0,0 +1,17 @@
+package dtm.di.exceptions;
+
+import lombok.Getter;
+
+/**
+ * Chamada recusada por um limitador de {@code @Bulkhead} ou {@code @RateLimited}.
+ */
+@Getter
+public class LimitExceededException extends IllegalStateException {
+
+    private final String limiterName;
+
+    public LimitExceededException(String message, String limiterName) {
+        super(message);
+        this.limiterName = limiterName;
+    }
+}
@@ -0,0 +1,24 @@
+package dtm.di.exceptions;
+
+import lombok.Getter;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Resultado de um método {@code @Timeout} que não completou dentro do prazo.
+ */
+@Getter
+public class MethodTimeoutException extends TimeoutException {
+
+    private final Method method;
+    private final Duration timeout;
+
+    public MethodTimeoutException(Method method, Duration timeout) {
+        super("Método " + method.getDeclaringClass().getSimpleName() + "#" + method.getName()
+                + " não completou em " + timeout.toMillis() + " ms.");
+        this.method = method;
+        this.timeout = timeout;
+    }
+}
@@ -0,0 +1,8 @@
+package dtm.di.exceptions;
+
+public class RateLimitExceededException extends LimitExceededException {
+
+    public RateLimitExceededException(String message, String limiterName) {
+        super(message, limiterName);
+    }
+}
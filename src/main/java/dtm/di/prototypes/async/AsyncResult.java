@@ -40,4 +40,14 @@ public interface AsyncResult<T> {
 
     AsyncResult<T> whenCompleteAsync(BiConsumer<? super T, ? super Throwable> action, Executor executor);
     T await();
+
+    /**
+     * Tenta cancelar o resultado, como {@link java.util.concurrent.Future#cancel(boolean)}.
+     * Implementações sem suporte a cancelamento retornam {@code false}.
+     *
+     * @return {@code true} se o resultado foi cancelado por esta chamada
+     */
+    default boolean cancel(boolean mayInterruptIfRunning) {
+        return false;
+    }
 }
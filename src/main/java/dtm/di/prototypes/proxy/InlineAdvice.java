@@ -0,0 +1,39 @@
+package dtm.di.prototypes.proxy;
+
+import dtm.di.core.aop.AopUtils;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.implementation.bytecode.assign.Assigner;
+
+/**
+ * Advice do Byte Buddy embutido no corpo dos métodos do proxy no modo de advice inline.
+ * <p>
+ * O código é copiado para o método gerado, que chama a instância real diretamente: não há
+ * {@code Callable} da chamada original nem array de argumentos. A assinatura chega como constante
+ * e o {@link ObjectInterceptor} resolve o {@code Method} em um índice por classe.
+ */
+public final class InlineAdvice {
+
+    private InlineAdvice() {
+    }
+
+    @Advice.OnMethodEnter
+    public static AopUtils.AdviceChain enter(
+            @Advice.This Object proxy,
+            @Advice.FieldValue(ProxyFactory.INTERCEPTOR_FIELD) ObjectInterceptor interceptor,
+            @Advice.Origin("#m#d") String signature
+    ) {
+        return interceptor.enterInline(proxy, signature, null);
+    }
+
+    @Advice.OnMethodExit(onThrowable = Throwable.class)
+    public static void exit(
+            @Advice.This Object proxy,
+            @Advice.FieldValue(ProxyFactory.INTERCEPTOR_FIELD) ObjectInterceptor interceptor,
+            @Advice.Origin("#m#d") String signature,
+            @Advice.Enter AopUtils.AdviceChain adviceChain,
+            @Advice.Return(readOnly = false, typing = Assigner.Typing.DYNAMIC) Object returned,
+            @Advice.Thrown Throwable thrown
+    ) throws Throwable {
+        returned = interceptor.exitInline(adviceChain, proxy, signature, null, returned, thrown);
+    }
+}
@@ -0,0 +1,41 @@
+package dtm.di.prototypes.proxy;
+
+import dtm.di.core.aop.AopUtils;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.implementation.bytecode.assign.Assigner;
+
+/**
+ * Variante do {@link InlineAdvice} para métodos em que algum aspecto aplicável recebe os
+ * argumentos ({@code Object[]}) da chamada. O array é criado uma vez na entrada e reaproveitado
+ * na saída.
+ */
+public final class InlineArgumentsAdvice {
+
+    private InlineArgumentsAdvice() {
+    }
+
+    @Advice.OnMethodEnter
+    public static AopUtils.AdviceChain enter(
+            @Advice.This Object proxy,
+            @Advice.FieldValue(ProxyFactory.INTERCEPTOR_FIELD) ObjectInterceptor interceptor,
+            @Advice.Origin("#m#d") String signature,
+            @Advice.AllArguments Object[] allArguments,
+            @Advice.Local("args") Object[] args
+    ) {
+        args = allArguments;
+        return interceptor.enterInline(proxy, signature, args);
+    }
+
+    @Advice.OnMethodExit(onThrowable = Throwable.class)
+    public static void exit(
+            @Advice.This Object proxy,
+            @Advice.FieldValue(ProxyFactory.INTERCEPTOR_FIELD) ObjectInterceptor interceptor,
+            @Advice.Origin("#m#d") String signature,
+            @Advice.Enter AopUtils.AdviceChain adviceChain,
+            @Advice.Local("args") Object[] args,
+            @Advice.Return(readOnly = false, typing = Assigner.Typing.DYNAMIC) Object returned,
+            @Advice.Thrown Throwable thrown
+    ) throws Throwable {
+        returned = interceptor.exitInline(adviceChain, proxy, signature, args, returned, thrown);
+    }
+}
@@ -1,22 +1,47 @@
 package dtm.di.prototypes.proxy;
 
 import dtm.di.aop.AopProxyUtils;
+import dtm.di.common.jfr.AopAdviceEvent;
 import dtm.di.core.DependencyContainer;
 import dtm.di.core.aop.AopUtils;
 import dtm.di.exceptions.AopMainMethodException;
 import net.bytebuddy.implementation.bind.annotation.*;
+import net.bytebuddy.jar.asm.Type;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ObjectInterceptor {
+    private static final ClassValue<Map<String, Method>> INLINE_METHODS = new ClassValue<>() {
+        @Override
+        protected Map<String, Method> computeValue(Class<?> type) {
+            return indexMethods(type);
+        }
+    };
+
+    private static final ClassValue<Map<Method, DelegateTarget>> DELEGATE_TARGETS = new ClassValue<>() {
+        @Override
+        protected Map<Method, DelegateTarget> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     private final Object realInstance;
-    private final DependencyContainer dependencyContainer;
+    private final AopUtils aopUtils;
 
     ObjectInterceptor(Object realInstance, DependencyContainer dependencyContainer){
-        this.dependencyContainer = dependencyContainer;
         this.realInstance = realInstance;
+        this.aopUtils = AopProxyUtils.getInstance(dependencyContainer);
     }
 
     @RuntimeType
@@ -26,37 +51,159 @@ public class ObjectInterceptor {
             @This Object proxy,
             @SuperCall Callable<?> zuper
     ) throws Throwable  {
-        final AopUtils aopUtils = AopProxyUtils.getInstance(dependencyContainer);
+        final AopUtils.AdviceChain adviceChain = aopUtils
+                .resolveChain(method, args, proxy, realInstance);
+        final AopAdviceEvent adviceEvent = new AopAdviceEvent();
+        adviceEvent.begin();
+        boolean intercepted = false;
+        boolean success = false;
 
-        aopUtils.applyBefore(method, args, proxy, realInstance);
         try {
-            Object result;
-            try{
-                AopUtils.MainMethodResult mainMethodResult = aopUtils.applyOnMainMethod(method, args, proxy, realInstance, zuper);
-                result = mainMethodResult.intercepted() ? mainMethodResult.result() : zuper.call();
-            }catch (RuntimeException | Error directThrow){
-                throw directThrow;
-            }catch (InvocationTargetException invocationTargetException){
-                throw new AopMainMethodException("Erro ao invocar main AOP Method", invocationTargetException);
-            }catch (Throwable reflectiveOperationException){
-                throw new AopMainMethodException("Erro ao invocar main AOP Method", reflectiveOperationException);
+            adviceChain.applyBefore(method, args, proxy, realInstance);
+            try {
+                Object result;
+                try{
+                    AopUtils.MainMethodResult mainMethodResult = adviceChain.applyOnMainMethod(method, args, proxy, realInstance, zuper);
+                    intercepted = mainMethodResult.intercepted();
+                    result = intercepted ? mainMethodResult.result() : zuper.call();
+                }catch (RuntimeException | Error directThrow){
+                    throw directThrow;
+                }catch (InvocationTargetException invocationTargetException){
+                    throw new AopMainMethodException("Erro ao invocar main AOP Method", invocationTargetException);
+                }catch (Throwable reflectiveOperationException){
+                    throw new AopMainMethodException("Erro ao invocar main AOP Method", reflectiveOperationException);
+                }
+                Object finalResult = adviceChain.applyAfter(method, args, proxy, realInstance, result);
+                success = true;
+                return finalResult;
+            }catch (AopMainMethodException aopMainMethodException){
+                Throwable cause = extractRootError(aopMainMethodException.getCause());
+                executeOnErrorOrThrow(adviceChain, cause, method, args, proxy, realInstance);
+                throw cause;
+            }catch (RuntimeException runtimeException){
+                Throwable cause = (runtimeException.getCause() != null) ? runtimeException.getCause() : runtimeException;
+                Throwable root = extractRootError(cause);
+                executeOnErrorOrThrow(adviceChain, root, method, args, proxy, realInstance);
+                throw root;
             }
-            return aopUtils.applyAfter(method, args, proxy, realInstance, result);
-        }catch (AopMainMethodException aopMainMethodException){
-            Throwable cause = extractRootError(aopMainMethodException.getCause());
-            executeOnErrorOrThrow(aopUtils, cause, method, args, proxy, realInstance);
-            throw cause;
-        }catch (RuntimeException runtimeException){
+        }finally {
+            if(adviceEvent.shouldCommit()){
+                adviceEvent.complete(realInstance.getClass(), method, intercepted, success);
+            }
+        }
+
+    }
+
+    /**
+     * Interceptação do proxy por interfaces. Os aspectos recebem o método da implementação, como
+     * no proxy por subclasse, e a chamada original vai para a instância real via {@link MethodHandle}.
+     */
+    @RuntimeType
+    public Object interceptDelegate(
+            @Origin Method method,
+            @AllArguments Object[] args,
+            @This Object proxy
+    ) throws Throwable {
+        DelegateTarget target = DELEGATE_TARGETS.get(realInstance.getClass())
+                .computeIfAbsent(method, this::delegateTarget);
+        return intercept(target.method(), args, proxy, () -> target.invoke(realInstance, args));
+    }
+
+    private DelegateTarget delegateTarget(Method interfaceMethod) {
+        Method method = INLINE_METHODS.get(realInstance.getClass())
+                .getOrDefault(interfaceMethod.getName() + Type.getMethodDescriptor(interfaceMethod), interfaceMethod);
+        try {
+            method.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflect(method)
+                    .asSpreader(Object[].class, method.getParameterCount())
+                    .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+            return new DelegateTarget(method, handle);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Método inacessível para o proxy por interfaces: " + method, e);
+        }
+    }
+
+    /**
+     * Entrada do modo de advice inline: resolve a cadeia e executa os {@code @BeforeExecution}.
+     * Chamado pelo código que o {@link InlineAdvice} insere no método do proxy.
+     *
+     * @param proxy Proxy em execução.
+     * @param signature Nome e descritor do método interceptado.
+     * @param args Argumentos da chamada, ou {@code null} quando nenhum aspecto aplicável os recebe.
+     * @return Cadeia a ser repassada para {@link #exitInline}.
+     */
+    public AopUtils.AdviceChain enterInline(Object proxy, String signature, Object[] args) {
+        Method method = inlineMethod(proxy, signature);
+        AopUtils.AdviceChain adviceChain = aopUtils
+                .resolveChain(method, args, proxy, realInstance);
+
+        adviceChain.applyBefore(method, args, proxy, realInstance);
+        return adviceChain;
+    }
+
+    /**
+     * Saída do modo de advice inline. Aplica {@code @AfterExecution} ao resultado ou
+     * {@code @AfterException} ao erro, com a mesma propagação de erros da delegação.
+     *
+     * @return Resultado final do método.
+     */
+    public Object exitInline(
+            AopUtils.AdviceChain adviceChain,
+            Object proxy,
+            String signature,
+            Object[] args,
+            Object result,
+            Throwable thrown
+    ) throws Throwable {
+        Method method = inlineMethod(proxy, signature);
+
+        if (thrown != null) {
+            if (thrown instanceof Error) throw thrown;
+            Throwable cause = (thrown instanceof RuntimeException && thrown.getCause() != null) ? thrown.getCause() : thrown;
+            Throwable root = extractRootError(cause);
+            executeOnErrorOrThrow(adviceChain, root, method, args, proxy, realInstance);
+            throw root;
+        }
+
+        try {
+            return adviceChain.applyAfter(method, args, proxy, realInstance, result);
+        } catch (RuntimeException runtimeException) {
             Throwable cause = (runtimeException.getCause() != null) ? runtimeException.getCause() : runtimeException;
             Throwable root = extractRootError(cause);
-            executeOnErrorOrThrow(aopUtils, root, method, args, proxy, realInstance);
+            executeOnErrorOrThrow(adviceChain, root, method, args, proxy, realInstance);
             throw root;
         }
+    }
+
+    private Method inlineMethod(Object proxy, String signature) {
+        return INLINE_METHODS.get(proxy.getClass().getSuperclass()).get(signature);
+    }
+
+    /**
+     * Indexa os métodos da hierarquia por nome e descritor, preferindo a declaração mais
+     * específica, como a resolução virtual da JVM.
+     */
+    private static Map<String, Method> indexMethods(Class<?> type) {
+        Map<String, Method> methods = new HashMap<>();
+        Deque<Class<?>> pending = new ArrayDeque<>();
+        pending.add(type);
+
+        while (!pending.isEmpty()) {
+            Class<?> current = pending.poll();
+            if (current == Object.class) continue;
+
+            for (Method method : current.getDeclaredMethods()) {
+                methods.putIfAbsent(method.getName() + Type.getMethodDescriptor(method), method);
+            }
+            if (current.getSuperclass() != null) pending.add(current.getSuperclass());
+            pending.addAll(Arrays.asList(current.getInterfaces()));
+        }
 
+        return Map.copyOf(methods);
     }
 
     private void executeOnErrorOrThrow(
-            final AopUtils aopUtils,
+            final AopUtils.AdviceChain adviceChain,
             Throwable cause,
             final Method realMethod,
             final Object[] args,
@@ -64,13 +211,25 @@ public class ObjectInterceptor {
             final Object delegate
     ) throws Throwable{
         try{
-            aopUtils.applyOnErrorMethod(realMethod, args, proxy, delegate, cause);
+            adviceChain.applyOnErrorMethod(realMethod, args, proxy, delegate, cause);
         }catch (RuntimeException runtimeException){
             Throwable error = runtimeException.getCause();
             throw extractRootError(error);
         }
     }
 
+    private record DelegateTarget(Method method, MethodHandle handle) {
+        private Object invoke(Object instance, Object[] args) throws Exception {
+            try {
+                return (Object) handle.invokeExact(instance, args);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw new InvocationTargetException(throwable);
+            }
+        }
+    }
+
     private Throwable extractRootError(Throwable baseError){
         Throwable current = baseError;
         while (current instanceof InvocationTargetException ite && ite.getTargetException() != null) {
@@ -0,0 +1,176 @@
+package dtm.di.prototypes.proxy;
+
+import dtm.di.aop.AopProxyUtils;
+import lombok.extern.slf4j.Slf4j;
+import net.bytebuddy.ByteBuddy;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Armazena em disco os bytes das classes de proxy geradas, para que o próximo boot as defina
+ * diretamente em vez de gerá-las de novo.
+ * <p>
+ * A chave é o SHA-256 dos bytes de classe da hierarquia alvo, dos aspectos registrados, das
+ * classes do próprio proxy, das classes de AOP que escolhem os métodos sobrescritos e das versões
+ * do Byte Buddy e da JVM, então qualquer alteração em uma delas gera uma nova entrada. Classes
+ * sem arquivo {@code .class} acessível não são persistidas. Falhas de leitura ou escrita são ignoradas e o proxy é gerado normalmente.
+ */
+@Slf4j
+final class ProxyClassStore {
+
+    private static final String FORMAT = "kernon-proxy-1";
+    private static final String EXTENSION = ".proxy";
+    private static final List<Class<?>> FACTORY_CLASSES = List.of(
+            ProxyFactory.class,
+            ObjectInterceptor.class,
+            InlineAdvice.class,
+            InlineArgumentsAdvice.class
+    );
+
+    private final Path directory;
+
+    ProxyClassStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Chave da classe de proxy de {@code target} ou {@code null} quando algum bytecode envolvido
+     * não pode ser lido.
+     */
+    String key(Class<?> target, String mode, List<Class<?>> aspects) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            update(digest, FORMAT);
+            update(digest, mode);
+            update(digest, String.valueOf(ByteBuddy.class.getPackage().getImplementationVersion()));
+            update(digest, Runtime.version().toString());
+
+            for (Class<?> type : hierarchy(target)) {
+                if (!digestClass(digest, type)) return null;
+            }
+            for (Class<?> type : aspects) {
+                if (!digestClass(digest, type)) return null;
+            }
+            for (Class<?> type : FACTORY_CLASSES) {
+                if (!digestClass(digest, type)) return null;
+            }
+            for (Class<?> type : AopProxyUtils.matcherClasses()) {
+                if (!digestClass(digest, type)) return null;
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            log.debug("Chave de proxy indisponível para {}: {}", target.getName(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Define a classe de proxy persistida em {@code key}, ou {@code null} quando não existe ou não
+     * pode ser carregada.
+     */
+    Class<?> load(Class<?> target, String key) {
+        Path file = directory.resolve(key + EXTENSION);
+        if (!Files.isRegularFile(file)) return null;
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            String name = input.readUTF();
+            Map<String, byte[]> types = new HashMap<>();
+            int count = input.readInt();
+            for (int i = 0; i < count; i++) {
+                String typeName = input.readUTF();
+                byte[] bytes = new byte[input.readInt()];
+                input.readFully(bytes);
+                types.put(typeName, bytes);
+            }
+            return Class.forName(name, true, new StoredClassLoader(target.getClassLoader(), types));
+        } catch (IOException | ClassNotFoundException | LinkageError e) {
+            log.debug("Proxy persistido ignorado para {}: {}", target.getName(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Persiste a classe de proxy {@code name} junto com os tipos auxiliares gerados para ela.
+     */
+    void save(String key, String name, Map<String, byte[]> types) {
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, key, ".tmp");
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                output.writeUTF(name);
+                output.writeInt(types.size());
+                for (Map.Entry<String, byte[]> type : types.entrySet()) {
+                    output.writeUTF(type.getKey());
+                    output.writeInt(type.getValue().length);
+                    output.write(type.getValue());
+                }
+            }
+            Files.move(temp, directory.resolve(key + EXTENSION), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.debug("Proxy {} não foi persistido: {}", name, e.getMessage());
+        }
+    }
+
+    private static Set<Class<?>> hierarchy(Class<?> target) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        collect(target, types);
+        return types;
+    }
+
+    private static void collect(Class<?> type, Set<Class<?>> types) {
+        if (type == null || type == Object.class || !types.add(type)) return;
+        collect(type.getSuperclass(), types);
+        for (Class<?> implemented : type.getInterfaces()) {
+            collect(implemented, types);
+        }
+    }
+
+    /**
+     * Inclui os bytes de {@code type} no digest. Classes do bootstrap são cobertas pela versão da
+     * JVM; para as demais o arquivo {@code .class} precisa estar acessível.
+     */
+    private static boolean digestClass(MessageDigest digest, Class<?> type) throws IOException {
+        update(digest, type.getName());
+        ClassLoader classLoader = type.getClassLoader();
+        if (classLoader == null) return true;
+
+        try (InputStream input = classLoader.getResourceAsStream(type.getName().replace('.', '/') + ".class")) {
+            if (input == null) return false;
+            digest.update(input.readAllBytes());
+            return true;
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static final class StoredClassLoader extends ClassLoader {
+        private final Map<String, byte[]> types;
+
+        private StoredClassLoader(ClassLoader parent, Map<String, byte[]> types) {
+            super(parent);
+            this.types = types;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] bytes = types.get(name);
+            if (bytes == null) throw new ClassNotFoundException(name);
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+}
@@ -74,4 +74,13 @@ public interface AppSettings {
      * Indica se a chave existe (mesmo que com valor {@code null}).
      */
     boolean has(String key);
+
+    /**
+     * Versão do conteúdo, incrementada a cada registro externo não vazio.
+     * Quem guarda valores lidos pode compará-la para saber quando relê-los. Implementações sem
+     * registro incremental retornam sempre {@code 0}.
+     */
+    default long getVersion() {
+        return 0L;
+    }
 }
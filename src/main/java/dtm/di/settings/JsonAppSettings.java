@@ -56,6 +56,7 @@ public class JsonAppSettings implements AppSettings, AppSettingsRegistry {
     private final boolean failOnPolicyOverride;
 
     private ObjectNode root;
+    private volatile long version;
 
     public JsonAppSettings() {
         this(DEFAULT_RESOURCE_NAME);
@@ -145,6 +146,7 @@ public class JsonAppSettings implements AppSettings, AppSettingsRegistry {
             ObjectNode merged = root.deepCopy();
             merge(merged, external, mode);
             root = merged;
+            version++;
         } finally {
             stateLock.writeLock().unlock();
         }
@@ -405,6 +407,11 @@ public class JsonAppSettings implements AppSettings, AppSettingsRegistry {
         return element != null && !element.isMissingNode();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     public String[] getStringArray(String key) {
         JsonNode element = lookupSnapshot(key);
         if (isAbsent(element)) return new String[0];
@@ -25,6 +25,12 @@ public class DependencyObject extends Dependency {
     @ToString.Exclude
     private Object singletonInstance;
 
+    /** Registrado como elegível a proxy de AOP. */
+    private boolean aop;
+
+    public DependencyObject(Class<?> dependencyClass, String qualifier, boolean singleton, Supplier<?> creatorFunction, Object singletonInstance) {
+        this(dependencyClass, qualifier, singleton, creatorFunction, singletonInstance, false);
+    }
 
     @Override
     public Object getDependency() {
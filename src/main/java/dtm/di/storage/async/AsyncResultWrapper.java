@@ -53,4 +53,9 @@ public class AsyncResultWrapper<T> implements AsyncResult<T> {
         return future.join();
     }
 
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        return future.cancel(mayInterruptIfRunning);
+    }
+
 }
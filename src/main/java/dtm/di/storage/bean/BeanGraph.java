@@ -1,5 +1,6 @@
 package dtm.di.storage.bean;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import java.lang.reflect.Method;
 import java.util.*;
@@ -11,6 +12,9 @@ public class BeanGraph {
     private final Map<String, BeanInfo> allBeans;
     private final Map<Class<?>, String> typeToBeanId;
 
+    @Getter(AccessLevel.NONE)
+    private volatile PhaseClassification phaseClassification;
+
     public BeanGraph(Map<String, BeanInfo> allBeans, Map<Class<?>, String> typeToBeanId) {
         this.allBeans = allBeans;
         this.typeToBeanId = typeToBeanId;
@@ -24,11 +28,27 @@ public class BeanGraph {
         return getBeansByPhase(serviceClasses, true);
     }
 
+    /**
+     * Camada calculada para cada método produtor do grafo. Produtores da mesma camada não dependem
+     * entre si e podem ser executados em paralelo.
+     */
+    public Map<Method, Integer> getProducerLayers() {
+        Map<Method, Integer> layers = new HashMap<>();
+        for (BeanInfo bean : allBeans.values()) {
+            if (bean.isBeanMethod()) {
+                layers.put(bean.getMethod(), bean.getLayer());
+            }
+        }
+        return layers;
+    }
+
     private Map<Class<?>, List<Method>> getBeansByPhase(Set<Class<?>> serviceClasses, boolean afterServices) {
         Map<Class<?>, List<Method>> result = new LinkedHashMap<>();
 
+        Map<String, Boolean> dependsOnServices = classifyByServices(serviceClasses);
+
         List<BeanInfo> phaseBeans = allBeans.values().stream()
-                .filter(b -> dependsOnServices(b, serviceClasses) == afterServices)
+                .filter(b -> dependsOnServices.getOrDefault(b.getBeanId(), false) == afterServices)
                 .filter(BeanInfo::isBeanMethod)
                 .sorted(Comparator.comparingInt(BeanInfo::getLayer))
                 .collect(Collectors.toList());
@@ -51,39 +71,82 @@ public class BeanGraph {
         return result;
     }
 
-    private boolean dependsOnServices(BeanInfo bean, Set<Class<?>> serviceClasses) {
-        return dependsOnServicesRecursive(bean, serviceClasses, new HashSet<>());
+    private Map<String, Boolean> classifyByServices(Set<Class<?>> serviceClasses) {
+        PhaseClassification cached = phaseClassification;
+        if (cached != null && cached.serviceClasses() == serviceClasses) {
+            return cached.dependsOnServices();
+        }
+
+        Map<String, Boolean> flags = computeServiceDependencies(serviceClasses);
+        phaseClassification = new PhaseClassification(serviceClasses, flags);
+        return flags;
     }
 
-    private boolean dependsOnServicesRecursive(BeanInfo bean, Set<Class<?>> serviceClasses, Set<String> visited) {
-        if (visited.contains(bean.getBeanId())) {
-            return false;
-        }
-        visited.add(bean.getBeanId());
+    /**
+     * Calcula, em uma única passada, se cada bean depende (direta ou transitivamente) de serviços do usuário.
+     * <p>
+     * Os beans são visitados em ordem crescente de camada: como toda dependência resolvida pertence a uma
+     * camada inferior, o resultado das dependências já está memorizado quando o bean é avaliado. A verificação
+     * de subtipo usa um índice de supertipos por tipo produzido, evitando percorrer o conjunto de serviços
+     * a cada aresta.
+     */
+    private Map<String, Boolean> computeServiceDependencies(Set<Class<?>> serviceClasses) {
+        List<BeanInfo> ordered = new ArrayList<>(allBeans.values());
+        ordered.sort(Comparator.comparingInt(BeanInfo::getLayer));
+
+        Map<Class<?>, Boolean> serviceTypeIndex = new HashMap<>();
+        Map<String, Boolean> flags = new HashMap<>(ordered.size() * 2);
+
+        for (BeanInfo bean : ordered) {
+            boolean depends = bean.isDependsOnUserServices();
+
+            if (!depends) {
+                for (String depId : bean.getDependencies()) {
+                    BeanInfo dep = allBeans.get(depId);
+                    if (dep == null) continue;
+
+                    if (Boolean.TRUE.equals(flags.get(depId))
+                            || isServiceType(dep.getProducedType(), serviceClasses, serviceTypeIndex)) {
+                        depends = true;
+                        break;
+                    }
+                }
+            }
 
-        if (bean.isDependsOnUserServices()) {
-            return true;
+            flags.put(bean.getBeanId(), depends);
         }
 
-        for (String depId : bean.getDependencies()) {
-            BeanInfo dep = allBeans.get(depId);
-            if (dep == null) continue;
+        return flags;
+    }
 
-            if (serviceClasses.contains(dep.getProducedType())) {
-                return true;
-            }
+    private boolean isServiceType(Class<?> type, Set<Class<?>> serviceClasses, Map<Class<?>, Boolean> serviceTypeIndex) {
+        if (type == null || serviceClasses.isEmpty()) {
+            return false;
+        }
 
-            if (serviceClasses.stream().anyMatch(svc -> svc.isAssignableFrom(dep.getProducedType()))) {
-                return true;
-            }
+        Boolean cached = serviceTypeIndex.get(type);
+        if (cached != null) {
+            return cached;
+        }
 
-            if (dependsOnServicesRecursive(dep, serviceClasses, visited)) {
-                return true;
+        boolean result = serviceClasses.contains(type);
+        if (!result) {
+            Class<?> superClass = type.getSuperclass();
+            result = isServiceType(superClass, serviceClasses, serviceTypeIndex);
+            if (!result) {
+                for (Class<?> superInterface : type.getInterfaces()) {
+                    if (isServiceType(superInterface, serviceClasses, serviceTypeIndex)) {
+                        result = true;
+                        break;
+                    }
+                }
             }
         }
 
-        return false;
+        serviceTypeIndex.put(type, result);
+        return result;
     }
 
+    private record PhaseClassification(Set<Class<?>> serviceClasses, Map<String, Boolean> dependsOnServices) {}
 
 }
@@ -3,13 +3,20 @@ package dtm.di.storage.containers;
 import dtm.di.annotations.*;
 import dtm.di.annotations.aop.Aspect;
 import dtm.di.annotations.aop.DisableAop;
+import dtm.di.annotations.aop.InterfaceProxy;
 import dtm.di.annotations.event.Event;
+import dtm.di.aop.AopProxyUtils;
 import dtm.di.common.AnnotationsUtils;
+import dtm.di.common.jfr.BeanCreationEvent;
+import dtm.di.common.jfr.DependencyLookupMissEvent;
 import dtm.di.common.reflection.ReflectionCache;
 import dtm.di.event.impl.DefaultEventPublisher;
 import dtm.di.event.EventPublisher;
 import dtm.di.settings.AppSettings;
 import dtm.di.settings.JsonAppSettings;
+import dtm.di.storage.executor.ExecutorMetrics;
+import dtm.di.storage.executor.ExecutorOptions;
+import dtm.di.storage.executor.ExecutorRegistry;
 import dtm.di.annotations.settings.Value;
 import dtm.di.core.ClassFinderDependencyContainer;
 import dtm.di.core.DependencyContainer;
@@ -30,6 +37,10 @@ import dtm.di.storage.external.ExternalComponentRegistration;
 import dtm.di.storage.external.ExternalLoadBatch;
 import dtm.di.storage.lazy.Lazy;
 import dtm.di.storage.lazy.ParamtrizedObject;
+import dtm.di.storage.scanner.ClassPathScanner;
+import dtm.di.storage.scanner.ClassScanOptions;
+import dtm.di.storage.scanner.PluginJarLoader;
+import dtm.di.storage.scanner.ScanRoot;
 import dtm.di.event.EventListenerRegistration;
 import dtm.discovery.core.ClassFinder;
 import dtm.discovery.core.ClassFinderConfigurations;
@@ -39,6 +50,7 @@ import lombok.NonNull;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import java.io.File;
+import java.nio.file.Path;
 import java.lang.annotation.Annotation;
 import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
@@ -62,9 +74,13 @@ import static dtm.di.common.AnnotationsUtils.getAllFieldWithAnnotation;
 public class DependencyContainerStorage implements DependencyContainer, ClassFinderDependencyContainer {
 
     private static final String INJECTION_STRATEGY_PROPERTY = "dependencyContainer.injectionStrategy";
+    private static final String PARALLEL_PRODUCERS_PROPERTY = "dependencyContainer.parallelProducers";
+    private static final String AOP_INLINE_ADVICE_PROPERTY = "dependencyContainer.aop.inlineAdvice";
+    private static final String AOP_PROXY_CLASS_DIRECTORY_PROPERTY = "dependencyContainer.aop.proxyClassDirectory";
+    private static final String AOP_INTERFACE_PROXY_PROPERTY = "dependencyContainer.aop.interfaceProxy";
 
-    private final ExecutorService mainExecutor;
-    private final ExecutorService mainVirtualExecutor;
+    @Getter
+    private final ExecutorRegistry executorRegistry;
 
     private final AtomicReference<InjectionStrategy> injectionStrategy;
     private final AtomicBoolean injectionStrategyConfiguredProgrammatically;
@@ -81,9 +97,12 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
     private final List<Set<ServiceBean>> serviceBeensDefinitionLayer;
 
     private final Set<Class<?>> loadedSystemClasses;
+    /** Tipos concretos pedidos por algum ponto de injeção dos componentes descobertos. */
+    private final Set<Class<?>> concreteInjectionTypes;
 
     private final Map<Class<?>, List<Method>> externalBeenBefore;
     private final Map<Class<?>, List<Method>> externalBeenAfter;
+    private final Map<Method, Integer> externalBeenLayers;
 
     private final Map<Class<?>, ExternalComponentRegistration> externalComponentRegistrations;
     private final ReentrantLock externalLock;
@@ -101,6 +120,20 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
     @Setter
     private ClassFinderConfigurations classFinderConfigurations;
 
+    @Getter
+    @Setter
+    private ClassScanOptions classScanOptions;
+
+    @Getter
+    private boolean parallelProducers;
+
+    @Getter
+    private boolean aopInlineAdvice;
+
+    @Getter
+    private boolean aopInterfaceProxy;
+    private final Set<Class<?>> rawReferenceWarnings = ConcurrentHashMap.newKeySet();
+
     public static DependencyContainerStorage getInstance(Class<?> mainClass, String... profiles){
         DependencyContainerStorage containerStorage = StaticContainer.getDependencyContainer(DependencyContainerStorage.class);
         if(containerStorage == null){
@@ -132,20 +165,9 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
 
 
     private DependencyContainerStorage(Class<?> mainClass, String... profiles){
-        ThreadFactory vFactory = Thread.ofVirtual()
-                .name("MainVirtual-", 0)
-                .factory();
-
-        this.mainExecutor = Executors.newFixedThreadPool(
-                Math.max(6, Runtime.getRuntime().availableProcessors()),
-                runnable -> {
-                    Thread t = new Thread(runnable);
-                    t.setName("MainExecutor-Worker-" + t.hashCode());
-                    t.setDaemon(true);
-                    return t;
-                }
-        );
-        this.mainVirtualExecutor = Executors.newThreadPerTaskExecutor(vFactory);
+        JsonAppSettings containerSettings = new JsonAppSettings();
+
+        this.executorRegistry = new ExecutorRegistry(containerSettings);
         this.dependencyContainer = new ConcurrentHashMap<>();
         this.primaryDependencyIndex = new ConcurrentHashMap<>();
         this.loaded = new AtomicBoolean(false);
@@ -157,13 +179,20 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
         this.foldersToLoad = new ArrayList<>();
         this.serviceBeensDefinition = Collections.synchronizedList(new ArrayList<>());
         this.loadedSystemClasses = ConcurrentHashMap.newKeySet();
+        this.concreteInjectionTypes = ConcurrentHashMap.newKeySet();
         this.serviceBeensDefinitionLayer = Collections.synchronizedList(new ArrayList<>());
         this.externalBeenBefore = new LinkedHashMap<>();
         this.externalBeenAfter = new LinkedHashMap<>();
+        this.externalBeenLayers = new HashMap<>();
         this.externalComponentRegistrations = new ConcurrentHashMap<>();
         this.externalLock = new ReentrantLock();
         this.externalRegistrationSequence = new AtomicLong();
         this.classFinderConfigurations = getFindConfigurations();
+        this.classScanOptions = ClassScanOptions.fromSettings(containerSettings);
+        this.parallelProducers = containerSettings.getBoolean(PARALLEL_PRODUCERS_PROPERTY, false);
+        this.aopInlineAdvice = containerSettings.getBoolean(AOP_INLINE_ADVICE_PROPERTY, false);
+        this.aopInterfaceProxy = containerSettings.getBoolean(AOP_INTERFACE_PROXY_PROPERTY, false);
+        configureProxyClassStore(containerSettings.getString(AOP_PROXY_CLASS_DIRECTORY_PROPERTY, null));
         this.mainClass = mainClass;
         this.profiles = resolveProfiles(profiles);
     }
@@ -239,20 +268,104 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
             injectExternalModules();
             filterServiceClass();
             filterExternalsBeens();
-            selfInjection();
-            loaded.set(true);
-            registerExternalBeens(externalBeenBefore, null, null);
-            registerAppSettingsIfAbsent();
-            applyDeclarativeInjectionStrategy();
-            registerEventPublisher();
-            loadBeens();
-            registerExternalBeens(externalBeenAfter, null, null);
-            scanEventListeners();
+            registerDiscoveredBeans();
         }catch (Exception e){
            throw new UnloadError("load error", e);
         }
     }
 
+    /**
+     * Recarrega o contêiner reaproveitando a descoberta da carga anterior.
+     * <p>
+     * Executa os {@code @PreDestroy} dos singletons, descarta o registro e os módulos externos e
+     * recria os beans a partir das classes descobertas, das camadas de serviço e do grafo de produtores
+     * já calculados. O scan do classpath, a montagem dos grafos, o {@code ReflectionCache} e o cache de
+     * classes de proxy são mantidos. {@code AppSettings} é relido. Se o contêiner não estiver carregado,
+     * equivale a {@link #load()}.
+     */
+    @Override
+    public void reload() throws InvalidClassRegistrationException {
+        externalLock.lock();
+        try{
+            if(!isLoaded()){
+                clearDiscoveryMetadata();
+                load();
+                return;
+            }
+
+            teardownInstances();
+            registerDiscoveredBeans();
+        }catch (UnloadError e){
+            throw e;
+        }catch (Exception e){
+            throw new UnloadError("reload error", e);
+        }finally {
+            externalLock.unlock();
+        }
+    }
+
+    private void registerDiscoveredBeans() throws InvalidClassRegistrationException{
+        selfInjection();
+        loaded.set(true);
+        registerExternalBeens(externalBeenBefore, externalBeenLayers, null, null);
+        registerAppSettingsIfAbsent();
+        applyDeclarativeInjectionStrategy();
+        registerEventPublisher();
+        prepareProxyClasses();
+        loadBeens();
+        registerExternalBeens(externalBeenAfter, externalBeenLayers, null, null);
+        initializeAspects();
+        scanEventListeners();
+    }
+
+    /**
+     * Dispara a geração das classes de proxy dos beans que algum aspecto pode aconselhar, em
+     * paralelo e antes da instanciação. Quem instancia o bean aguarda apenas a geração da própria
+     * classe; falhas são ignoradas aqui e reportadas na criação do proxy.
+     */
+    private void prepareProxyClasses(){
+        if(!isAopEnabled()) return;
+
+        List<ServiceBean> beans;
+        synchronized (serviceBeensDefinition) {
+            beans = new ArrayList<>(serviceBeensDefinition);
+        }
+        synchronized (serviceBeensDefinitionLayer) {
+            serviceBeensDefinitionLayer.forEach(beans::addAll);
+        }
+
+        Executor executor = executorRegistry.get(ExecutorRegistry.VIRTUAL);
+        for (ServiceBean serviceBean : beans) {
+            Class<?> clazz = serviceBean.getClazz();
+            if(!serviceBean.isAop() || !AopProxyUtils.canAdvise(this, clazz)) continue;
+
+            Runnable prepare = useInterfaceProxy(clazz)
+                    ? () -> ProxyFactory.prepareInterfaceProxyClass(clazz, this)
+                    : () -> ProxyFactory.prepareProxyClass(clazz, this, aopInlineAdvice);
+            CompletableFuture.runAsync(prepare, executor)
+                    .exceptionally(error -> {
+                        log.debug("Geração antecipada do proxy de {} falhou: {}", clazz.getName(), error.getMessage());
+                        return null;
+                    });
+        }
+    }
+
+    private void configureProxyClassStore(String directory){
+        if(directory != null && !directory.isBlank()){
+            ProxyFactory.setClassStoreDirectory(this, Path.of(directory));
+        }
+    }
+
+    /**
+     * Instancia os aspectos no registro do container ao final da carga, para que a primeira
+     * chamada interceptada não pague a criação deles.
+     */
+    private void initializeAspects(){
+        if(isAopEnabled()){
+            AopProxyUtils.initialize(this);
+        }
+    }
+
     @Override
     public void loadExternal(Collection<Class<?>> classes) throws InvalidClassRegistrationException {
         final Set<Class<?>> normalized = normalizeExternalClasses(classes);
@@ -295,7 +408,7 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
             Map<String, Dependency> existing = dependencyContainer.get(EventPublisher.class);
             if(existing != null && !existing.isEmpty()) return;
 
-            DefaultEventPublisher publisher = new DefaultEventPublisher(this, mainExecutor);
+            DefaultEventPublisher publisher = new DefaultEventPublisher(this, executorRegistry.get(ExecutorRegistry.EVENTS));
             registerObject(publisher, "default", false);
         }catch (Exception e){
             log.error("Falha ao registrar EventPublisher: {}", e.getMessage(), e);
@@ -333,7 +446,7 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
                 try {
                     Object instance = dependency.getDependency();
                     if (instance != null && visited.add(instance)) {
-                        listeners.add(instance);
+                        listeners.add(lifecycleTarget(instance));
                     }
                 } catch (Exception e) {
                     log.warn(
@@ -352,42 +465,54 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
     public void unload() {
         externalLock.lock();
         try{
-            List<ExternalComponentRegistration> externals = externalRegistrationsInReverseOrder(
-                    new ArrayList<>(externalComponentRegistrations.values())
-            );
-
-            for(ExternalComponentRegistration registration : externals){
-                registration.deactivate();
-            }
-
-            cancelAsyncTasks(externals);
-            unregisterEventListeners(externals);
-            List<Object> shutdownInstances = collectShutdownInstances(externals);
-            shutdownInstances.addAll(collectContainerSingletons());
-            invokePreDestroyMethods(shutdownInstances);
-            clearExternalCaches(externals);
-
-            for(ExternalComponentRegistration registration : externals){
-                registration.clear();
-            }
-
-            externalComponentRegistrations.clear();
-
-            loaded.set(false);
+            teardownInstances();
             this.classFinderConfigurations = getFindConfigurations();
-            loadedSystemClasses.clear();
-            serviceBeensDefinition.clear();
-            serviceBeensDefinitionLayer.clear();
-            dependencyContainer.clear();
-            primaryDependencyIndex.clear();
             foldersToLoad.clear();
-            externalBeenBefore.clear();
-            externalBeenAfter.clear();
+            clearDiscoveryMetadata();
+            executorRegistry.shutdown();
         }finally {
             externalLock.unlock();
         }
     }
 
+    private void teardownInstances(){
+        List<ExternalComponentRegistration> externals = externalRegistrationsInReverseOrder(
+                new ArrayList<>(externalComponentRegistrations.values())
+        );
+
+        for(ExternalComponentRegistration registration : externals){
+            registration.deactivate();
+        }
+
+        cancelAsyncTasks(externals);
+        unregisterEventListeners(externals);
+        List<Object> shutdownInstances = collectShutdownInstances(externals);
+        shutdownInstances.addAll(collectContainerSingletons());
+        invokePreDestroyMethods(shutdownInstances);
+        clearExternalCaches(externals);
+
+        for(ExternalComponentRegistration registration : externals){
+            registration.clear();
+        }
+
+        externalComponentRegistrations.clear();
+        AopProxyUtils.release(this);
+
+        loaded.set(false);
+        dependencyContainer.clear();
+        primaryDependencyIndex.clear();
+    }
+
+    private void clearDiscoveryMetadata(){
+        loadedSystemClasses.clear();
+        concreteInjectionTypes.clear();
+        serviceBeensDefinition.clear();
+        serviceBeensDefinitionLayer.clear();
+        externalBeenBefore.clear();
+        externalBeenAfter.clear();
+        externalBeenLayers.clear();
+    }
+
     /**
      * Invoca todos os métodos anotados com {@link dtm.di.annotations.PreDestroy} dos beans
      * registrados (singleton). Erros são logados e ignorados — shutdown não pode falhar pela metade.
@@ -422,12 +547,36 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
         return singletons;
     }
 
+    /**
+     * Singletons registrados como elegíveis a AOP, lidos das instâncias já guardadas: nenhum
+     * bean é criado.
+     */
+    private List<Object> collectAopSingletons(){
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Object> singletons = new ArrayList<>();
+        for(Map<String, Dependency> map : dependencyContainer.values()){
+            if(map == null) continue;
+            for(Dependency dep : map.values()){
+                if(!(dep instanceof DependencyObject object) || !object.isSingleton() || !object.isAop()) continue;
+                Object instance = object.getSingletonInstance();
+                if(instance == null || instance == this || !isAopEnabled(object.getDependencyClass())) continue;
+                if(instance instanceof ProxyObject proxyObject && proxyObject.getRealInstance() == this) continue;
+                if(visited.add(instance)){
+                    singletons.add(instance);
+                }
+            }
+        }
+
+        return singletons;
+    }
+
     private void invokePreDestroyMethods(Collection<?> instances){
         if(instances == null || instances.isEmpty()) return;
 
         Set<Object> destroyed = Collections.newSetFromMap(new IdentityHashMap<>());
 
-        for(Object instance : instances){
+        for(Object bean : instances){
+            Object instance = lifecycleTarget(bean);
             if(instance == null || !destroyed.add(instance)) continue;
             List<Method> destroyMethods = ReflectionCache.methodsWithAnnotation(
                     instance.getClass(), dtm.di.annotations.PreDestroy.class);
@@ -495,6 +644,41 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
         return aop;
     }
 
+    /**
+     * Executa em paralelo, por camadas, os produtores independentes das {@code @Configuration};
+     * precisa ser chamado antes do {@code load()}.
+     */
+    public void setParallelProducers(boolean parallelProducers) {
+        this.parallelProducers = parallelProducers;
+    }
+
+    /**
+     * Liga o advice inline do Byte Buddy nos proxies; vale para as classes de proxy geradas depois.
+     */
+    public void setAopInlineAdvice(boolean aopInlineAdvice) {
+        this.aopInlineAdvice = aopInlineAdvice;
+    }
+
+    /**
+     * Escolhe o proxy por interfaces para beans só injetados por interfaces, além dos anotados
+     * com {@link InterfaceProxy}. Desligado por padrão; vale para os proxies criados depois.
+     */
+    public void setAopInterfaceProxy(boolean aopInterfaceProxy) {
+        this.aopInterfaceProxy = aopInterfaceProxy;
+    }
+
+    /**
+     * Define as opções de um pool do {@link ExecutorRegistry} por código; tem precedência sobre
+     * {@code settings.json} e vale a partir da próxima criação do pool.
+     */
+    public void configureExecutor(String name, ExecutorOptions options) {
+        executorRegistry.configure(name, options);
+    }
+
+    public Map<String, ExecutorMetrics> getExecutorMetrics() {
+        return executorRegistry.metrics();
+    }
+
     @Override
     public void setInjectionStrategy(InjectionStrategy injectionStrategy) {
         synchronized (injectionStrategyConfigurationLock){
@@ -567,7 +751,7 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
         }
         return new AsyncComponentStorage<>(reference, qualifier, CompletableFuture.supplyAsync(() -> {
             return getDependency(reference, qualifier);
-        }, mainExecutor));
+        }, executorRegistry.get(ExecutorRegistry.MAIN)));
     }
 
     @Override
@@ -587,7 +771,7 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
             if (assignableClass.isAssignableFrom(refClass)) {
                 for (Dependency dependency : dependencyList.values()) {
                     try {
-                        Object instance = dependency.getDependency();
+                        Object instance = adaptToReference(refClass, dependency.getDependency());
                         if (instance != null) {
                             classSMap.computeIfAbsent((Class<S>) refClass, k -> (S) instance);
                         }
@@ -608,7 +792,7 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
     public <T> T newInstance(Class<T> referenceClass) throws NewInstanceException {
         throwIfUnload();
         try{
-            T instance = (T)createObject(referenceClass, isAopEnabled(referenceClass));
+            T instance = (T)adaptToReference(referenceClass, createObject(referenceClass, isAopEnabled(referenceClass)));
             registerEventListenersForNewInstance(referenceClass, instance);
             return instance;
         }catch (Exception e){
@@ -620,7 +804,7 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
     public <T> T newInstance(Class<T> referenceClass, Object... contructorArgs) throws NewInstanceException {
         throwIfUnload();
         try{
-            T instance = (T)createObject(referenceClass, isAopEnabled(referenceClass), contructorArgs);
+            T instance = (T)adaptToReference(referenceClass, createObject(referenceClass, isAopEnabled(referenceClass), contructorArgs));
             registerEventListenersForNewInstance(referenceClass, instance);
             return instance;
         }catch (Exception e){
@@ -632,7 +816,7 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
     public <T> T newInstance(Class<T> referenceClass, Boolean aop, Object... contructorArgs) throws NewInstanceException {
         throwIfUnload();
         try{
-            T instance = (T)createObject(referenceClass, ((aop != null)? aop : isAopEnabled(referenceClass)) , contructorArgs);
+            T instance = (T)adaptToReference(referenceClass, createObject(referenceClass, ((aop != null)? aop : isAopEnabled(referenceClass)) , contructorArgs));
             registerEventListenersForNewInstance(referenceClass, instance);
             return instance;
         }catch (Exception e){
@@ -660,7 +844,7 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
                 return;
             }
 
-            trackNewInstanceEventListeners(referenceClass, publisher.registerListeners(instance, referenceClass));
+            trackNewInstanceEventListeners(referenceClass, publisher.registerListeners(lifecycleTarget(instance), referenceClass));
         } catch (Exception e) {
             throw new NewInstanceException(
                     "Erro ao registrar @EventListener da instancia " + referenceClass.getName() + ": " + e.getMessage(),
@@ -827,28 +1011,36 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
 
         final Set<Class<?>> componentClasses = filterExternalClasses(candidates, Component.class);
         final Set<Class<?>> configurationClasses = filterExternalClasses(candidates, Configuration.class);
+        final Set<Class<?>> aspectClasses = filterExternalClasses(candidates, Aspect.class);
+        componentClasses.addAll(aspectClasses);
 
         if(componentClasses.isEmpty() && configurationClasses.isEmpty()) return;
 
         final Set<Class<?>> knownExternalTypes = new LinkedHashSet<>(componentClasses);
         knownExternalTypes.addAll(externalComponentRegistrations.keySet());
 
+        validateExternalAspects(aspectClasses);
+
         final ExternalLoadBatch batch = new ExternalLoadBatch(externalRegistrationSequence);
 
         try{
+            AopProxyUtils.addAspects(this, aspectClasses);
+
             final List<Set<ServiceBean>> layers = buildServiceLayers(componentClasses);
             final ConfigurationBeans configurationBeans = resolveConfigurationBeans(configurationClasses, componentClasses);
 
-            registerExternalBeens(configurationBeans.before(), batch, knownExternalTypes);
+            registerExternalBeens(configurationBeans.before(), configurationBeans.layers(), batch, knownExternalTypes);
             loadBeensInlayer(layers, batch, knownExternalTypes);
-            registerExternalBeens(configurationBeans.after(), batch, knownExternalTypes);
+            registerExternalBeens(configurationBeans.after(), configurationBeans.layers(), batch, knownExternalTypes);
 
             for(Class<?> configurationClass : configurationClasses){
                 externalRegistrationFor(batch, configurationClass, knownExternalTypes);
             }
 
             publishExternalBatch(batch);
+            initializeAspects();
         }catch (Throwable error){
+            AopProxyUtils.removeAspects(this, aspectClasses);
             rollbackExternalBatch(batch);
 
             if(error instanceof Error errorToPropagate){
@@ -859,6 +1051,29 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
         }
     }
 
+    /**
+     * Recusa aspectos externos que aconselhariam beans já criados em métodos que eles não
+     * interceptam. O proxy existente não é gerado de novo, então o advice nunca seria aplicado;
+     * beans criados depois, inclusive os do próprio lote, recebem o aspecto normalmente.
+     *
+     * Só entram singletons já criados e registrados com AOP; beans com {@link DisableAop},
+     * aspectos, registros sem AOP e o próprio container nunca teriam proxy.
+     */
+    private void validateExternalAspects(Set<Class<?>> aspectClasses) throws InvalidClassRegistrationException{
+        if(aspectClasses.isEmpty() || !isAopEnabled()) return;
+
+        final List<Object> singletons = collectAopSingletons();
+        for(Class<?> aspectClass : aspectClasses){
+            List<String> unreachable = AopProxyUtils.unreachableAdvice(this, List.of(aspectClass), singletons);
+            if(!unreachable.isEmpty()){
+                throw new InvalidClassRegistrationException(
+                        "Aspecto externo " + aspectClass.getName() + " não alcança beans já criados: " + String.join(", ", unreachable),
+                        aspectClass
+                );
+            }
+        }
+    }
+
     private void unloadExternalClasses(Set<Class<?>> classes){
         final List<ExternalComponentRegistration> targets = new ArrayList<>();
         final Set<Class<?>> owners = new LinkedHashSet<>();
@@ -873,6 +1088,7 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
         if(targets.isEmpty()) return;
 
         validateExternalDependents(owners);
+        AopProxyUtils.removeAspects(this, owners);
 
         List<ExternalComponentRegistration> ordered = externalRegistrationsInReverseOrder(targets);
         destroyExternalRegistrations(ordered);
@@ -1228,7 +1444,7 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
             return;
         }
 
-        EventListenerRegistration listenerRegistration = publisher.registerListeners(instance, componentClass);
+        EventListenerRegistration listenerRegistration = publisher.registerListeners(lifecycleTarget(instance), componentClass);
 
         if(!registration.addEventListener(listenerRegistration)){
             listenerRegistration.unregister();
@@ -1286,7 +1502,7 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
                 } catch (InvalidClassRegistrationException e) {
                     throw new RuntimeException(e);
                 }
-            }, mainExecutor);
+            }, executorRegistry.getForAwait(ExecutorRegistry.BOOT));
             tasks.add(task);
         }
 
@@ -1354,6 +1570,7 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
                             .singleton(true)
                             .creatorFunction(null)
                             .singletonInstance(singletonInstance)
+                            .aop(been.isAop())
                         .build()
                    : DependencyObject.builder()
                             .dependencyClass(dependency)
@@ -1409,7 +1626,7 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
                 }
 
                 return shouldApplyAop ? proxyObject(instance, instance.getClass()) : instance;
-            }, mainExecutor);
+            }, executorRegistry.getForAwait(ExecutorRegistry.BOOT));
 
             trackExternalAsyncTask(registration, dependency, been.isAop(), resolveComponentAsync);
 
@@ -1534,6 +1751,13 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
     }
 
     private void loadByPluginFolder(){
+        if(classScanOptions.useClassPathScanner()){
+            return;
+        }
+        if(classScanOptions.useMappedPluginLoader()){
+            loadedSystemClasses.addAll(newClassPathScanner().scan(getPluginScanRoots()));
+            return;
+        }
         for (String forderPath : foldersToLoad){
             classFinder.loadByDirectory(forderPath);
         }
@@ -1643,7 +1867,7 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
                         if(filterConcrete.test(clazz)){
                             result.add(clazz);
                         }
-                    }, mainVirtualExecutor));
+                    }, executorRegistry.get(ExecutorRegistry.VIRTUAL)));
                 }
 
                 CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
@@ -1669,6 +1893,7 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
         for (Field field : ReflectionCache.fields(clazz)) {
             if (field.isAnnotationPresent(Inject.class)) {
                 Class<?> fieldType = field.getType();
+                recordInjectionType(fieldType);
                 dependencies.addAll(isServiceDependency(fieldType, serviceLoadedClass, field));
             }
         }
@@ -1678,6 +1903,7 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
                 if (param.isAnnotationPresent(Value.class)) {
                     continue;
                 }
+                recordInjectionType(param.getType());
                 dependencies.addAll(isServiceDependency(param.getType(), serviceLoadedClass, param));
             }
         }
@@ -1685,6 +1911,12 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
         return dependencies;
     }
 
+    private void recordInjectionType(Class<?> type){
+        if(!type.isInterface() && !type.isPrimitive() && type != Object.class){
+            concreteInjectionTypes.add(type);
+        }
+    }
+
     private Set<Class<?>> isServiceDependency(Class<?> type, Set<Class<?>> serviceLoadedClass, Object extra) {
         Set<Class<?>> dependencies = new HashSet<>();
 
@@ -1721,7 +1953,7 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
                         Set<Class<?>> dependencies = getDependecyClassListOfClass(serviceClass, serviceLoadedClass);
                         dependencyGraph.put(serviceClass, dependencies);
                     }
-                }, mainExecutor));
+                }, executorRegistry.getForAwait(ExecutorRegistry.BOOT)));
             }
 
             try {
@@ -1751,6 +1983,9 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
 
         this.externalBeenAfter.clear();
         this.externalBeenAfter.putAll(configurationBeans.after());
+
+        this.externalBeenLayers.clear();
+        this.externalBeenLayers.putAll(configurationBeans.layers());
     }
 
     private ConfigurationBeans resolveConfigurationBeans(Set<Class<?>> configurationClasses, Set<Class<?>> serviceClasses){
@@ -1761,13 +1996,18 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
 
         return new ConfigurationBeans(
                 beanGraph.getBeforeServiceBeans(serviceClasses),
-                beanGraph.getAfterServiceBeans(serviceClasses)
+                beanGraph.getAfterServiceBeans(serviceClasses),
+                beanGraph.getProducerLayers()
         );
     }
 
-    private record ConfigurationBeans(Map<Class<?>, List<Method>> before, Map<Class<?>, List<Method>> after){
+    private record ConfigurationBeans(
+            Map<Class<?>, List<Method>> before,
+            Map<Class<?>, List<Method>> after,
+            Map<Method, Integer> layers
+    ){
         private static ConfigurationBeans empty(){
-            return new ConfigurationBeans(Map.of(), Map.of());
+            return new ConfigurationBeans(Map.of(), Map.of(), Map.of());
         }
     }
 
@@ -1779,9 +2019,15 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
 
     private void registerExternalBeens(
             Map<Class<?>, List<Method>> configurationsClasses,
+            Map<Method, Integer> producerLayers,
             ExternalLoadBatch batch,
             Set<Class<?>> knownExternalTypes
     ) throws InvalidClassRegistrationException{
+        if(parallelProducers && countProducers(configurationsClasses) > 1){
+            registerExternalBeensInLayers(configurationsClasses, producerLayers, batch, knownExternalTypes);
+            return;
+        }
+
         for(Map.Entry<Class<?>, List<Method>> configurationsClass : configurationsClasses.entrySet()){
             final Class<?> clazz = configurationsClass.getKey();
             List<Method> methodsList = configurationsClass.getValue();
@@ -1796,6 +2042,82 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
         }
     }
 
+    /**
+     * Executa os métodos produtores em ondas, uma por camada do grafo de beans.
+     * <p>
+     * A classe {@code @Configuration} é instanciada na thread de carga antes da primeira onda que a usa.
+     * Os produtores da mesma camada são invocados em paralelo no executor virtual do container; o registro
+     * dos resultados acontece depois da onda, na ordem de declaração das configurações e dos métodos.
+     * Se algum produtor da onda falhar, os demais resultados da mesma onda ainda são registrados, para que
+     * o {@code unload()} ou o rollback da carga externa executem seus {@code @PreDestroy}; em seguida a
+     * primeira falha na ordem de declaração interrompe a carga, mantendo o erro e os qualifiers determinísticos.
+     */
+    private void registerExternalBeensInLayers(
+            Map<Class<?>, List<Method>> configurationsClasses,
+            Map<Method, Integer> producerLayers,
+            ExternalLoadBatch batch,
+            Set<Class<?>> knownExternalTypes
+    ) throws InvalidClassRegistrationException{
+        final TreeMap<Integer, List<ProducerInvocation>> waves = new TreeMap<>();
+
+        for(Map.Entry<Class<?>, List<Method>> configurationsClass : configurationsClasses.entrySet()){
+            final Class<?> clazz = configurationsClass.getKey();
+            final List<Method> methodsList = configurationsClass.getValue();
+
+            if(methodsList.isEmpty()) continue;
+
+            ExternalComponentRegistration registration = externalRegistrationFor(batch, clazz, knownExternalTypes);
+            if(registration != null){
+                registration.addDependencies(resolveExternalMethodDependencies(methodsList, knownExternalTypes));
+            }
+
+            final ConfigurationProducerSlot slot = new ConfigurationProducerSlot(clazz, registration);
+            for(Method method : methodsList){
+                int layer = (producerLayers != null) ? producerLayers.getOrDefault(method, 0) : 0;
+                waves.computeIfAbsent(layer, k -> new ArrayList<>()).add(new ProducerInvocation(slot, method));
+            }
+        }
+
+        for(List<ProducerInvocation> wave : waves.values()){
+            for(ProducerInvocation invocation : wave){
+                invocation.slot.instantiate();
+            }
+
+            final List<CompletableFuture<Void>> futures = new ArrayList<>(wave.size());
+            for(ProducerInvocation invocation : wave){
+                futures.add(CompletableFuture.runAsync(invocation::produce, executorRegistry.get(ExecutorRegistry.VIRTUAL)));
+            }
+
+            for(CompletableFuture<Void> future : futures){
+                try{
+                    future.join();
+                }catch (CompletionException | CancellationException ignored){
+                    // a falha fica registrada na invocação e é lançada na ordem de declaração
+                }
+            }
+
+            InvalidClassRegistrationException failure = null;
+            for(ProducerInvocation invocation : wave){
+                try{
+                    invocation.register();
+                }catch (InvalidClassRegistrationException e){
+                    if(failure == null) failure = e;
+                }
+            }
+
+            if(failure != null){
+                throw failure;
+            }
+        }
+    }
+
+    private int countProducers(Map<Class<?>, List<Method>> configurationsClasses){
+        int count = 0;
+        for(List<Method> methods : configurationsClasses.values()){
+            count += methods.size();
+        }
+        return count;
+    }
 
     private void registerExternalBeen(
             Class<?> configurationsClass,
@@ -1807,27 +2129,7 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
             Object configurationInstance = newInstance(configurationsClass, false);
             trackExternalConfigurationInstance(registration, configurationsClass, configurationInstance);
             for (Method method : methodsList) {
-                Parameter[] parameters = method.getParameters();
-                Object[] args = new Object[parameters.length];
-
-                if(load){
-                    for(int i = 0; i < parameters.length; i++){
-                        final Parameter parameter = parameters[i];
-                        validateAsyncProducerDependency(parameter, method);
-                        try{
-                            args[i] = getDependecyObjectByParam(parameter, configurationInstance, method.isAnnotationPresent(DisableInjectionWarn.class));
-                        }catch (Exception e){
-                            log.error("Erro ao abter parametro: {} no metodo: {}, classe: {}", parameter.getName(), method.getName(), configurationsClass);
-                            args[i] = null;
-                        }
-                    }
-                }else{
-                    Arrays.fill(args, null);
-                }
-
-                if(!method.canAccess(configurationInstance)){
-                    method.setAccessible(true);
-                }
+                Object[] args = resolveProducerArgs(configurationsClass, configurationInstance, method, load);
 
                 if(method.isAnnotationPresent(Async.class)){
                     registerAsyncProducer(configurationInstance, method, args, registration);
@@ -1836,25 +2138,7 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
 
                 ThrowableAction action = () -> {
                     Object result = method.invoke(configurationInstance, args);
-
-                    if(result != null){
-                        String qualifier = getQualifierName(method);
-                        boolean singleton = isSingletonBeen(method);
-                        if(singleton){
-
-                            if(result instanceof AsyncRegistrationFunction<?> asyncRegistrationFunction){
-                                registerObjectFunction(asyncRegistrationFunction, isAopEnabled(method), registration);
-                            }else if(result instanceof RegistrationFunction<?> registrationFunction){
-                                registerObjectFunction(registrationFunction, isAopEnabled(method), registration);
-                            }else{
-                                boolean aop = (isAopEnabled(method) && isAopEnabled(result.getClass()));
-                                registerObject(result, qualifier, aop, registration);
-                            }
-
-                        }else {
-                            registerExternalBeenNoSinglenton(result, method, qualifier, registration);
-                        }
-                    }
+                    registerProducerResult(method, result, registration);
                 };
 
                 action.run();
@@ -1864,6 +2148,132 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
         }
     }
 
+    private Object[] resolveProducerArgs(
+            Class<?> configurationsClass,
+            Object configurationInstance,
+            Method method,
+            boolean load
+    ){
+        Parameter[] parameters = method.getParameters();
+        Object[] args = new Object[parameters.length];
+
+        if(load){
+            for(int i = 0; i < parameters.length; i++){
+                final Parameter parameter = parameters[i];
+                validateAsyncProducerDependency(parameter, method);
+                try{
+                    args[i] = getDependecyObjectByParam(parameter, configurationInstance, method.isAnnotationPresent(DisableInjectionWarn.class));
+                }catch (Exception e){
+                    log.error("Erro ao abter parametro: {} no metodo: {}, classe: {}", parameter.getName(), method.getName(), configurationsClass);
+                    args[i] = null;
+                }
+            }
+        }else{
+            Arrays.fill(args, null);
+        }
+
+        if(!method.canAccess(configurationInstance)){
+            method.setAccessible(true);
+        }
+
+        return args;
+    }
+
+    private void registerProducerResult(
+            Method method,
+            Object result,
+            ExternalComponentRegistration registration
+    ) throws InvalidClassRegistrationException{
+        if(result == null) return;
+
+        String qualifier = getQualifierName(method);
+        boolean singleton = isSingletonBeen(method);
+        if(singleton){
+
+            if(result instanceof AsyncRegistrationFunction<?> asyncRegistrationFunction){
+                registerObjectFunction(asyncRegistrationFunction, isAopEnabled(method), registration);
+            }else if(result instanceof RegistrationFunction<?> registrationFunction){
+                registerObjectFunction(registrationFunction, isAopEnabled(method), registration);
+            }else{
+                boolean aop = (isAopEnabled(method) && isAopEnabled(result.getClass()));
+                registerObject(result, qualifier, aop, registration);
+            }
+
+        }else {
+            registerExternalBeenNoSinglenton(result, method, qualifier, registration);
+        }
+    }
+
+    private final class ConfigurationProducerSlot {
+        private final Class<?> configurationClass;
+        private final ExternalComponentRegistration registration;
+        private Object instance;
+        private Throwable failure;
+
+        private ConfigurationProducerSlot(Class<?> configurationClass, ExternalComponentRegistration registration){
+            this.configurationClass = configurationClass;
+            this.registration = registration;
+        }
+
+        private void instantiate(){
+            if(instance != null || failure != null) return;
+            try{
+                instance = newInstance(configurationClass, false);
+                trackExternalConfigurationInstance(registration, configurationClass, instance);
+            }catch (Throwable e){
+                failure = e;
+            }
+        }
+
+        private InvalidClassRegistrationException error(Throwable cause){
+            return new InvalidClassRegistrationException("Erro ao configurar: "+configurationClass, configurationClass, cause);
+        }
+    }
+
+    private final class ProducerInvocation {
+        private final ConfigurationProducerSlot slot;
+        private final Method method;
+        private Object[] args;
+        private Object result;
+        private Throwable failure;
+
+        private ProducerInvocation(ConfigurationProducerSlot slot, Method method){
+            this.slot = slot;
+            this.method = method;
+        }
+
+        private void produce(){
+            if(slot.failure != null) return;
+            try{
+                args = resolveProducerArgs(slot.configurationClass, slot.instance, method, true);
+                if(!method.isAnnotationPresent(Async.class)){
+                    result = method.invoke(slot.instance, args);
+                }
+            }catch (Throwable e){
+                failure = e;
+            }
+        }
+
+        private void register() throws InvalidClassRegistrationException{
+            if(slot.failure != null){
+                throw slot.error(slot.failure);
+            }
+            if(failure != null){
+                throw slot.error(failure);
+            }
+
+            try{
+                if(method.isAnnotationPresent(Async.class)){
+                    registerAsyncProducer(slot.instance, method, args, slot.registration);
+                }else{
+                    registerProducerResult(method, result, slot.registration);
+                }
+            }catch (Throwable e){
+                throw slot.error(e);
+            }
+        }
+    }
+
     private void registerAsyncProducer(
             Object configurationInstance,
             Method method,
@@ -1896,7 +2306,7 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
         AsyncRegistrationFunction<Object> asyncProducer = new AsyncRegistrationFunction<>() {
             @Override
             public ExecutorService getExecutor() {
-                return mainExecutor;
+                return executorRegistry.get(ExecutorRegistry.MAIN);
             }
 
             @Override
@@ -1970,6 +2380,9 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
     }
 
     private Object createObject(@NonNull Class<?> clazz, boolean aop){
+        final BeanCreationEvent creationEvent = new BeanCreationEvent();
+        creationEvent.begin();
+        boolean created = false;
         try {
             Object instance = null;
             Constructor<?>[] constructors = ReflectionCache.constructors(clazz).toArray(new Constructor<?>[0]);
@@ -1983,6 +2396,7 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
             injectDependenciesInternal(Objects.requireNonNull(instance));
             Object object =  (aop) ? proxyObject(instance, clazz) : instance;
             executePostCreationMethod(clazz, object);
+            created = true;
             return object;
         }catch (Exception e) {
             log.error("Erro ao criar instância para a classe: {}", clazz.getName(), e);
@@ -1991,10 +2405,15 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
                 throw instanceException;
             }
             throw new NewInstanceException(message, clazz);
+        }finally {
+            commitCreationEvent(creationEvent, clazz, aop, created);
         }
     }
 
     private Object createObject(@NonNull Class<?> clazz, boolean aop, Object[] extraConstructorArgs){
+        final BeanCreationEvent creationEvent = new BeanCreationEvent();
+        creationEvent.begin();
+        boolean created = false;
         try {
             Constructor<?>[] constructors = ReflectionCache.constructors(clazz).toArray(new Constructor<?>[0]);
             List<Parameter> failedParams = new ArrayList<>();
@@ -2008,6 +2427,7 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
                     injectDependenciesInternal(instance);
                     Object object =  (aop) ? proxyObject(instance, clazz) : instance;
                     executePostCreationMethod(clazz, object);
+                    created = true;
                     return object;
                 }
             }
@@ -2026,6 +2446,14 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
         }catch (Exception e) {
             String message = "Erro ao criar Objeto "+clazz+" ==> cause: "+e.getMessage();
             throw new NewInstanceException(message, clazz, e);
+        }finally {
+            commitCreationEvent(creationEvent, clazz, aop, created);
+        }
+    }
+
+    private void commitCreationEvent(BeanCreationEvent creationEvent, Class<?> clazz, boolean aop, boolean created){
+        if(creationEvent.shouldCommit()){
+            creationEvent.complete(clazz, getQualifierName(clazz), aop, created);
         }
     }
 
@@ -2216,6 +2644,7 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
                 return asyncComponent.getReferenceClass().equals(reference) ? (AsyncComponent<T>) asyncComponent : null;
             }
 
+            DependencyLookupMissEvent.emit(reference, qualifier, null, "null dependency");
             if(showWarnIfError == null) showWarnIfError = () -> true;
 
             Boolean showWarn = showWarnIfError.get();
@@ -2223,6 +2652,7 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
 
             return null;
         }catch (Exception e){
+            DependencyLookupMissEvent.emit(reference, qualifier, null, e.getMessage());
             if(showWarnIfError == null) showWarnIfError = () -> true;
 
             Boolean showWarn = showWarnIfError.get();
@@ -2396,10 +2826,11 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
         try {
             final Class<?> clazz = dependency.getClass();
             if(!isProfileActive(clazz)) return;
-            final Object toRegistrate = isAopEnabled(clazz) ? proxyObject(dependency, clazz) : dependency;
+            final boolean aop = isAopEnabled(clazz);
+            final Object toRegistrate = aop ? proxyObject(dependency, clazz) : dependency;
             if(dependencyContainer.containsKey(clazz)) return;
             final Map<String, Dependency> mapOfDependency = getDependencyMapAndValidDependency(clazz, qualifier);
-            DependencyObject dependencyObject = new DependencyObject(clazz, qualifier, true, () -> {return toRegistrate;}, toRegistrate);
+            DependencyObject dependencyObject = new DependencyObject(clazz, qualifier, true, () -> {return toRegistrate;}, toRegistrate, aop);
 
             registerInContainer(
                     mapOfDependency,
@@ -2432,7 +2863,7 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
             final Object toRegistrate = aop ? proxyObject(dependency, clazz) : dependency;
             if(dependencyContainer.containsKey(clazz)) return;
             final Map<String, Dependency> mapOfDependency = getDependencyMapAndValidDependency(clazz, qualifier);
-            DependencyObject dependencyObject = new DependencyObject(clazz, qualifier, true, () -> {return toRegistrate;}, toRegistrate);
+            DependencyObject dependencyObject = new DependencyObject(clazz, qualifier, true, () -> {return toRegistrate;}, toRegistrate, aop);
             registerInContainer(
                     mapOfDependency,
                     clazz,
@@ -2506,7 +2937,7 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
     ){
         final Class<?> referenceClass = asyncRegistrationFunction.getReferenceClass();
         final String qualifier = (asyncRegistrationFunction.getQualifier().isEmpty()) ? "default" : asyncRegistrationFunction.getQualifier();
-        final ExecutorService executorService = (asyncRegistrationFunction.getExecutor() != null) ? asyncRegistrationFunction.getExecutor() : mainExecutor;
+        final ExecutorService executorService = (asyncRegistrationFunction.getExecutor() != null) ? asyncRegistrationFunction.getExecutor() : executorRegistry.get(ExecutorRegistry.MAIN);
         if(!isProfileActive(referenceClass)) return;
         try{
             CompletableFuture<?> resolveComponentAsync = CompletableFuture.supplyAsync(() -> {
@@ -2715,7 +3146,9 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
 
     private Object proxyObject(Object realInstance, Class<?> clazz){
         try{
-            if(executeProxy(realInstance)) return ProxyFactory.newProxyObject(realInstance, clazz, this);
+            if(!executeProxy(realInstance)) return realInstance;
+            if(useInterfaceProxy(clazz)) return ProxyFactory.newInterfaceProxyObject(realInstance, clazz, this);
+            return ProxyFactory.newProxyObject(realInstance, clazz, this, aopInlineAdvice);
         }catch (Exception e){
             log.error("Erro ao criar o proxy para a classe {}: {}", clazz.getName(), e.getMessage(), e);
         }
@@ -2723,23 +3156,62 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
         return realInstance;
     }
 
+    /**
+     * Usa o proxy por interfaces quando a classe pede com {@link InterfaceProxy} ou, com
+     * {@code aopInterfaceProxy} ativo, quando nenhum ponto de injeção conhecido pede a classe ou
+     * uma superclasse dela.
+     */
+    private boolean useInterfaceProxy(Class<?> clazz){
+        if(!ProxyFactory.supportsInterfaceProxy(clazz)) return false;
+        if(clazz.isAnnotationPresent(InterfaceProxy.class)) return true;
+        if(!aopInterfaceProxy) return false;
+
+        for(Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()){
+            if(concreteInjectionTypes.contains(current)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Pedidos pela classe concreta de um bean com proxy por interfaces recebem a instância real.
+     * Como os aspectos deixam de valer nesse caminho, o primeiro pedido de cada classe gera um aviso.
+     */
+    private Object adaptToReference(Class<?> reference, Object instance){
+        if(instance instanceof ProxyObject proxyObject && !reference.isInstance(instance)){
+            Object realInstance = proxyObject.getRealInstance();
+            if(reference.isInstance(realInstance)){
+                if(rawReferenceWarnings.add(realInstance.getClass())){
+                    log.warn("{} usa proxy por interfaces; o pedido por {} recebe a instância real, sem aspectos.",
+                            realInstance.getClass().getName(), reference.getName());
+                }
+                return realInstance;
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Instância em que métodos de ciclo de vida e listeners são executados. O delegate do proxy
+     * por interfaces não herda os métodos da classe, então eles rodam na instância real.
+     */
+    private static Object lifecycleTarget(Object instance){
+        return ProxyFactory.isInterfaceProxy(instance) ? ((ProxyObject) instance).getRealInstance() : instance;
+    }
+
     private boolean executeProxy(Object instance){
         if(instance == null) return false;
-        return !instance.getClass().isAnnotationPresent(DisableAop.class);
+        Class<?> instanceClass = instance.getClass();
+        return !instanceClass.isAnnotationPresent(DisableAop.class) && AopProxyUtils.canAdvise(this, instanceClass);
     }
 
     private void loadSystemClasses(){
-        this.classFinderConfigurations = new ClassFinderConfigurations() {};
-        this.classFinderConfigurations.getIgnoreJarsTerms().addAll(
-                List.of(
-                    "lombok", "byte-buddy", "logback-classic", "slf4j-api", "classfinder"
-                )
-        );
-        this.classFinderConfigurations.getIgnorePackges().addAll(
-                List.of(
-                    "net.bytebuddy", "ch.qos.logback", "lombok"
-                )
-        );
+        if(this.classFinderConfigurations == null){
+            this.classFinderConfigurations = getFindConfigurations();
+        }
+        if(classScanOptions.useClassPathScanner()){
+            loadedSystemClasses.addAll(scanWithClassPathScanner());
+            return;
+        }
         if(mainClass != null){
             loadedSystemClasses.addAll(classFinder.find(mainClass, classFinderConfigurations));
         }else{
@@ -2747,13 +3219,38 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
         }
     }
 
+    private Set<Class<?>> scanWithClassPathScanner(){
+        List<ScanRoot> roots = new ArrayList<>(ClassPathScanner.classPathRoots(mainClass));
+        roots.addAll(getPluginScanRoots());
+        return newClassPathScanner().scan(roots);
+    }
+
+    private ClassPathScanner newClassPathScanner(){
+        return new ClassPathScanner(
+                classFinderConfigurations,
+                classScanOptions,
+                classScanOptions.newCandidateDetector(),
+                executorRegistry.get(ExecutorRegistry.VIRTUAL)
+        );
+    }
+
+    private List<ScanRoot> getPluginScanRoots(){
+        if(foldersToLoad.isEmpty()) return List.of();
+
+        ClassLoader parent = (mainClass != null && mainClass.getClassLoader() != null)
+                ? mainClass.getClassLoader()
+                : Thread.currentThread().getContextClassLoader();
+
+        return new PluginJarLoader(executorRegistry.get(ExecutorRegistry.VIRTUAL)).open(foldersToLoad, parent);
+    }
+
     private void injectExternalModules(){
         List<CompletableFuture<Void>> futures = new ArrayList<>();
         Set<Class<?>> discoveredClasses = ConcurrentHashMap.newKeySet();
         for (Class<?> clazz : loadedSystemClasses){
             CompletableFuture<Void> task = CompletableFuture.runAsync(() -> {
                 scanRecursive(clazz, new HashSet<>(), discoveredClasses);
-            }, mainExecutor);
+            }, executorRegistry.getForAwait(ExecutorRegistry.BOOT));
             futures.add(task);
         }
 
@@ -2814,8 +3311,9 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
         return !clazz.isInterface() && !Modifier.isAbstract(clazz.getModifiers()) && !clazz.isEnum() && !clazz.isRecord();
     }
     
-    private void executePostCreationMethod(Class<?> clazz, Object instance){
+    private void executePostCreationMethod(Class<?> clazz, Object bean){
         List<Method> postCreationMethods = getPostCreationMethod(clazz);
+        Object instance = lifecycleTarget(bean);
 
         for(Method method: postCreationMethods){
             try{
@@ -2964,7 +3462,9 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
     private void injectDependenciesParallel(Object instance, List<Field> listOfRegistration){
         try{
             final List<CompletableFuture<?>> tasks = new ArrayList<>();
-            ExecutorService executorService = (listOfRegistration.size() > 10) ? mainExecutor : mainVirtualExecutor;
+            ExecutorService executorService = (listOfRegistration.size() > 10)
+                    ? executorRegistry.getForAwait(ExecutorRegistry.INJECTION)
+                    : executorRegistry.get(ExecutorRegistry.VIRTUAL);
             for (Field variable : listOfRegistration) {
                 CompletableFuture<?> task = CompletableFuture.runAsync(() -> {
                     injectVariable(variable, instance);
@@ -3007,8 +3507,9 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
                 throw new DependencyInjectionException("Erro ao obter dependência: reference="+reference+", qualifier="+qualifier);
             }
             Object instance = dependencyObject.getDependency();
-            return reference.cast(instance);
+            return reference.cast(adaptToReference(reference, instance));
         }catch (Exception e){
+            DependencyLookupMissEvent.emit(reference, qualifier, origin, e.getMessage());
             if(showWarnIfError == null) showWarnIfError = () -> true;
 
             Boolean showWarn = showWarnIfError.get();
@@ -3043,7 +3544,7 @@ public class DependencyContainerStorage implements DependencyContainer, ClassFin
         try{
             return getDependencyMap(reference).values().stream().map(d -> {
                 try{
-                    return reference.cast(d.getDependency());
+                    return reference.cast(adaptToReference(reference, d.getDependency()));
                 } catch (Exception e) {
                     log.error(
                             "Falha ao converter dependência. reference={}, dependencyClass={}, msg={}",
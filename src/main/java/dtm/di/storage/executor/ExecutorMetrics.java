@@ -0,0 +1,23 @@
+package dtm.di.storage.executor;
+
+/**
+ * Fotografia das métricas de um pool do {@link ExecutorRegistry}.
+ *
+ * @param name nome do pool
+ * @param virtual se o pool usa uma thread virtual por tarefa
+ * @param poolSize threads de plataforma existentes; {@code 0} em pools virtuais
+ * @param active tarefas em execução
+ * @param queueDepth tarefas aguardando na fila; {@code 0} em pools virtuais
+ * @param completed tarefas concluídas
+ * @param rejected tarefas rejeitadas
+ */
+public record ExecutorMetrics(
+        String name,
+        boolean virtual,
+        int poolSize,
+        long active,
+        long queueDepth,
+        long completed,
+        long rejected
+) {
+}
@@ -0,0 +1,68 @@
+package dtm.di.storage.executor;
+
+import dtm.di.settings.AppSettings;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Configuração de um pool nomeado do {@link ExecutorRegistry}.
+ *
+ * Propriedades lidas de {@code settings.json}, por pool ({@code <nome>} = {@code main},
+ * {@code boot}, {@code injection}, {@code events}, {@code virtual} ou um pool próprio):
+ * <ul>
+ *     <li>{@code dependencyContainer.executors.<nome>.threads} - número de threads de plataforma.</li>
+ *     <li>{@code dependencyContainer.executors.<nome>.queueCapacity} - limite da fila; {@code 0} é ilimitada.</li>
+ *     <li>{@code dependencyContainer.executors.<nome>.virtual} - uma thread virtual por tarefa.</li>
+ *     <li>{@code dependencyContainer.executors.<nome>.shutdownOrder} - ordem de encerramento no unload.</li>
+ *     <li>{@code dependencyContainer.executors.<nome>.awaitTerminationMillis} - espera antes do {@code shutdownNow}.</li>
+ * </ul>
+ */
+@Getter
+@Builder(toBuilder = true)
+public class ExecutorOptions {
+
+    public static final String PROPERTY_PREFIX = "dependencyContainer.executors.";
+
+    private final String threadNamePrefix;
+    private final int threads;
+    private final int queueCapacity;
+    private final boolean virtual;
+    private final int shutdownOrder;
+
+    @Builder.Default
+    private final long awaitTerminationMillis = 2_000;
+
+    public static ExecutorOptions platform(String threadNamePrefix, int threads, int shutdownOrder) {
+        return ExecutorOptions.builder()
+                .threadNamePrefix(threadNamePrefix)
+                .threads(threads)
+                .shutdownOrder(shutdownOrder)
+                .build();
+    }
+
+    public static ExecutorOptions virtual(String threadNamePrefix, int shutdownOrder) {
+        return ExecutorOptions.builder()
+                .threadNamePrefix(threadNamePrefix)
+                .virtual(true)
+                .shutdownOrder(shutdownOrder)
+                .build();
+    }
+
+    /**
+     * Aplica sobre estas opções as propriedades do pool presentes em {@code settings}.
+     */
+    public ExecutorOptions withSettings(AppSettings settings, String name) {
+        if (settings == null) {
+            return this;
+        }
+
+        String prefix = PROPERTY_PREFIX + name + ".";
+        return toBuilder()
+                .threads(Math.max(1, settings.getInt(prefix + "threads", threads)))
+                .queueCapacity(Math.max(0, settings.getInt(prefix + "queueCapacity", queueCapacity)))
+                .virtual(settings.getBoolean(prefix + "virtual", virtual))
+                .shutdownOrder(settings.getInt(prefix + "shutdownOrder", shutdownOrder))
+                .awaitTerminationMillis(Math.max(0, settings.getLong(prefix + "awaitTerminationMillis", awaitTerminationMillis)))
+                .build();
+    }
+}
@@ -0,0 +1,123 @@
+package dtm.di.storage.executor;
+
+import dtm.di.settings.AppSettings;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Registro dos pools de threads usados pelo container, separados por finalidade.
+ *
+ * <p>Cada finalidade tem um pool nomeado, criado sob demanda, para que uma carga alta em um
+ * subsistema (por exemplo listeners assíncronos) não ocupe as threads da criação de beans:</p>
+ * <ul>
+ *     <li>{@link #MAIN} - produtores {@code @Async}, {@code AsyncRegistrationFunction} e {@code getDependencyAsync}.</li>
+ *     <li>{@link #BOOT} - criação de beans por camada e montagem do grafo.</li>
+ *     <li>{@link #INJECTION} - injeção paralela de campos.</li>
+ *     <li>{@link #EVENTS} - listeners de evento assíncronos.</li>
+ *     <li>{@link #VIRTUAL} - trabalho curto e bloqueante em threads virtuais.</li>
+ * </ul>
+ *
+ * <p>As opções vêm de {@link ExecutorOptions#withSettings(AppSettings, String)}; uma chamada a
+ * {@link #configure(String, ExecutorOptions)} tem precedência e vale a partir da próxima criação
+ * do pool. {@link #shutdown()} encerra os pools em ordem crescente de
+ * {@link ExecutorOptions#getShutdownOrder()}; um {@link #get(String)} posterior cria um pool novo.</p>
+ */
+@Slf4j
+public class ExecutorRegistry {
+
+    public static final String MAIN = "main";
+    public static final String BOOT = "boot";
+    public static final String INJECTION = "injection";
+    public static final String EVENTS = "events";
+    public static final String VIRTUAL = "virtual";
+
+    private static final int DEFAULT_THREADS = Math.max(6, Runtime.getRuntime().availableProcessors());
+
+    private final AppSettings settings;
+    private final Map<String, ExecutorOptions> configured = new ConcurrentHashMap<>();
+    private final Map<String, ManagedExecutor> executors = new ConcurrentHashMap<>();
+
+    public ExecutorRegistry(AppSettings settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * Define as opções de um pool por código. Um pool já criado mantém as opções anteriores
+     * até ser encerrado.
+     */
+    public void configure(@NonNull String name, @NonNull ExecutorOptions options) {
+        configured.put(name, options);
+    }
+
+    /**
+     * Pool com o nome informado, criado na primeira chamada ou após um {@link #shutdown()}.
+     */
+    public ExecutorService get(@NonNull String name) {
+        return executors.compute(name, (key, current) ->
+                (current == null || current.isShutdown()) ? ManagedExecutor.create(key, resolveOptions(key)) : current
+        );
+    }
+
+    /**
+     * Pool para trabalho que a thread atual vai aguardar. Quando a thread já executa uma tarefa de
+     * um pool do registro, devolve o pool {@link #VIRTUAL}: workers bloqueados esperando tarefas
+     * enfileiradas atrás deles em um pool limitado esgotam as threads e travam o boot, enquanto
+     * threads virtuais sempre progridem. Apenas o nível mais externo usa o pool nomeado.
+     */
+    public ExecutorService getForAwait(@NonNull String name) {
+        return ManagedExecutor.isCurrentThreadInManagedPool() ? get(VIRTUAL) : get(name);
+    }
+
+    public ExecutorOptions resolveOptions(@NonNull String name) {
+        ExecutorOptions options = configured.get(name);
+        if (options != null) {
+            return options;
+        }
+        return defaultOptions(name).withSettings(settings, name);
+    }
+
+    /**
+     * Métricas dos pools ativos, por nome.
+     */
+    public Map<String, ExecutorMetrics> metrics() {
+        Map<String, ExecutorMetrics> metrics = new TreeMap<>();
+        for (ManagedExecutor executor : executors.values()) {
+            metrics.put(executor.getName(), executor.metrics());
+        }
+        return Collections.unmodifiableMap(metrics);
+    }
+
+    /**
+     * Encerra todos os pools ativos em ordem de {@code shutdownOrder} e nome.
+     */
+    public void shutdown() {
+        List<ManagedExecutor> active = new ArrayList<>(executors.values());
+        active.sort(Comparator
+                .comparingInt((ManagedExecutor executor) -> executor.getOptions().getShutdownOrder())
+                .thenComparing(ManagedExecutor::getName));
+
+        for (ManagedExecutor executor : active) {
+            executors.remove(executor.getName(), executor);
+            try {
+                executor.shutdownGracefully();
+            } catch (RuntimeException e) {
+                log.warn("Falha ao encerrar pool '{}': {}", executor.getName(), e.getMessage());
+            }
+        }
+    }
+
+    private static ExecutorOptions defaultOptions(String name) {
+        return switch (name) {
+            case EVENTS -> ExecutorOptions.platform("EventExecutor-Worker-", DEFAULT_THREADS, 0);
+            case MAIN -> ExecutorOptions.platform("MainExecutor-Worker-", DEFAULT_THREADS, 1);
+            case INJECTION -> ExecutorOptions.platform("InjectionExecutor-Worker-", DEFAULT_THREADS, 2);
+            case BOOT -> ExecutorOptions.platform("BootExecutor-Worker-", DEFAULT_THREADS, 3);
+            case VIRTUAL -> ExecutorOptions.virtual("MainVirtual-", 4);
+            default -> ExecutorOptions.platform(name + "-Worker-", DEFAULT_THREADS, 5);
+        };
+    }
+}
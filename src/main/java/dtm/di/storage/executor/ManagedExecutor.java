@@ -0,0 +1,165 @@
+package dtm.di.storage.executor;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool nomeado do {@link ExecutorRegistry} que contabiliza tarefas ativas, concluídas e rejeitadas.
+ */
+@Slf4j
+final class ManagedExecutor extends AbstractExecutorService {
+
+    private static final ThreadLocal<ManagedExecutor> CURRENT = new ThreadLocal<>();
+
+    @Getter
+    private final String name;
+    @Getter
+    private final ExecutorOptions options;
+    private final ExecutorService delegate;
+    private final ThreadPoolExecutor platformPool;
+    private final LongAdder active = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    private ManagedExecutor(String name, ExecutorOptions options, ExecutorService delegate, ThreadPoolExecutor platformPool) {
+        this.name = name;
+        this.options = options;
+        this.delegate = delegate;
+        this.platformPool = platformPool;
+    }
+
+    static ManagedExecutor create(String name, ExecutorOptions options) {
+        String prefix = (options.getThreadNamePrefix() != null) ? options.getThreadNamePrefix() : name + "-";
+
+        if (options.isVirtual()) {
+            ThreadFactory factory = Thread.ofVirtual().name(prefix, 0).factory();
+            return new ManagedExecutor(name, options, Executors.newThreadPerTaskExecutor(factory), null);
+        }
+
+        AtomicInteger sequence = new AtomicInteger();
+        int threads = Math.max(1, options.getThreads());
+        BlockingQueue<Runnable> queue = (options.getQueueCapacity() > 0)
+                ? new ArrayBlockingQueue<>(options.getQueueCapacity())
+                : new LinkedBlockingQueue<>();
+
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                queue,
+                runnable -> {
+                    Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        return new ManagedExecutor(name, options, pool, pool);
+    }
+
+    /**
+     * Indica se a thread atual executa uma tarefa de qualquer pool do registro.
+     */
+    static boolean isCurrentThreadInManagedPool() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Indica se a thread atual executa uma tarefa deste pool.
+     */
+    boolean isCurrentThreadOwned() {
+        return CURRENT.get() == this;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        Runnable task = () -> {
+            ManagedExecutor previous = CURRENT.get();
+            CURRENT.set(this);
+            active.increment();
+            try {
+                command.run();
+            } finally {
+                active.decrement();
+                completed.increment();
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+
+        try {
+            delegate.execute(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw e;
+        }
+    }
+
+    ExecutorMetrics metrics() {
+        return new ExecutorMetrics(
+                name,
+                platformPool == null,
+                (platformPool != null) ? platformPool.getPoolSize() : 0,
+                active.sum(),
+                (platformPool != null) ? platformPool.getQueue().size() : 0,
+                completed.sum(),
+                rejected.sum()
+        );
+    }
+
+    /**
+     * Encerra o pool aguardando as tarefas em andamento até o limite configurado; depois
+     * interrompe as restantes. Quando chamado de dentro do próprio pool não aguarda.
+     */
+    void shutdownGracefully() {
+        delegate.shutdown();
+        if (isCurrentThreadOwned()) {
+            return;
+        }
+
+        try {
+            if (!delegate.awaitTermination(options.getAwaitTerminationMillis(), TimeUnit.MILLISECONDS)) {
+                List<Runnable> dropped = delegate.shutdownNow();
+                log.warn("Pool '{}' não terminou em {} ms; {} tarefas descartadas", name, options.getAwaitTerminationMillis(), dropped.size());
+            }
+        } catch (InterruptedException e) {
+            delegate.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
@@ -0,0 +1,96 @@
+package dtm.di.storage.scanner;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Detector de candidatos que lê as anotações direto do bytecode com
+ * {@link ClassFileAnnotationReader}, sem carregar nem inicializar a classe.
+ *
+ * Anotações fora de {@code dtm.di.annotations} são resolvidas como meta-anotação lendo o
+ * {@code .class} da própria anotação pelo class loader; o resultado fica em cache por class
+ * loader e nome, já que loaders diferentes (por exemplo duas pastas de plugin) podem definir
+ * anotações diferentes com o mesmo nome. Loaders descartados saem do cache com o coletor.
+ */
+@Slf4j
+public class BytecodeCandidateDetector implements CandidateDetector {
+
+    private final Map<ClassLoader, Map<String, Boolean>> stereotypeAnnotationCache = Collections.synchronizedMap(new WeakHashMap<>());
+
+    @Override
+    public boolean isCandidate(String className, ClassBytes classBytes, ClassLoader classLoader) {
+        ClassFileAnnotationReader.ClassFileInfo info;
+
+        try (InputStream inputStream = classBytes.open()) {
+            info = ClassFileAnnotationReader.read(inputStream);
+        } catch (IOException | RuntimeException e) {
+            log.debug("Bytecode ilegível ignorado na descoberta: {} ==> {}", className, e.getMessage());
+            return false;
+        }
+
+        return hasStereotype(info, classLoader);
+    }
+
+    @Override
+    public String scopeId() {
+        return "bytecode";
+    }
+
+    public boolean hasStereotype(ClassFileAnnotationReader.ClassFileInfo info, ClassLoader classLoader) {
+        ClassLoader loader = (classLoader != null) ? classLoader : ClassLoader.getSystemClassLoader();
+        Map<String, Boolean> cache = stereotypeAnnotationCache.computeIfAbsent(loader, key -> new ConcurrentHashMap<>());
+
+        for (String annotationType : info.annotationTypes()) {
+            if (isStereotypeAnnotation(annotationType, loader, cache, new HashSet<>())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isStereotypeAnnotation(String annotationType, ClassLoader classLoader, Map<String, Boolean> cache, Set<String> visiting) {
+        if (KernonStereotypes.isKernonAnnotationName(annotationType)) {
+            return true;
+        }
+
+        if (annotationType.startsWith("java.") || annotationType.startsWith("jdk.") || !visiting.add(annotationType)) {
+            return false;
+        }
+
+        Boolean cached = cache.get(annotationType);
+        if (cached != null) {
+            return cached;
+        }
+
+        boolean stereotype = false;
+        ClassFileAnnotationReader.ClassFileInfo annotationInfo = readResource(annotationType, classLoader);
+
+        if (annotationInfo != null && annotationInfo.isAnnotation()) {
+            for (String meta : annotationInfo.annotationTypes()) {
+                if (isStereotypeAnnotation(meta, classLoader, cache, visiting)) {
+                    stereotype = true;
+                    break;
+                }
+            }
+        }
+
+        cache.put(annotationType, stereotype);
+        return stereotype;
+    }
+
+    private static ClassFileAnnotationReader.ClassFileInfo readResource(String className, ClassLoader classLoader) {
+        try (InputStream inputStream = classLoader.getResourceAsStream(className.replace('.', '/') + ".class")) {
+            return (inputStream != null) ? ClassFileAnnotationReader.read(inputStream) : null;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package dtm.di.storage.scanner;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Decide se uma classe encontrada na varredura é candidata a entrar no container.
+ */
+@FunctionalInterface
+public interface CandidateDetector {
+
+    boolean isCandidate(String className, ClassBytes classBytes, ClassLoader classLoader);
+
+    /**
+     * Identifica o critério do detector na chave de escopo do {@link ScanIndex}, para que um
+     * índice gravado com outro critério não seja reaproveitado. O padrão usa o nome da classe,
+     * que para lambdas muda a cada execução e portanto nunca reaproveita o índice.
+     */
+    default String scopeId() {
+        return getClass().getName();
+    }
+
+    /**
+     * Acesso tardio ao conteúdo do arquivo {@code .class}; detectores que trabalham com a
+     * classe carregada não precisam abrir o arquivo.
+     */
+    @FunctionalInterface
+    interface ClassBytes {
+        InputStream open() throws IOException;
+    }
+
+    /**
+     * Detector que carrega a classe (sem inicializá-la) e inspeciona as anotações por reflection.
+     * É o comportamento equivalente ao do {@code ClassFinder}.
+     */
+    static CandidateDetector loadingClasses() {
+        return new CandidateDetector() {
+            @Override
+            public boolean isCandidate(String className, ClassBytes classBytes, ClassLoader classLoader) {
+                try {
+                    return KernonStereotypes.isStereotyped(Class.forName(className, false, classLoader));
+                } catch (ClassNotFoundException | LinkageError e) {
+                    return false;
+                }
+            }
+
+            @Override
+            public String scopeId() {
+                return "reflection";
+            }
+        };
+    }
+}
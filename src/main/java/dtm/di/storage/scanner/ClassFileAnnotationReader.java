@@ -0,0 +1,148 @@
+package dtm.di.storage.scanner;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Leitor mínimo de arquivos {@code .class}: percorre o constant pool e extrai apenas o
+ * nome da classe, os flags de acesso, a superclasse e os tipos das anotações visíveis
+ * em runtime declaradas na classe. Nenhuma classe é carregada.
+ *
+ * Campos, métodos e atributos irrelevantes são pulados pelo tamanho declarado.
+ */
+public final class ClassFileAnnotationReader {
+
+    public static final int ACC_INTERFACE = 0x0200;
+    public static final int ACC_ABSTRACT = 0x0400;
+    public static final int ACC_ANNOTATION = 0x2000;
+
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    private ClassFileAnnotationReader() {
+        throw new IllegalStateException("utility class");
+    }
+
+    public record ClassFileInfo(String className, String superClassName, int accessFlags, List<String> annotationTypes) {
+        public boolean isAnnotation() {
+            return (accessFlags & ACC_ANNOTATION) != 0;
+        }
+    }
+
+    public static ClassFileInfo read(InputStream inputStream) throws IOException {
+        return read(inputStream.readAllBytes());
+    }
+
+    public static ClassFileInfo read(byte[] classBytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(classBytes));
+
+        if (in.readInt() != MAGIC) {
+            throw new IOException("arquivo não é uma classe Java");
+        }
+        in.readUnsignedShort();
+        in.readUnsignedShort();
+
+        int poolCount = in.readUnsignedShort();
+        String[] utf8 = new String[poolCount];
+        int[] classNameIndex = new int[poolCount];
+
+        for (int index = 1; index < poolCount; index++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1 -> utf8[index] = in.readUTF();
+                case 7 -> classNameIndex[index] = in.readUnsignedShort();
+                case 8, 16, 19, 20 -> in.skipNBytes(2);
+                case 15 -> in.skipNBytes(3);
+                case 3, 4, 9, 10, 11, 12, 17, 18 -> in.skipNBytes(4);
+                case 5, 6 -> {
+                    in.skipNBytes(8);
+                    index++;
+                }
+                default -> throw new IOException("tag de constant pool desconhecida: " + tag);
+            }
+        }
+
+        int accessFlags = in.readUnsignedShort();
+        String className = internalToName(utf8[classNameIndex[in.readUnsignedShort()]]);
+        int superIndex = in.readUnsignedShort();
+        String superClassName = (superIndex != 0) ? internalToName(utf8[classNameIndex[superIndex]]) : null;
+
+        in.skipNBytes(2L * in.readUnsignedShort());
+        skipMembers(in);
+        skipMembers(in);
+
+        List<String> annotationTypes = new ArrayList<>();
+        int attributesCount = in.readUnsignedShort();
+        for (int i = 0; i < attributesCount; i++) {
+            String name = utf8[in.readUnsignedShort()];
+            int length = in.readInt();
+
+            if (!RUNTIME_VISIBLE_ANNOTATIONS.equals(name)) {
+                in.skipNBytes(length);
+                continue;
+            }
+
+            int annotations = in.readUnsignedShort();
+            for (int a = 0; a < annotations; a++) {
+                annotationTypes.add(descriptorToName(utf8[in.readUnsignedShort()]));
+                skipElementValuePairs(in);
+            }
+        }
+
+        return new ClassFileInfo(className, superClassName, accessFlags, List.copyOf(annotationTypes));
+    }
+
+    private static void skipMembers(DataInputStream in) throws IOException {
+        int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            in.skipNBytes(6);
+            int attributes = in.readUnsignedShort();
+            for (int a = 0; a < attributes; a++) {
+                in.skipNBytes(2);
+                in.skipNBytes(Integer.toUnsignedLong(in.readInt()));
+            }
+        }
+    }
+
+    private static void skipElementValuePairs(DataInputStream in) throws IOException {
+        int pairs = in.readUnsignedShort();
+        for (int p = 0; p < pairs; p++) {
+            in.skipNBytes(2);
+            skipElementValue(in);
+        }
+    }
+
+    private static void skipElementValue(DataInputStream in) throws IOException {
+        int tag = in.readUnsignedByte();
+        switch (tag) {
+            case 'B', 'C', 'D', 'F', 'I', 'J', 'S', 'Z', 's', 'c' -> in.skipNBytes(2);
+            case 'e' -> in.skipNBytes(4);
+            case '@' -> {
+                in.skipNBytes(2);
+                skipElementValuePairs(in);
+            }
+            case '[' -> {
+                int values = in.readUnsignedShort();
+                for (int v = 0; v < values; v++) {
+                    skipElementValue(in);
+                }
+            }
+            default -> throw new IOException("element_value desconhecido: " + (char) tag);
+        }
+    }
+
+    private static String internalToName(String internalName) {
+        return internalName.replace('/', '.');
+    }
+
+    private static String descriptorToName(String descriptor) {
+        if (descriptor.length() > 2 && descriptor.charAt(0) == 'L' && descriptor.endsWith(";")) {
+            return internalToName(descriptor.substring(1, descriptor.length() - 1));
+        }
+        return internalToName(descriptor);
+    }
+}
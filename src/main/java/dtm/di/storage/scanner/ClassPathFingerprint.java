@@ -0,0 +1,134 @@
+package dtm.di.storage.scanner;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Identidade de uma entrada do classpath (jar ou diretório de classes).
+ *
+ * Para jars o hash é calculado sobre o diretório central (nome, CRC32 e tamanho de cada
+ * entrada), que já descreve o conteúdo sem exigir a leitura das classes. Para diretórios
+ * o hash cobre caminho relativo, tamanho e data de cada arquivo {@code .class}.
+ */
+public record ClassPathFingerprint(String path, long size, long lastModified, String hash) {
+
+    public static ClassPathFingerprint of(Path root) throws IOException {
+        Path normalized = root.toAbsolutePath().normalize();
+
+        if (Files.isDirectory(normalized)) {
+            return ofDirectory(normalized);
+        }
+
+        return ofJar(normalized);
+    }
+
+    /**
+     * Fingerprint de um jar já mapeado; produz o mesmo hash de {@link #of(Path)} sem reabrir o arquivo.
+     */
+    public static ClassPathFingerprint of(MappedJarFile jarFile) throws IOException {
+        Path jar = jarFile.getPath().toAbsolutePath().normalize();
+        MessageDigest digest = newDigest();
+
+        for (MappedJarFile.Entry entry : jarFile.entries()) {
+            digest.update(entry.name().getBytes(StandardCharsets.UTF_8));
+            updateLong(digest, entry.crc());
+            updateLong(digest, entry.size());
+        }
+
+        return new ClassPathFingerprint(
+                jar.toString(),
+                Files.size(jar),
+                Files.getLastModifiedTime(jar).toMillis(),
+                HexFormat.of().formatHex(digest.digest())
+        );
+    }
+
+    public boolean sameAs(ClassPathFingerprint other) {
+        return other != null
+                && path.equals(other.path)
+                && size == other.size
+                && lastModified == other.lastModified
+                && hash.equals(other.hash);
+    }
+
+    private static ClassPathFingerprint ofJar(Path jar) throws IOException {
+        MessageDigest digest = newDigest();
+
+        try (ZipFile zipFile = new ZipFile(jar.toFile())) {
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                digest.update(entry.getName().getBytes(StandardCharsets.UTF_8));
+                updateLong(digest, entry.getCrc());
+                updateLong(digest, entry.getSize());
+            }
+        }
+
+        return new ClassPathFingerprint(
+                jar.toString(),
+                Files.size(jar),
+                Files.getLastModifiedTime(jar).toMillis(),
+                HexFormat.of().formatHex(digest.digest())
+        );
+    }
+
+    private static ClassPathFingerprint ofDirectory(Path directory) throws IOException {
+        MessageDigest digest = newDigest();
+        List<Path> classFiles;
+
+        try (Stream<Path> walk = Files.walk(directory)) {
+            classFiles = new ArrayList<>(walk
+                    .filter(path -> path.toString().endsWith(".class"))
+                    .sorted()
+                    .toList());
+        }
+
+        long lastModified = 0;
+        for (Path classFile : classFiles) {
+            long modified = Files.getLastModifiedTime(classFile).toMillis();
+            digest.update(directory.relativize(classFile).toString().getBytes(StandardCharsets.UTF_8));
+            updateLong(digest, Files.size(classFile));
+            updateLong(digest, modified);
+            lastModified = Math.max(lastModified, modified);
+        }
+
+        return new ClassPathFingerprint(
+                directory.toString(),
+                classFiles.size(),
+                lastModified,
+                HexFormat.of().formatHex(digest.digest())
+        );
+    }
+
+    /**
+     * SHA-256 em hexadecimal de {@code value} codificado em UTF-8, o mesmo formato de {@link #hash()}.
+     */
+    static String sha256Hex(String value) {
+        return HexFormat.of().formatHex(newDigest().digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static void updateLong(MessageDigest digest, long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            digest.update((byte) (value >>> shift));
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
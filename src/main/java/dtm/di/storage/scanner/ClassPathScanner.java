@@ -0,0 +1,414 @@
+package dtm.di.storage.scanner;
+
+import dtm.discovery.core.ClassFinderConfigurations;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Varredura de classes própria do container, usada no lugar do {@code ClassFinder} quando
+ * {@link ClassScanOptions#useClassPathScanner()} está ativo.
+ *
+ * Cada {@link ScanRoot} é processado em paralelo. Se o {@link ScanIndex} tiver um registro
+ * com o mesmo {@link ClassPathFingerprint}, os candidatos gravados são usados sem abrir as
+ * classes; caso contrário a entrada é varrida e o índice é atualizado. Ao final apenas os
+ * candidatos são carregados (sem inicialização) e retornados.
+ *
+ * O escopo da varredura combina os pacotes incluídos de {@link ClassScanOptions#getScanPackages()}
+ * com os pacotes e jars ignorados da {@link ClassFinderConfigurations}. Com pacotes incluídos,
+ * jars sem nenhuma entrada nesses pacotes são descartados apenas pelo diretório do jar.
+ *
+ * Raízes de plugin ({@link PluginClassLoader}) são lidas direto do {@link MappedJarFile}.
+ *
+ * Limitação: jars aninhados dentro de outro jar não são expandidos.
+ */
+@Slf4j
+public class ClassPathScanner {
+
+    private final ClassFinderConfigurations configurations;
+    private final ClassScanOptions options;
+    private final CandidateDetector detector;
+    private final Executor executor;
+    private final List<String> includePackages;
+    private final List<String> includePaths;
+
+    public ClassPathScanner(
+            ClassFinderConfigurations configurations,
+            ClassScanOptions options,
+            CandidateDetector detector,
+            Executor executor
+    ) {
+        this.configurations = configurations;
+        this.options = (options != null) ? options : ClassScanOptions.defaults();
+        this.detector = (detector != null) ? detector : CandidateDetector.loadingClasses();
+        this.executor = executor;
+        this.includePackages = this.options.hasScanPackages() ? this.options.getScanPackages() : List.of();
+        this.includePaths = this.includePackages.stream()
+                .map(pkg -> pkg.replace('.', '/') + "/")
+                .toList();
+    }
+
+    /**
+     * Entradas do {@code java.class.path} mais a origem da classe principal, quando ela
+     * estiver fora do classpath.
+     */
+    public static List<ScanRoot> classPathRoots(Class<?> mainClass) {
+        ClassLoader classLoader = (mainClass != null && mainClass.getClassLoader() != null)
+                ? mainClass.getClassLoader()
+                : Thread.currentThread().getContextClassLoader();
+
+        Set<Path> paths = new LinkedHashSet<>();
+        String classPath = System.getProperty("java.class.path", "");
+
+        for (String element : classPath.split(File.pathSeparator)) {
+            if (element.isBlank()) continue;
+            Path path = Path.of(element).toAbsolutePath().normalize();
+            if (Files.exists(path)) {
+                paths.add(path);
+            }
+        }
+
+        Path mainRoot = codeSourceOf(mainClass);
+        if (mainRoot != null) {
+            paths.add(mainRoot);
+        }
+
+        List<ScanRoot> roots = new ArrayList<>(paths.size());
+        for (Path path : paths) {
+            roots.add(new ScanRoot(path, classLoader));
+        }
+        return roots;
+    }
+
+    public Set<Class<?>> scan(List<ScanRoot> roots) {
+        ScanIndex index = options.isIndexEnabled() ? ScanIndex.load(options.getIndexFile(), scopeKey()) : ScanIndex.empty();
+        AtomicInteger reused = new AtomicInteger();
+        AtomicInteger rescanned = new AtomicInteger();
+        Map<ScanRoot, List<String>> candidatesByRoot = new ConcurrentHashMap<>();
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(roots.size());
+        for (ScanRoot root : roots) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                List<String> candidates = scanRoot(root, index, reused, rescanned);
+                if (!candidates.isEmpty()) {
+                    candidatesByRoot.put(root, candidates);
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        if (options.isIndexEnabled()) {
+            List<String> livePaths = roots.stream()
+                    .map(root -> root.path().toAbsolutePath().normalize().toString())
+                    .toList();
+            index.retainPaths(livePaths);
+            index.saveIfDirty();
+        }
+
+        log.debug("Scan de classpath: {} entrada(s) reaproveitada(s) do índice, {} varrida(s)", reused.get(), rescanned.get());
+
+        return loadCandidates(roots, candidatesByRoot);
+    }
+
+    private List<String> scanRoot(ScanRoot root, ScanIndex index, AtomicInteger reused, AtomicInteger rescanned) {
+        Path path = root.path();
+
+        if (isIgnoredRoot(path)) {
+            return List.of();
+        }
+
+        try {
+            MappedJarFile mappedJar = (root.classLoader() instanceof PluginClassLoader plugin) ? plugin.getJarFile(path) : null;
+
+            if (!includePaths.isEmpty() && !containsIncludedPackage(path, mappedJar)) {
+                return List.of();
+            }
+
+            ClassPathFingerprint fingerprint = null;
+            if (options.isIndexEnabled()) {
+                fingerprint = (mappedJar != null) ? ClassPathFingerprint.of(mappedJar) : ClassPathFingerprint.of(path);
+            }
+
+            if (fingerprint != null) {
+                List<String> cached = index.lookup(fingerprint);
+                if (cached != null) {
+                    reused.incrementAndGet();
+                    return cached;
+                }
+            }
+
+            List<String> candidates;
+            if (mappedJar != null) {
+                candidates = scanMappedJar(mappedJar, root.classLoader());
+            } else if (Files.isDirectory(path)) {
+                candidates = scanDirectory(path, root.classLoader());
+            } else {
+                candidates = scanJar(path, root.classLoader());
+            }
+            rescanned.incrementAndGet();
+
+            if (fingerprint != null) {
+                index.put(fingerprint, candidates);
+            }
+
+            return candidates;
+        } catch (IOException e) {
+            log.warn("Falha ao varrer entrada do classpath {}: {}", path, e.getMessage());
+            return List.of();
+        }
+    }
+
+    private List<String> scanDirectory(Path directory, ClassLoader classLoader) throws IOException {
+        List<String> candidates = new ArrayList<>();
+        List<Path> starts = new ArrayList<>();
+
+        if (includePaths.isEmpty()) {
+            starts.add(directory);
+        } else {
+            for (String includePath : includePaths) {
+                Path start = directory.resolve(includePath);
+                if (Files.isDirectory(start)) {
+                    starts.add(start);
+                }
+            }
+        }
+
+        for (Path start : starts) {
+            scanDirectory(directory, start, classLoader, candidates);
+        }
+
+        return candidates;
+    }
+
+    private void scanDirectory(Path directory, Path start, ClassLoader classLoader, List<String> candidates) throws IOException {
+        try (Stream<Path> walk = Files.walk(start)) {
+            Iterator<Path> iterator = walk.filter(path -> path.toString().endsWith(".class")).iterator();
+            while (iterator.hasNext()) {
+                Path classFile = iterator.next();
+                String className = toClassName(directory.relativize(classFile).toString().replace(File.separatorChar, '/'));
+                if (className == null || !isInScope(className)) continue;
+
+                if (detector.isCandidate(className, () -> Files.newInputStream(classFile), classLoader)) {
+                    candidates.add(className);
+                }
+            }
+        }
+    }
+
+    private List<String> scanJar(Path jar, ClassLoader classLoader) throws IOException {
+        List<String> candidates = new ArrayList<>();
+
+        try (ZipFile zipFile = new ZipFile(jar.toFile())) {
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                if (entry.isDirectory()) continue;
+
+                String className = toClassName(entry.getName());
+                if (className == null || !isInScope(className)) continue;
+
+                if (detector.isCandidate(className, () -> zipFile.getInputStream(entry), classLoader)) {
+                    candidates.add(className);
+                }
+            }
+        }
+
+        return candidates;
+    }
+
+    private List<String> scanMappedJar(MappedJarFile jarFile, ClassLoader classLoader) {
+        List<String> candidates = new ArrayList<>();
+
+        for (MappedJarFile.Entry entry : jarFile.entries()) {
+            if (entry.isDirectory()) continue;
+
+            String className = toClassName(entry.name());
+            if (className == null || !isInScope(className)) continue;
+
+            if (detector.isCandidate(className, () -> new ByteArrayInputStream(jarFile.read(entry)), classLoader)) {
+                candidates.add(className);
+            }
+        }
+
+        return candidates;
+    }
+
+    private Set<Class<?>> loadCandidates(List<ScanRoot> roots, Map<ScanRoot, List<String>> candidatesByRoot) {
+        Set<Class<?>> classes = ConcurrentHashMap.newKeySet();
+
+        for (ScanRoot root : roots) {
+            List<String> candidates = candidatesByRoot.get(root);
+            if (candidates == null) continue;
+
+            for (String className : candidates) {
+                try {
+                    classes.add(Class.forName(className, false, root.classLoader()));
+                } catch (ClassNotFoundException | LinkageError e) {
+                    log.warn("Classe candidata não pôde ser carregada: {} ==> {}", className, e.getMessage());
+                }
+            }
+        }
+
+        return classes;
+    }
+
+    private boolean isIgnoredRoot(Path path) {
+        if (Files.isDirectory(path)) {
+            return false;
+        }
+
+        String fileName = path.getFileName().toString();
+        if (!fileName.endsWith(".jar")) {
+            return true;
+        }
+
+        for (String term : configurations.getIgnoreJarsTerms()) {
+            if (term != null && !term.isEmpty() && fileName.contains(term)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean containsIncludedPackage(Path root, MappedJarFile mappedJar) throws IOException {
+        if (mappedJar != null) {
+            for (MappedJarFile.Entry entry : mappedJar.entries()) {
+                for (String includePath : includePaths) {
+                    if (entry.name().startsWith(includePath)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        if (Files.isDirectory(root)) {
+            for (String includePath : includePaths) {
+                if (Files.isDirectory(root.resolve(includePath))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        try (ZipFile zipFile = new ZipFile(root.toFile())) {
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                String name = entries.nextElement().getName();
+                for (String includePath : includePaths) {
+                    if (name.startsWith(includePath)) {
+                        return true;
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private boolean isInScope(String className) {
+        if (!includePackages.isEmpty()) {
+            boolean included = false;
+            for (String includePackage : includePackages) {
+                if (className.startsWith(includePackage + ".")) {
+                    included = true;
+                    break;
+                }
+            }
+            if (!included) {
+                return false;
+            }
+        }
+
+        return !isIgnoredClass(className);
+    }
+
+    /**
+     * Chave do escopo gravada no índice: mudar o detector de candidatos, a regra de estereótipos,
+     * pacotes incluídos/ignorados, jars ignorados ou a inclusão de classes anônimas invalida os
+     * candidatos registrados. É a chave usada por {@link #scan(List)} para abrir o
+     * {@link ScanIndex}, gravada como SHA-256 das partes para que escopos distintos não colidam.
+     */
+    public String scopeKey() {
+        List<String> parts = new ArrayList<>();
+        parts.add("detector=" + detector.scopeId());
+        parts.add("stereotypes=" + KernonStereotypes.ANNOTATIONS_PACKAGE);
+        parts.add("include=" + String.join(",", new TreeSet<>(includePackages)));
+        parts.add("ignorePackages=" + String.join(",", new TreeSet<>(nonNull(configurations.getIgnorePackges()))));
+        parts.add("ignoreJars=" + String.join(",", new TreeSet<>(nonNull(configurations.getIgnoreJarsTerms()))));
+        parts.add("anonymous=" + configurations.getAnonimousClass());
+        return ClassPathFingerprint.sha256Hex(String.join(";", parts));
+    }
+
+    private static List<String> nonNull(List<String> values) {
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream().filter(Objects::nonNull).toList();
+    }
+
+    private boolean isIgnoredClass(String className) {
+        if (!configurations.getAnonimousClass() && isAnonymous(className)) {
+            return true;
+        }
+
+        for (String ignoredPackage : configurations.getIgnorePackges()) {
+            if (ignoredPackage != null && !ignoredPackage.isEmpty() && className.startsWith(ignoredPackage)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isAnonymous(String className) {
+        int index = className.lastIndexOf('$');
+        return index >= 0
+                && index + 1 < className.length()
+                && Character.isDigit(className.charAt(index + 1));
+    }
+
+    static String toClassName(String entryName) {
+        if (!entryName.endsWith(".class") || entryName.startsWith("META-INF/")) {
+            return null;
+        }
+
+        String className = entryName.substring(0, entryName.length() - ".class".length()).replace('/', '.');
+        if (className.endsWith("module-info") || className.endsWith("package-info")) {
+            return null;
+        }
+
+        return className;
+    }
+
+    private static Path codeSourceOf(Class<?> mainClass) {
+        if (mainClass == null) {
+            return null;
+        }
+
+        try {
+            CodeSource codeSource = mainClass.getProtectionDomain().getCodeSource();
+            if (codeSource == null || codeSource.getLocation() == null) {
+                return null;
+            }
+            return Path.of(codeSource.getLocation().toURI()).toAbsolutePath().normalize();
+        } catch (URISyntaxException | RuntimeException e) {
+            return null;
+        }
+    }
+}
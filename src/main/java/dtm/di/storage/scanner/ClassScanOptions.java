@@ -0,0 +1,107 @@
+package dtm.di.storage.scanner;
+
+import dtm.di.settings.AppSettings;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Opções da descoberta de classes do container padrão.
+ *
+ * Sem nenhuma opção ativa o container mantém a varredura do {@code ClassFinder}. Com
+ * {@link #indexFile} definido a descoberta passa pelo {@link ClassPathScanner}, que
+ * reaproveita entre boots o resultado de jars e diretórios inalterados. Com
+ * {@link #bytecodeScan} as anotações são lidas do bytecode e só as classes candidatas
+ * chegam a ser carregadas. Com {@link #scanPackages} apenas os pacotes informados (e seus
+ * subpacotes) são varridos e jars sem nenhuma entrada nesses pacotes são descartados pela
+ * leitura do diretório do jar. Com {@link #mappedPlugins} as pastas de plugin são abertas
+ * em paralelo por {@link PluginJarLoader}, mesmo quando o classpath ainda usa o
+ * {@code ClassFinder}; com o {@link ClassPathScanner} ativo esse é sempre o caminho usado.
+ *
+ * Propriedades lidas de {@code settings.json}:
+ * <ul>
+ *     <li>{@code dependencyContainer.scan.indexFile} - arquivo do índice persistente.</li>
+ *     <li>{@code dependencyContainer.scan.bytecode} - leitura de anotações pelo bytecode.</li>
+ *     <li>{@code dependencyContainer.scan.packages} - pacotes base incluídos na varredura.</li>
+ *     <li>{@code dependencyContainer.scan.mappedPlugins} - carga mapeada e paralela de plugins.</li>
+ * </ul>
+ */
+@Getter
+@Builder(toBuilder = true)
+public class ClassScanOptions {
+
+    public static final String INDEX_FILE_PROPERTY = "dependencyContainer.scan.indexFile";
+    public static final String BYTECODE_PROPERTY = "dependencyContainer.scan.bytecode";
+    public static final String PACKAGES_PROPERTY = "dependencyContainer.scan.packages";
+    public static final String MAPPED_PLUGINS_PROPERTY = "dependencyContainer.scan.mappedPlugins";
+
+    private final Path indexFile;
+    private final boolean bytecodeScan;
+    private final boolean mappedPlugins;
+
+    @Builder.Default
+    private final List<String> scanPackages = List.of();
+
+    public static ClassScanOptions defaults() {
+        return ClassScanOptions.builder().build();
+    }
+
+    public static ClassScanOptions fromSettings(AppSettings settings) {
+        if (settings == null) {
+            return defaults();
+        }
+
+        String indexFile = settings.getString(INDEX_FILE_PROPERTY, null);
+
+        return ClassScanOptions.builder()
+                .indexFile((indexFile != null && !indexFile.isBlank()) ? Path.of(indexFile.trim()) : null)
+                .bytecodeScan(settings.getBoolean(BYTECODE_PROPERTY, false))
+                .scanPackages(normalizePackages(settings.getObject(PACKAGES_PROPERTY, String[].class)))
+                .mappedPlugins(settings.getBoolean(MAPPED_PLUGINS_PROPERTY, false))
+                .build();
+    }
+
+    /**
+     * Remove vazios, espaços e duplicados; aceita valores separados por vírgula.
+     */
+    public static List<String> normalizePackages(String... packages) {
+        if (packages == null || packages.length == 0) {
+            return List.of();
+        }
+
+        return Arrays.stream(packages)
+                .filter(Objects::nonNull)
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    public boolean isIndexEnabled() {
+        return indexFile != null;
+    }
+
+    /**
+     * Indica se a descoberta deve usar o {@link ClassPathScanner} em vez do {@code ClassFinder}.
+     */
+    public boolean useClassPathScanner() {
+        return isIndexEnabled() || bytecodeScan || hasScanPackages();
+    }
+
+    public boolean useMappedPluginLoader() {
+        return mappedPlugins || useClassPathScanner();
+    }
+
+    public boolean hasScanPackages() {
+        return scanPackages != null && !scanPackages.isEmpty();
+    }
+
+    public CandidateDetector newCandidateDetector() {
+        return bytecodeScan ? new BytecodeCandidateDetector() : CandidateDetector.loadingClasses();
+    }
+}
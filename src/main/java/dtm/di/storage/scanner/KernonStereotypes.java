@@ -0,0 +1,54 @@
+package dtm.di.storage.scanner;
+
+import java.lang.annotation.Annotation;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Regra de candidatura da descoberta: uma classe interessa ao container quando declara
+ * alguma anotação do pacote {@code dtm.di.annotations}, diretamente ou por meta-anotação.
+ *
+ * Isso cobre componentes, configurações, aspectos, {@code @Import}, {@code @Schedule},
+ * {@code @ControllerAdvice} e {@code @ExceptionHandler}, que são os filtros aplicados
+ * depois sobre {@code getLoadedSystemClasses()}.
+ */
+public final class KernonStereotypes {
+
+    public static final String ANNOTATIONS_PACKAGE = "dtm.di.annotations.";
+
+    private KernonStereotypes() {
+        throw new IllegalStateException("utility class");
+    }
+
+    public static boolean isKernonAnnotationName(String annotationClassName) {
+        return annotationClassName != null && annotationClassName.startsWith(ANNOTATIONS_PACKAGE);
+    }
+
+    public static boolean isStereotyped(Class<?> clazz) {
+        Set<Class<?>> visiting = new HashSet<>();
+        for (Annotation annotation : clazz.getAnnotations()) {
+            if (isKernonAnnotation(annotation.annotationType(), visiting)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isKernonAnnotation(Class<? extends Annotation> annotationType, Set<Class<?>> visiting) {
+        if (isKernonAnnotationName(annotationType.getName())) {
+            return true;
+        }
+
+        if (annotationType.getName().startsWith("java.lang.annotation.") || !visiting.add(annotationType)) {
+            return false;
+        }
+
+        for (Annotation meta : annotationType.getAnnotations()) {
+            if (isKernonAnnotation(meta.annotationType(), visiting)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,197 @@
+package dtm.di.storage.scanner;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Jar mapeado em memória por {@link FileChannel#map}. O diretório central é lido uma vez na
+ * abertura e o conteúdo das entradas é lido direto do buffer mapeado, sem {@code ZipFile}.
+ *
+ * Suporta entradas armazenadas e deflate, inclusive ZIP64. Instâncias são imutáveis após a
+ * abertura e podem ser lidas por várias threads.
+ */
+public final class MappedJarFile {
+
+    private static final int EOCD_SIGNATURE = 0x06054b50;
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int ZIP64_EOCD_SIGNATURE = 0x06064b50;
+    private static final int CENTRAL_SIGNATURE = 0x02014b50;
+    private static final int LOCAL_SIGNATURE = 0x04034b50;
+    private static final int STORED = 0;
+    private static final int DEFLATED = 8;
+
+    private final Path path;
+    private final ByteBuffer buffer;
+    private final Map<String, Entry> entries;
+
+    public record Entry(String name, int method, long crc, long compressedSize, long size, long localHeaderOffset) {
+        public boolean isDirectory() {
+            return name.endsWith("/");
+        }
+    }
+
+    private MappedJarFile(Path path, ByteBuffer buffer, Map<String, Entry> entries) {
+        this.path = path;
+        this.buffer = buffer;
+        this.entries = entries;
+    }
+
+    public static MappedJarFile open(Path path) throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        ByteBuffer buffer = mapped.order(ByteOrder.LITTLE_ENDIAN);
+        return new MappedJarFile(path, buffer, readCentralDirectory(buffer, path));
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Entradas na ordem do diretório central.
+     */
+    public Collection<Entry> entries() {
+        return Collections.unmodifiableCollection(entries.values());
+    }
+
+    public Entry getEntry(String name) {
+        return entries.get(name);
+    }
+
+    public byte[] read(Entry entry) throws IOException {
+        ByteBuffer view = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        int local = Math.toIntExact(entry.localHeaderOffset());
+
+        if (view.getInt(local) != LOCAL_SIGNATURE) {
+            throw new IOException("cabeçalho local inválido para " + entry.name() + " em " + path);
+        }
+
+        int nameLength = Short.toUnsignedInt(view.getShort(local + 26));
+        int extraLength = Short.toUnsignedInt(view.getShort(local + 28));
+        int dataStart = local + 30 + nameLength + extraLength;
+        int compressedSize = Math.toIntExact(entry.compressedSize());
+
+        ByteBuffer data = view.slice(dataStart, compressedSize);
+
+        if (entry.method() == STORED) {
+            byte[] bytes = new byte[compressedSize];
+            data.get(bytes);
+            return bytes;
+        }
+
+        if (entry.method() != DEFLATED) {
+            throw new IOException("método de compressão não suportado (" + entry.method() + ") para " + entry.name());
+        }
+
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(data);
+            byte[] bytes = new byte[Math.toIntExact(entry.size())];
+            int offset = 0;
+            while (offset < bytes.length) {
+                int read = inflater.inflate(bytes, offset, bytes.length - offset);
+                if (read == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                offset += read;
+            }
+            if (offset != bytes.length) {
+                throw new IOException("entrada truncada: " + entry.name() + " em " + path);
+            }
+            return bytes;
+        } catch (DataFormatException e) {
+            throw new IOException("entrada corrompida: " + entry.name() + " em " + path, e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static Map<String, Entry> readCentralDirectory(ByteBuffer buffer, Path path) throws IOException {
+        int eocd = findEndOfCentralDirectory(buffer);
+        if (eocd < 0) {
+            throw new IOException("diretório central não encontrado em " + path);
+        }
+
+        long count = Short.toUnsignedInt(buffer.getShort(eocd + 10));
+        long offset = Integer.toUnsignedLong(buffer.getInt(eocd + 16));
+
+        int locator = eocd - 20;
+        if (locator >= 0 && buffer.getInt(locator) == ZIP64_LOCATOR_SIGNATURE) {
+            int zip64 = Math.toIntExact(buffer.getLong(locator + 8));
+            if (buffer.getInt(zip64) == ZIP64_EOCD_SIGNATURE) {
+                count = buffer.getLong(zip64 + 32);
+                offset = buffer.getLong(zip64 + 48);
+            }
+        }
+
+        Map<String, Entry> entries = new LinkedHashMap<>((int) Math.min(count * 2, Integer.MAX_VALUE));
+        int position = Math.toIntExact(offset);
+
+        for (long i = 0; i < count; i++) {
+            if (buffer.getInt(position) != CENTRAL_SIGNATURE) {
+                throw new IOException("entrada inválida no diretório central de " + path);
+            }
+
+            int method = Short.toUnsignedInt(buffer.getShort(position + 10));
+            long crc = Integer.toUnsignedLong(buffer.getInt(position + 16));
+            long compressedSize = Integer.toUnsignedLong(buffer.getInt(position + 20));
+            long size = Integer.toUnsignedLong(buffer.getInt(position + 24));
+            int nameLength = Short.toUnsignedInt(buffer.getShort(position + 28));
+            int extraLength = Short.toUnsignedInt(buffer.getShort(position + 30));
+            int commentLength = Short.toUnsignedInt(buffer.getShort(position + 32));
+            long localOffset = Integer.toUnsignedLong(buffer.getInt(position + 42));
+
+            byte[] nameBytes = new byte[nameLength];
+            buffer.get(position + 46, nameBytes);
+            String name = new String(nameBytes, StandardCharsets.UTF_8);
+
+            if (size == 0xFFFFFFFFL || compressedSize == 0xFFFFFFFFL || localOffset == 0xFFFFFFFFL) {
+                int extra = position + 46 + nameLength;
+                int extraEnd = extra + extraLength;
+                while (extra + 4 <= extraEnd) {
+                    int headerId = Short.toUnsignedInt(buffer.getShort(extra));
+                    int dataSize = Short.toUnsignedInt(buffer.getShort(extra + 2));
+                    if (headerId == 0x0001) {
+                        int field = extra + 4;
+                        if (size == 0xFFFFFFFFL) { size = buffer.getLong(field); field += 8; }
+                        if (compressedSize == 0xFFFFFFFFL) { compressedSize = buffer.getLong(field); field += 8; }
+                        if (localOffset == 0xFFFFFFFFL) { localOffset = buffer.getLong(field); }
+                        break;
+                    }
+                    extra += 4 + dataSize;
+                }
+            }
+
+            entries.put(name, new Entry(name, method, crc, compressedSize, size, localOffset));
+            position += 46 + nameLength + extraLength + commentLength;
+        }
+
+        return entries;
+    }
+
+    private static int findEndOfCentralDirectory(ByteBuffer buffer) {
+        int limit = buffer.limit();
+        int stop = Math.max(0, limit - 22 - 0xFFFF);
+        for (int position = limit - 22; position >= stop; position--) {
+            if (buffer.getInt(position) == EOCD_SIGNATURE) {
+                return position;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,137 @@
+package dtm.di.storage.scanner;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.security.ProtectionDomain;
+import java.security.cert.Certificate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class loader de uma pasta de plugin, lendo as classes dos {@link MappedJarFile}s da pasta.
+ *
+ * Todos os jars da pasta compartilham o loader, então um plugin distribuído em vários jars
+ * resolve as próprias classes entre eles; com o mesmo nome em dois jars vale o primeiro na
+ * ordem dos arquivos. O pai é o class loader da aplicação: o plugin enxerga as classes da
+ * aplicação e as da própria pasta, mas não as de outras pastas. Recursos são expostos como
+ * URLs {@code jar:} do arquivo original.
+ */
+public class PluginClassLoader extends ClassLoader {
+
+    static {
+        ClassLoader.registerAsParallelCapable();
+    }
+
+    private final Map<Path, MappedJarFile> jarFiles;
+    private final Map<MappedJarFile, ProtectionDomain> protectionDomains;
+
+    public PluginClassLoader(String name, List<MappedJarFile> jarFiles, ClassLoader parent) {
+        super("plugin:" + name, parent);
+        this.jarFiles = new LinkedHashMap<>();
+        this.protectionDomains = new LinkedHashMap<>();
+        for (MappedJarFile jarFile : jarFiles) {
+            this.jarFiles.put(jarFile.getPath().toAbsolutePath().normalize(), jarFile);
+            this.protectionDomains.put(jarFile, new ProtectionDomain(new CodeSource(toUrl(jarFile), (Certificate[]) null), null, this, null));
+        }
+    }
+
+    /**
+     * Jar mapeado de {@code path}, ou {@code null} quando o jar não pertence a este loader.
+     */
+    public MappedJarFile getJarFile(Path path) {
+        return jarFiles.get(path.toAbsolutePath().normalize());
+    }
+
+    public List<MappedJarFile> getJarFiles() {
+        return List.copyOf(jarFiles.values());
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        String entryName = name.replace('.', '/') + ".class";
+        for (MappedJarFile jarFile : jarFiles.values()) {
+            MappedJarFile.Entry entry = jarFile.getEntry(entryName);
+            if (entry == null) continue;
+
+            try {
+                byte[] bytes = jarFile.read(entry);
+                definePackageIfAbsent(name);
+                return defineClass(name, ByteBuffer.wrap(bytes), protectionDomains.get(jarFile));
+            } catch (IOException e) {
+                throw new ClassNotFoundException(name, e);
+            }
+        }
+
+        throw new ClassNotFoundException(name);
+    }
+
+    @Override
+    protected URL findResource(String name) {
+        for (MappedJarFile jarFile : jarFiles.values()) {
+            URL url = resourceUrl(jarFile, name);
+            if (url != null) {
+                return url;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    protected Enumeration<URL> findResources(String name) {
+        List<URL> urls = new ArrayList<>();
+        for (MappedJarFile jarFile : jarFiles.values()) {
+            URL url = resourceUrl(jarFile, name);
+            if (url != null) {
+                urls.add(url);
+            }
+        }
+        return Collections.enumeration(urls);
+    }
+
+    private static URL resourceUrl(MappedJarFile jarFile, String name) {
+        if (jarFile.getEntry(name) == null) {
+            return null;
+        }
+
+        try {
+            return URI.create("jar:" + jarFile.getPath().toUri() + "!/" + name).toURL();
+        } catch (MalformedURLException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void definePackageIfAbsent(String className) {
+        int index = className.lastIndexOf('.');
+        if (index <= 0) {
+            return;
+        }
+
+        String packageName = className.substring(0, index);
+        if (getDefinedPackage(packageName) != null) {
+            return;
+        }
+
+        try {
+            definePackage(packageName, null, null, null, null, null, null, null);
+        } catch (IllegalArgumentException alreadyDefined) {
+            // outra thread definiu o pacote primeiro
+        }
+    }
+
+    private static URL toUrl(MappedJarFile jarFile) {
+        try {
+            return jarFile.getPath().toUri().toURL();
+        } catch (MalformedURLException e) {
+            return null;
+        }
+    }
+}
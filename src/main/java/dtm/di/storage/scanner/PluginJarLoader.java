@@ -0,0 +1,101 @@
+package dtm.di.storage.scanner;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Abre os jars das pastas de plugin em paralelo. Cada jar é mapeado em memória e tem o
+ * diretório central lido uma vez; cada pasta recebe um único {@link PluginClassLoader} sobre
+ * todos os seus jars, para que um plugin dividido em vários jars enxergue as próprias classes.
+ *
+ * O resultado são {@link ScanRoot}s prontos para o {@link ClassPathScanner}, um por jar, que lê
+ * as entradas direto do jar mapeado.
+ */
+@Slf4j
+public class PluginJarLoader {
+
+    private final Executor executor;
+
+    public PluginJarLoader(Executor executor) {
+        this.executor = executor;
+    }
+
+    public List<ScanRoot> open(Collection<String> folders, ClassLoader parent) {
+        Map<Path, List<Path>> jarsByFolder = listJars(folders);
+        Map<Path, List<CompletableFuture<MappedJarFile>>> futures = new LinkedHashMap<>();
+
+        for (Map.Entry<Path, List<Path>> folder : jarsByFolder.entrySet()) {
+            List<CompletableFuture<MappedJarFile>> mapped = new ArrayList<>(folder.getValue().size());
+            for (Path jar : folder.getValue()) {
+                mapped.add(CompletableFuture.supplyAsync(() -> openJar(jar), executor));
+            }
+            futures.put(folder.getKey(), mapped);
+        }
+
+        List<ScanRoot> roots = new ArrayList<>();
+        for (Map.Entry<Path, List<CompletableFuture<MappedJarFile>>> folder : futures.entrySet()) {
+            List<MappedJarFile> jars = new ArrayList<>(folder.getValue().size());
+            for (CompletableFuture<MappedJarFile> future : folder.getValue()) {
+                MappedJarFile jar = future.join();
+                if (jar != null) {
+                    jars.add(jar);
+                }
+            }
+            if (jars.isEmpty()) continue;
+
+            PluginClassLoader classLoader = new PluginClassLoader(String.valueOf(folder.getKey().getFileName()), jars, parent);
+            for (MappedJarFile jar : jars) {
+                roots.add(new ScanRoot(jar.getPath().toAbsolutePath().normalize(), classLoader));
+            }
+        }
+
+        log.debug("{} jar(s) de plugin mapeado(s) a partir de {} pasta(s)", roots.size(), folders.size());
+        return roots;
+    }
+
+    private MappedJarFile openJar(Path jar) {
+        try {
+            return MappedJarFile.open(jar);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Jar de plugin ignorado: {} ==> {}", jar, e.getMessage());
+            return null;
+        }
+    }
+
+    private static Map<Path, List<Path>> listJars(Collection<String> folders) {
+        Map<Path, List<Path>> jars = new LinkedHashMap<>();
+
+        for (String folder : folders) {
+            Path directory = Path.of(folder).toAbsolutePath().normalize();
+            if (!Files.isDirectory(directory) || jars.containsKey(directory)) continue;
+
+            List<Path> folderJars = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*.jar")) {
+                for (Path jar : stream) {
+                    if (Files.isRegularFile(jar)) {
+                        folderJars.add(jar);
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("Pasta de plugin não pôde ser listada: {} ==> {}", folder, e.getMessage());
+                continue;
+            }
+
+            folderJars.sort(null);
+            jars.put(directory, folderJars);
+        }
+
+        return jars;
+    }
+}
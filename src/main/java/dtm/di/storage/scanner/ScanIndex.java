@@ -0,0 +1,199 @@
+package dtm.di.storage.scanner;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice persistente da varredura de classes.
+ *
+ * Cada entrada do classpath é registrada com seu {@link ClassPathFingerprint} e com os nomes
+ * das classes candidatas (classes com estereótipos Kernon) encontradas nela. Uma entrada cujo
+ * fingerprint não mudou é reaproveitada sem nova varredura.
+ *
+ * Formato (UTF-8, uma linha por registro):
+ * <pre>
+ * kernon-scan-index 1
+ * scope	&lt;chave do escopo&gt;
+ * entry	&lt;path&gt;	&lt;size&gt;	&lt;lastModified&gt;	&lt;hash&gt;	&lt;quantidade&gt;
+ * &lt;classe candidata&gt;
+ * ...
+ * </pre>
+ * Um arquivo ilegível, de outra versão ou gravado com outro escopo de varredura é descartado
+ * e reconstruído.
+ */
+@Slf4j
+public class ScanIndex {
+
+    private static final String HEADER = "kernon-scan-index 1";
+    private static final String ENTRY = "entry";
+    private static final String SCOPE = "scope";
+
+    private final Path file;
+    private final String scope;
+    private final Map<String, IndexEntry> entries;
+    private volatile boolean dirty;
+
+    private ScanIndex(Path file, String scope, Map<String, IndexEntry> entries) {
+        this.file = file;
+        this.scope = (scope != null) ? scope : "";
+        this.entries = entries;
+        this.dirty = false;
+    }
+
+    public static ScanIndex empty() {
+        return new ScanIndex(null, null, new ConcurrentHashMap<>());
+    }
+
+    public static ScanIndex load(Path file) {
+        return load(file, null);
+    }
+
+    public static ScanIndex load(Path file, String scope) {
+        Map<String, IndexEntry> entries = new ConcurrentHashMap<>();
+
+        if (file == null || !Files.isRegularFile(file)) {
+            return new ScanIndex(file, scope, entries);
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            if (!HEADER.equals(reader.readLine())) {
+                log.warn("Índice de scan com versão desconhecida será reconstruído: {}", file);
+                return new ScanIndex(file, scope, entries);
+            }
+
+            String expectedScope = SCOPE + "\t" + ((scope != null) ? scope : "");
+            if (!expectedScope.equals(reader.readLine())) {
+                log.debug("Escopo de scan alterado, índice será reconstruído: {}", file);
+                return new ScanIndex(file, scope, entries);
+            }
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) continue;
+
+                String[] parts = line.split("\t");
+                if (parts.length != 6 || !ENTRY.equals(parts[0])) {
+                    throw new IOException("linha inválida: " + line);
+                }
+
+                ClassPathFingerprint fingerprint = new ClassPathFingerprint(
+                        parts[1],
+                        Long.parseLong(parts[2]),
+                        Long.parseLong(parts[3]),
+                        parts[4]
+                );
+                int count = Integer.parseInt(parts[5]);
+                List<String> candidates = new ArrayList<>(count);
+
+                for (int i = 0; i < count; i++) {
+                    String candidate = reader.readLine();
+                    if (candidate == null) {
+                        throw new IOException("índice truncado em " + fingerprint.path());
+                    }
+                    candidates.add(candidate);
+                }
+
+                entries.put(fingerprint.path(), new IndexEntry(fingerprint, List.copyOf(candidates)));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Índice de scan inválido será reconstruído: {} ==> {}", file, e.getMessage());
+            entries.clear();
+        }
+
+        return new ScanIndex(file, scope, entries);
+    }
+
+    /**
+     * Retorna os candidatos registrados para a entrada, ou {@code null} quando a entrada é
+     * desconhecida ou mudou desde a última gravação.
+     */
+    public List<String> lookup(ClassPathFingerprint fingerprint) {
+        IndexEntry entry = entries.get(fingerprint.path());
+        if (entry == null || !entry.fingerprint().sameAs(fingerprint)) {
+            return null;
+        }
+
+        return entry.candidates();
+    }
+
+    public void put(ClassPathFingerprint fingerprint, Collection<String> candidates) {
+        entries.put(fingerprint.path(), new IndexEntry(fingerprint, List.copyOf(candidates)));
+        dirty = true;
+    }
+
+    /**
+     * Remove entradas que não fazem mais parte do classpath.
+     */
+    public void retainPaths(Collection<String> paths) {
+        if (entries.keySet().retainAll(paths)) {
+            dirty = true;
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void saveIfDirty() {
+        if (!dirty || file == null) {
+            return;
+        }
+
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                writer.write(HEADER);
+                writer.newLine();
+                writer.write(SCOPE + "\t" + scope);
+                writer.newLine();
+
+                for (IndexEntry entry : entries.values()) {
+                    ClassPathFingerprint fingerprint = entry.fingerprint();
+                    writer.write(String.join("\t",
+                            ENTRY,
+                            fingerprint.path(),
+                            Long.toString(fingerprint.size()),
+                            Long.toString(fingerprint.lastModified()),
+                            fingerprint.hash(),
+                            Integer.toString(entry.candidates().size())
+                    ));
+                    writer.newLine();
+
+                    for (String candidate : entry.candidates()) {
+                        writer.write(candidate);
+                        writer.newLine();
+                    }
+                }
+            }
+
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            dirty = false;
+        } catch (IOException e) {
+            log.warn("Falha ao gravar índice de scan {}: {}", file, e.getMessage());
+        }
+    }
+
+    private record IndexEntry(ClassPathFingerprint fingerprint, List<String> candidates) {}
+}
@@ -0,0 +1,8 @@
+package dtm.di.storage.scanner;
+
+import java.nio.file.Path;
+
+/**
+ * Entrada a ser varrida (jar ou diretório de classes) e o class loader que define suas classes.
+ */
+public record ScanRoot(Path path, ClassLoader classLoader) {}
@@ -0,0 +1,71 @@
+package dtm.di.aop;
+
+import dtm.di.prototypes.ProxyObject;
+import dtm.di.storage.containers.DependencyContainerStorage;
+import dtm.di.testsupport.AopChainDynamicAspect;
+import dtm.di.testsupport.AopChainInstanceAspect;
+import dtm.di.testsupport.AopChainInstanceTarget;
+import dtm.di.testsupport.AopChainStaticAspect;
+import dtm.di.testsupport.AopChainTarget;
+import dtm.di.testsupport.ContainerFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AdviceChainCacheTest {
+
+    private DependencyContainerStorage container;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ContainerFixture.resetAopProxyUtils();
+        AopChainStaticAspect.reset();
+        AopChainDynamicAspect.reset();
+        AopChainInstanceAspect.reset();
+
+        container = ContainerFixture.newContainer("aop-chain", "aop-chain-instance");
+        container.enableAOP();
+        container.load();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ContainerFixture.dispose(container);
+        ContainerFixture.resetAopProxyUtils();
+    }
+
+    @Test
+    @DisplayName("Pointcut estatico e avaliado uma vez por metodo e o dinamico uma vez por chamada")
+    void staticPointcutIsCachedAndDynamicRunsOncePerCall() {
+        AopChainTarget target = container.getDependency(AopChainTarget.class);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("x", target.echo("x"));
+            assertEquals(4, target.twice(2));
+        }
+        assertEquals("UP", target.echo("up"));
+
+        assertEquals(1, AopChainStaticAspect.pointcutCalls("echo"));
+        assertEquals(1, AopChainStaticAspect.pointcutCalls("twice"));
+        assertEquals(6, AopChainStaticAspect.beforeCalls());
+        assertEquals(6, AopChainDynamicAspect.pointcutCalls());
+    }
+
+    @Test
+    @DisplayName("Pointcut que recebe a instancia real e reavaliado a cada chamada")
+    void referenceInstancePointcutRunsOncePerCall() {
+        AopChainInstanceTarget target = container.getDependency(AopChainInstanceTarget.class);
+
+        assertEquals("value", target.value());
+        assertEquals(0, AopChainInstanceAspect.beforeCalls());
+
+        AopChainInstanceAspect.select(((ProxyObject) target).getRealInstance());
+        assertEquals("value", target.value());
+
+        assertEquals(2, AopChainInstanceAspect.pointcutCalls());
+        assertEquals(1, AopChainInstanceAspect.beforeCalls());
+    }
+}
@@ -0,0 +1,79 @@
+package dtm.di.aop;
+
+import dtm.di.annotations.aop.ProxyInstance;
+import dtm.di.annotations.aop.ReferenceInstance;
+import dtm.di.annotations.aop.ResultProxy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdviceMethodTest {
+
+    static class SampleAspect {
+        private List<Object> bound(
+                @ProxyInstance Object proxy,
+                @ResultProxy Object result,
+                @ReferenceInstance Object real,
+                Method method,
+                Object[] args,
+                Throwable cause,
+                Callable<?> main,
+                String ignored
+        ) {
+            return Arrays.asList(proxy, result, real, method, args, cause, main, ignored);
+        }
+
+        static boolean matches(Method method) {
+            return method.getName().equals("target");
+        }
+
+        void fail() {
+            throw new IllegalStateException("falhou");
+        }
+    }
+
+    @Test
+    @DisplayName("Binder resolve cada parametro pela posicao e invoca metodo privado")
+    void bindsEverySlotByPosition() throws Exception {
+        AdviceMethod advice = AdviceMethod.of(SampleAspect.class.getDeclaredMethod("bound",
+                Object.class, Object.class, Object.class, Method.class, Object[].class, Throwable.class, Callable.class, String.class));
+        Method target = Object.class.getMethod("toString");
+        Object[] args = {1};
+        Throwable cause = new RuntimeException();
+        Callable<?> main = () -> null;
+
+        Object result = advice.invoke(new SampleAspect(), target, args, "proxy", "real", "result", cause, main);
+
+        assertEquals(Arrays.asList("proxy", "result", "real", target, args, cause, main, null), result);
+        assertTrue(advice.binds(AdviceMethod.ArgumentSlot.ARGS));
+    }
+
+    @Test
+    @DisplayName("Metodo estatico ignora a instancia e retorna boolean como Object")
+    void invokesStaticMethodReturningPrimitive() throws Exception {
+        AdviceMethod advice = AdviceMethod.of(SampleAspect.class.getDeclaredMethod("matches", Method.class));
+
+        Object result = advice.invoke(null, SampleAspect.class.getDeclaredMethod("matches", Method.class), null, null, null, null, null, null);
+
+        assertEquals(Boolean.FALSE, result);
+        assertFalse(advice.binds(AdviceMethod.ArgumentSlot.PROXY));
+    }
+
+    @Test
+    @DisplayName("Erro do advice chega embrulhado em InvocationTargetException")
+    void wrapsAdviceErrors() throws Exception {
+        AdviceMethod advice = AdviceMethod.of(SampleAspect.class.getDeclaredMethod("fail"));
+
+        InvocationTargetException error = assertThrows(InvocationTargetException.class,
+                () -> advice.invoke(new SampleAspect(), null, null, null, null, null, null, null));
+
+        assertInstanceOf(IllegalStateException.class, error.getTargetException());
+    }
+}
@@ -0,0 +1,159 @@
+package dtm.di.aop;
+
+import dtm.di.storage.containers.DependencyContainerStorage;
+import dtm.di.testsupport.AopChainDynamicAspect;
+import dtm.di.testsupport.AopChainStaticAspect;
+import dtm.di.testsupport.AopChainTarget;
+import dtm.di.testsupport.ContainerFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("performance")
+class AopInterceptionPerformanceTest {
+
+    private static final int CALLS = 200_000;
+    private static final int REPETITIONS = 7;
+    private static final int WARMUP_ROUNDS = 5;
+
+    private static volatile long blackhole;
+
+    private final List<DependencyContainerStorage> containers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        containers.forEach(ContainerFixture::dispose);
+        ContainerFixture.resetAopProxyUtils();
+    }
+
+    @Test
+    @DisplayName("relatorio de performance: chamada direta x delegacao x advice inline")
+    void performanceReport() throws Exception {
+        AopChainTarget direct = new AopChainTarget();
+        AopChainTarget delegation = proxy(false);
+        AopChainTarget inline = proxy(true);
+
+        Sample directSample = measure("chamada direta", direct);
+        Sample delegationSample = measure("proxy com MethodDelegation", delegation);
+        Sample inlineSample = measure("proxy com advice inline", inline);
+
+        report(directSample, delegationSample, inlineSample);
+
+        assertTrue(inlineSample.median() < 100_000, "advice inline ficou absurdamente lento");
+    }
+
+    private AopChainTarget proxy(boolean inlineAdvice) throws Exception {
+        ContainerFixture.resetAopProxyUtils();
+        AopChainStaticAspect.reset();
+        AopChainDynamicAspect.reset();
+
+        DependencyContainerStorage container = ContainerFixture.newContainer("aop-chain");
+        containers.add(container);
+        container.enableAOP();
+        container.setAopInlineAdvice(inlineAdvice);
+        container.load();
+        return container.getDependency(AopChainTarget.class);
+    }
+
+    private Sample measure(String name, AopChainTarget target) {
+        ToLongFunction<AopChainTarget> loop = current -> {
+            long sink = 0;
+            for (int i = 0; i < CALLS; i++) {
+                sink += current.echo("x").length();
+                sink += current.twice(i);
+            }
+            return sink;
+        };
+
+        long sink = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            sink += loop.applyAsLong(target);
+        }
+
+        Sample sample = new Sample(name);
+        for (int repetition = 0; repetition < REPETITIONS; repetition++) {
+            long start = System.nanoTime();
+            sink += loop.applyAsLong(target);
+            sample.add((double) (System.nanoTime() - start) / (CALLS * 2L));
+        }
+        blackhole = sink;
+
+        return sample;
+    }
+
+    private void report(Sample... samples) {
+        StringBuilder report = new StringBuilder();
+
+        report.append(System.lineSeparator())
+                .append("=== Kernon | custo por chamada interceptada ===").append(System.lineSeparator())
+                .append("JVM ......... ").append(System.getProperty("java.vm.name"))
+                .append(" ").append(System.getProperty("java.version")).append(System.lineSeparator())
+                .append("Chamadas .... ").append(CALLS * 2L).append(" por repeticao (echo + twice)").append(System.lineSeparator())
+                .append("Amostras .... ").append(REPETITIONS).append(" repeticoes apos ").append(WARMUP_ROUNDS)
+                .append(" rodadas de aquecimento").append(System.lineSeparator())
+                .append(System.lineSeparator())
+                .append(String.format("%-40s %10s %10s %10s%n", "cenario", "min", "mediana", "max"));
+
+        for (Sample sample : samples) {
+            report.append(String.format(
+                    "%-40s %8.1fns %8.1fns %8.1fns%n",
+                    sample.name(),
+                    sample.min(),
+                    sample.median(),
+                    sample.max()
+            ));
+        }
+
+        report.append(System.lineSeparator())
+                .append("Notas: medicao manual com System.nanoTime, sem isolamento de fork como no JMH;")
+                .append(System.lineSeparator())
+                .append("compare as medianas entre cenarios da mesma execucao, nao entre maquinas.")
+                .append(System.lineSeparator());
+
+        System.out.println(report);
+    }
+
+    private static final class Sample {
+
+        private final String name;
+        private final List<Double> values = new ArrayList<>();
+
+        private Sample(String name) {
+            this.name = name;
+        }
+
+        void add(double nanosPerCall) {
+            values.add(nanosPerCall);
+        }
+
+        String name() {
+            return name;
+        }
+
+        double min() {
+            return values.stream().mapToDouble(Double::doubleValue).min().orElse(0);
+        }
+
+        double max() {
+            return values.stream().mapToDouble(Double::doubleValue).max().orElse(0);
+        }
+
+        double median() {
+            double[] sorted = values.stream().mapToDouble(Double::doubleValue).sorted().toArray();
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int middle = sorted.length / 2;
+            return sorted.length % 2 == 1
+                    ? sorted[middle]
+                    : (sorted[middle - 1] + sorted[middle]) / 2.0;
+        }
+    }
+}
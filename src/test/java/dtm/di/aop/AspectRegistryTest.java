@@ -0,0 +1,183 @@
+package dtm.di.aop;
+
+import dtm.di.exceptions.InvalidClassRegistrationException;
+import dtm.di.prototypes.ProxyObject;
+import dtm.di.storage.containers.DependencyContainerStorage;
+import dtm.di.testsupport.AopOrderPlainService;
+import dtm.di.testsupport.AopOrderTarget;
+import dtm.di.testsupport.ContainerFixture;
+import dtm.di.testsupport.ExternalModule;
+import dtm.di.testsupport.Probe;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AspectRegistryTest {
+
+    private static final String SUFFIX_ASPECT = "extaop.SuffixAspect";
+    private static final String PLAIN_ASPECT = "extaop.PlainAspect";
+    private static final String CLASSIC_ASPECT = "extaop.ClassicAspect";
+
+    private static ExternalModule module;
+
+    private DependencyContainerStorage container;
+
+    @BeforeAll
+    static void compileModule() {
+        module = ExternalModule.compile("aspect-registry", Map.of(SUFFIX_ASPECT, """
+                package extaop;
+
+                import dtm.di.annotations.aop.AfterExecution;
+                import dtm.di.annotations.aop.Aspect;
+                import dtm.di.annotations.aop.Pointcut;
+                import dtm.di.annotations.aop.ResultProxy;
+
+                @Aspect
+                public class SuffixAspect {
+
+                    @Pointcut(types = "*.AopOrderTarget", methods = "run")
+                    public boolean pointcut() {
+                        return true;
+                    }
+
+                    @AfterExecution
+                    public Object after(@ResultProxy Object result) {
+                        return result + "!";
+                    }
+                }
+                """, PLAIN_ASPECT, """
+                package extaop;
+
+                import dtm.di.annotations.aop.AfterExecution;
+                import dtm.di.annotations.aop.Aspect;
+                import dtm.di.annotations.aop.Pointcut;
+                import dtm.di.annotations.aop.ResultProxy;
+
+                @Aspect
+                public class PlainAspect {
+
+                    @Pointcut(types = "*.AopOrderPlainService")
+                    public boolean pointcut() {
+                        return true;
+                    }
+
+                    @AfterExecution
+                    public Object after(@ResultProxy Object result) {
+                        return result + "?";
+                    }
+                }
+                """, CLASSIC_ASPECT, """
+                package extaop;
+
+                import dtm.di.annotations.aop.AfterExecution;
+                import dtm.di.annotations.aop.Aspect;
+                import dtm.di.annotations.aop.Pointcut;
+                import dtm.di.annotations.aop.ResultProxy;
+
+                import java.lang.reflect.Method;
+
+                @Aspect
+                public class ClassicAspect {
+
+                    @Pointcut
+                    public boolean pointcut(Method method) {
+                        return method.getName().equals("run");
+                    }
+
+                    @AfterExecution
+                    public Object after(@ResultProxy Object result) {
+                        return result + "#";
+                    }
+                }
+                """));
+    }
+
+    @AfterAll
+    static void closeModule() {
+        module.close();
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Probe.reset();
+        ContainerFixture.resetAopProxyUtils();
+
+        container = ContainerFixture.newContainer("aop-order");
+        container.enableAOP();
+        container.load();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ContainerFixture.dispose(container);
+        ContainerFixture.resetAopProxyUtils();
+    }
+
+    @Test
+    @DisplayName("Aspectos seguem @Order na entrada e a ordem inversa na saida")
+    void aspectsFollowDeclaredOrder() {
+        AopOrderTarget target = container.getDependency(AopOrderTarget.class);
+
+        assertEquals("run", target.run());
+
+        assertEquals(
+                List.of("zeta.before", "alpha.before", "target.run", "alpha.after", "zeta.after"),
+                Probe.events()
+        );
+    }
+
+    @Test
+    @DisplayName("Aspecto externo vale para o proxy existente ate ser descarregado")
+    void externalAspectIsAddedAndRemovedWithoutNewProxy() throws Exception {
+        AopOrderTarget target = container.getDependency(AopOrderTarget.class);
+        Class<?> aspect = module.load(SUFFIX_ASPECT);
+
+        container.loadExternal(List.of(aspect));
+        assertEquals("run!", target.run());
+        assertSame(target, container.getDependency(AopOrderTarget.class));
+
+        container.unload(List.of(aspect));
+        assertEquals("run", target.run());
+    }
+
+    @Test
+    @DisplayName("Aspecto externo que aconselharia bean ja criado sem proxy e recusado")
+    void externalAspectForUnadvisedBeanIsRejected() throws Exception {
+        AopOrderPlainService plain = container.getDependency(AopOrderPlainService.class);
+        assertFalse(plain instanceof ProxyObject);
+        Class<?> aspect = module.load(PLAIN_ASPECT);
+
+        InvalidClassRegistrationException error = assertThrows(
+                InvalidClassRegistrationException.class,
+                () -> container.loadExternal(List.of(aspect))
+        );
+
+        assertSame(aspect, error.getReferenceClass());
+        assertTrue(error.getMessage().contains(AopOrderPlainService.class.getName() + "#name"));
+        assertEquals("plain", container.getDependency(AopOrderPlainService.class).name());
+        assertEquals("run", container.getDependency(AopOrderTarget.class).run());
+    }
+
+    @Test
+    @DisplayName("Aspecto externo com pointcut classico carrega mesmo com beans sem proxy ja criados")
+    void externalAspectWithClassicPointcutLoads() throws Exception {
+        AopOrderTarget target = container.getDependency(AopOrderTarget.class);
+        assertFalse(container.getDependency(AopOrderPlainService.class) instanceof ProxyObject);
+        Class<?> aspect = module.load(CLASSIC_ASPECT);
+
+        assertDoesNotThrow(() -> container.loadExternal(List.of(aspect)));
+        assertEquals("run#", target.run());
+        assertEquals("plain", container.getDependency(AopOrderPlainService.class).name());
+
+        container.unload(List.of(aspect));
+        assertEquals("run", target.run());
+    }
+}
@@ -0,0 +1,109 @@
+package dtm.di.aop;
+
+import dtm.di.aop.cache.CacheManager;
+import dtm.di.aop.cache.CacheStats;
+import dtm.di.storage.containers.DependencyContainerStorage;
+import dtm.di.testsupport.AopCacheService;
+import dtm.di.testsupport.ContainerFixture;
+import dtm.di.testsupport.Probe;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheAspectTest {
+
+    private DependencyContainerStorage container;
+    private AopCacheService service;
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Probe.reset();
+        ContainerFixture.resetAopProxyUtils();
+
+        container = ContainerFixture.newContainer("aop-cache");
+        container.enableAOP();
+        container.load();
+        service = container.getDependency(AopCacheService.class);
+        cacheManager = container.getDependency(CacheManager.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ContainerFixture.dispose(container);
+        ContainerFixture.resetAopProxyUtils();
+    }
+
+    @Test
+    @DisplayName("Cacheable devolve o valor guardado sem executar o metodo")
+    void cacheableSkipsMethodOnHit() {
+        assertEquals(9, service.square(3));
+        assertEquals(9, service.square(3));
+        assertEquals(16, service.square(4));
+
+        assertEquals(2, Probe.count("cache.square"));
+        CacheStats stats = cacheManager.stats("squares").orElseThrow();
+        assertEquals(1, stats.hits());
+        assertEquals(2, stats.misses());
+        assertEquals(2, stats.size());
+    }
+
+    @Test
+    @DisplayName("CachePut sobrescreve e CacheEvict remove a entrada pela chave")
+    void cachePutAndEvictUseKeyArguments() {
+        assertEquals(25, service.square(5));
+
+        service.overwrite(5, 99);
+        assertEquals(99, service.square(5));
+
+        service.forget(5);
+        assertEquals(25, service.square(5));
+        assertEquals(2, Probe.count("cache.square"));
+    }
+
+    @Test
+    @DisplayName("Future com falha sai do cache e a proxima chamada executa o metodo")
+    void failedFutureIsNotKept() {
+        assertEquals("A", service.load("a", false).join());
+        assertEquals("A", service.load("a", false).join());
+        assertEquals(1, Probe.count("cache.load"));
+
+        assertThrows(CompletionException.class, () -> service.load("b", true).join());
+        assertThrows(CompletionException.class, () -> service.load("b", true).join());
+        assertEquals(3, Probe.count("cache.load"));
+    }
+
+    @Test
+    @DisplayName("Cada acerto recebe uma copia do future e alterar uma nao afeta as proximas")
+    void cacheHitsReturnIndependentFutures() {
+        CompletableFuture<String> first = service.load("c", false);
+        CompletableFuture<String> hit = service.load("c", false);
+        assertNotSame(first, hit);
+
+        first.obtrudeValue("tampered-first");
+        hit.obtrudeValue("tampered-hit");
+        service.load("c", false).cancel(true);
+
+        CompletableFuture<String> next = service.load("c", false);
+        assertNotSame(hit, next);
+        assertEquals("C", next.join());
+        assertEquals(1, Probe.count("cache.load"));
+    }
+
+    @Test
+    @DisplayName("Caches sao descartados quando o container e descarregado")
+    void cachesAreClosedOnUnload() {
+        service.square(2);
+        assertEquals(1, cacheManager.getCacheNames().size());
+
+        container.unload();
+
+        assertTrue(cacheManager.getCacheNames().isEmpty());
+    }
+}
@@ -0,0 +1,150 @@
+package dtm.di.aop;
+
+import dtm.di.storage.containers.DependencyContainerStorage;
+import dtm.di.testsupport.AopCoalesceService;
+import dtm.di.testsupport.ContainerFixture;
+import dtm.di.testsupport.Probe;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoalesceAspectTest {
+
+    private static final int CALLERS = 6;
+
+    private DependencyContainerStorage container;
+    private AopCoalesceService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Probe.reset();
+        AopCoalesceService.reset();
+        ContainerFixture.resetAopProxyUtils();
+
+        container = ContainerFixture.newContainer("aop-coalesce");
+        container.enableAOP();
+        container.load();
+        service = container.getDependency(AopCoalesceService.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        AopCoalesceService.release();
+        ContainerFixture.dispose(container);
+        ContainerFixture.resetAopProxyUtils();
+    }
+
+    @Test
+    @DisplayName("Chamadas concorrentes com a mesma chave compartilham uma execucao")
+    void concurrentCallsShareOneExecution() throws Exception {
+        Set<Object> results = ConcurrentHashMap.newKeySet();
+        List<Thread> callers = startCallers(() -> results.add(service.slow("a")));
+
+        awaitWaiting(callers);
+        AopCoalesceService.release();
+        join(callers);
+
+        assertEquals(Set.of("a-1"), results);
+        assertEquals(1, Probe.count("coalesce.slow"));
+        assertEquals("a-2", service.slow("a"));
+    }
+
+    @Test
+    @DisplayName("Chamadas agrupadas recebem a mesma excecao da execucao compartilhada")
+    void concurrentCallsShareException() throws Exception {
+        Set<Object> errors = ConcurrentHashMap.newKeySet();
+        List<Thread> callers = startCallers(() -> {
+            try {
+                service.failing("b");
+            } catch (IllegalStateException e) {
+                errors.add(e);
+            }
+        });
+
+        awaitWaiting(callers);
+        AopCoalesceService.release();
+        join(callers);
+
+        assertEquals(1, errors.size());
+        assertEquals(1, Probe.count("coalesce.failing"));
+    }
+
+    @Test
+    @DisplayName("CompletableFuture e agrupado ate completar sem bloquear quem chama")
+    void completableFutureIsSharedWithoutBlocking() {
+        CompletableFuture<String> first = service.later("c");
+        CompletableFuture<String> second = service.later("c");
+        CompletableFuture<String> other = service.later("d");
+
+        assertNotSame(first, second);
+        assertFalse(second.isDone());
+        assertEquals(2, Probe.count("coalesce.later"));
+
+        AopCoalesceService.pending().complete("ok");
+        assertEquals("c-ok", first.join());
+        assertEquals("c-ok", second.join());
+        assertEquals("d-ok", other.join());
+
+        service.later("c");
+        assertEquals(3, Probe.count("coalesce.later"));
+    }
+
+    private static List<Thread> startCallers(ThrowingRunnable body) {
+        List<Thread> callers = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            callers.add(Thread.ofPlatform().start(() -> {
+                try {
+                    body.run();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+        }
+        return callers;
+    }
+
+    private static void awaitWaiting(List<Thread> callers) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!callers.stream().allMatch(CoalesceAspectTest::isWaitingOnCall)) {
+            assertTrue(System.nanoTime() < deadline, "chamadas nao chegaram ao ponto de espera");
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * O lider espera no latch do fixture e os demais no resultado compartilhado.
+     */
+    private static boolean isWaitingOnCall(Thread thread) {
+        Thread.State state = thread.getState();
+        if (state != Thread.State.WAITING && state != Thread.State.TIMED_WAITING) return false;
+
+        for (StackTraceElement frame : thread.getStackTrace()) {
+            if (frame.getClassName().equals(CompletableFuture.class.getName())
+                    || frame.getClassName().equals(AopCoalesceService.class.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void join(List<Thread> callers) throws InterruptedException {
+        for (Thread caller : callers) {
+            caller.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
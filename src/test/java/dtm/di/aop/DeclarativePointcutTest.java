@@ -0,0 +1,127 @@
+package dtm.di.aop;
+
+import dtm.di.annotations.Async;
+import dtm.di.annotations.aop.Pointcut;
+import dtm.di.storage.containers.DependencyContainerStorage;
+import dtm.di.testsupport.AopChainTarget;
+import dtm.di.testsupport.ContainerFixture;
+import dtm.di.testsupport.MainCounter;
+import net.bytebuddy.description.method.MethodDescription;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeclarativePointcutTest {
+
+    private DependencyContainerStorage container;
+
+    static class SampleAspect {
+        @Pointcut(annotatedWith = Async.class, packages = "dtm.di", methods = "run*")
+        public boolean pointcut() {
+            return true;
+        }
+
+        @Pointcut
+        public boolean plain() {
+            return true;
+        }
+
+        @Pointcut(methodOrTypeAnnotatedWith = Async.class)
+        public boolean methodOrType() {
+            return true;
+        }
+    }
+
+    @Async
+    static class AsyncService {
+        public void any() {
+        }
+    }
+
+    static class SampleService {
+        @Async
+        public void runLater() {
+        }
+
+        public void runNow() {
+        }
+
+        @Async
+        public void later() {
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        ContainerFixture.dispose(container);
+        ContainerFixture.resetAopProxyUtils();
+    }
+
+    @Test
+    @DisplayName("Criterios declarativos combinam anotacao, pacote e nome do metodo")
+    void matchesAllDeclaredCriteria() throws Exception {
+        DeclarativePointcut pointcut = DeclarativePointcut.of(SampleAspect.class.getMethod("pointcut"));
+        Method runLater = SampleService.class.getMethod("runLater");
+        Method runNow = SampleService.class.getMethod("runNow");
+        Method later = SampleService.class.getMethod("later");
+
+        assertTrue(pointcut.matches(SampleService.class, runLater));
+        assertFalse(pointcut.matches(SampleService.class, runNow));
+        assertFalse(pointcut.matches(SampleService.class, later));
+        assertFalse(pointcut.matches(String.class, runLater));
+
+        assertTrue(pointcut.methodMatcher(SampleService.class).matches(new MethodDescription.ForLoadedMethod(runLater)));
+        assertFalse(pointcut.methodMatcher(SampleService.class).matches(new MethodDescription.ForLoadedMethod(runNow)));
+        assertFalse(pointcut.methodMatcher(String.class).matches(new MethodDescription.ForLoadedMethod(runLater)));
+        assertNull(DeclarativePointcut.of(SampleAspect.class.getMethod("plain")));
+    }
+
+    @Test
+    @DisplayName("Anotacao aceita no metodo ou na classe casa com qualquer um dos dois")
+    void methodOrTypeAnnotationMatchesEitherLevel() throws Exception {
+        DeclarativePointcut pointcut = DeclarativePointcut.of(SampleAspect.class.getMethod("methodOrType"));
+        Method later = SampleService.class.getMethod("later");
+        Method runNow = SampleService.class.getMethod("runNow");
+        Method any = AsyncService.class.getMethod("any");
+
+        assertTrue(pointcut.matches(SampleService.class, later));
+        assertFalse(pointcut.matches(SampleService.class, runNow));
+        assertTrue(pointcut.matches(AsyncService.class, any));
+
+        assertFalse(pointcut.methodMatcher(SampleService.class).matches(new MethodDescription.ForLoadedMethod(runNow)));
+        assertTrue(pointcut.methodMatcher(AsyncService.class).matches(new MethodDescription.ForLoadedMethod(any)));
+    }
+
+    @Test
+    @DisplayName("Proxy sobrescreve apenas os metodos aconselhados por pointcuts declarativos")
+    void proxyOverridesOnlyAdvisedMethods() throws Exception {
+        ContainerFixture.resetAopProxyUtils();
+        container = ContainerFixture.newContainer("aop-chain");
+        container.enableAOP();
+        container.load();
+
+        AopChainTarget target = container.getDependency(AopChainTarget.class);
+        Class<?> proxyClass = target.getClass();
+
+        assertNotSame(AopChainTarget.class, proxyClass);
+        assertNotNull(proxyClass.getDeclaredMethod("echo", String.class));
+        assertThrows(NoSuchMethodException.class, () -> proxyClass.getDeclaredMethod("untouched"));
+        assertEquals("untouched", target.untouched());
+    }
+
+    @Test
+    @DisplayName("Bean sem metodo aconselhavel por nenhum aspecto nao recebe proxy")
+    void beanWithoutAdvisableMethodsIsNotProxied() throws Exception {
+        ContainerFixture.resetAopProxyUtils();
+        container = ContainerFixture.newContainer("aop-chain");
+        container.enableAOP();
+        container.load();
+
+        assertSame(MainCounter.class, container.getDependency(MainCounter.class).getClass());
+        assertNotSame(AopChainTarget.class, container.getDependency(AopChainTarget.class).getClass());
+    }
+}
@@ -0,0 +1,63 @@
+package dtm.di.aop;
+
+import dtm.di.storage.containers.DependencyContainerStorage;
+import dtm.di.testsupport.AopChainDynamicAspect;
+import dtm.di.testsupport.AopChainStaticAspect;
+import dtm.di.testsupport.AopChainTarget;
+import dtm.di.testsupport.ContainerFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InlineAdviceTest {
+
+    private DependencyContainerStorage container;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ContainerFixture.resetAopProxyUtils();
+        AopChainStaticAspect.reset();
+        AopChainDynamicAspect.reset();
+
+        container = ContainerFixture.newContainer("aop-chain");
+        container.enableAOP();
+        container.setAopInlineAdvice(true);
+        container.load();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ContainerFixture.dispose(container);
+        ContainerFixture.resetAopProxyUtils();
+    }
+
+    @Test
+    @DisplayName("Advice inline aplica before, after e pointcuts como a delegacao")
+    void inlineAdviceMatchesDelegationBehavior() {
+        AopChainTarget target = container.getDependency(AopChainTarget.class);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("x", target.echo("x"));
+            assertEquals(4, target.twice(2));
+        }
+        assertEquals("UP", target.echo("up"));
+        assertEquals("untouched", target.untouched());
+
+        assertEquals(1, AopChainStaticAspect.pointcutCalls("echo"));
+        assertEquals(6, AopChainStaticAspect.beforeCalls());
+        assertEquals(6, AopChainDynamicAspect.pointcutCalls());
+    }
+
+    @Test
+    @DisplayName("Advice inline propaga a excecao original do metodo")
+    void inlineAdvicePropagatesOriginalException() {
+        AopChainTarget target = container.getDependency(AopChainTarget.class);
+
+        IllegalStateException error = assertThrows(IllegalStateException.class, target::fail);
+
+        assertEquals("falha proposital", error.getMessage());
+    }
+}
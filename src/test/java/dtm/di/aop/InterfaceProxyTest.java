@@ -0,0 +1,90 @@
+package dtm.di.aop;
+
+import dtm.di.prototypes.ProxyObject;
+import dtm.di.prototypes.proxy.ProxyFactory;
+import dtm.di.storage.containers.DependencyContainerStorage;
+import dtm.di.testsupport.AopChainTarget;
+import dtm.di.testsupport.AopInterfaceFinalService;
+import dtm.di.testsupport.AopInterfacePort;
+import dtm.di.testsupport.AopInterfaceRecord;
+import dtm.di.testsupport.AopInterfaceEcho;
+import dtm.di.testsupport.AopInterfaceOpenService;
+import dtm.di.testsupport.ContainerFixture;
+import dtm.di.testsupport.Probe;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InterfaceProxyTest {
+
+    private DependencyContainerStorage container;
+
+    @BeforeEach
+    void setUp() {
+        Probe.reset();
+        ContainerFixture.resetAopProxyUtils();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ContainerFixture.dispose(container);
+        ContainerFixture.resetAopProxyUtils();
+    }
+
+    @Test
+    @DisplayName("Classe final injetada so por interface recebe delegate com aspectos")
+    void finalClassInjectedByInterfaceGetsDelegate() throws Exception {
+        load(true);
+        AopInterfacePort port = container.getDependency(AopInterfacePort.class);
+
+        assertTrue(ProxyFactory.isInterfaceProxy(port));
+        assertEquals("ola ana!", port.greet("ana"));
+        assertEquals(1, Probe.count("interface.before"));
+        assertEquals(1, Probe.count("final.greet"));
+
+        AopInterfaceFinalService real = container.getDependency(AopInterfaceFinalService.class);
+        assertSame(real, ((ProxyObject) port).getRealInstance());
+        assertTrue(real.isInitialized());
+    }
+
+    @Test
+    @DisplayName("Record anotado com InterfaceProxy recebe delegate e resolve metodos ponte")
+    void annotatedRecordGetsDelegate() throws Exception {
+        load(false);
+        Comparable<AopInterfaceRecord> delegate = container.getDependencyList(Comparable.class).stream()
+                .filter(ProxyFactory::isInterfaceProxy)
+                .filter(bean -> ((ProxyObject) bean).getRealInstance() instanceof AopInterfaceRecord)
+                .map(bean -> (Comparable<AopInterfaceRecord>) bean)
+                .findFirst()
+                .orElseThrow();
+
+        assertEquals(0, delegate.compareTo(new AopInterfaceRecord()));
+        assertEquals(1, Probe.count("interface.before"));
+        assertEquals(1, Probe.count("record.compareTo"));
+        assertFalse(ProxyFactory.supportsInterfaceProxy(AopChainTarget.class));
+    }
+
+    @Test
+    @DisplayName("Sem o modo ativo, bean pedido pela classe concreta recebe proxy com aspectos")
+    void concreteLookupKeepsAspectsByDefault() throws Exception {
+        load(false);
+
+        AopInterfaceOpenService service = container.getDependency(AopInterfaceOpenService.class);
+
+        assertInstanceOf(ProxyObject.class, service);
+        assertFalse(ProxyFactory.isInterfaceProxy(service));
+        assertEquals("oi ana!", service.greet("ana"));
+        assertEquals(1, Probe.count("interface.before"));
+        assertSame(service, container.getDependency(AopInterfaceEcho.class));
+    }
+
+    private void load(boolean interfaceProxy) throws Exception {
+        container = ContainerFixture.newContainer("aop-interface");
+        container.enableAOP();
+        container.setAopInterfaceProxy(interfaceProxy);
+        container.load();
+    }
+}
@@ -0,0 +1,138 @@
+package dtm.di.aop;
+
+import dtm.di.aop.resilience.LimiterRegistry;
+import dtm.di.aop.resilience.LimiterSnapshot;
+import dtm.di.exceptions.BulkheadFullException;
+import dtm.di.exceptions.RateLimitExceededException;
+import dtm.di.settings.AppSettings;
+import dtm.di.settings.AppSettingsRegistry;
+import dtm.di.storage.containers.DependencyContainerStorage;
+import dtm.di.testsupport.AopLimiterService;
+import dtm.di.testsupport.ContainerFixture;
+import dtm.di.testsupport.Probe;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LimiterAspectTest {
+
+    private DependencyContainerStorage container;
+    private AopLimiterService service;
+    private LimiterRegistry registry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Probe.reset();
+        AopLimiterService.reset();
+        ContainerFixture.resetAopProxyUtils();
+
+        container = ContainerFixture.newContainer("aop-limiter");
+        container.enableAOP();
+        container.load();
+        service = container.getDependency(AopLimiterService.class);
+        registry = container.getDependency(LimiterRegistry.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        AopLimiterService.release();
+        ContainerFixture.dispose(container);
+        ContainerFixture.resetAopProxyUtils();
+    }
+
+    @Test
+    @DisplayName("Bulkhead recusa chamadas acima do limite e libera a permissao ao terminar")
+    void bulkheadRejectsAboveLimit() throws Exception {
+        List<Thread> holders = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            holders.add(Thread.ofVirtual().start(() -> {
+                try {
+                    service.hold();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+        awaitProbe("limiter.hold", 2);
+
+        BulkheadFullException error = assertThrows(BulkheadFullException.class, service::hold);
+        assertEquals("limiter.hold", error.getLimiterName());
+
+        AopLimiterService.release();
+        for (Thread holder : holders) {
+            holder.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        assertEquals("held", service.hold());
+
+        LimiterSnapshot snapshot = registry.bulkhead("limiter.hold").orElseThrow();
+        assertEquals(3, snapshot.acquired());
+        assertEquals(1, snapshot.rejected());
+        assertEquals(2, snapshot.available());
+    }
+
+    @Test
+    @DisplayName("Bulkhead de metodo assincrono so libera a permissao quando o resultado completa")
+    void asyncBulkheadReleasesOnCompletion() throws Exception {
+        CompletableFuture<String> first = service.later();
+        assertThrows(BulkheadFullException.class, service::later);
+
+        AopLimiterService.pending().complete("ok");
+        assertEquals("later-ok", first.get(5, TimeUnit.SECONDS));
+        assertEquals("later-ok", service.later().get(5, TimeUnit.SECONDS));
+        assertEquals(1, registry.bulkhead("limiter.later").orElseThrow().rejected());
+    }
+
+    @Test
+    @DisplayName("Limite de taxa recusa sem espera e espera pela ficha quando maxWait permite")
+    void rateLimitRejectsOrWaits() {
+        assertEquals("tick", service.tick());
+        assertEquals("tick", service.tick());
+        assertThrows(RateLimitExceededException.class, service::tick);
+        assertEquals(2, Probe.count("limiter.tick"));
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            assertEquals("paced", service.paced());
+        }
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(150));
+
+        LimiterSnapshot paced = registry.rateLimiter("limiter.paced").orElseThrow();
+        assertEquals(3, paced.acquired());
+        assertEquals(2, paced.waited());
+        assertEquals(0, paced.rejected());
+    }
+
+    @Test
+    @DisplayName("Limites registrados no AppSettings substituem os da anotacao em tempo de execucao")
+    void limitsFollowAppSettings() throws Exception {
+        AopLimiterService.release();
+        service.hold();
+        assertEquals(2, registry.bulkhead("limiter.hold").orElseThrow().limit());
+
+        AppSettings settings = container.getDependency(AppSettings.class);
+        ((AppSettingsRegistry) settings).register("""
+                {"resilience": {"bulkhead": {"limiter": {"hold": {"maxConcurrent": 4}}}}}
+                """);
+        service.hold();
+
+        LimiterSnapshot snapshot = registry.bulkhead("limiter.hold").orElseThrow();
+        assertEquals(4, snapshot.limit());
+        assertEquals(4, snapshot.available());
+    }
+
+    private static void awaitProbe(String name, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (Probe.count(name) < expected) {
+            assertTrue(System.nanoTime() < deadline, "timeout esperando " + name);
+            Thread.sleep(5);
+        }
+    }
+}
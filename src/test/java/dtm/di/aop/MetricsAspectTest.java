@@ -0,0 +1,167 @@
+package dtm.di.aop;
+
+import dtm.di.aop.metrics.LatencyHistogram;
+import dtm.di.aop.metrics.LatencySnapshot;
+import dtm.di.aop.metrics.MethodMetricsRegistry;
+import dtm.di.aop.metrics.MethodMetricsSnapshot;
+import dtm.di.storage.containers.DependencyContainerStorage;
+import dtm.di.testsupport.AopMetricsService;
+import dtm.di.testsupport.AopMetricsTimedClass;
+import dtm.di.testsupport.ContainerFixture;
+import dtm.di.testsupport.Probe;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsAspectTest {
+
+    private DependencyContainerStorage container;
+    private MethodMetricsRegistry registry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Probe.reset();
+        ContainerFixture.resetAopProxyUtils();
+
+        container = ContainerFixture.newContainer("aop-metrics");
+        container.enableAOP();
+        container.load();
+        registry = container.getDependency(MethodMetricsRegistry.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ContainerFixture.dispose(container);
+        ContainerFixture.resetAopProxyUtils();
+    }
+
+    @Test
+    @DisplayName("Timed registra chamadas, erros e latencia e aninha os demais OnMainMethod")
+    void timedRecordsCallsErrorsAndLatency() {
+        AopMetricsService service = container.getDependency(AopMetricsService.class);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("done", service.work(false));
+        }
+        assertThrows(IllegalStateException.class, () -> service.work(true));
+
+        MethodMetricsSnapshot snapshot = registry.snapshot("metrics.work").orElseThrow();
+        assertEquals(4, snapshot.calls());
+        assertEquals(1, snapshot.errors());
+        assertEquals(4, snapshot.latency().getCount());
+        assertTrue(snapshot.latency().percentile(100) >= snapshot.latency().percentile(50));
+        assertEquals(4, Probe.count("around.enter"));
+        assertEquals(4, Probe.count("metrics.work"));
+    }
+
+    @Test
+    @DisplayName("Counted sem nome usa classe e metodo e nao mede latencia")
+    void countedUsesDefaultNameWithoutLatency() {
+        AopMetricsService service = container.getDependency(AopMetricsService.class);
+
+        service.counted();
+        service.counted();
+        service.plain();
+
+        MethodMetricsSnapshot snapshot = registry.snapshot(AopMetricsService.class.getName() + ".counted").orElseThrow();
+        assertEquals(2, snapshot.calls());
+        assertNull(snapshot.latency());
+        assertTrue(registry.snapshot(AopMetricsService.class.getName() + ".plain").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Timed na classe vale para todos os metodos com o nome como prefixo")
+    void classLevelTimedUsesPrefix() {
+        AopMetricsTimedClass timed = container.getDependency(AopMetricsTimedClass.class);
+
+        timed.first();
+        timed.second();
+        timed.second();
+
+        assertEquals(
+                List.of("timed-class.first", "timed-class.second"),
+                registry.snapshots().stream()
+                        .map(MethodMetricsSnapshot::name)
+                        .filter(name -> name.startsWith("timed-class."))
+                        .toList()
+        );
+        assertEquals(2, registry.snapshot("timed-class.second").orElseThrow().latency().getCount());
+    }
+
+    @Test
+    @DisplayName("CompletableFuture e medido ate a conclusao")
+    void completionStageIsMeasuredOnCompletion() {
+        AopMetricsService service = container.getDependency(AopMetricsService.class);
+        CompletableFuture<String> source = new CompletableFuture<>();
+
+        CompletableFuture<String> result = service.later(source);
+        assertEquals(0, registry.snapshot("metrics.later").orElseThrow().calls());
+
+        source.completeExceptionally(new IllegalStateException("later-failure"));
+        assertTrue(result.isCompletedExceptionally());
+
+        MethodMetricsSnapshot snapshot = registry.snapshot("metrics.later").orElseThrow();
+        assertEquals(1, snapshot.calls());
+        assertEquals(1, snapshot.errors());
+    }
+
+    @Test
+    @DisplayName("Histograma reporta percentis com erro relativo de ate 1/32")
+    void histogramPercentilesStayWithinPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value);
+        }
+
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertEquals(100_000, snapshot.getCount());
+        assertEquals(1, snapshot.getMin());
+        assertEquals(100_000, snapshot.getMax());
+        assertEquals(50_000.5, snapshot.getMean(), 0.001);
+        assertWithin(50_000, snapshot.percentile(50));
+        assertWithin(99_000, snapshot.percentile(99));
+        assertEquals(100_000, snapshot.percentile(100));
+        assertEquals(1, snapshot.percentile(0));
+    }
+
+    @Test
+    @DisplayName("Gravacoes concorrentes no histograma nao perdem contagens")
+    void concurrentRecordsAreNotLost() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                tasks.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 50_000; i++) {
+                        histogram.record(1_000);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> task : tasks) {
+                task.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertEquals(400_000, snapshot.getCount());
+        assertEquals(1_000, snapshot.percentile(50));
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected / 32 + 1, () -> "esperado ~" + expected + ", obtido " + actual);
+    }
+}
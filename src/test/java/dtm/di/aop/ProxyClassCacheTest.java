@@ -0,0 +1,144 @@
+package dtm.di.aop;
+
+import dtm.di.prototypes.proxy.ProxyFactory;
+import dtm.di.storage.containers.DependencyContainerStorage;
+import dtm.di.testsupport.AopChainStaticAspect;
+import dtm.di.testsupport.AopChainTarget;
+import dtm.di.testsupport.ContainerFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProxyClassCacheTest {
+
+    private DependencyContainerStorage container;
+
+    @AfterEach
+    void tearDown() {
+        ContainerFixture.dispose(container);
+        ContainerFixture.resetAopProxyUtils();
+        ProxyFactory.clearCache(AopChainTarget.class);
+    }
+
+    @Test
+    @DisplayName("Geracoes concorrentes da mesma classe produzem um unico proxy")
+    void concurrentPreparationGeneratesOnce() throws Exception {
+        ProxyFactory.clearCache(AopChainTarget.class);
+        container = loadContainer();
+        ProxyFactory.clearCache(AopChainTarget.class);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                tasks.add(executor.submit(() -> {
+                    start.await();
+                    ProxyFactory.prepareProxyClass(AopChainTarget.class, container, false);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> task : tasks) {
+                task.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(ContainerFixture.isProxyCached(AopChainTarget.class));
+        Object first = ProxyFactory.newProxyObject(new AopChainTarget(), AopChainTarget.class, container);
+        Object second = ProxyFactory.newProxyObject(new AopChainTarget(), AopChainTarget.class, container);
+        assertSame(first.getClass(), second.getClass());
+    }
+
+    @Test
+    @DisplayName("Classe de proxy persistida e reutilizada depois de limpar o cache em memoria")
+    void persistedProxyClassIsReused(@TempDir Path directory) throws Exception {
+        ProxyFactory.clearCache(AopChainTarget.class);
+        container = loadContainer(directory);
+
+        AopChainTarget generated = container.getDependency(AopChainTarget.class);
+        String generatedName = generated.getClass().getName();
+        long stored = countStored(directory);
+        assertTrue(stored > 0);
+
+        ContainerFixture.dispose(container);
+        ContainerFixture.resetAopProxyUtils();
+        ProxyFactory.clearCache(AopChainTarget.class);
+        container = loadContainer(directory);
+
+        AopChainTarget reused = container.getDependency(AopChainTarget.class);
+        assertEquals(generatedName, reused.getClass().getName());
+        assertNotSame(generated.getClass(), reused.getClass());
+        assertEquals("x", reused.echo("x"));
+        assertEquals(stored, countStored(directory));
+    }
+
+    @Test
+    @DisplayName("Classe de proxy acompanha o conjunto de aspectos do container")
+    void proxyClassFollowsAspectSet() throws Exception {
+        ProxyFactory.clearCache(AopChainTarget.class);
+        container = loadContainer();
+
+        Class<?> withBoth = ProxyFactory.newProxyObject(new AopChainTarget(), AopChainTarget.class, container).getClass();
+        assertDoesNotThrow(() -> withBoth.getDeclaredMethod("twice", int.class));
+
+        AopProxyUtils.removeAspects(container, List.of(AopChainStaticAspect.class));
+        Class<?> dynamicOnly = ProxyFactory.newProxyObject(new AopChainTarget(), AopChainTarget.class, container).getClass();
+        assertNotSame(withBoth, dynamicOnly);
+        assertThrows(NoSuchMethodException.class, () -> dynamicOnly.getDeclaredMethod("twice", int.class));
+
+        AopProxyUtils.addAspects(container, List.of(AopChainStaticAspect.class));
+        Class<?> restored = ProxyFactory.newProxyObject(new AopChainTarget(), AopChainTarget.class, container).getClass();
+        assertSame(withBoth, restored);
+    }
+
+    @Test
+    @DisplayName("Diretorio de proxies de um container nao e usado por outro")
+    void classStoreIsScopedToContainer(@TempDir Path directory) throws Exception {
+        ProxyFactory.clearCache(AopChainTarget.class);
+        container = loadContainer(directory);
+
+        String generatedName = container.getDependency(AopChainTarget.class).getClass().getName();
+        long stored = countStored(directory);
+        assertTrue(stored > 0);
+
+        ContainerFixture.dispose(container);
+        ContainerFixture.resetAopProxyUtils();
+        ProxyFactory.clearCache(AopChainTarget.class);
+        container = loadContainer();
+
+        AopChainTarget other = container.getDependency(AopChainTarget.class);
+        assertNotEquals(generatedName, other.getClass().getName());
+        assertEquals(stored, countStored(directory));
+    }
+
+    private static DependencyContainerStorage loadContainer() throws Exception {
+        return loadContainer(null);
+    }
+
+    private static DependencyContainerStorage loadContainer(Path classStoreDirectory) throws Exception {
+        DependencyContainerStorage storage = ContainerFixture.newContainer("aop-chain");
+        ProxyFactory.setClassStoreDirectory(storage, classStoreDirectory);
+        storage.enableAOP();
+        storage.load();
+        return storage;
+    }
+
+    private static long countStored(Path directory) throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(".proxy")).count();
+        }
+    }
+}
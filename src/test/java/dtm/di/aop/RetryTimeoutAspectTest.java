@@ -0,0 +1,170 @@
+package dtm.di.aop;
+
+import dtm.di.aop.resilience.RetryRegistry;
+import dtm.di.aop.resilience.RetrySnapshot;
+import dtm.di.exceptions.AsyncMethodException;
+import dtm.di.exceptions.MethodTimeoutException;
+import dtm.di.storage.containers.DependencyContainerStorage;
+import dtm.di.testsupport.AopRetryService;
+import dtm.di.testsupport.AopTimeoutLimiterService;
+import dtm.di.testsupport.ContainerFixture;
+import dtm.di.testsupport.Probe;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryTimeoutAspectTest {
+
+    private DependencyContainerStorage container;
+    private AopRetryService service;
+    private RetryRegistry registry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Probe.reset();
+        ContainerFixture.resetAopProxyUtils();
+
+        container = ContainerFixture.newContainer("aop-retry");
+        container.enableAOP();
+        container.load();
+        service = container.getDependency(AopRetryService.class);
+        registry = container.getDependency(RetryRegistry.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ContainerFixture.dispose(container);
+        ContainerFixture.resetAopProxyUtils();
+    }
+
+    @Test
+    @DisplayName("Metodo sincrono e repetido ate funcionar e as metricas contam as repeticoes")
+    void synchronousMethodIsRetried() {
+        assertEquals("flaky-3", service.flaky());
+        assertEquals(3, Probe.count("retry.flaky"));
+
+        RetrySnapshot snapshot = registry.snapshot("retry.flaky").orElseThrow();
+        assertEquals(1, snapshot.calls());
+        assertEquals(2, snapshot.retries());
+        assertEquals(1, snapshot.recovered());
+        assertEquals(0, snapshot.failures());
+    }
+
+    @Test
+    @DisplayName("Metodo Async e repetido sem bloquear quem chama")
+    void asyncMethodIsRetriedWithoutBlocking() throws Exception {
+        CompletableFuture<String> result = service.flakyAsync();
+
+        assertEquals("async-3", result.get(5, TimeUnit.SECONDS));
+        assertEquals(3, Probe.count("retry.async"));
+        assertEquals(2, registry.snapshot("retry.async").orElseThrow().retries());
+    }
+
+    @Test
+    @DisplayName("Excecao fora de retryOn falha na primeira tentativa")
+    void exceptionOutsideRetryOnIsNotRetried() {
+        ExecutionException error = assertThrows(
+                ExecutionException.class,
+                () -> service.rejected().get(5, TimeUnit.SECONDS)
+        );
+
+        assertInstanceOf(IllegalArgumentException.class, error.getCause());
+        assertEquals(1, Probe.count("retry.rejected"));
+        RetrySnapshot snapshot = registry.snapshot("retry.rejected").orElseThrow();
+        assertEquals(0, snapshot.retries());
+        assertEquals(1, snapshot.failures());
+    }
+
+    @Test
+    @DisplayName("Timeout falha o resultado e interrompe a tarefa Async atrasada")
+    void timeoutFailsResultAndInterruptsTask() throws Exception {
+        long start = System.nanoTime();
+        ExecutionException error = assertThrows(
+                ExecutionException.class,
+                () -> service.hangs().get(5, TimeUnit.SECONDS)
+        );
+
+        assertInstanceOf(MethodTimeoutException.class, error.getCause());
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        awaitProbe("timeout.interrupted");
+    }
+
+    @Test
+    @DisplayName("Retry repete a tentativa que excedeu o Timeout")
+    void retryRepeatsTimedOutAttempt() {
+        assertEquals("fast", service.slowThenFast().await());
+        assertEquals(2, Probe.count("retry.slowThenFast"));
+        assertEquals(1, registry.snapshot("retry.timeout").orElseThrow().recovered());
+    }
+
+    @Test
+    @DisplayName("Timeout em metodo sincrono lanca AsyncMethodException")
+    void timeoutRejectsSynchronousMethod() {
+        assertThrows(AsyncMethodException.class, service::synchronous);
+    }
+
+    @Test
+    @DisplayName("Thread do timer de resiliencia termina quando o container e descarregado")
+    void timerStopsOnUnload() throws Exception {
+        assertEquals("async-3", service.flakyAsync().get(5, TimeUnit.SECONDS));
+        List<Thread> timers = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals("ResilienceTimer"))
+                .toList();
+        assertFalse(timers.isEmpty());
+
+        container.unload();
+
+        for (Thread timer : timers) {
+            timer.join(TimeUnit.SECONDS.toMillis(5));
+            assertFalse(timer.isAlive());
+        }
+    }
+
+    @Test
+    @DisplayName("Espera por permissao do Bulkhead conta no prazo do Timeout")
+    void bulkheadWaitCountsTowardTimeout() throws Exception {
+        AopTimeoutLimiterService limited = container.getDependency(AopTimeoutLimiterService.class);
+        CompletableFuture<String> held = limited.hold();
+        CompletableFuture.delayedExecutor(300, TimeUnit.MILLISECONDS).execute(limited::release);
+
+        ExecutionException error = assertThrows(
+                ExecutionException.class,
+                () -> limited.guarded().get(5, TimeUnit.SECONDS)
+        );
+
+        assertInstanceOf(MethodTimeoutException.class, error.getCause());
+        assertTrue(Probe.contains("timeout.guarded"));
+        assertEquals("released", held.join());
+    }
+
+    @Test
+    @DisplayName("Repeticao pendente falha o resultado quando o container e descarregado")
+    void pendingRetryFailsOnUnload() {
+        CompletableFuture<String> result = service.pendingRetry();
+        assertFalse(result.isDone());
+
+        container.unload();
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, error.getCause());
+        assertEquals(1, Probe.count("retry.pending"));
+        assertEquals(1, registry.snapshot("retry.pending").orElseThrow().failures());
+    }
+
+    private static void awaitProbe(String name) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!Probe.contains(name)) {
+            assertTrue(System.nanoTime() < deadline, "timeout esperando " + name);
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package dtm.di.aop.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedCacheTest {
+
+    @Test
+    @DisplayName("Cache respeita o limite e mantem a entrada frequente durante uma varredura")
+    void frequentEntrySurvivesScan() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>("scan", 100, null);
+        cache.put("hot", 1);
+        for (int i = 0; i < 200; i++) {
+            assertEquals(1, cache.getIfPresent("hot"));
+        }
+        cache.cleanUp();
+
+        for (int i = 0; i < 5_000; i++) {
+            cache.put("cold-" + i, i);
+            if (i % 50 == 0) {
+                assertEquals(1, cache.getIfPresent("hot"));
+            }
+        }
+        cache.cleanUp();
+
+        assertEquals(1, cache.getIfPresent("hot"));
+        assertTrue(cache.estimatedSize() <= 100);
+        assertTrue(cache.stats().evictions() >= 4_900);
+    }
+
+    @Test
+    @DisplayName("Entradas expiram pelo TTL contado desde a escrita")
+    void entriesExpireAfterWrite() {
+        AtomicLong now = new AtomicLong();
+        BoundedCache<String, String> cache = new BoundedCache<>("ttl", 10, Duration.ofSeconds(10), now::get);
+
+        cache.put("a", "1");
+        now.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        assertEquals("1", cache.getIfPresent("a"));
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(6));
+        assertNull(cache.getIfPresent("a"));
+        cache.cleanUp();
+
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(1, stats.expirations());
+        assertEquals(0, stats.size());
+    }
+
+    @Test
+    @DisplayName("Leituras e escritas concorrentes mantem o limite e as estatisticas")
+    void concurrentAccessKeepsBound() throws Exception {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>("concurrent", 100, null);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                tasks.add(executor.submit(() -> {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 20_000; i++) {
+                        int key = random.nextInt(1_000);
+                        if (cache.getIfPresent(key) == null) {
+                            cache.put(key, key);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> task : tasks) {
+                task.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        cache.cleanUp();
+
+        CacheStats stats = cache.stats();
+        assertTrue(cache.estimatedSize() <= 100);
+        assertEquals(160_000, stats.hits() + stats.misses());
+    }
+}
@@ -0,0 +1,66 @@
+package dtm.di.core;
+
+import dtm.di.storage.bean.BeanGraph;
+import dtm.di.storage.bean.BeanInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BeanGraphPhaseTest {
+
+    interface UserService {}
+
+    static class UserServiceImpl implements UserService {}
+
+    static class Config {
+        public Object plain() { return null; }
+        public Object serviceProducer() { return null; }
+        public Object transitive() { return null; }
+        public Object direct() { return null; }
+    }
+
+    @Test
+    @DisplayName("Deve separar beans antes/depois dos servicos considerando dependencias transitivas e subtipos")
+    void splitsPhasesUsingTransitiveAndSubtypeDependencies() throws Exception {
+        Map<String, BeanInfo> beans = new LinkedHashMap<>();
+        beans.put("config", bean("config", Config.class, null, Set.of(), 0, false));
+        beans.put("plain", bean("plain", String.class, method("plain"), Set.of("config"), 1, false));
+        beans.put("serviceProducer", bean("serviceProducer", UserServiceImpl.class, method("serviceProducer"), Set.of("config"), 1, false));
+        beans.put("transitive", bean("transitive", Integer.class, method("transitive"), Set.of("serviceProducer"), 2, false));
+        beans.put("direct", bean("direct", Long.class, method("direct"), Set.of("plain"), 2, true));
+
+        BeanGraph graph = new BeanGraph(beans, new HashMap<>());
+        Set<Class<?>> services = Set.of(UserService.class);
+
+        Map<Class<?>, List<Method>> before = graph.getBeforeServiceBeans(services);
+        Map<Class<?>, List<Method>> after = graph.getAfterServiceBeans(services);
+
+        assertEquals(List.of(method("plain"), method("serviceProducer")), before.get(Config.class));
+        assertEquals(List.of(method("transitive"), method("direct")), after.get(Config.class));
+        assertEquals(List.of(method("plain"), method("serviceProducer"), method("transitive")),
+                graph.getBeforeServiceBeans(Set.of()).get(Config.class));
+    }
+
+    private static Method method(String name) throws NoSuchMethodException {
+        return Config.class.getMethod(name);
+    }
+
+    private static BeanInfo bean(String id, Class<?> type, Method method, Set<String> deps, int layer, boolean dependsOnServices) {
+        return BeanInfo.builder()
+                .beanId(id)
+                .producedType(type)
+                .configClass(Config.class)
+                .method(method)
+                .dependencyTypes(Set.of())
+                .dependencies(deps)
+                .singleton(true)
+                .aop(false)
+                .layer(layer)
+                .dependsOnUserServices(dependsOnServices)
+                .build();
+    }
+}
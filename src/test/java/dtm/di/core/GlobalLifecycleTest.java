@@ -8,8 +8,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class GlobalLifecycleTest {
 
@@ -36,4 +40,20 @@ class GlobalLifecycleTest {
 
         assertEquals(1, MainPreDestroyProbe.destroyCount());
     }
+
+    @Test
+    @DisplayName("reload executa @PreDestroy e recria singletons reaproveitando a descoberta")
+    void reloadDestroysAndRecreatesSingletonsFromRetainedDiscovery() throws Exception {
+        MainPreDestroyProbe before = container.getDependency(MainPreDestroyProbe.class);
+        Set<Class<?>> discovered = Set.copyOf(container.getLoadedSystemClasses());
+
+        container.reload();
+
+        MainPreDestroyProbe after = container.getDependency(MainPreDestroyProbe.class);
+        assertTrue(container.isLoaded());
+        assertEquals(1, MainPreDestroyProbe.destroyCount());
+        assertNotNull(after);
+        assertNotSame(before, after);
+        assertEquals(discovered, Set.copyOf(container.getLoadedSystemClasses()));
+    }
 }
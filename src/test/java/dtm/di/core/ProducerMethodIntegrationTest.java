@@ -3,6 +3,7 @@ package dtm.di.core;
 import dtm.di.storage.containers.DependencyContainerStorage;
 import dtm.di.exceptions.UnloadError;
 import dtm.di.testsupport.ContainerFixture;
+import dtm.di.testsupport.ParallelProducerFailureConfiguration;
 import dtm.di.testsupport.Probe;
 import dtm.di.testsupport.ProducerMethodConfiguration;
 import org.junit.jupiter.api.AfterEach;
@@ -62,6 +63,40 @@ class ProducerMethodIntegrationTest {
         assertEquals(1, Probe.count("MainAsyncProducer.completed"));
     }
 
+    @Test
+    void parallelProducersRegisterSameBeansAsSerialLoad() throws Exception {
+        container = ContainerFixture.newContainer("producer-integration");
+        container.setParallelProducers(true);
+        container.load();
+
+        ProducerMethodConfiguration.DependentBean dependent =
+                container.getDependency(ProducerMethodConfiguration.DependentBean.class);
+
+        assertNotNull(dependent);
+        assertTrue(ProducerMethodConfiguration.awaitStarted());
+        assertFalse(container.hasDependecy(ProducerMethodConfiguration.InactiveBean.class));
+        assertEquals(1, Probe.count("MainAsyncProducer.dependent"));
+
+        ProducerMethodConfiguration.releaseAsyncProducer();
+        assertEquals("async", dependent.asyncBean().getAsync().await().value());
+    }
+
+    @Test
+    void parallelWaveFailureStillRegistersSuccessfulProducersForTeardown() {
+        container = ContainerFixture.newContainer("parallel-producer-failure");
+        container.setParallelProducers(true);
+
+        UnloadError error = assertThrows(UnloadError.class, container::load);
+
+        assertTrue(exceptionMessages(error).contains("producer-failure"));
+        assertEquals(1, Probe.count("ParallelProducerFailure.created"));
+        assertTrue(container.hasDependecy(ParallelProducerFailureConfiguration.ClosableBean.class));
+
+        container.unload();
+
+        assertEquals(1, Probe.count("ParallelProducerFailure.closed"));
+    }
+
     @Test
     void directDependencyOnAsyncProducerFailsWithActionableMessage() {
         UnloadError error = assertThrows(
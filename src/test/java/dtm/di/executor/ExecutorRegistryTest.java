@@ -0,0 +1,77 @@
+package dtm.di.executor;
+
+import dtm.di.storage.executor.ExecutorMetrics;
+import dtm.di.storage.executor.ExecutorOptions;
+import dtm.di.storage.executor.ExecutorRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExecutorRegistryTest {
+
+    private final ExecutorRegistry registry = new ExecutorRegistry(null);
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    @DisplayName("Pool limitado expoe fila, ativos e rejeicoes nas metricas")
+    void boundedPoolReportsQueueActiveAndRejected() throws Exception {
+        registry.configure("limited", ExecutorOptions.builder()
+                .threadNamePrefix("Limited-")
+                .threads(1)
+                .queueCapacity(1)
+                .build());
+
+        ExecutorService executor = registry.get("limited");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        executor.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        executor.execute(() -> { });
+
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+
+        ExecutorMetrics metrics = registry.metrics().get("limited");
+        assertEquals(1, metrics.active());
+        assertEquals(1, metrics.queueDepth());
+        assertEquals(1, metrics.rejected());
+
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("Shutdown encerra os pools e um novo get cria outro pool")
+    void shutdownStopsPoolsAndGetRecreates() {
+        ExecutorService first = registry.get(ExecutorRegistry.MAIN);
+
+        registry.shutdown();
+
+        assertTrue(first.isShutdown());
+        assertTrue(registry.metrics().isEmpty());
+        ExecutorService second = registry.get(ExecutorRegistry.MAIN);
+        assertNotSame(first, second);
+        assertFalse(second.isShutdown());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
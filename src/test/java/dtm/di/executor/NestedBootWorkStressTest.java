@@ -0,0 +1,40 @@
+package dtm.di.executor;
+
+import dtm.di.core.InjectionStrategy;
+import dtm.di.storage.containers.DependencyContainerStorage;
+import dtm.di.storage.executor.ExecutorOptions;
+import dtm.di.storage.executor.ExecutorRegistry;
+import dtm.di.testsupport.ContainerFixture;
+import dtm.di.testsupport.StressRoot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NestedBootWorkStressTest {
+
+    private DependencyContainerStorage container;
+
+    @AfterEach
+    void tearDown() {
+        ContainerFixture.dispose(container);
+    }
+
+    @Test
+    @DisplayName("Injecao paralela aninhada nao trava com pools de boot e injecao de uma thread")
+    void nestedParallelInjectionDoesNotStarveSingleThreadPools() {
+        container = ContainerFixture.newContainer("executor-stress");
+        container.configureExecutor(ExecutorRegistry.BOOT, ExecutorOptions.platform("BootExecutor-Worker-", 1, 3));
+        container.configureExecutor(ExecutorRegistry.INJECTION, ExecutorOptions.platform("InjectionExecutor-Worker-", 1, 2));
+        container.setInjectionStrategy(InjectionStrategy.PARALLEL);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(20), container::load);
+
+        StressRoot root = container.getDependency(StressRoot.class);
+        assertTrue(root.isFullyInjected());
+    }
+}
@@ -37,6 +37,9 @@ class ManagedApplicationIntegrationTest {
         assertOrder(events, "after-all", "on-close");
         assertOrder(events, "on-close", "pre-destroy");
         assertOrder(events, "on-close", "async-service-pre-destroy");
+        assertOrder(events, "main-return", "ready");
+        assertOrder(events, "after-all", "ready");
+        assertEquals(1, count(events, "ready-phases:4"));
 
         assertEquals("BootThread", event(events, "onboot-enter").thread());
         assertEquals("BootThread", event(events, "runner-start").thread());
@@ -59,6 +62,8 @@ class ManagedApplicationIntegrationTest {
         assertOrder(events, "application-fail:InvalidBootException", "on-close");
         assertOrder(events, "on-close", "pre-destroy");
         assertOrder(events, "on-close", "async-service-pre-destroy");
+        assertOrder(events, "after-all", "ready-failed");
+        assertEquals(0, count(events, "ready"));
         assertFalse(hasEvent(events, "runner-start"));
         assertFalse(hasEvent(events, "after-startup"));
         assertEquals(1, count(events, "pre-destroy"));
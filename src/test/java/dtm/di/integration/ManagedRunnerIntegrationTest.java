@@ -0,0 +1,168 @@
+package dtm.di.integration;
+
+import dtm.di.integration.fixture.runner.ManagedRunnerApp;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ManagedRunnerIntegrationTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Runners seguem @RunnerOrder e dependsOn e os de mesma ordem rodam em paralelo")
+    void runnersFollowOrderAndRunSameOrderInParallel() throws Exception {
+        List<Event> events = runScenario("runner-order");
+
+        assertOrder(events, "first", "left-start");
+        assertOrder(events, "first", "right-start");
+        assertOrder(events, "left-done", "after-left");
+        assertOrder(events, "left-done", "last");
+        assertOrder(events, "right-done", "last");
+        assertOrder(events, "after-left", "last");
+        assertOrder(events, "last", "ready");
+
+        assertTrue(event(events, "left-start").thread().startsWith("BootRunner-"));
+        assertNotEquals(event(events, "left-start").thread(), event(events, "right-start").thread());
+        assertFalse(hasEvent(events, "application-fail:"));
+    }
+
+    @Test
+    @DisplayName("Hooks de mesma ordem executam em paralelo em threads virtuais")
+    void sameOrderHooksRunInParallel() throws Exception {
+        List<Event> events = runScenario("runner-order");
+
+        assertTrue(event(events, "hook-a").thread().startsWith("BootHook-"));
+        assertTrue(event(events, "hook-b").thread().startsWith("BootHook-"));
+        assertNotEquals(event(events, "hook-a").thread(), event(events, "hook-b").thread());
+        assertOrder(events, "hook-a", "onboot");
+        assertOrder(events, "hook-b", "onboot");
+    }
+
+    @Test
+    @DisplayName("Falhas de runners viram CompositeBootException e dependentes da falha nao executam")
+    void runnerFailuresAreAggregatedAndDependentsSkipped() throws Exception {
+        List<Event> events = runScenario("runner-failure");
+
+        assertTrue(hasEvent(events, "broken"));
+        assertTrue(hasEvent(events, "faulty"));
+        assertTrue(hasEvent(events, "healthy"));
+        assertFalse(hasEvent(events, "skipped-ran"));
+        assertEquals(1, count(events, "application-fail:CompositeBootException"));
+        assertEquals(1, count(events, "composite-errors:2"));
+        assertEquals(1, count(events, "composite-error:broken-runner"));
+        assertEquals(1, count(events, "composite-error:faulty-runner"));
+        assertTrue(hasEvent(events, "ready-failed"));
+    }
+
+    @Test
+    @DisplayName("dependsOn para runner de ordem maior falha o boot como conflito de ordem")
+    void dependsOnHigherOrderIsOrderConflict() throws Exception {
+        List<Event> events = runScenario("runner-conflict");
+
+        assertEquals(1, count(events, "application-fail:InvalidBootException"));
+        assertEquals(1, count(events, "order-conflict"));
+        assertFalse(hasEvent(events, "early-ran"));
+        assertFalse(hasEvent(events, "late-ran"));
+        assertTrue(hasEvent(events, "ready-failed"));
+    }
+
+    private List<Event> runScenario(String profile) throws Exception {
+        Path eventsFile = tempDir.resolve(profile + "-events.log");
+        Path processLog = tempDir.resolve(profile + "-process.log");
+        String javaExecutable = Path.of(
+                System.getProperty("java.home"),
+                "bin",
+                isWindows() ? "java.exe" : "java"
+        ).toString();
+        String classpath = System.getProperty(
+                "surefire.test.class.path",
+                System.getProperty("java.class.path")
+        );
+
+        Process process = new ProcessBuilder(
+                javaExecutable,
+                "-cp",
+                classpath,
+                ManagedRunnerApp.class.getName(),
+                eventsFile.toString(),
+                "-p=" + profile
+        )
+                .redirectErrorStream(true)
+                .redirectOutput(processLog.toFile())
+                .start();
+
+        boolean finished = process.waitFor(Duration.ofSeconds(30).toMillis(), TimeUnit.MILLISECONDS);
+        if (!finished) {
+            process.destroyForcibly();
+            process.waitFor(5, TimeUnit.SECONDS);
+        }
+
+        String output = Files.exists(processLog) ? Files.readString(processLog) : "";
+        assertTrue(finished, () -> "JVM filha não terminou. Saída:\n" + output);
+        assertEquals(0, process.exitValue(), () -> "JVM filha falhou. Saída:\n" + output);
+        assertTrue(Files.exists(eventsFile), () -> "Arquivo de eventos ausente. Saída:\n" + output);
+
+        return Files.readAllLines(eventsFile).stream()
+                .map(Event::parse)
+                .toList();
+    }
+
+    private static void assertOrder(List<Event> events, String before, String after) {
+        int beforeIndex = indexOf(events, before);
+        int afterIndex = indexOf(events, after);
+        assertTrue(beforeIndex >= 0, () -> "Evento ausente: " + before + " em " + events);
+        assertTrue(afterIndex >= 0, () -> "Evento ausente: " + after + " em " + events);
+        assertTrue(beforeIndex < afterIndex, () -> before + " deveria preceder " + after + ": " + events);
+    }
+
+    private static Event event(List<Event> events, String name) {
+        return events.stream()
+                .filter(item -> item.name().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Evento ausente: " + name + " em " + events));
+    }
+
+    private static boolean hasEvent(List<Event> events, String prefix) {
+        return events.stream().anyMatch(event -> event.name().startsWith(prefix));
+    }
+
+    private static long count(List<Event> events, String name) {
+        return events.stream().filter(event -> event.name().equals(name)).count();
+    }
+
+    private static int indexOf(List<Event> events, String name) {
+        for (int index = 0; index < events.size(); index++) {
+            if (events.get(index).name().equals(name)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isWindows() {
+        return System.getProperty("os.name", "").toLowerCase().contains("win");
+    }
+
+    private record Event(int sequence, String name, String thread) {
+        private static Event parse(String line) {
+            String[] parts = line.split("\\|", 3);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Evento inválido: " + line);
+            }
+            return new Event(Integer.parseInt(parts[0]), parts[1], parts[2]);
+        }
+    }
+}
@@ -15,6 +15,7 @@ import dtm.di.annotations.schedule.EnableSchedule;
 import dtm.di.annotations.schedule.Schedule;
 import dtm.di.annotations.schedule.ScheduleMethod;
 import dtm.di.application.ApplicationRunner;
+import dtm.di.application.startup.BootHandle;
 import dtm.di.application.startup.ManagedApplication;
 
 import java.io.IOException;
@@ -36,8 +37,16 @@ public final class ManagedIntegrationApp {
     public static void main(String[] args) {
         Recorder.configure(Path.of(args[0]), args.length > 1 ? args[1] : "success");
         Recorder.record("main-before");
-        ManagedApplication.doRun(false, args);
+        BootHandle handle = ManagedApplication.doRun(false, args);
         Recorder.record("main-return");
+        handle.readiness().whenComplete((ready, error) -> {
+            if (error == null) {
+                Recorder.record("ready");
+                Recorder.record("ready-phases:" + ready.getPhaseTimings().size());
+            } else {
+                Recorder.record("ready-failed");
+            }
+        });
         Recorder.DO_RUN_RETURNED.countDown();
     }
 
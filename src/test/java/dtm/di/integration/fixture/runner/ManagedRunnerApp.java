@@ -0,0 +1,268 @@
+package dtm.di.integration.fixture.runner;
+
+import dtm.di.annotations.Profile;
+import dtm.di.annotations.Service;
+import dtm.di.annotations.Singleton;
+import dtm.di.annotations.boot.ApplicationBoot;
+import dtm.di.annotations.boot.LifecycleHook;
+import dtm.di.annotations.boot.OnApplicationFail;
+import dtm.di.annotations.boot.OnBoot;
+import dtm.di.annotations.boot.RunnerOrder;
+import dtm.di.application.ApplicationRunner;
+import dtm.di.application.startup.ManagedApplication;
+import dtm.di.exceptions.CompositeBootException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Aplicação gerenciada da {@code ManagedRunnerIntegrationTest}. O primeiro argumento é o arquivo
+ * de eventos e o perfil ({@code -p=...}) escolhe os runners do cenário.
+ */
+@ApplicationBoot(value = ManagedRunnerApp.Boot.class, scanPackages = "dtm.di.integration.fixture.runner")
+public final class ManagedRunnerApp {
+
+    private ManagedRunnerApp() {
+    }
+
+    public static void main(String[] args) {
+        Recorder.configure(Path.of(args[0]));
+        ManagedApplication.doRun(false, args, ManagedRunnerApp.class).readiness().whenComplete((ready, error) ->
+                Recorder.record(error == null ? "ready" : "ready-failed"));
+    }
+
+    public static final class Boot {
+
+        private Boot() {
+        }
+
+        @LifecycleHook(LifecycleHook.Event.AFTER_CONTAINER_LOAD)
+        public static void hookA() {
+            Recorder.record("hook-a");
+            Recorder.meet(Recorder.HOOKS, "hooks de mesma ordem não executaram em paralelo");
+        }
+
+        @LifecycleHook(LifecycleHook.Event.AFTER_CONTAINER_LOAD)
+        public static void hookB() {
+            Recorder.record("hook-b");
+            Recorder.meet(Recorder.HOOKS, "hooks de mesma ordem não executaram em paralelo");
+        }
+
+        @OnBoot
+        public static void onBoot() {
+            Recorder.record("onboot");
+        }
+
+        @OnApplicationFail
+        public static void onFailure(Throwable error) {
+            Throwable cause = (error.getCause() != null) ? error.getCause() : error;
+            Recorder.record("application-fail:" + cause.getClass().getSimpleName());
+            if (cause instanceof CompositeBootException composite) {
+                Recorder.record("composite-errors:" + composite.getErrorsSize());
+                for (Throwable item : composite.getErrors()) {
+                    Recorder.record("composite-error:" + item.getMessage());
+                }
+            } else if (cause.getMessage() != null && cause.getMessage().startsWith("Conflito de ordem")) {
+                Recorder.record("order-conflict");
+            }
+        }
+    }
+
+    @Singleton
+    @Service
+    @Profile("runner-order")
+    @RunnerOrder(-1)
+    public static class FirstRunner implements ApplicationRunner {
+
+        @Override
+        public void run(String[] args) {
+            Recorder.record("first");
+        }
+    }
+
+    @Singleton
+    @Service
+    @Profile("runner-order")
+    public static class LeftRunner implements ApplicationRunner {
+
+        @Override
+        public void run(String[] args) {
+            Recorder.record("left-start");
+            Recorder.meet(Recorder.RUNNERS, "runners de mesma ordem não executaram em paralelo");
+            Recorder.record("left-done");
+        }
+    }
+
+    @Singleton
+    @Service
+    @Profile("runner-order")
+    public static class RightRunner implements ApplicationRunner {
+
+        @Override
+        public void run(String[] args) {
+            Recorder.record("right-start");
+            Recorder.meet(Recorder.RUNNERS, "runners de mesma ordem não executaram em paralelo");
+            Recorder.record("right-done");
+        }
+    }
+
+    @Singleton
+    @Service
+    @Profile("runner-order")
+    @RunnerOrder(dependsOn = LeftRunner.class)
+    public static class AfterLeftRunner implements ApplicationRunner {
+
+        @Override
+        public void run(String[] args) {
+            Recorder.record("after-left");
+        }
+    }
+
+    @Singleton
+    @Service
+    @Profile("runner-order")
+    @RunnerOrder(1)
+    public static class LastRunner implements ApplicationRunner {
+
+        @Override
+        public void run(String[] args) {
+            Recorder.record("last");
+        }
+    }
+
+    @Singleton
+    @Service
+    @Profile("runner-failure")
+    public static class BrokenRunner implements ApplicationRunner {
+
+        @Override
+        public void run(String[] args) {
+            Recorder.record("broken");
+            throw new IllegalStateException("broken-runner");
+        }
+    }
+
+    @Singleton
+    @Service
+    @Profile("runner-failure")
+    public static class FaultyRunner implements ApplicationRunner {
+
+        @Override
+        public void run(String[] args) {
+            Recorder.record("faulty");
+            throw new IllegalArgumentException("faulty-runner");
+        }
+    }
+
+    @Singleton
+    @Service
+    @Profile("runner-failure")
+    public static class HealthyRunner implements ApplicationRunner {
+
+        @Override
+        public void run(String[] args) {
+            Recorder.record("healthy");
+        }
+    }
+
+    @Singleton
+    @Service
+    @Profile("runner-failure")
+    @RunnerOrder(dependsOn = BrokenRunner.class)
+    public static class SkippedRunner implements ApplicationRunner {
+
+        @Override
+        public void run(String[] args) {
+            Recorder.record("skipped-ran");
+        }
+    }
+
+    @Singleton
+    @Service
+    @Profile("runner-conflict")
+    @RunnerOrder(value = 0, dependsOn = LateRunner.class)
+    public static class EarlyRunner implements ApplicationRunner {
+
+        @Override
+        public void run(String[] args) {
+            Recorder.record("early-ran");
+        }
+    }
+
+    @Singleton
+    @Service
+    @Profile("runner-conflict")
+    @RunnerOrder(1)
+    public static class LateRunner implements ApplicationRunner {
+
+        @Override
+        public void run(String[] args) {
+            Recorder.record("late-ran");
+        }
+    }
+
+    private static final class Recorder {
+
+        private static final Object FILE_LOCK = new Object();
+        private static final AtomicInteger SEQUENCE = new AtomicInteger();
+        private static final CountDownLatch HOOKS = new CountDownLatch(2);
+        private static final CountDownLatch RUNNERS = new CountDownLatch(2);
+
+        private static volatile Path output;
+
+        private Recorder() {
+        }
+
+        private static void configure(Path outputFile) {
+            output = outputFile;
+        }
+
+        /**
+         * Conta a chegada e espera o par; com execução sequencial o primeiro nunca é liberado.
+         */
+        private static void meet(CountDownLatch latch, String message) {
+            latch.countDown();
+            try {
+                if (!latch.await(5, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException(message);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("espera interrompida", e);
+            }
+        }
+
+        private static void record(String event) {
+            Path target = output;
+            if (target == null) {
+                return;
+            }
+
+            String line = "%03d|%s|%s%n".formatted(
+                    SEQUENCE.incrementAndGet(),
+                    event,
+                    Thread.currentThread().getName()
+            );
+
+            synchronized (FILE_LOCK) {
+                try {
+                    Files.writeString(
+                            target,
+                            line,
+                            StandardCharsets.UTF_8,
+                            StandardOpenOption.CREATE,
+                            StandardOpenOption.APPEND
+                    );
+                } catch (IOException e) {
+                    throw new IllegalStateException("falha ao registrar evento " + event, e);
+                }
+            }
+        }
+    }
+}
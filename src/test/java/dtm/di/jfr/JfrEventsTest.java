@@ -0,0 +1,61 @@
+package dtm.di.jfr;
+
+import dtm.di.storage.containers.DependencyContainerStorage;
+import dtm.di.testsupport.ContainerFixture;
+import dtm.di.testsupport.NewInstanceTarget;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JfrEventsTest {
+
+    private DependencyContainerStorage container;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        container = ContainerFixture.newLoadedContainer("test");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ContainerFixture.dispose(container);
+    }
+
+    @Test
+    @DisplayName("eventos JFR do container sao emitidos apenas quando habilitados na gravacao")
+    void emitsContainerEventsWhenEnabled() throws Exception {
+        Path dump = Files.createTempFile("kernon-jfr", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("dtm.di.BeanCreation").withoutThreshold();
+            recording.enable("dtm.di.DependencyLookupMiss");
+            recording.start();
+
+            container.newInstance(NewInstanceTarget.class);
+            container.getDependency(Runnable.class);
+
+            recording.stop();
+            recording.dump(dump);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+            assertTrue(events.stream().anyMatch(event ->
+                    event.getEventType().getName().equals("dtm.di.BeanCreation")
+                            && NewInstanceTarget.class.getName().equals(event.getString("beanClass"))
+                            && event.getBoolean("success")));
+            assertTrue(events.stream().anyMatch(event ->
+                    event.getEventType().getName().equals("dtm.di.DependencyLookupMiss")
+                            && Runnable.class.getName().equals(event.getString("referenceClass"))));
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package dtm.di.scanner;
+
+import dtm.di.annotations.Component;
+import dtm.di.storage.scanner.BytecodeCandidateDetector;
+import dtm.di.storage.scanner.ClassFileAnnotationReader;
+import dtm.di.testsupport.ContainerFixture;
+import dtm.di.testsupport.ExternalModule;
+import dtm.di.testsupport.MainCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BytecodeCandidateDetectorTest {
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Component
+    @interface MetaComponent {
+    }
+
+    @MetaComponent
+    static class MetaAnnotatedService {
+    }
+
+    @Test
+    @DisplayName("leitor de bytecode extrai nome, superclasse e anotacoes visiveis")
+    void readsClassNameAndAnnotations() throws Exception {
+        ClassFileAnnotationReader.ClassFileInfo info = ClassFileAnnotationReader.read(open(MainCounter.class));
+
+        assertEquals(MainCounter.class.getName(), info.className());
+        assertEquals(Object.class.getName(), info.superClassName());
+        assertTrue(info.annotationTypes().contains("dtm.di.annotations.Component"));
+        assertTrue(info.annotationTypes().contains("dtm.di.annotations.Singleton"));
+    }
+
+    @Test
+    @DisplayName("detector aceita estereotipo direto ou por meta-anotacao e recusa classe comum")
+    void detectsDirectAndMetaStereotypes() {
+        BytecodeCandidateDetector detector = new BytecodeCandidateDetector();
+        ClassLoader loader = getClass().getClassLoader();
+
+        assertTrue(detector.isCandidate(MainCounter.class.getName(), () -> open(MainCounter.class), loader));
+        assertTrue(detector.isCandidate(MetaAnnotatedService.class.getName(), () -> open(MetaAnnotatedService.class), loader));
+        assertFalse(detector.isCandidate(ContainerFixture.class.getName(), () -> open(ContainerFixture.class), loader));
+    }
+
+    @Test
+    @DisplayName("cache de meta-anotacoes separa anotacoes de mesmo nome em class loaders diferentes")
+    void metaAnnotationCacheIsPerClassLoader() {
+        BytecodeCandidateDetector detector = new BytecodeCandidateDetector();
+
+        try (ExternalModule stereotyped = markerModule("meta-stereotyped", "@dtm.di.annotations.Component");
+             ExternalModule plain = markerModule("meta-plain", "")) {
+            assertTrue(isService(detector, stereotyped));
+            assertFalse(isService(detector, plain));
+            assertTrue(isService(detector, stereotyped));
+        }
+    }
+
+    private static ExternalModule markerModule(String name, String markerAnnotations) {
+        return ExternalModule.compile(name, Map.of(
+                "plugmeta.Marker", """
+                        package plugmeta;
+
+                        @java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)
+                        %s
+                        public @interface Marker {
+                        }
+                        """.formatted(markerAnnotations),
+                "plugmeta.Service", """
+                        package plugmeta;
+
+                        @Marker
+                        public class Service {
+                        }
+                        """
+        ));
+    }
+
+    private static boolean isService(BytecodeCandidateDetector detector, ExternalModule module) {
+        ClassLoader loader = module.classLoader();
+        return detector.isCandidate("plugmeta.Service", () -> loader.getResourceAsStream("plugmeta/Service.class"), loader);
+    }
+
+    private static InputStream open(Class<?> clazz) {
+        return clazz.getClassLoader().getResourceAsStream(clazz.getName().replace('.', '/') + ".class");
+    }
+}
@@ -0,0 +1,125 @@
+package dtm.di.scanner;
+
+import dtm.di.storage.scanner.BytecodeCandidateDetector;
+import dtm.di.storage.scanner.CandidateDetector;
+import dtm.di.storage.scanner.ClassPathFingerprint;
+import dtm.di.storage.scanner.ClassPathScanner;
+import dtm.di.storage.scanner.ClassScanOptions;
+import dtm.di.storage.scanner.ScanIndex;
+import dtm.di.storage.scanner.ScanRoot;
+import dtm.di.testsupport.ContainerFixture;
+import dtm.di.testsupport.MainCounter;
+import dtm.discovery.core.ClassFinderConfigurations;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClassPathScanIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("scan grava o indice e o fingerprint inalterado reaproveita os candidatos")
+    void scanWritesIndexReusedForUnchangedEntry() throws Exception {
+        Path indexFile = tempDir.resolve("scan.idx");
+        Path testClasses = Path.of(MainCounter.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        List<ScanRoot> roots = List.of(new ScanRoot(testClasses, MainCounter.class.getClassLoader()));
+
+        ClassPathScanner scanner = newScanner(indexFile, CandidateDetector.loadingClasses());
+        Set<Class<?>> found = scanner.scan(roots);
+
+        assertTrue(found.contains(MainCounter.class));
+        assertFalse(found.contains(ContainerFixture.class));
+
+        List<String> indexed = ScanIndex.load(indexFile, scanner.scopeKey()).lookup(ClassPathFingerprint.of(testClasses));
+        assertNotNull(indexed);
+        assertTrue(indexed.contains(MainCounter.class.getName()));
+
+        Set<Class<?>> reused = newScanner(indexFile, new CandidateDetector() {
+            @Override
+            public boolean isCandidate(String className, ClassBytes classBytes, ClassLoader classLoader) {
+                throw new AssertionError("entrada inalterada nao deveria ser varrida: " + className);
+            }
+
+            @Override
+            public String scopeId() {
+                return CandidateDetector.loadingClasses().scopeId();
+            }
+        }).scan(roots);
+
+        assertTrue(reused.contains(MainCounter.class));
+    }
+
+    @Test
+    @DisplayName("indice com fingerprint diferente nao e reaproveitado")
+    void changedFingerprintIsNotReused() throws Exception {
+        Path testClasses = Path.of(MainCounter.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        ClassPathFingerprint fingerprint = ClassPathFingerprint.of(testClasses);
+        ScanIndex index = ScanIndex.load(tempDir.resolve("other.idx"));
+
+        index.put(fingerprint, List.of(MainCounter.class.getName()));
+        ClassPathFingerprint changed = new ClassPathFingerprint(
+                fingerprint.path(), fingerprint.size(), fingerprint.lastModified(), "outro-hash"
+        );
+
+        assertNull(index.lookup(changed));
+        assertNotNull(index.lookup(fingerprint));
+    }
+
+    @Test
+    @DisplayName("indice gravado com outro detector de candidatos nao e reaproveitado")
+    void otherDetectorDoesNotReuseIndex() throws Exception {
+        Path indexFile = tempDir.resolve("detector.idx");
+        Path testClasses = Path.of(MainCounter.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        List<ScanRoot> roots = List.of(new ScanRoot(testClasses, MainCounter.class.getClassLoader()));
+
+        ClassPathScanner reflection = newScanner(indexFile, CandidateDetector.loadingClasses());
+        reflection.scan(roots);
+        ClassPathScanner bytecode = newScanner(indexFile, new BytecodeCandidateDetector());
+
+        assertNotEquals(reflection.scopeKey(), bytecode.scopeKey());
+        assertTrue(bytecode.scopeKey().matches("[0-9a-f]{64}"));
+        assertNull(ScanIndex.load(indexFile, bytecode.scopeKey()).lookup(ClassPathFingerprint.of(testClasses)));
+        assertTrue(bytecode.scan(roots).contains(MainCounter.class));
+    }
+
+    @Test
+    @DisplayName("scanPackages limita a descoberta aos pacotes incluidos")
+    void scanPackagesLimitsDiscovery() throws Exception {
+        Path testClasses = Path.of(MainCounter.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        List<ScanRoot> roots = List.of(new ScanRoot(testClasses, MainCounter.class.getClassLoader()));
+        ClassPathScanner scanner = new ClassPathScanner(
+                new ClassFinderConfigurations() {},
+                ClassScanOptions.builder().scanPackages(List.of("dtm.di.integration")).build(),
+                CandidateDetector.loadingClasses(),
+                ForkJoinPool.commonPool()
+        );
+
+        Set<Class<?>> found = scanner.scan(roots);
+
+        assertFalse(found.isEmpty());
+        assertFalse(found.contains(MainCounter.class));
+        assertTrue(found.stream().allMatch(clazz -> clazz.getName().startsWith("dtm.di.integration.")));
+    }
+
+    private ClassPathScanner newScanner(Path indexFile, CandidateDetector detector) {
+        return new ClassPathScanner(
+                new ClassFinderConfigurations() {},
+                ClassScanOptions.builder().indexFile(indexFile).build(),
+                detector,
+                ForkJoinPool.commonPool()
+        );
+    }
+}
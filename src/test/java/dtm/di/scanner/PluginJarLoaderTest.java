@@ -0,0 +1,173 @@
+package dtm.di.scanner;
+
+import dtm.di.storage.ClassFinderConfigurationsStorage;
+import dtm.di.storage.scanner.BytecodeCandidateDetector;
+import dtm.di.storage.scanner.ClassPathScanner;
+import dtm.di.storage.scanner.ClassScanOptions;
+import dtm.di.storage.scanner.MappedJarFile;
+import dtm.di.storage.scanner.PluginClassLoader;
+import dtm.di.storage.scanner.PluginJarLoader;
+import dtm.di.storage.scanner.ScanRoot;
+import dtm.di.testsupport.ContainerFixture;
+import dtm.di.testsupport.ExternalModule;
+import dtm.di.testsupport.MainCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PluginJarLoaderTest {
+
+    @TempDir
+    Path pluginFolder;
+
+    @Test
+    @DisplayName("jar mapeado le entradas deflate e stored iguais ao arquivo original")
+    void mappedJarReadsStoredAndDeflatedEntries() throws Exception {
+        byte[] counter = classBytes(MainCounter.class);
+        byte[] fixture = classBytes(ContainerFixture.class);
+        Path jar = writeJar(pluginFolder.resolve("plugin-a.jar"), counter, fixture);
+
+        MappedJarFile mapped = MappedJarFile.open(jar);
+
+        assertArrayEquals(counter, mapped.read(mapped.getEntry(entryName(MainCounter.class))));
+        assertArrayEquals(fixture, mapped.read(mapped.getEntry(entryName(ContainerFixture.class))));
+    }
+
+    @Test
+    @DisplayName("jars da mesma pasta de plugin compartilham um class loader e alimentam o scan")
+    void pluginJarsFeedScanner() throws Exception {
+        writeJar(pluginFolder.resolve("plugin-a.jar"), classBytes(MainCounter.class), classBytes(ContainerFixture.class));
+        writeJar(pluginFolder.resolve("plugin-b.jar"), classBytes(MainCounter.class), classBytes(ContainerFixture.class));
+
+        List<ScanRoot> roots = new PluginJarLoader(ForkJoinPool.commonPool())
+                .open(List.of(pluginFolder.toString()), getClass().getClassLoader());
+
+        assertEquals(2, roots.size());
+        roots.forEach(root -> assertInstanceOf(PluginClassLoader.class, root.classLoader()));
+        assertSame(roots.get(0).classLoader(), roots.get(1).classLoader());
+
+        Set<Class<?>> found = new ClassPathScanner(
+                new ClassFinderConfigurationsStorage(),
+                ClassScanOptions.builder().bytecodeScan(true).build(),
+                new BytecodeCandidateDetector(),
+                ForkJoinPool.commonPool()
+        ).scan(roots);
+
+        assertTrue(found.stream().anyMatch(clazz -> clazz.getName().equals(MainCounter.class.getName())));
+        assertFalse(found.stream().anyMatch(clazz -> clazz.getName().equals(ContainerFixture.class.getName())));
+    }
+
+    @Test
+    @DisplayName("plugin dividido em varios jars resolve classes entre eles e isola outras pastas")
+    void multiJarPluginResolvesAcrossJars() throws Exception {
+        try (ExternalModule module = ExternalModule.compile("plugin-split", Map.of(
+                "plugapi.Greeting", """
+                        package plugapi;
+
+                        public class Greeting {
+                            public String text() {
+                                return "ola";
+                            }
+                        }
+                        """,
+                "plugimpl.GreetingService", """
+                        package plugimpl;
+
+                        public class GreetingService {
+                            public String greet() {
+                                return new plugapi.Greeting().text();
+                            }
+                        }
+                        """
+        ))) {
+            Path folder = Files.createDirectories(pluginFolder.resolve("split"));
+            Path other = Files.createDirectories(pluginFolder.resolve("other"));
+            writeJar(folder.resolve("api.jar"), Map.of("plugapi/Greeting.class", moduleBytes(module, "plugapi/Greeting.class")));
+            writeJar(folder.resolve("impl.jar"), Map.of("plugimpl/GreetingService.class", moduleBytes(module, "plugimpl/GreetingService.class")));
+            writeJar(other.resolve("other.jar"), Map.of(entryName(MainCounter.class), classBytes(MainCounter.class)));
+
+            List<ScanRoot> roots = new PluginJarLoader(ForkJoinPool.commonPool())
+                    .open(List.of(folder.toString(), other.toString()), getClass().getClassLoader());
+
+            assertEquals(3, roots.size());
+            ClassLoader split = roots.get(0).classLoader();
+            assertSame(split, roots.get(1).classLoader());
+            assertNotSame(split, roots.get(2).classLoader());
+
+            Class<?> service = split.loadClass("plugimpl.GreetingService");
+            Object greeting = service.getMethod("greet").invoke(service.getDeclaredConstructor().newInstance());
+
+            assertEquals("ola", greeting);
+            assertSame(split, service.getClassLoader());
+            assertThrows(ClassNotFoundException.class, () -> roots.get(2).classLoader().loadClass("plugapi.Greeting"));
+        }
+    }
+
+    private static Path writeJar(Path jar, Map<String, byte[]> entries) throws Exception {
+        try (OutputStream out = Files.newOutputStream(jar); JarOutputStream jarOut = new JarOutputStream(out)) {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                jarOut.putNextEntry(new ZipEntry(entry.getKey()));
+                jarOut.write(entry.getValue());
+                jarOut.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    private static byte[] moduleBytes(ExternalModule module, String entryName) throws Exception {
+        try (InputStream in = module.classLoader().getResourceAsStream(entryName)) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static Path writeJar(Path jar, byte[] storedClass, byte[] deflatedClass) throws Exception {
+        try (OutputStream out = Files.newOutputStream(jar); JarOutputStream jarOut = new JarOutputStream(out)) {
+            ZipEntry stored = new ZipEntry(entryName(MainCounter.class));
+            CRC32 crc = new CRC32();
+            crc.update(storedClass);
+            stored.setMethod(ZipEntry.STORED);
+            stored.setSize(storedClass.length);
+            stored.setCompressedSize(storedClass.length);
+            stored.setCrc(crc.getValue());
+            jarOut.putNextEntry(stored);
+            jarOut.write(storedClass);
+            jarOut.closeEntry();
+
+            jarOut.putNextEntry(new ZipEntry(entryName(ContainerFixture.class)));
+            jarOut.write(deflatedClass);
+            jarOut.closeEntry();
+        }
+        return jar;
+    }
+
+    private static String entryName(Class<?> clazz) {
+        return clazz.getName().replace('.', '/') + ".class";
+    }
+
+    private static byte[] classBytes(Class<?> clazz) throws Exception {
+        try (InputStream in = clazz.getClassLoader().getResourceAsStream(entryName(clazz))) {
+            return in.readAllBytes();
+        }
+    }
+}
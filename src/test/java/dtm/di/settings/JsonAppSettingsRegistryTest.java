@@ -82,6 +82,17 @@ class JsonAppSettingsRegistryTest {
         );
     }
 
+    @Test
+    void registrationIncrementsVersion() throws Exception {
+        JsonAppSettings settings = settingsWithPolicy("{\"value\": 1}");
+        assertEquals(0L, settings.getVersion());
+
+        settings.register("{\"other\": 2}");
+        settings.register("{}");
+
+        assertEquals(1L, settings.getVersion());
+    }
+
     @Test
     void disabledRegistryBlocksEverySource() throws Exception {
         JsonAppSettings settings = settingsWithPolicy("""
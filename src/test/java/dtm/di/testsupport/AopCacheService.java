@@ -0,0 +1,41 @@
+package dtm.di.testsupport;
+
+import dtm.di.annotations.Component;
+import dtm.di.annotations.Profile;
+import dtm.di.annotations.Singleton;
+import dtm.di.annotations.cache.CacheEvict;
+import dtm.di.annotations.cache.CachePut;
+import dtm.di.annotations.cache.Cacheable;
+import dtm.di.annotations.cache.EnableCaching;
+
+import java.util.concurrent.CompletableFuture;
+
+@Singleton
+@Component
+@EnableCaching
+@Profile("aop-cache")
+public class AopCacheService {
+
+    @Cacheable(name = "squares", maxSize = 100)
+    public int square(int value) {
+        Probe.record("cache.square");
+        return value * value;
+    }
+
+    @CachePut(name = "squares", keyArgs = 0)
+    public int overwrite(int value, int result) {
+        return result;
+    }
+
+    @CacheEvict(name = "squares", keyArgs = 0)
+    public void forget(int value) {
+    }
+
+    @Cacheable
+    public CompletableFuture<String> load(String key, boolean fail) {
+        Probe.record("cache.load");
+        return fail
+                ? CompletableFuture.failedFuture(new IllegalStateException("load-failure"))
+                : CompletableFuture.completedFuture(key.toUpperCase());
+    }
+}
@@ -0,0 +1,36 @@
+package dtm.di.testsupport;
+
+import dtm.di.annotations.Profile;
+import dtm.di.annotations.aop.AfterExecution;
+import dtm.di.annotations.aop.Aspect;
+import dtm.di.annotations.aop.Pointcut;
+import dtm.di.annotations.aop.ResultProxy;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Aspect
+@Profile("aop-chain")
+public class AopChainDynamicAspect {
+
+    private static final AtomicInteger POINTCUT_CALLS = new AtomicInteger();
+
+    @Pointcut(types = "*.AopChainTarget", methods = "echo")
+    public boolean pointcut(Method method, Object[] args) {
+        POINTCUT_CALLS.incrementAndGet();
+        return args[0] instanceof String value && value.startsWith("up");
+    }
+
+    @AfterExecution
+    public Object after(@ResultProxy Object result) {
+        return ((String) result).toUpperCase();
+    }
+
+    public static int pointcutCalls() {
+        return POINTCUT_CALLS.get();
+    }
+
+    public static void reset() {
+        POINTCUT_CALLS.set(0);
+    }
+}
@@ -0,0 +1,48 @@
+package dtm.di.testsupport;
+
+import dtm.di.annotations.Profile;
+import dtm.di.annotations.aop.Aspect;
+import dtm.di.annotations.aop.BeforeExecution;
+import dtm.di.annotations.aop.Pointcut;
+import dtm.di.annotations.aop.ReferenceInstance;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Aspect
+@Profile("aop-chain-instance")
+public class AopChainInstanceAspect {
+
+    private static final AtomicInteger POINTCUT_CALLS = new AtomicInteger();
+    private static final AtomicInteger BEFORE_CALLS = new AtomicInteger();
+    private static volatile Object selected;
+
+    @Pointcut(types = "*.AopChainInstanceTarget", methods = "value")
+    public boolean pointcut(Method method, @ReferenceInstance Object instance) {
+        POINTCUT_CALLS.incrementAndGet();
+        return instance == selected;
+    }
+
+    @BeforeExecution
+    public void before() {
+        BEFORE_CALLS.incrementAndGet();
+    }
+
+    public static void select(Object instance) {
+        selected = instance;
+    }
+
+    public static int pointcutCalls() {
+        return POINTCUT_CALLS.get();
+    }
+
+    public static int beforeCalls() {
+        return BEFORE_CALLS.get();
+    }
+
+    public static void reset() {
+        POINTCUT_CALLS.set(0);
+        BEFORE_CALLS.set(0);
+        selected = null;
+    }
+}
@@ -0,0 +1,13 @@
+package dtm.di.testsupport;
+
+import dtm.di.annotations.Component;
+import dtm.di.annotations.Profile;
+
+@Component
+@Profile("aop-chain-instance")
+public class AopChainInstanceTarget {
+
+    public String value() {
+        return "value";
+    }
+}
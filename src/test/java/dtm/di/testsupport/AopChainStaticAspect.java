@@ -0,0 +1,44 @@
+package dtm.di.testsupport;
+
+import dtm.di.annotations.Profile;
+import dtm.di.annotations.aop.Aspect;
+import dtm.di.annotations.aop.BeforeExecution;
+import dtm.di.annotations.aop.Pointcut;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Aspect
+@Profile("aop-chain")
+public class AopChainStaticAspect {
+
+    private static final Map<String, AtomicInteger> POINTCUT_CALLS = new ConcurrentHashMap<>();
+    private static final AtomicInteger BEFORE_CALLS = new AtomicInteger();
+
+    @Pointcut(types = "*.AopChainTarget", methods = {"echo", "twice", "fail"})
+    public boolean pointcut(Method method) {
+        POINTCUT_CALLS.computeIfAbsent(method.getName(), key -> new AtomicInteger()).incrementAndGet();
+        return method.getName().equals("echo");
+    }
+
+    @BeforeExecution
+    public void before() {
+        BEFORE_CALLS.incrementAndGet();
+    }
+
+    public static int pointcutCalls(String methodName) {
+        AtomicInteger calls = POINTCUT_CALLS.get(methodName);
+        return (calls != null) ? calls.get() : 0;
+    }
+
+    public static int beforeCalls() {
+        return BEFORE_CALLS.get();
+    }
+
+    public static void reset() {
+        POINTCUT_CALLS.clear();
+        BEFORE_CALLS.set(0);
+    }
+}
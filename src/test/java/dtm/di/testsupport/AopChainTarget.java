@@ -0,0 +1,25 @@
+package dtm.di.testsupport;
+
+import dtm.di.annotations.Component;
+import dtm.di.annotations.Profile;
+
+@Component
+@Profile("aop-chain")
+public class AopChainTarget {
+
+    public String echo(String value) {
+        return value;
+    }
+
+    public int twice(int value) {
+        return value * 2;
+    }
+
+    public void fail() {
+        throw new IllegalStateException("falha proposital");
+    }
+
+    public String untouched() {
+        return "untouched";
+    }
+}
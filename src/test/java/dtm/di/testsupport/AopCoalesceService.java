@@ -0,0 +1,57 @@
+package dtm.di.testsupport;
+
+import dtm.di.annotations.Component;
+import dtm.di.annotations.Profile;
+import dtm.di.annotations.Singleton;
+import dtm.di.annotations.resilience.Coalesce;
+import dtm.di.annotations.resilience.EnableCoalescing;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Singleton
+@Component
+@EnableCoalescing
+@Profile("aop-coalesce")
+public class AopCoalesceService {
+
+    private static volatile CountDownLatch release = new CountDownLatch(1);
+    private static volatile CompletableFuture<String> pending = new CompletableFuture<>();
+    private final AtomicInteger executions = new AtomicInteger();
+
+    public static void reset() {
+        release = new CountDownLatch(1);
+        pending = new CompletableFuture<>();
+    }
+
+    public static void release() {
+        release.countDown();
+    }
+
+    public static CompletableFuture<String> pending() {
+        return pending;
+    }
+
+    @Coalesce
+    public String slow(String key) throws InterruptedException {
+        Probe.record("coalesce.slow");
+        int execution = executions.incrementAndGet();
+        release.await(10, TimeUnit.SECONDS);
+        return key + "-" + execution;
+    }
+
+    @Coalesce
+    public String failing(String key) throws InterruptedException {
+        Probe.record("coalesce.failing");
+        release.await(10, TimeUnit.SECONDS);
+        throw new IllegalStateException("coalesce-failure-" + key);
+    }
+
+    @Coalesce
+    public CompletableFuture<String> later(String key) {
+        Probe.record("coalesce.later");
+        return pending.thenApply(value -> key + "-" + value);
+    }
+}
@@ -0,0 +1,28 @@
+package dtm.di.testsupport;
+
+import dtm.di.annotations.Profile;
+import dtm.di.annotations.aop.AfterExecution;
+import dtm.di.annotations.aop.Aspect;
+import dtm.di.annotations.aop.BeforeExecution;
+import dtm.di.annotations.aop.Pointcut;
+import dtm.di.annotations.aop.ResultProxy;
+
+@Aspect
+@Profile("aop-interface")
+public class AopInterfaceAspect {
+
+    @Pointcut(types = "dtm.di.testsupport.AopInterface*", methods = {"greet", "compareTo"})
+    public boolean pointcut() {
+        return true;
+    }
+
+    @BeforeExecution
+    public void before() {
+        Probe.record("interface.before");
+    }
+
+    @AfterExecution
+    public Object after(@ResultProxy Object result) {
+        return (result instanceof String text) ? text + "!" : result;
+    }
+}
@@ -0,0 +1,6 @@
+package dtm.di.testsupport;
+
+public interface AopInterfaceEcho {
+
+    String greet(String name);
+}
@@ -0,0 +1,29 @@
+package dtm.di.testsupport;
+
+import dtm.di.annotations.Component;
+import dtm.di.annotations.PostCreation;
+import dtm.di.annotations.Profile;
+import dtm.di.annotations.Singleton;
+
+@Singleton
+@Component
+@Profile("aop-interface")
+public final class AopInterfaceFinalService implements AopInterfacePort {
+
+    private volatile boolean initialized;
+
+    @PostCreation
+    void init() {
+        initialized = true;
+    }
+
+    @Override
+    public String greet(String name) {
+        Probe.record("final.greet");
+        return "ola " + name;
+    }
+
+    public boolean isInitialized() {
+        return initialized;
+    }
+}
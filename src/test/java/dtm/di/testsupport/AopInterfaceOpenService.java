@@ -0,0 +1,17 @@
+package dtm.di.testsupport;
+
+import dtm.di.annotations.Component;
+import dtm.di.annotations.Profile;
+import dtm.di.annotations.Singleton;
+
+@Singleton
+@Component
+@Profile("aop-interface")
+public class AopInterfaceOpenService implements AopInterfaceEcho {
+
+    @Override
+    public String greet(String name) {
+        Probe.record("open.greet");
+        return "oi " + name;
+    }
+}
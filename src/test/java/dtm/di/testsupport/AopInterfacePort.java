@@ -0,0 +1,6 @@
+package dtm.di.testsupport;
+
+public interface AopInterfacePort {
+
+    String greet(String name);
+}
@@ -0,0 +1,17 @@
+package dtm.di.testsupport;
+
+import dtm.di.annotations.Component;
+import dtm.di.annotations.Profile;
+import dtm.di.annotations.aop.InterfaceProxy;
+
+@Component
+@InterfaceProxy
+@Profile("aop-interface")
+public record AopInterfaceRecord() implements Comparable<AopInterfaceRecord> {
+
+    @Override
+    public int compareTo(AopInterfaceRecord other) {
+        Probe.record("record.compareTo");
+        return 0;
+    }
+}
@@ -0,0 +1,58 @@
+package dtm.di.testsupport;
+
+import dtm.di.annotations.Component;
+import dtm.di.annotations.Profile;
+import dtm.di.annotations.Singleton;
+import dtm.di.annotations.resilience.Bulkhead;
+import dtm.di.annotations.resilience.EnableLimiters;
+import dtm.di.annotations.resilience.RateLimited;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@Singleton
+@Component
+@EnableLimiters
+@Profile("aop-limiter")
+public class AopLimiterService {
+
+    private static volatile CountDownLatch release = new CountDownLatch(1);
+    private static volatile CompletableFuture<String> pending = new CompletableFuture<>();
+
+    public static void reset() {
+        release = new CountDownLatch(1);
+        pending = new CompletableFuture<>();
+    }
+
+    public static void release() {
+        release.countDown();
+    }
+
+    public static CompletableFuture<String> pending() {
+        return pending;
+    }
+
+    @Bulkhead(name = "limiter.hold", maxConcurrent = 2)
+    public String hold() throws InterruptedException {
+        Probe.record("limiter.hold");
+        release.await(10, TimeUnit.SECONDS);
+        return "held";
+    }
+
+    @Bulkhead(name = "limiter.later", maxConcurrent = 1)
+    public CompletableFuture<String> later() {
+        return pending.thenApply(value -> "later-" + value);
+    }
+
+    @RateLimited(name = "limiter.tick", permits = 2, period = 1, periodUnit = TimeUnit.HOURS)
+    public String tick() {
+        Probe.record("limiter.tick");
+        return "tick";
+    }
+
+    @RateLimited(name = "limiter.paced", permits = 1, period = 100, periodUnit = TimeUnit.MILLISECONDS, maxWait = 5, waitUnit = TimeUnit.SECONDS)
+    public String paced() {
+        return "paced";
+    }
+}
@@ -0,0 +1,24 @@
+package dtm.di.testsupport;
+
+import dtm.di.annotations.Profile;
+import dtm.di.annotations.aop.Aspect;
+import dtm.di.annotations.aop.OnMainMethod;
+import dtm.di.annotations.aop.Pointcut;
+
+import java.util.concurrent.Callable;
+
+@Aspect
+@Profile("aop-metrics")
+public class AopMetricsAroundAspect {
+
+    @Pointcut(types = "*.AopMetricsService", methods = "work")
+    public boolean pointcut() {
+        return true;
+    }
+
+    @OnMainMethod
+    public Object around(Callable<?> mainCallable) throws Exception {
+        Probe.record("around.enter");
+        return mainCallable.call();
+    }
+}
@@ -0,0 +1,40 @@
+package dtm.di.testsupport;
+
+import dtm.di.annotations.Component;
+import dtm.di.annotations.Profile;
+import dtm.di.annotations.Singleton;
+import dtm.di.annotations.metrics.Counted;
+import dtm.di.annotations.metrics.EnableMetrics;
+import dtm.di.annotations.metrics.Timed;
+
+import java.util.concurrent.CompletableFuture;
+
+@Singleton
+@Component
+@EnableMetrics
+@Profile("aop-metrics")
+public class AopMetricsService {
+
+    @Timed("metrics.work")
+    public String work(boolean fail) {
+        Probe.record("metrics.work");
+        if (fail) {
+            throw new IllegalStateException("metrics-failure");
+        }
+        return "done";
+    }
+
+    @Counted
+    public int counted() {
+        return 1;
+    }
+
+    @Timed("metrics.later")
+    public CompletableFuture<String> later(CompletableFuture<String> source) {
+        return source;
+    }
+
+    public String plain() {
+        return "plain";
+    }
+}
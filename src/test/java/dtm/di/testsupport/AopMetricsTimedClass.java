@@ -0,0 +1,21 @@
+package dtm.di.testsupport;
+
+import dtm.di.annotations.Component;
+import dtm.di.annotations.Profile;
+import dtm.di.annotations.Singleton;
+import dtm.di.annotations.metrics.Timed;
+
+@Singleton
+@Component
+@Timed("timed-class")
+@Profile("aop-metrics")
+public class AopMetricsTimedClass {
+
+    public String first() {
+        return "first";
+    }
+
+    public String second() {
+        return "second";
+    }
+}
@@ -0,0 +1,15 @@
+package dtm.di.testsupport;
+
+import dtm.di.annotations.Component;
+import dtm.di.annotations.Profile;
+import dtm.di.annotations.Singleton;
+
+@Singleton
+@Component
+@Profile("aop-order")
+public class AopOrderPlainService {
+
+    public String name() {
+        return "plain";
+    }
+}
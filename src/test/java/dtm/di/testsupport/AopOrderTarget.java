@@ -0,0 +1,16 @@
+package dtm.di.testsupport;
+
+import dtm.di.annotations.Component;
+import dtm.di.annotations.Profile;
+import dtm.di.annotations.Singleton;
+
+@Singleton
+@Component
+@Profile("aop-order")
+public class AopOrderTarget {
+
+    public String run() {
+        Probe.record("target.run");
+        return "run";
+    }
+}
@@ -0,0 +1,29 @@
+package dtm.di.testsupport;
+
+import dtm.di.annotations.Profile;
+import dtm.di.annotations.aop.AfterExecution;
+import dtm.di.annotations.aop.Aspect;
+import dtm.di.annotations.aop.BeforeExecution;
+import dtm.di.annotations.aop.Order;
+import dtm.di.annotations.aop.Pointcut;
+
+@Aspect
+@Order(-1)
+@Profile("aop-order")
+public class AopOrderZetaAspect {
+
+    @Pointcut(types = "*.AopOrderTarget")
+    public boolean pointcut() {
+        return true;
+    }
+
+    @BeforeExecution
+    public void before() {
+        Probe.record("zeta.before");
+    }
+
+    @AfterExecution
+    public void after() {
+        Probe.record("zeta.after");
+    }
+}
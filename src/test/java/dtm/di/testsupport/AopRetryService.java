@@ -0,0 +1,81 @@
+package dtm.di.testsupport;
+
+import dtm.di.annotations.Async;
+import dtm.di.annotations.Component;
+import dtm.di.annotations.Profile;
+import dtm.di.annotations.Singleton;
+import dtm.di.annotations.aop.EnableAsync;
+import dtm.di.annotations.resilience.EnableRetry;
+import dtm.di.annotations.resilience.EnableTimeouts;
+import dtm.di.annotations.resilience.Retry;
+import dtm.di.annotations.resilience.Timeout;
+import dtm.di.prototypes.async.AsyncResult;
+import dtm.di.storage.async.AsyncResultWrapper;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Singleton
+@Component
+@EnableAsync
+@EnableRetry
+@EnableTimeouts
+@Profile("aop-retry")
+public class AopRetryService {
+
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @Retry(name = "retry.flaky", max = 3, backoff = 10)
+    public String flaky() {
+        Probe.record("retry.flaky");
+        int attempt = attempts.incrementAndGet();
+        if (attempt < 3) throw new IllegalStateException("falha " + attempt);
+        return "flaky-" + attempt;
+    }
+
+    @Async
+    @Retry(name = "retry.async", max = 3, backoff = 20, jitter = 0.5)
+    public CompletableFuture<String> flakyAsync() {
+        Probe.record("retry.async");
+        int attempt = attempts.incrementAndGet();
+        if (attempt < 3) throw new IllegalStateException("falha " + attempt);
+        return CompletableFuture.completedFuture("async-" + attempt);
+    }
+
+    @Retry(name = "retry.rejected", max = 3, backoff = 10, retryOn = IllegalStateException.class)
+    public CompletableFuture<String> rejected() {
+        Probe.record("retry.rejected");
+        return CompletableFuture.failedFuture(new IllegalArgumentException("nao repetivel"));
+    }
+
+    @Retry(name = "retry.pending", max = 2, backoff = 60_000)
+    public CompletableFuture<String> pendingRetry() {
+        Probe.record("retry.pending");
+        return CompletableFuture.failedFuture(new IllegalStateException("falha"));
+    }
+
+    @Async
+    @Timeout(100)
+    public CompletableFuture<String> hangs() throws InterruptedException {
+        try {
+            Thread.sleep(10_000);
+        } catch (InterruptedException e) {
+            Probe.record("timeout.interrupted");
+            throw e;
+        }
+        return CompletableFuture.completedFuture("late");
+    }
+
+    @Retry(name = "retry.timeout", max = 2, backoff = 1)
+    @Timeout(100)
+    public AsyncResult<String> slowThenFast() {
+        Probe.record("retry.slowThenFast");
+        if (attempts.incrementAndGet() == 1) return new AsyncResultWrapper<>(new CompletableFuture<>());
+        return AsyncResult.ofObject("fast");
+    }
+
+    @Timeout(100)
+    public String synchronous() {
+        return "sync";
+    }
+}
@@ -0,0 +1,35 @@
+package dtm.di.testsupport;
+
+import dtm.di.annotations.Component;
+import dtm.di.annotations.Profile;
+import dtm.di.annotations.Singleton;
+import dtm.di.annotations.resilience.Bulkhead;
+import dtm.di.annotations.resilience.EnableLimiters;
+import dtm.di.annotations.resilience.Timeout;
+
+import java.util.concurrent.CompletableFuture;
+
+@Singleton
+@Component
+@EnableLimiters
+@Profile("aop-retry")
+public class AopTimeoutLimiterService {
+
+    private final CompletableFuture<String> gate = new CompletableFuture<>();
+
+    @Bulkhead(name = "timeout.bulkhead", maxConcurrent = 1, maxWait = 5_000)
+    public CompletableFuture<String> hold() {
+        return gate;
+    }
+
+    @Bulkhead(name = "timeout.bulkhead", maxConcurrent = 1, maxWait = 5_000)
+    @Timeout(100)
+    public CompletableFuture<String> guarded() {
+        Probe.record("timeout.guarded");
+        return CompletableFuture.completedFuture("guarded");
+    }
+
+    public void release() {
+        gate.complete("released");
+    }
+}
@@ -64,6 +64,17 @@ public final class ContainerFixture {
         return staticMapContains("dtm.di.prototypes.proxy.ProxyFactory", "proxyCache", clazz);
     }
 
+    public static void resetAopProxyUtils() {
+        try {
+            Class<?> holder = Class.forName("dtm.di.aop.AopProxyUtils");
+            Field field = holder.getDeclaredField("instances");
+            field.setAccessible(true);
+            ((Map<?, ?>) field.get(null)).clear();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("falha ao limpar AopProxyUtils", e);
+        }
+    }
+
     public static Object invoke(Object target, String methodName, Object... args) {
         try {
             for (Method method : target.getClass().getMethods()) {
@@ -0,0 +1,13 @@
+package dtm.di.testsupport;
+
+import dtm.di.annotations.aop.Aspect;
+import dtm.di.annotations.aop.Pointcut;
+
+@Aspect
+public class ExternalPackageAspect {
+
+    @Pointcut(packages = "ext")
+    public boolean pointcut() {
+        return false;
+    }
+}
@@ -0,0 +1,33 @@
+package dtm.di.testsupport;
+
+import dtm.di.annotations.Component;
+import dtm.di.annotations.Configuration;
+import dtm.di.annotations.PreDestroy;
+import dtm.di.annotations.Profile;
+
+@Configuration
+@Profile("parallel-producer-failure")
+public class ParallelProducerFailureConfiguration {
+
+    @Component
+    public FailingBean failingBean() {
+        throw new IllegalStateException("producer-failure");
+    }
+
+    @Component
+    public ClosableBean closableBean() {
+        Probe.record("ParallelProducerFailure.created");
+        return new ClosableBean();
+    }
+
+    public static final class FailingBean {
+    }
+
+    public static final class ClosableBean {
+
+        @PreDestroy
+        public void close() {
+            Probe.record("ParallelProducerFailure.closed");
+        }
+    }
+}
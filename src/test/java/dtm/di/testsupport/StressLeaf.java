@@ -0,0 +1,11 @@
+package dtm.di.testsupport;
+
+import dtm.di.annotations.Component;
+import dtm.di.annotations.Profile;
+import dtm.di.annotations.aop.DisableAop;
+
+@Component
+@DisableAop
+@Profile("executor-stress")
+public class StressLeaf {
+}
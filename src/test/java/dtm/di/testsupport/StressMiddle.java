@@ -0,0 +1,55 @@
+package dtm.di.testsupport;
+
+import dtm.di.annotations.Component;
+import dtm.di.annotations.Inject;
+import dtm.di.annotations.Profile;
+import dtm.di.annotations.aop.DisableAop;
+
+import java.util.stream.Stream;
+
+@Component
+@DisableAop
+@Profile("executor-stress")
+public class StressMiddle {
+
+    @Inject
+    private StressLeaf leaf1;
+
+    @Inject
+    private StressLeaf leaf2;
+
+    @Inject
+    private StressLeaf leaf3;
+
+    @Inject
+    private StressLeaf leaf4;
+
+    @Inject
+    private StressLeaf leaf5;
+
+    @Inject
+    private StressLeaf leaf6;
+
+    @Inject
+    private StressLeaf leaf7;
+
+    @Inject
+    private StressLeaf leaf8;
+
+    @Inject
+    private StressLeaf leaf9;
+
+    @Inject
+    private StressLeaf leaf10;
+
+    @Inject
+    private StressLeaf leaf11;
+
+    @Inject
+    private StressLeaf leaf12;
+
+    public boolean isFullyInjected() {
+        return Stream.of(leaf1, leaf2, leaf3, leaf4, leaf5, leaf6, leaf7, leaf8, leaf9, leaf10, leaf11, leaf12)
+                .allMatch(leaf -> leaf != null);
+    }
+}
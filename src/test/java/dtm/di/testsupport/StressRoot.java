@@ -0,0 +1,57 @@
+package dtm.di.testsupport;
+
+import dtm.di.annotations.Component;
+import dtm.di.annotations.Inject;
+import dtm.di.annotations.Profile;
+import dtm.di.annotations.Singleton;
+import dtm.di.annotations.aop.DisableAop;
+
+import java.util.stream.Stream;
+
+@Singleton
+@Component
+@DisableAop
+@Profile("executor-stress")
+public class StressRoot {
+
+    @Inject
+    private StressMiddle middle1;
+
+    @Inject
+    private StressMiddle middle2;
+
+    @Inject
+    private StressMiddle middle3;
+
+    @Inject
+    private StressMiddle middle4;
+
+    @Inject
+    private StressMiddle middle5;
+
+    @Inject
+    private StressMiddle middle6;
+
+    @Inject
+    private StressMiddle middle7;
+
+    @Inject
+    private StressMiddle middle8;
+
+    @Inject
+    private StressMiddle middle9;
+
+    @Inject
+    private StressMiddle middle10;
+
+    @Inject
+    private StressMiddle middle11;
+
+    @Inject
+    private StressMiddle middle12;
+
+    public boolean isFullyInjected() {
+        return Stream.of(middle1, middle2, middle3, middle4, middle5, middle6, middle7, middle8, middle9, middle10, middle11, middle12)
+                .allMatch(middle -> middle != null && middle.isFullyInjected());
+    }
+}